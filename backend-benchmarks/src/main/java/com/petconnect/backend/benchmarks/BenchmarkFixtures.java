@@ -0,0 +1,179 @@
+package com.petconnect.backend.benchmarks;
+
+import com.petconnect.backend.certificate.domain.model.Certificate;
+import com.petconnect.backend.pet.domain.model.Breed;
+import com.petconnect.backend.pet.domain.model.Gender;
+import com.petconnect.backend.pet.domain.model.Pet;
+import com.petconnect.backend.pet.domain.model.PetStatus;
+import com.petconnect.backend.pet.domain.model.Specie;
+import com.petconnect.backend.record.domain.model.Record;
+import com.petconnect.backend.record.domain.model.RecordType;
+import com.petconnect.backend.record.domain.model.Vaccine;
+import com.petconnect.backend.user.domain.model.Clinic;
+import com.petconnect.backend.user.domain.model.Country;
+import com.petconnect.backend.user.domain.model.Owner;
+import com.petconnect.backend.user.domain.model.Vet;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Deterministic entity fixtures shared by the benchmarks.
+ * All entities are plain objects (no persistence context); random content uses a fixed seed
+ * so every run measures the same data.
+ *
+ * @author ibosquet
+ */
+public final class BenchmarkFixtures {
+
+    private static final long SEED = 42L;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Builds a printable ASCII string of the given length.
+     *
+     * @param length The number of characters.
+     * @return A deterministic pseudo-random string.
+     */
+    public static String text(int length) {
+        Random random = new Random(SEED);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + random.nextInt(26)));
+            if (i % 8 == 7 && i + 1 < length) {
+                sb.append(' ');
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Builds a Base64 string standing in for a signature of the given size.
+     *
+     * @param signatureBytes The size of the raw signature (e.g., 256 for RSA-2048).
+     * @return A Base64 encoded pseudo-random signature.
+     */
+    public static String fakeSignature(int signatureBytes) {
+        byte[] bytes = new byte[signatureBytes];
+        new Random(SEED).nextBytes(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    public static Clinic clinic() {
+        Clinic clinic = new Clinic();
+        clinic.setId(1L);
+        clinic.setName("Clinica Veterinaria Benchmark");
+        clinic.setAddress("Calle Mayor 1");
+        clinic.setCity("Barcelona");
+        clinic.setCountry(Country.SPAIN);
+        clinic.setPhone("+34 600 000 000");
+        clinic.setPublicKey("keys/clinic_1_pub.pem");
+        return clinic;
+    }
+
+    public static Vet vet(long id, Clinic clinic) {
+        Vet vet = new Vet();
+        vet.setId(id);
+        vet.setUsername("vet" + id);
+        vet.setEmail("vet" + id + "@petconnect.test");
+        vet.setName("Vet");
+        vet.setSurname("Number " + id);
+        vet.setLicenseNumber("LIC-" + id);
+        vet.setVetPublicKey("keys/vet_" + id + "_pub.pem");
+        vet.setClinic(clinic);
+        return vet;
+    }
+
+    /**
+     * Builds an active dog with an owner, a breed and the given number of associated vets.
+     *
+     * @param associatedVets Number of vets associated with the pet.
+     * @return The pet.
+     */
+    public static Pet pet(int associatedVets) {
+        Owner owner = new Owner();
+        owner.setId(10L);
+        owner.setUsername("owner");
+        owner.setEmail("owner@petconnect.test");
+        owner.setPhone("+34 611 111 111");
+
+        Breed breed = new Breed();
+        breed.setId(3L);
+        breed.setName("Labrador Retriever");
+        breed.setSpecie(Specie.DOG);
+
+        Pet pet = new Pet();
+        pet.setId(1L);
+        pet.setName("Bench");
+        pet.setColor("Golden");
+        pet.setGender(Gender.MALE);
+        pet.setBirthDate(LocalDate.of(2020, 5, 17));
+        pet.setMicrochip("941000024680135");
+        pet.setStatus(PetStatus.ACTIVE);
+        pet.setOwner(owner);
+        pet.setBreed(breed);
+
+        Clinic clinic = clinic();
+        Set<Vet> vets = new HashSet<>();
+        for (int i = 0; i < associatedVets; i++) {
+            vets.add(vet(100L + i, clinic));
+        }
+        pet.setAssociatedVets(vets);
+        return pet;
+    }
+
+    /**
+     * Builds a signed rabies vaccine record with a description of the given length.
+     *
+     * @param pet               The pet of the record.
+     * @param vet               The vet who created it.
+     * @param descriptionLength Length of the free-text description.
+     * @return The record.
+     */
+    public static Record vaccineRecord(Pet pet, Vet vet, int descriptionLength) {
+        Record record = new Record();
+        record.setId(500L);
+        record.setType(RecordType.VACCINE);
+        record.setDescription(text(descriptionLength));
+        record.setPet(pet);
+        record.setCreator(vet);
+        record.setCreatedInClinic(vet.getClinic());
+        record.setCreatedAt(LocalDateTime.of(2025, 3, 1, 10, 30));
+        record.setVetSignature(fakeSignature(256));
+
+        Vaccine vaccine = new Vaccine();
+        vaccine.setName("Rabisin");
+        vaccine.setBatchNumber("RB-2025-0042");
+        vaccine.setLaboratory("Boehringer Ingelheim");
+        vaccine.setValidity(3);
+        vaccine.setRabiesVaccine(true);
+        vaccine.setRecordEntity(record);
+        record.setVaccine(vaccine);
+        return record;
+    }
+
+    /**
+     * Builds a certificate with the given JSON payload and signatures of the given size.
+     *
+     * @param payloadJson    The payload JSON.
+     * @param signatureBytes The size of each raw signature.
+     * @return The certificate.
+     */
+    public static Certificate certificate(String payloadJson, int signatureBytes) {
+        Certificate certificate = new Certificate();
+        certificate.setId(900L);
+        certificate.setCertificateNumber("ES-2025-000900");
+        certificate.setPayload(payloadJson);
+        certificate.setHash("0".repeat(64));
+        certificate.setVetSignature(fakeSignature(signatureBytes));
+        certificate.setClinicSignature(fakeSignature(signatureBytes));
+        return certificate;
+    }
+}
@@ -0,0 +1,46 @@
+package com.petconnect.backend.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * Entry point of the benchmark jar.
+ * Accepts the standard JMH command line options, and always enables the GC profiler
+ * (allocation rate per operation) and writes the results as JSON, so every run can be compared
+ * with the baseline in {@code results/baseline.json}.
+ *
+ * @author ibosquet
+ */
+public final class BenchmarkRunner {
+
+    /** Default file the JSON results are written to (relative to the working directory). */
+    static final String DEFAULT_RESULT_FILE = "results/latest.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        String resultFile = commandLine.getResult().orElse(DEFAULT_RESULT_FILE);
+        File resultDir = new File(resultFile).getAbsoluteFile().getParentFile();
+        if (resultDir != null && !resultDir.exists() && !resultDir.mkdirs()) {
+            throw new IllegalStateException("Could not create results directory: " + resultDir);
+        }
+
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(commandLine.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(resultFile)
+                .build();
+        new Runner(options).run();
+    }
+}
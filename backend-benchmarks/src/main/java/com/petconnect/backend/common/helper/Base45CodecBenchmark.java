@@ -0,0 +1,68 @@
+package com.petconnect.backend.common.helper;
+
+import nl.minvws.encoding.Base45;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link Base45Codec} against the {@code nl.minvws} Base45 library it replaced,
+ * on random data of typical compressed QR sizes. The decode benchmarks start from the full
+ * {@code HC1:} QR data, as the verifier does.
+ *
+ * @author ibosquet
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class Base45CodecBenchmark {
+
+    private static final String PREFIX = "HC1:";
+
+    /** Compressed COSE size in bytes: ES256 with a short payload up to RSA-4096 signatures. */
+    @Param({"400", "800", "1600"})
+    private int byteCount;
+
+    private byte[] data;
+    private String qrData;
+    private byte[] decodeBuffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = new byte[byteCount];
+        new Random(45).nextBytes(data);
+        qrData = PREFIX + Base45Codec.encodeToString(data);
+        decodeBuffer = new byte[byteCount];
+    }
+
+    @Benchmark
+    public String encode() {
+        return Base45Codec.encodeToString(data);
+    }
+
+    @Benchmark
+    public String encodeLibrary() {
+        return Base45.getEncoder().encodeToString(data);
+    }
+
+    /** Verifier path: decodes after the prefix into a reused buffer. */
+    @Benchmark
+    public int decodeIntoBuffer() {
+        return Base45Codec.decode(qrData, PREFIX.length(), qrData.length(), decodeBuffer);
+    }
+
+    @Benchmark
+    public byte[] decode() {
+        return Base45Codec.decode(qrData.substring(PREFIX.length()));
+    }
+
+    /** Previous verifier path. */
+    @Benchmark
+    public byte[] decodeLibrary() {
+        return Base45.getDecoder().decode(qrData.substring(PREFIX.length()));
+    }
+}
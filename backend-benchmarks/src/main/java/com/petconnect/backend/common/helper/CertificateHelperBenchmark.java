@@ -0,0 +1,60 @@
+package com.petconnect.backend.common.helper;
+
+import com.petconnect.backend.benchmarks.BenchmarkFixtures;
+import com.petconnect.backend.certificate.domain.model.CertificatePayload;
+import com.petconnect.backend.pet.domain.model.Pet;
+import com.petconnect.backend.record.domain.model.Record;
+import com.petconnect.backend.user.domain.model.Clinic;
+import com.petconnect.backend.user.domain.model.Vet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of certificate payload construction with {@link CertificateHelper#buildPayload},
+ * alone and followed by the canonical CBOR encoding (hashed and signed) or the JSON encoding (stored)
+ * of {@link CertificatePayloadCodec}.
+ *
+ * @author ibosquet
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class CertificateHelperBenchmark {
+
+    @Param({"0", "256", "2048"})
+    private int descriptionLength;
+
+    private CertificateHelper certificateHelper;
+    private Pet pet;
+    private Vet vet;
+    private Clinic clinic;
+    private Record sourceRecord;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        certificateHelper = new CertificateHelper();
+        pet = BenchmarkFixtures.pet(1);
+        clinic = BenchmarkFixtures.clinic();
+        vet = BenchmarkFixtures.vet(11L, clinic);
+        sourceRecord = BenchmarkFixtures.vaccineRecord(pet, vet, descriptionLength);
+    }
+
+    @Benchmark
+    public CertificatePayload buildPayload() {
+        return certificateHelper.buildPayload(pet, sourceRecord, vet, clinic, "ES-2025-000900");
+    }
+
+    @Benchmark
+    public byte[] buildAndEncodeCanonicalCbor() {
+        return CertificatePayloadCodec.toCbor(certificateHelper.buildPayload(pet, sourceRecord, vet, clinic, "ES-2025-000900"));
+    }
+
+    @Benchmark
+    public String buildAndSerializeJson() {
+        return CertificatePayloadCodec.toJson(certificateHelper.buildPayload(pet, sourceRecord, vet, clinic, "ES-2025-000900"));
+    }
+}
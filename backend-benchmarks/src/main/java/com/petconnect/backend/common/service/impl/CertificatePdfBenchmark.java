@@ -0,0 +1,77 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.benchmarks.BenchmarkFixtures;
+import com.petconnect.backend.certificate.application.dto.CertificateDocumentDto;
+import com.petconnect.backend.certificate.domain.model.Certificate;
+import com.petconnect.backend.certificate.domain.model.CertificatePayload;
+import com.petconnect.backend.certificate.domain.model.CertificatePayloadFormat;
+import com.petconnect.backend.common.helper.CertificateHelper;
+import com.petconnect.backend.common.helper.CertificatePayloadCodec;
+import com.petconnect.backend.pet.domain.model.Pet;
+import com.petconnect.backend.record.domain.model.Record;
+import com.petconnect.backend.user.domain.model.Vet;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link CertificatePdfServiceImpl}: one certificate PDF, and ZIP archives of several,
+ * written to a discarding stream. The allocation per operation ({@code gc.alloc.rate.norm}) shows the
+ * heap cost of a request, which must not grow with the size of what was already streamed.
+ *
+ * @author ibosquet
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class CertificatePdfBenchmark {
+
+    /** Number of certificates in the ZIP archive. */
+    @Param({"10", "100"})
+    private int batchSize;
+
+    private CertificatePdfServiceImpl certificatePdfService;
+    private CertificateDocumentDto document;
+    private List<CertificateDocumentDto> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Pet pet = BenchmarkFixtures.pet(1);
+        Vet vet = BenchmarkFixtures.vet(11L, BenchmarkFixtures.clinic());
+        Record sourceRecord = BenchmarkFixtures.vaccineRecord(pet, vet, 256);
+        CertificateHelper certificateHelper = new CertificateHelper();
+        CertificatePayload payload = certificateHelper.buildPayload(pet, sourceRecord, vet, vet.getClinic(), "ES-2025-000900");
+
+        Certificate certificate = BenchmarkFixtures.certificate(CertificatePayloadCodec.toJson(payload), 256);
+        certificate.setPayloadFormat(CertificatePayloadFormat.CBOR_V2);
+        certificate.setCreatedAt(LocalDateTime.now());
+        certificate.setQrData(new QrCodeServiceImpl().generateQrData(certificate, CertificatePayloadCodec.toCbor(payload)));
+        document = certificateHelper.buildDocument(certificate);
+
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(new CertificateDocumentDto(document.certificateId() + i, document.certificateNumber() + "-" + i, document.issuedAt(),
+                    document.payload(), document.qrData(), document.payloadHash(), document.vetSignatureAlgorithm(),
+                    document.vetSignatureFingerprint(), document.clinicSignatureAlgorithm(), document.clinicSignatureFingerprint()));
+        }
+        certificatePdfService = new CertificatePdfServiceImpl(new QrImageServiceImpl());
+    }
+
+    @Benchmark
+    public void writePdf() throws IOException {
+        certificatePdfService.writePdf(document, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void writeZip() throws IOException {
+        certificatePdfService.writeZip(batch, OutputStream.nullOutputStream());
+    }
+}
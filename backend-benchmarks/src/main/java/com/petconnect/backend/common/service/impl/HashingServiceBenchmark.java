@@ -0,0 +1,37 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.benchmarks.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of SHA-256 hashing of certificate payloads in {@link HashingServiceImpl}.
+ *
+ * @author ibosquet
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class HashingServiceBenchmark {
+
+    @Param({"512", "4096", "65536"})
+    private int payloadLength;
+
+    private HashingServiceImpl hashingService;
+    private String payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        hashingService = new HashingServiceImpl();
+        payload = BenchmarkFixtures.text(payloadLength);
+    }
+
+    @Benchmark
+    public String hashString() {
+        return hashingService.hashString(payload);
+    }
+}
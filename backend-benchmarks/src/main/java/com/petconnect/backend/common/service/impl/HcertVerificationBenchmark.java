@@ -0,0 +1,149 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.benchmarks.BenchmarkFixtures;
+import com.petconnect.backend.certificate.application.dto.HcertVerificationResultDto;
+import com.petconnect.backend.certificate.domain.model.Certificate;
+import com.petconnect.backend.certificate.domain.model.CertificatePayload;
+import com.petconnect.backend.certificate.domain.model.CertificatePayloadFormat;
+import com.petconnect.backend.common.helper.CertificateHelper;
+import com.petconnect.backend.common.helper.CertificatePayloadCodec;
+import com.petconnect.backend.common.helper.FormatUtils;
+import com.petconnect.backend.common.service.TrustListService;
+import com.petconnect.backend.pet.domain.model.Pet;
+import com.petconnect.backend.record.domain.model.Record;
+import com.petconnect.backend.user.domain.model.SignatureAlgorithm;
+import com.petconnect.backend.user.domain.model.Vet;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Security;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link HcertVerificationServiceImpl#verify(String)} on real signed QR data,
+ * single-threaded and with as many threads as cores (the burst-scanning case),
+ * for each supported signature algorithm. The trust list is an in-memory stub, and the revocation list
+ * holds {@value #REVOKED_CERTIFICATES} other certificates, so the lookup goes through a populated Bloom filter.
+ *
+ * @author ibosquet
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class HcertVerificationBenchmark {
+
+    private static final int REVOKED_CERTIFICATES = 10_000;
+
+    @Param({"RS256", "ES256", "ED25519"})
+    private SignatureAlgorithm algorithm;
+
+    private HcertVerificationServiceImpl verificationService;
+    private String qrData;
+
+    @Setup(Level.Trial)
+    public void setUp() throws GeneralSecurityException {
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+        Pet pet = BenchmarkFixtures.pet(1);
+        Vet vet = BenchmarkFixtures.vet(11L, BenchmarkFixtures.clinic());
+        Record sourceRecord = BenchmarkFixtures.vaccineRecord(pet, vet, 256);
+        CertificatePayload payload = new CertificateHelper().buildPayload(pet, sourceRecord, vet, vet.getClinic(), "ES-2025-000900");
+        byte[] payloadCbor = CertificatePayloadCodec.toCbor(payload);
+        String hash = FormatUtils.bytesToHex(MessageDigest.getInstance("SHA-256").digest(payloadCbor));
+
+        KeyPair vetKeys = generateKeyPair();
+        KeyPair clinicKeys = generateKeyPair();
+        Certificate certificate = BenchmarkFixtures.certificate(CertificatePayloadCodec.toJson(payload), 0);
+        certificate.setPayloadFormat(CertificatePayloadFormat.CBOR_V2);
+        certificate.setVetSignature(sign(vetKeys.getPrivate(), hash));
+        certificate.setClinicSignature(sign(clinicKeys.getPrivate(), hash));
+        certificate.setVetSignatureAlgorithm(algorithm);
+        certificate.setClinicSignatureAlgorithm(algorithm);
+        qrData = new QrCodeServiceImpl().generateQrData(certificate, payloadCbor);
+
+        // Only register() is used, so the revocation list needs no repository
+        RevocationListServiceImpl revocationList = new RevocationListServiceImpl(null);
+        for (int i = 0; i < REVOKED_CERTIFICATES; i++) {
+            revocationList.register(String.format("ES-2024-%06d", i));
+        }
+        verificationService = new HcertVerificationServiceImpl(
+                new FixedTrustList(vet.getId(), vetKeys.getPublic(), vet.getClinic().getId(), clinicKeys.getPublic()), revocationList);
+        if (!verificationService.verify(qrData).valid()) {
+            throw new IllegalStateException("Benchmark QR data does not verify: " + verificationService.verify(qrData).error());
+        }
+    }
+
+    @Benchmark
+    public HcertVerificationResultDto verify() {
+        return verificationService.verify(qrData);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public HcertVerificationResultDto verifyConcurrent() {
+        return verificationService.verify(qrData);
+    }
+
+    private KeyPair generateKeyPair() throws GeneralSecurityException {
+        return switch (algorithm) {
+            case RS256 -> {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(2048);
+                yield generator.generateKeyPair();
+            }
+            case ES256 -> {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                yield generator.generateKeyPair();
+            }
+            case ED25519 -> KeyPairGenerator.getInstance("Ed25519", BouncyCastleProvider.PROVIDER_NAME).generateKeyPair();
+        };
+    }
+
+    private String sign(PrivateKey privateKey, String data) throws GeneralSecurityException {
+        Signature signature = Signature.getInstance(algorithm.getJcaName(), BouncyCastleProvider.PROVIDER_NAME);
+        signature.initSign(privateKey);
+        signature.update(data.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(signature.sign());
+    }
+
+    /**
+     * Trust list holding a single vet and clinic key.
+     */
+    private record FixedTrustList(Long vetId, PublicKey vetKey, Long clinicId, PublicKey clinicKey) implements TrustListService {
+        @Override
+        public PublicKey findVetKey(Long id) {
+            return vetId.equals(id) ? vetKey : null;
+        }
+
+        @Override
+        public PublicKey findClinicKey(Long id) {
+            return clinicId.equals(id) ? clinicKey : null;
+        }
+
+        @Override
+        public TrustListStats refresh() {
+            return getStats();
+        }
+
+        @Override
+        public TrustListStats getStats() {
+            return new TrustListStats(1, 1, Instant.EPOCH);
+        }
+    }
+}
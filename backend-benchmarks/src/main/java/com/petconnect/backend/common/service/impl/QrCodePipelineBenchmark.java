@@ -0,0 +1,131 @@
+package com.petconnect.backend.common.service.impl;
+
+import COSE.CoseException;
+import com.petconnect.backend.benchmarks.BenchmarkFixtures;
+import com.petconnect.backend.certificate.domain.model.Certificate;
+import com.petconnect.backend.certificate.domain.model.CertificatePayload;
+import com.petconnect.backend.certificate.domain.model.CertificatePayloadFormat;
+import com.petconnect.backend.common.helper.CertificateHelper;
+import com.petconnect.backend.common.helper.CertificatePayloadCodec;
+import com.petconnect.backend.common.helper.QrCompressionDictionary;
+import com.petconnect.backend.pet.domain.model.Pet;
+import com.petconnect.backend.record.domain.model.Record;
+import com.petconnect.backend.user.domain.model.Vet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link QrCodeServiceImpl#generateQrData(Certificate)} as a whole and of each of its
+ * stages (CBOR payload, COSE structure, zlib, Base45), across payload sizes and signature sizes.
+ * Each stage consumes the precomputed output of the previous one.
+ * <p>
+ * The zlib stage runs with and without the preset {@link QrCompressionDictionary}, and reports the compressed
+ * size and resulting QR data length as the {@code compressedBytes} / {@code qrDataChars} secondary results.
+ *
+ * @author ibosquet
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class QrCodePipelineBenchmark {
+
+    /** Length of the record description embedded in the payload; 0 is a vaccine-only payload. */
+    @Param({"0", "256", "2048"})
+    private int descriptionLength;
+
+    /** Raw signature size in bytes: 256 for RSA-2048, 512 for RSA-4096. */
+    @Param({"256", "512"})
+    private int signatureBytes;
+
+    private QrCodeServiceImpl qrCodeService;
+    private Certificate certificate;
+    private byte[] payloadCbor;
+    private byte[] coseBytes;
+    private byte[] compressed;
+
+    /**
+     * Sizes of the last zlib output, reported next to the throughput of the zlib benchmarks.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CompressedSize {
+        /** Compressed COSE structure, in bytes. */
+        public long compressedBytes;
+        /** Full QR data ({@code HC1:} + Base45), in characters: what sets the QR version. */
+        public long qrDataChars;
+
+        void record(byte[] compressed) {
+            compressedBytes = compressed.length;
+            qrDataChars = 4 + (compressed.length / 2) * 3L + (compressed.length % 2) * 2L;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws CoseException {
+        qrCodeService = new QrCodeServiceImpl();
+        Pet pet = BenchmarkFixtures.pet(1);
+        Vet vet = BenchmarkFixtures.vet(11L, BenchmarkFixtures.clinic());
+        Record sourceRecord = BenchmarkFixtures.vaccineRecord(pet, vet, descriptionLength);
+
+        CertificatePayload payload = new CertificateHelper().buildPayload(pet, sourceRecord, vet, vet.getClinic(), "ES-2025-000900");
+        certificate = BenchmarkFixtures.certificate(CertificatePayloadCodec.toJson(payload), signatureBytes);
+        certificate.setPayloadFormat(CertificatePayloadFormat.CBOR_V2);
+
+        payloadCbor = CertificatePayloadCodec.toCbor(payload);
+        coseBytes = qrCodeService.createCoseStructure(certificate, payloadCbor);
+        compressed = qrCodeService.compressWithZlib(coseBytes);
+    }
+
+    /** Issuance path: the signed canonical CBOR payload is embedded as is. */
+    @Benchmark
+    public String fullPipeline() {
+        return qrCodeService.generateQrData(certificate, payloadCbor);
+    }
+
+    /** Backfill path: the canonical CBOR payload is rebuilt from the stored JSON first. */
+    @Benchmark
+    public String fullPipelineFromStoredJson() {
+        return qrCodeService.generateQrData(certificate);
+    }
+
+    @Benchmark
+    public byte[] stage1StoredJsonToCanonicalCbor() {
+        return CertificatePayloadCodec.toCbor(CertificatePayloadCodec.fromJson(certificate.getPayload()));
+    }
+
+    /** Legacy (JSON_V1) conversion, kept for certificates issued before the canonical encoding. */
+    @Benchmark
+    public byte[] stage1LegacyJsonToCbor() {
+        return qrCodeService.convertJsonToCbor(certificate.getPayload());
+    }
+
+    @Benchmark
+    public byte[] stage2CoseStructure() throws CoseException {
+        return qrCodeService.createCoseStructure(certificate, payloadCbor);
+    }
+
+    /** Current compression: preset dictionary, pooled deflater. */
+    @Benchmark
+    public byte[] stage3Zlib(CompressedSize size) {
+        byte[] output = qrCodeService.compressWithZlib(coseBytes, QrCompressionDictionary.CURRENT);
+        size.record(output);
+        return output;
+    }
+
+    /** Plain zlib, as QR data was compressed before the preset dictionary. */
+    @Benchmark
+    public byte[] stage3ZlibWithoutDictionary(CompressedSize size) {
+        byte[] output = qrCodeService.compressWithZlib(coseBytes, null);
+        size.record(output);
+        return output;
+    }
+
+    @Benchmark
+    public String stage4Base45() {
+        return qrCodeService.encodeToBase45(compressed);
+    }
+}
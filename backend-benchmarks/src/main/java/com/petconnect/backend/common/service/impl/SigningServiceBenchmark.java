@@ -0,0 +1,72 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.benchmarks.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of RSA signing and verification in {@link SigningServiceImpl},
+ * across key sizes and signed data sizes.
+ * Keys are generated in memory, so key storage and private key decryption are not measured.
+ *
+ * @author ibosquet
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class SigningServiceBenchmark {
+
+    @Param({"2048", "3072", "4096"})
+    private int keySize;
+
+    @Param({"64", "1024", "16384"})
+    private int dataLength;
+
+    private SigningServiceImpl signingService;
+    private PrivateKey privateKey;
+    private PublicKey publicKey;
+    private String publicKeyBase64;
+    private String data;
+    private String signature;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        signingService = new SigningServiceImpl(null);
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(keySize);
+        KeyPair keyPair = generator.generateKeyPair();
+        privateKey = keyPair.getPrivate();
+        publicKey = keyPair.getPublic();
+        publicKeyBase64 = Base64.getEncoder().encodeToString(publicKey.getEncoded());
+        data = BenchmarkFixtures.text(dataLength);
+        signature = signingService.signWithPrivateKey(privateKey, data);
+    }
+
+    @Benchmark
+    public String sign() {
+        return signingService.signWithPrivateKey(privateKey, data);
+    }
+
+    @Benchmark
+    public boolean verifyWithParsedKey() {
+        return signingService.verifySignature(publicKey, data, signature);
+    }
+
+    /**
+     * Verification from the Base64 key content, as done for externally provided keys
+     * (the parsed key is served from the public key cache after the first call).
+     */
+    @Benchmark
+    public boolean verifyWithKeyContent() {
+        return signingService.verifySignature(publicKeyBase64, data, signature);
+    }
+}
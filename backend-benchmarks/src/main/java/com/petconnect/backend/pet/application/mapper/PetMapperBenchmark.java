@@ -0,0 +1,57 @@
+package com.petconnect.backend.pet.application.mapper;
+
+import com.petconnect.backend.benchmarks.BenchmarkFixtures;
+import com.petconnect.backend.common.helper.ImageUrlHelper;
+import com.petconnect.backend.pet.application.dto.PetProfileDto;
+import com.petconnect.backend.pet.domain.model.Pet;
+import com.petconnect.backend.user.application.mapper.UserMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link PetMapper#toProfileDto(Pet)} across the number of associated vets,
+ * each of which is mapped to a summary with its clinic and avatar URL.
+ *
+ * @author ibosquet
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class PetMapperBenchmark {
+
+    private static final String BACKEND_BASE_URL = "http://localhost:8080";
+
+    @Param({"0", "5", "50"})
+    private int associatedVets;
+
+    private PetMapper petMapper;
+    private Pet pet;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ImageUrlHelper imageUrlHelper = new ImageUrlHelper();
+        ReflectionTestUtils.setField(imageUrlHelper, "backendBaseUrl", BACKEND_BASE_URL);
+        ReflectionTestUtils.setField(imageUrlHelper, "activeProfile", "dev");
+
+        UserMapper userMapper = new UserMapper(imageUrlHelper);
+        ReflectionTestUtils.setField(userMapper, "backendBaseUrl", BACKEND_BASE_URL);
+        ReflectionTestUtils.setField(userMapper, "defaultUserImageDbPrefix", "images/avatars/users/");
+
+        petMapper = new PetMapper(userMapper, imageUrlHelper);
+        ReflectionTestUtils.setField(petMapper, "backendBaseUrl", BACKEND_BASE_URL);
+        ReflectionTestUtils.setField(petMapper, "defaultPetImageDbPrefix", "images/avatars/pets/");
+
+        pet = BenchmarkFixtures.pet(associatedVets);
+        pet.setImage("images/avatars/pets/dog.png");
+    }
+
+    @Benchmark
+    public PetProfileDto toProfileDto() {
+        return petMapper.toProfileDto(pet);
+    }
+}
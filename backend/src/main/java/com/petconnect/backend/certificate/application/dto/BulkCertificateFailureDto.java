@@ -0,0 +1,16 @@
+package com.petconnect.backend.certificate.application.dto;
+
+/**
+ * An item of a bulk issuance for which no certificate was generated.
+ *
+ * @param petId             The ID of the pet of the item.
+ * @param certificateNumber The certificate number requested for it.
+ * @param reason            Why the certificate was not generated.
+ *
+ * @author ibosquet
+ */
+public record BulkCertificateFailureDto(
+        Long petId,
+        String certificateNumber,
+        String reason
+) {}
@@ -0,0 +1,31 @@
+package com.petconnect.backend.certificate.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO requesting the generation of several certificates at once, from the clinic's pending requests.
+ * The private keys are unlocked once for the whole batch.
+ *
+ * @param items                    The pets and certificate numbers, at most {@value #MAX_ITEMS}.
+ * @param vetPrivateKeyPassword    The password of the generating vet's private key.
+ * @param clinicPrivateKeyPassword The password of the clinic's private key.
+ *
+ * @author ibosquet
+ */
+public record BulkCertificateGenerationRequestDto(
+        @NotEmpty(message = "At least one certificate must be requested")
+        @Size(max = BulkCertificateGenerationRequestDto.MAX_ITEMS, message = "At most " + BulkCertificateGenerationRequestDto.MAX_ITEMS + " certificates can be generated at once")
+        List<@Valid BulkCertificateItemDto> items,
+        @NotBlank (message = "Vet`s private key password vet cannot be blank")
+        String vetPrivateKeyPassword,
+        @NotBlank (message = "Clinic`s private key password vet cannot be blank")
+        String clinicPrivateKeyPassword
+) {
+    /** Maximum number of certificates per bulk request. */
+    public static final int MAX_ITEMS = 100;
+}
@@ -0,0 +1,17 @@
+package com.petconnect.backend.certificate.application.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk certificate issuance. Items that do not meet the prerequisites are rejected
+ * individually; all the others are generated together.
+ *
+ * @param generated The generated certificates, in request order.
+ * @param rejected  The items for which no certificate was generated, with the reason.
+ *
+ * @author ibosquet
+ */
+public record BulkCertificateGenerationResultDto(
+        List<CertificateViewDto> generated,
+        List<BulkCertificateFailureDto> rejected
+) {}
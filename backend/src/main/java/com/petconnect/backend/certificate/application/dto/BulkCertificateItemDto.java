@@ -0,0 +1,20 @@
+package com.petconnect.backend.certificate.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * One certificate of a bulk issuance: the pet with a pending request and the number to assign.
+ *
+ * @param petId             The ID of the pet. Cannot be null.
+ * @param certificateNumber The official certificate number assigned externally. Cannot be blank.
+ *
+ * @author ibosquet
+ */
+public record BulkCertificateItemDto(
+        @NotNull(message = "Pet ID cannot be null")
+        Long petId,
+        @NotBlank(message = "Official Certificate Number cannot be blank")
+        String certificateNumber
+) {
+}
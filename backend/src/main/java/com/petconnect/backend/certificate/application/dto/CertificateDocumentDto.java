@@ -0,0 +1,36 @@
+package com.petconnect.backend.certificate.application.dto;
+
+import com.petconnect.backend.certificate.domain.model.CertificatePayload;
+import com.petconnect.backend.user.domain.model.SignatureAlgorithm;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object holding everything needed to render a certificate document (PDF),
+ * detached from the persistence context so it can be rendered while the response is streamed.
+ *
+ * @param certificateId              The ID of the certificate.
+ * @param certificateNumber          The official certificate number.
+ * @param issuedAt                   When the certificate was issued.
+ * @param payload                    The signed payload, or null if the stored payload could not be read (legacy format).
+ * @param qrData                     The {@code HC1:} QR data string.
+ * @param payloadHash                The SHA-256 hex hash of the signed payload.
+ * @param vetSignatureAlgorithm      The algorithm of the vet signature.
+ * @param vetSignatureFingerprint    The SHA-256 fingerprint of the vet signature.
+ * @param clinicSignatureAlgorithm   The algorithm of the clinic signature.
+ * @param clinicSignatureFingerprint The SHA-256 fingerprint of the clinic signature.
+ *
+ * @author ibosquet
+ */
+public record CertificateDocumentDto(
+        Long certificateId,
+        String certificateNumber,
+        LocalDateTime issuedAt,
+        CertificatePayload payload,
+        String qrData,
+        String payloadHash,
+        SignatureAlgorithm vetSignatureAlgorithm,
+        String vetSignatureFingerprint,
+        SignatureAlgorithm clinicSignatureAlgorithm,
+        String clinicSignatureFingerprint
+) {}
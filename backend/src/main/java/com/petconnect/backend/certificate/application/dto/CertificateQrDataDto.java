@@ -0,0 +1,14 @@
+package com.petconnect.backend.certificate.application.dto;
+
+/**
+ * Data Transfer Object holding the precomputed QR data of a certificate.
+ *
+ * @param qrData      The {@code HC1:} prefixed Base45 string to embed in a QR code.
+ * @param contentHash The SHA-256 hex hash of {@code qrData}, usable as a strong ETag.
+ *
+ * @author ibosquet
+ */
+public record CertificateQrDataDto(
+        String qrData,
+        String contentHash
+) {}
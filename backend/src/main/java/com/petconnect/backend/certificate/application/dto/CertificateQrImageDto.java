@@ -0,0 +1,16 @@
+package com.petconnect.backend.certificate.application.dto;
+
+/**
+ * Data Transfer Object holding a rendered QR image of a certificate.
+ *
+ * @param image     The encoded image bytes (shared with the image cache; must not be modified).
+ * @param mediaType The media type of the image (e.g., {@code image/png}).
+ * @param etag      A strong validator for the image, derived from the QR data hash and the rendering options.
+ *
+ * @author ibosquet
+ */
+public record CertificateQrImageDto(
+        byte[] image,
+        String mediaType,
+        String etag
+) {}
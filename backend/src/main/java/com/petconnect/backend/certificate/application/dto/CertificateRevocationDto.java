@@ -0,0 +1,26 @@
+package com.petconnect.backend.certificate.application.dto;
+
+import com.petconnect.backend.certificate.domain.model.RevocationReason;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object representing the revocation of a certificate, as returned to clinic staff.
+ *
+ * @param certificateId     The ID of the revoked certificate.
+ * @param certificateNumber The official number of the revoked certificate.
+ * @param reason            Why the certificate was revoked.
+ * @param note              Optional details of the revocation.
+ * @param revokedById       The ID of the staff member who revoked the certificate.
+ * @param revokedAt         When the certificate was revoked.
+ *
+ * @author ibosquet
+ */
+public record CertificateRevocationDto(
+        Long certificateId,
+        String certificateNumber,
+        RevocationReason reason,
+        String note,
+        Long revokedById,
+        LocalDateTime revokedAt
+) {}
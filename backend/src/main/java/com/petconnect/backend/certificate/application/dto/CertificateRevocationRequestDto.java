@@ -0,0 +1,20 @@
+package com.petconnect.backend.certificate.application.dto;
+
+import com.petconnect.backend.certificate.domain.model.RevocationReason;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO containing the information to revoke a certificate.
+ *
+ * @param reason Why the certificate is revoked. Cannot be null.
+ * @param note   Optional details of the revocation (at most 500 characters).
+ *
+ * @author ibosquet
+ */
+public record CertificateRevocationRequestDto(
+        @NotNull(message = "Revocation reason cannot be null")
+        RevocationReason reason,
+        @Size(max = 500, message = "Revocation note cannot exceed 500 characters")
+        String note
+) {}
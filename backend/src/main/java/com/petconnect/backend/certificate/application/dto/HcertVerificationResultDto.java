@@ -0,0 +1,26 @@
+package com.petconnect.backend.certificate.application.dto;
+
+/**
+ * Data Transfer Object with the outcome of verifying a certificate QR string ({@code HC1:}) offline.
+ *
+ * @param valid                True if the QR data could be decoded, both signatures are valid and the certificate is not revoked.
+ * @param certificateNumber    The certificate number found in the payload, or null if it could not be decoded.
+ * @param clinicId             The ID of the issuing clinic found in the payload.
+ * @param vetId                The ID of the issuing vet found in the payload.
+ * @param vetSignatureValid    Whether the vet signature is valid against the trusted vet key.
+ * @param clinicSignatureValid Whether the clinic signature is valid against the trusted clinic key.
+ * @param revoked              Whether the certificate number is in the revocation list.
+ * @param error                Description of the first problem found, or null if valid.
+ *
+ * @author ibosquet
+ */
+public record HcertVerificationResultDto(
+        boolean valid,
+        String certificateNumber,
+        Long clinicId,
+        Long vetId,
+        boolean vetSignatureValid,
+        boolean clinicSignatureValid,
+        boolean revoked,
+        String error
+) {}
@@ -0,0 +1,20 @@
+package com.petconnect.backend.certificate.application.dto;
+
+import java.util.List;
+
+/**
+ * Revocations recorded after a watermark, for external verifiers syncing their revocation list incrementally.
+ * Verifiers store the returned watermark and send it with the next request; applying a delta twice is harmless.
+ * Revocations made in the last few seconds (the settle lag) are held back until a later delta.
+ *
+ * @param revocations The revocations after the requested watermark, oldest first.
+ * @param watermark   The watermark to request the next delta from (the requested one if there are no new revocations).
+ * @param hasMore     Whether more revocations are available after this delta (request again right away).
+ *
+ * @author ibosquet
+ */
+public record RevocationDeltaDto(
+        List<RevokedCertificateDto> revocations,
+        long watermark,
+        boolean hasMore
+) {}
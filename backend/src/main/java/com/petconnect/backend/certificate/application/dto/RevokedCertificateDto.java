@@ -0,0 +1,23 @@
+package com.petconnect.backend.certificate.application.dto;
+
+import com.petconnect.backend.certificate.domain.model.RevocationReason;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object of a revoked certificate as published to external verifiers.
+ * Carries only what is found in the signed QR payload (number and hash), never the note or the staff member.
+ *
+ * @param certificateNumber The official number of the revoked certificate.
+ * @param payloadHash       The SHA-256 hex hash of the signed payload of the revoked certificate.
+ * @param reason            Why the certificate was revoked.
+ * @param revokedAt         When the certificate was revoked.
+ *
+ * @author ibosquet
+ */
+public record RevokedCertificateDto(
+        String certificateNumber,
+        String payloadHash,
+        RevocationReason reason,
+        LocalDateTime revokedAt
+) {}
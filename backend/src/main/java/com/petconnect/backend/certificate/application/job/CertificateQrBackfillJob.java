@@ -0,0 +1,70 @@
+package com.petconnect.backend.certificate.application.job;
+
+import com.petconnect.backend.common.helper.CertificateQrHelper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Job backfilling the stored QR data of certificates issued before it was persisted
+ * (or loaded from seed data). Runs once when the application is ready, in batches,
+ * each batch in its own transaction.
+ *
+ * @author ibosquet
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CertificateQrBackfillJob {
+
+    private final CertificateQrHelper certificateQrHelper;
+
+    @Value("${app.certificate.qr-backfill.on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @Value("${app.certificate.qr-backfill.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * Generates and stores the QR data of every certificate that does not have it yet.
+     *
+     * @return The number of certificates updated.
+     */
+    public long backfill() {
+        long updated = 0;
+        long skipped = 0;
+        Long afterId = 0L;
+        List<Long> ids = certificateQrHelper.findCertificateIdsWithoutQrData(afterId, batchSize);
+        while (!ids.isEmpty()) {
+            int batchUpdated = certificateQrHelper.backfillQrData(ids);
+            updated += batchUpdated;
+            skipped += ids.size() - batchUpdated;
+            afterId = ids.getLast();
+            ids = certificateQrHelper.findCertificateIdsWithoutQrData(afterId, batchSize);
+        }
+        if (updated + skipped > 0) {
+            log.info("Certificate QR data backfill finished: {} updated, {} skipped.", updated, skipped);
+        }
+        return updated;
+    }
+
+    /**
+     * Runs the backfill once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        try {
+            backfill();
+        } catch (Exception e) {
+            log.error("Certificate QR data backfill on startup failed: {}", e.getMessage(), e);
+        }
+    }
+}
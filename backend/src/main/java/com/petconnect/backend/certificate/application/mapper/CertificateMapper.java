@@ -1,7 +1,10 @@
 package com.petconnect.backend.certificate.application.mapper;
 
+import com.petconnect.backend.certificate.application.dto.CertificateRevocationDto;
 import com.petconnect.backend.certificate.application.dto.CertificateViewDto;
+import com.petconnect.backend.certificate.application.dto.RevokedCertificateDto;
 import com.petconnect.backend.certificate.domain.model.Certificate;
+import com.petconnect.backend.certificate.domain.model.CertificateRevocation;
 import com.petconnect.backend.pet.application.dto.PetProfileDto;
 import com.petconnect.backend.pet.application.mapper.PetMapper;
 import com.petconnect.backend.record.application.dto.RecordViewDto;
@@ -91,4 +94,38 @@ public class CertificateMapper {
                 .map(this::toViewDto)
                 .toList();
     }
+
+    /**
+     * Converts a {@link CertificateRevocation} entity to a {@link CertificateRevocationDto}.
+     * The certificate and staff member are read by ID only, without initializing them.
+     *
+     * @param entity The revocation entity to convert.
+     * @return The corresponding DTO, or null if the input entity is null.
+     */
+    public CertificateRevocationDto toRevocationDto(CertificateRevocation entity) {
+        if (entity == null) {
+            return null;
+        }
+        return new CertificateRevocationDto(
+                entity.getCertificate() != null ? entity.getCertificate().getId() : null,
+                entity.getCertificateNumber(),
+                entity.getReason(),
+                entity.getNote(),
+                entity.getRevokedBy() != null ? entity.getRevokedBy().getId() : null,
+                entity.getCreatedAt()
+        );
+    }
+
+    /**
+     * Converts a {@link CertificateRevocation} entity to the {@link RevokedCertificateDto} published to external verifiers.
+     *
+     * @param entity The revocation entity to convert.
+     * @return The corresponding DTO, or null if the input entity is null.
+     */
+    public RevokedCertificateDto toRevokedCertificateDto(CertificateRevocation entity) {
+        if (entity == null) {
+            return null;
+        }
+        return new RevokedCertificateDto(entity.getCertificateNumber(), entity.getPayloadHash(), entity.getReason(), entity.getCreatedAt());
+    }
 }
@@ -1,7 +1,18 @@
 package com.petconnect.backend.certificate.application.service;
 
+import com.petconnect.backend.certificate.application.dto.BulkCertificateGenerationRequestDto;
+import com.petconnect.backend.certificate.application.dto.BulkCertificateGenerationResultDto;
+import com.petconnect.backend.certificate.application.dto.CertificateDocumentDto;
 import com.petconnect.backend.certificate.application.dto.CertificateGenerationRequestDto;
+import com.petconnect.backend.certificate.application.dto.CertificateQrDataDto;
+import com.petconnect.backend.certificate.application.dto.CertificateQrImageDto;
+import com.petconnect.backend.certificate.application.dto.CertificateRevocationDto;
+import com.petconnect.backend.certificate.application.dto.CertificateRevocationRequestDto;
+import com.petconnect.backend.certificate.application.dto.RevocationDeltaDto;
+import com.petconnect.backend.common.dto.CursorPageDto;
+import com.petconnect.backend.common.service.QrImageService;
 import com.petconnect.backend.certificate.application.dto.CertificateViewDto;
+import com.petconnect.backend.certificate.application.dto.HcertVerificationResultDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -34,6 +45,22 @@ public interface CertificateService {
      */
     CertificateViewDto generateCertificate(CertificateGenerationRequestDto requestDto, Long generatingVetId);
 
+    /**
+     * Generates the certificates of several pets with a pending certificate request for the vet's clinic.
+     * The prerequisites of all pets are loaded with set-based queries, the vet and clinic keys are unlocked
+     * once, the signatures are spread across cores, and all certificates are saved in one transaction.
+     * Items that do not meet the prerequisites (no pending request for the clinic, missing valid Rabies
+     * vaccine or checkup, certificate number or record already used, duplicated in the request) are
+     * rejected individually without affecting the others.
+     *
+     * @param requestDto      DTO containing the pets, certificate numbers and key passwords.
+     * @param generatingVetId ID of the authenticated Vet performing the generation.
+     * @return The generated certificates and the rejected items.
+     * @throws com.petconnect.backend.exception.EntityNotFoundException if the Vet is not found.
+     * @throws RuntimeException for cryptographic errors (e.g., wrong key password), in which case nothing is generated.
+     */
+    BulkCertificateGenerationResultDto generateCertificates(BulkCertificateGenerationRequestDto requestDto, Long generatingVetId);
+
     /**
      * Retrieves all certificates issued for a specific pet, ordered by creation date descending.
      * Requires authorization (Owner or associated Staff).
@@ -59,18 +86,99 @@ public interface CertificateService {
     CertificateViewDto findCertificateById(Long certificateId, Long requesterUserId);
 
     /**
-     * Generates and retrieves the Base45 encoded data string for a specific certificate,
-     * suitable for embedding in a QR code.
+     * Retrieves the Base45 encoded data string for a specific certificate, suitable for embedding in a QR code.
+     * The data is stored when the certificate is issued; for older certificates not backfilled yet,
+     * it is generated and stored on first access.
      * Requires authorization check (Owner or associated Staff).
      *
      * @param certificateId   The ID of the certificate.
      * @param requesterUserId The ID of the user making the request.
-     * @return The Base45 encoded string.
+     * @return A {@link CertificateQrDataDto} with the Base45 encoded string and its content hash.
      * @throws com.petconnect.backend.exception.EntityNotFoundException if the certificate is not found.
      * @throws org.springframework.security.access.AccessDeniedException  if the requester is not authorized.
      * @throws RuntimeException if the QR data generation process fails.
      */
-    String getQrDataForCertificate(Long certificateId, Long requesterUserId);
+    CertificateQrDataDto getQrDataForCertificate(Long certificateId, Long requesterUserId);
+
+    /**
+     * Renders the QR code of a certificate as an image, for printing or email attachments.
+     * Requires authorization check (Owner or associated Staff).
+     *
+     * @param certificateId   The ID of the certificate.
+     * @param requesterUserId The ID of the user making the request.
+     * @param format          The image format (PNG or SVG).
+     * @param size            The image size in pixels.
+     * @param errorCorrection The QR error correction level (L, M, Q or H).
+     * @return A {@link CertificateQrImageDto} with the image bytes, media type and ETag.
+     * @throws com.petconnect.backend.exception.EntityNotFoundException if the certificate is not found.
+     * @throws org.springframework.security.access.AccessDeniedException  if the requester is not authorized.
+     * @throws IllegalArgumentException if the size or error correction level is invalid.
+     */
+    CertificateQrImageDto getQrImageForCertificate(Long certificateId, Long requesterUserId, QrImageService.Format format, int size, String errorCorrection);
+
+    /**
+     * Loads the render model of a certificate's PDF document, detached so the document can be streamed afterwards.
+     * Requires authorization check (Owner or associated Staff).
+     *
+     * @param certificateId   The ID of the certificate.
+     * @param requesterUserId The ID of the user making the request.
+     * @return The {@link CertificateDocumentDto} of the certificate.
+     * @throws com.petconnect.backend.exception.EntityNotFoundException if the certificate is not found.
+     * @throws org.springframework.security.access.AccessDeniedException  if the requester is not authorized.
+     */
+    CertificateDocumentDto getCertificateDocument(Long certificateId, Long requesterUserId);
+
+    /**
+     * Loads the render models of several certificates issued by a clinic, for printing them as a batch.
+     * Requires the requester to be staff of that clinic.
+     *
+     * @param clinicId        The ID of the issuing clinic.
+     * @param certificateIds  The IDs of the certificates (at most 100; duplicates are ignored).
+     * @param requesterUserId The ID of the user making the request.
+     * @return The {@link CertificateDocumentDto} of each certificate, in ascending ID order.
+     * @throws com.petconnect.backend.exception.EntityNotFoundException if a certificate is not found among those issued by the clinic.
+     * @throws org.springframework.security.access.AccessDeniedException  if the requester is not staff of the clinic.
+     * @throws IllegalArgumentException if no ID or too many IDs are given.
+     */
+    List<CertificateDocumentDto> getClinicCertificateDocuments(Long clinicId, List<Long> certificateIds, Long requesterUserId);
+
+    /**
+     * Verifies a scanned certificate QR code ({@code HC1:} string) offline: both the vet and
+     * clinic signatures are checked against the in-memory trust list, without loading the certificate.
+     * Malformed input is reported in the result rather than thrown.
+     *
+     * @param qrData The scanned QR data string.
+     * @return A {@link HcertVerificationResultDto} with the outcome and the signers found in the payload.
+     */
+    HcertVerificationResultDto verifyQrData(String qrData);
+
+    /**
+     * Revokes a certificate, so that its QR code no longer verifies. A revocation is permanent.
+     * The revocation is added to the in-memory revocation list of this instance once committed,
+     * and reaches other instances and external verifiers through the revocation delta.
+     * Requires the requester to be staff of the issuing clinic.
+     *
+     * @param certificateId   The ID of the certificate to revoke.
+     * @param requestDto      DTO containing the reason and an optional note.
+     * @param requesterUserId The ID of the staff member revoking the certificate.
+     * @return The {@link CertificateRevocationDto} of the new revocation.
+     * @throws com.petconnect.backend.exception.EntityNotFoundException if the certificate or staff member is not found.
+     * @throws org.springframework.security.access.AccessDeniedException  if the requester is not staff of the issuing clinic.
+     * @throws com.petconnect.backend.exception.CertificateAlreadyRevokedException if the certificate is already revoked.
+     */
+    CertificateRevocationDto revokeCertificate(Long certificateId, CertificateRevocationRequestDto requestDto, Long requesterUserId);
+
+    /**
+     * Retrieves the revocations recorded after a watermark, oldest first, for external verifiers
+     * that keep their own copy of the revocation list. Revocations younger than the configured settle lag are held
+     * back and the watermark stops before them, so a revocation whose transaction commits late is never skipped.
+     *
+     * @param watermark The watermark returned by the previous delta, or 0 for the full list.
+     * @param limit     The maximum number of revocations to return (1 to 5000).
+     * @return A {@link RevocationDeltaDto} with the revocations and the next watermark.
+     * @throws IllegalArgumentException if the watermark is negative or the limit is out of range.
+     */
+    RevocationDeltaDto getRevocationsSince(long watermark, int limit);
 
     /**
      * Retrieves a paginated list of certificates issued by a specific clinic.
@@ -86,4 +194,19 @@ public interface CertificateService {
      */
     Page<CertificateViewDto> findCertificatesByClinic(Long clinicId, Long requesterUserId, Pageable pageable);
 
+    /**
+     * Retrieves one page of the certificates issued by a specific clinic, newest first, using keyset
+     * pagination: each page is read from the position of the previous one, so deep pages are as fast
+     * as the first and no count query is run.
+     *
+     * @param clinicId        The ID of the clinic whose certificates are being queried.
+     * @param requesterUserId The ID of the user making the request.
+     * @param cursor          The cursor returned with the previous page, or null for the first page.
+     * @param size            The page size (1 to 100).
+     * @return A {@link CursorPageDto} of {@link CertificateViewDto} with the cursor of the next page.
+     * @throws org.springframework.security.access.AccessDeniedException if the requester is not staff of the clinic.
+     * @throws IllegalArgumentException if the cursor is invalid or the size is out of range.
+     */
+    CursorPageDto<CertificateViewDto> scrollCertificatesByClinic(Long clinicId, Long requesterUserId, String cursor, int size);
+
 }
@@ -2,33 +2,72 @@ package com.petconnect.backend.certificate.application.service.impl;
 
 import com.petconnect.backend.certificate.port.spi.CertificateEventPublisherPort;
 import com.petconnect.backend.certificate.application.event.CertificateGeneratedEvent;
+import com.petconnect.backend.certificate.application.dto.BulkCertificateFailureDto;
+import com.petconnect.backend.certificate.application.dto.BulkCertificateGenerationRequestDto;
+import com.petconnect.backend.certificate.application.dto.BulkCertificateGenerationResultDto;
+import com.petconnect.backend.certificate.application.dto.BulkCertificateItemDto;
+import com.petconnect.backend.certificate.application.dto.CertificateDocumentDto;
 import com.petconnect.backend.certificate.application.dto.CertificateGenerationRequestDto;
+import com.petconnect.backend.certificate.application.dto.CertificateQrDataDto;
+import com.petconnect.backend.certificate.application.dto.CertificateQrImageDto;
+import com.petconnect.backend.certificate.application.dto.CertificateRevocationDto;
+import com.petconnect.backend.certificate.application.dto.CertificateRevocationRequestDto;
 import com.petconnect.backend.certificate.application.dto.CertificateViewDto;
+import com.petconnect.backend.certificate.application.dto.HcertVerificationResultDto;
+import com.petconnect.backend.certificate.application.dto.RevocationDeltaDto;
 import com.petconnect.backend.certificate.application.mapper.CertificateMapper;
 import com.petconnect.backend.certificate.application.service.CertificateService;
 import com.petconnect.backend.certificate.domain.model.Certificate;
+import com.petconnect.backend.certificate.domain.model.CertificatePayload;
+import com.petconnect.backend.certificate.domain.model.CertificatePayloadFormat;
+import com.petconnect.backend.certificate.domain.model.CertificateRevocation;
 import com.petconnect.backend.certificate.domain.repository.CertificateRepository;
+import com.petconnect.backend.certificate.domain.repository.CertificateRevocationRepository;
+import com.petconnect.backend.common.dto.CursorPageDto;
 import com.petconnect.backend.common.helper.*;
-import com.petconnect.backend.common.service.QrCodeService;
+import com.petconnect.backend.common.service.BulkSigningService;
+import com.petconnect.backend.common.service.HcertVerificationService;
+import com.petconnect.backend.common.service.QrImageService;
+import com.petconnect.backend.common.service.RevocationListService;
+import com.petconnect.backend.common.service.SigningService;
+import com.petconnect.backend.exception.AhcPrerequisitesNotMetException;
+import com.petconnect.backend.exception.CertificateAlreadyRevokedException;
+import com.petconnect.backend.exception.EntityNotFoundException;
 import com.petconnect.backend.pet.domain.model.Pet;
 import com.petconnect.backend.pet.domain.repository.PetRepository;
 import com.petconnect.backend.record.domain.model.Record;
 import com.petconnect.backend.user.domain.model.Clinic;
 import com.petconnect.backend.user.domain.model.ClinicStaff;
+import com.petconnect.backend.user.domain.model.SignatureAlgorithm;
 import com.petconnect.backend.user.domain.model.Vet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
 
+import java.security.PrivateKey;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the {@link CertificateService} interface.
@@ -40,6 +79,12 @@ import java.util.Objects;
 @RequiredArgsConstructor
 @Slf4j
 public class CertificateServiceImpl implements CertificateService {
+
+    /** Maximum number of certificates printed in one batch, which bounds the render models held per request. */
+    static final int MAX_DOCUMENT_BATCH_SIZE = 100;
+    /** Maximum number of revocations returned in one delta. */
+    static final int MAX_REVOCATION_DELTA_SIZE = 5000;
+
     private final CertificateRepository certificateRepository;
     private final CertificateMapper certificateMapper;
     private final EntityFinderHelper entityFinderHelper;
@@ -47,8 +92,22 @@ public class CertificateServiceImpl implements CertificateService {
     private final ValidateHelper validateHelper;
     private final RecordHelper recordHelper;
     private final CertificateHelper certificateHelper;
-    private final QrCodeService qrCodeService;
+    private final CertificateQrHelper certificateQrHelper;
+    private final QrImageService qrImageService;
+    private final HcertVerificationService hcertVerificationService;
+    private final SigningService signingService;
+    private final BulkSigningService bulkSigningService;
     private final PetRepository petRepository;
+    private final CertificateRevocationRepository certificateRevocationRepository;
+    private final RevocationListService revocationListService;
+
+    /**
+     * How long a revocation must have existed before it is published in a delta. IDs are assigned when a revocation
+     * is persisted, not when it commits, so a lower ID may become visible after a higher one; the lag must exceed
+     * the duration of the revoking transaction for the delta watermark to never skip it.
+     */
+    @Value("${app.hcert.revocation-delta.settle-lag:PT30S}")
+    private Duration revocationSettleLag = Duration.ofSeconds(30);
 
     private CertificateEventPublisherPort certificateEventPublisher;
 
@@ -85,6 +144,12 @@ public class CertificateServiceImpl implements CertificateService {
         Pet pet = entityFinderHelper.findPetByIdOrFail(requestDto.petId());
         Clinic clinic = Objects.requireNonNull(generatingVet.getClinic(), "Generating Vet must be associated with a Clinic.");
 
+        // Cheap check on the persisted eligibility before loading and validating records
+        if (!pet.isAhcEligibleOn(LocalDate.now())) {
+            log.warn("Certificate generation rejected: Pet {} does not meet AHC prerequisites (eligible until {}).", pet.getId(), pet.getAhcEligibleUntil());
+            throw new AhcPrerequisitesNotMetException(pet.getId());
+        }
+
         Record validRabiesRecord = validateHelper.findValidRabiesRecord(pet.getId());
         log.debug("Found valid rabies vaccine record ID: {}", validRabiesRecord.getId());
 
@@ -93,9 +158,10 @@ public class CertificateServiceImpl implements CertificateService {
 
         validateHelper.validateCertificateUniqueness(validRabiesRecord.getId(), requestDto.certificateNumber());
 
-        Map<String, Object> payloadMap = certificateHelper.buildPayload(pet, validRabiesRecord, generatingVet, clinic, requestDto.certificateNumber());
-        String payloadJson = recordHelper.serializePayload(payloadMap, validRabiesRecord.getId());
-        String payloadHash = recordHelper.hashPayload(payloadJson, pet.getId());
+        // One canonical encoding is hashed, signed and embedded in the QR; the JSON form is only stored
+        CertificatePayload payload = certificateHelper.buildPayload(pet, validRabiesRecord, generatingVet, clinic, requestDto.certificateNumber());
+        byte[] payloadCbor = CertificatePayloadCodec.toCbor(payload);
+        String payloadHash = recordHelper.hashPayload(payloadCbor, pet.getId());
         // Send passwords fron Dto to helper to sign payload with keys
         String vetSignature = recordHelper.signWithVetKey(generatingVet, payloadHash, requestDto.vetPrivateKeyPassword().toCharArray());
         String clinicSignature = recordHelper.signWithClinicKey(clinic, payloadHash, requestDto.clinicPrivateKeyPassword().toCharArray());
@@ -107,10 +173,13 @@ public class CertificateServiceImpl implements CertificateService {
                 .generatorVet(generatingVet)
                 .issuingClinic(clinic)
                 .certificateNumber(requestDto.certificateNumber())
-                .payload(payloadJson)
+                .payload(CertificatePayloadCodec.toJson(payload))
+                .payloadFormat(CertificatePayloadFormat.CBOR_V2)
                 .hash(payloadHash)
                 .vetSignature(vetSignature)
                 .clinicSignature(clinicSignature)
+                .vetSignatureAlgorithm(signingService.getVetSignatureAlgorithm(generatingVet))
+                .clinicSignatureAlgorithm(signingService.getClinicSignatureAlgorithm(clinic))
                 .build();
 
         if (!validRabiesRecord.isImmutable()) {
@@ -124,6 +193,8 @@ public class CertificateServiceImpl implements CertificateService {
         }
 
         Certificate savedCertificate = certificateRepository.save(newCertificate);
+        // The certificate is immutable from now on, so its QR data is generated once and stored with it
+        certificateQrHelper.attachQrData(savedCertificate, payloadCbor);
 
         // After saving the certificate, update the pet to remove the pending request
         if (pet.getPendingCertificateClinic() != null && pet.getPendingCertificateClinic().getId().equals(clinic.getId())) {
@@ -162,6 +233,76 @@ public class CertificateServiceImpl implements CertificateService {
         return certificateMapper.toViewDto(savedCertificate);
     }
 
+    /**
+     * A bulk issuance item that met the prerequisites, with its payload ready to be signed.
+     */
+    private record PreparedCertificate(BulkCertificateItemDto item, Pet pet, Record rabiesRecord, Record checkupRecord,
+                                       CertificatePayload payload, byte[] payloadCbor, String payloadHash) {}
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public BulkCertificateGenerationResultDto generateCertificates(BulkCertificateGenerationRequestDto requestDto, Long generatingVetId) {
+        Vet generatingVet = entityFinderHelper.findVetOrFail(generatingVetId);
+        Clinic clinic = Objects.requireNonNull(generatingVet.getClinic(), "Generating Vet must be associated with a Clinic.");
+        log.info("Attempting to generate {} certificates in bulk by Vet ID: {} for Clinic ID: {}", requestDto.items().size(), generatingVetId, clinic.getId());
+
+        List<BulkCertificateFailureDto> rejected = new ArrayList<>();
+        List<BulkCertificateItemDto> items = rejectDuplicatedItems(requestDto.items(), rejected);
+        List<PreparedCertificate> prepared = prepareCertificates(items, generatingVet, clinic, rejected);
+        if (prepared.isEmpty()) {
+            log.info("Bulk certificate generation by Vet ID {}: no item met the prerequisites ({} rejected).", generatingVetId, rejected.size());
+            return new BulkCertificateGenerationResultDto(List.of(), rejected);
+        }
+
+        // Keys are decrypted once for the whole batch; the signatures are spread across cores
+        PrivateKey vetKey = signingService.loadVetPrivateKey(generatingVet, requestDto.vetPrivateKeyPassword().toCharArray());
+        PrivateKey clinicKey = signingService.loadClinicPrivateKey(clinic, requestDto.clinicPrivateKeyPassword().toCharArray());
+        List<String> payloadHashes = prepared.stream().map(PreparedCertificate::payloadHash).toList();
+        List<String> vetSignatures = bulkSigningService.signAll(vetKey, payloadHashes);
+        List<String> clinicSignatures = bulkSigningService.signAll(clinicKey, payloadHashes);
+        // The algorithm labels come from the keys that actually signed
+        SignatureAlgorithm vetSignatureAlgorithm = SignatureAlgorithm.forKey(vetKey);
+        SignatureAlgorithm clinicSignatureAlgorithm = SignatureAlgorithm.forKey(clinicKey);
+
+        List<Certificate> certificates = new ArrayList<>(prepared.size());
+        List<Pet> pets = new ArrayList<>(prepared.size());
+        for (int i = 0; i < prepared.size(); i++) {
+            PreparedCertificate candidate = prepared.get(i);
+            Certificate certificate = Certificate.builder()
+                    .pet(candidate.pet())
+                    .medicalRecord(candidate.rabiesRecord())
+                    .generatorVet(generatingVet)
+                    .issuingClinic(clinic)
+                    .certificateNumber(candidate.item().certificateNumber())
+                    .payload(CertificatePayloadCodec.toJson(candidate.payload()))
+                    .payloadFormat(CertificatePayloadFormat.CBOR_V2)
+                    .hash(candidate.payloadHash())
+                    .vetSignature(vetSignatures.get(i))
+                    .clinicSignature(clinicSignatures.get(i))
+                    .vetSignatureAlgorithm(vetSignatureAlgorithm)
+                    .clinicSignatureAlgorithm(clinicSignatureAlgorithm)
+                    .build();
+            // Generated before the insert, so each certificate is written once
+            certificateQrHelper.attachQrData(certificate, candidate.payloadCbor());
+            certificates.add(certificate);
+
+            candidate.rabiesRecord().setImmutable(true);
+            candidate.checkupRecord().setImmutable(true);
+            candidate.pet().setPendingCertificateClinic(null);
+            pets.add(candidate.pet());
+        }
+
+        List<Certificate> savedCertificates = certificateRepository.saveAll(certificates);
+        petRepository.saveAll(pets);
+        publishGeneratedEvents(savedCertificates, generatingVetId);
+
+        log.info("Bulk certificate generation by Vet ID {}: {} generated, {} rejected.", generatingVetId, savedCertificates.size(), rejected.size());
+        return new BulkCertificateGenerationResultDto(certificateMapper.toViewDtoList(savedCertificates), rejected);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -192,14 +333,143 @@ public class CertificateServiceImpl implements CertificateService {
      * {@inheritDoc}
      */
     @Override
-    @Transactional(readOnly = true)
-    public String getQrDataForCertificate(Long certificateId, Long requesterUserId) {
+    @Transactional
+    public CertificateQrDataDto getQrDataForCertificate(Long certificateId, Long requesterUserId) {
         log.debug("Request received for QR data for certificate ID: {} by User ID: {}", certificateId, requesterUserId);
         Certificate certificate = entityFinderHelper.findCertificateOrFail(certificateId);
 
         authorizationHelper.verifyUserAuthorizationForCertificate(requesterUserId, certificate);
 
-        return qrCodeService.generateQrData(certificate);
+        ensureQrData(certificate);
+        return new CertificateQrDataDto(certificate.getQrData(), certificate.getQrDataHash());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public CertificateQrImageDto getQrImageForCertificate(Long certificateId, Long requesterUserId, QrImageService.Format format, int size, String errorCorrection) {
+        CertificateQrDataDto qrData = getQrDataForCertificate(certificateId, requesterUserId);
+        byte[] image = qrImageService.renderQrImage(certificateId, qrData.qrData(), format, size, errorCorrection);
+        String level = StringUtils.hasText(errorCorrection) ? errorCorrection.trim().toUpperCase(Locale.ROOT) : "M";
+        String etag = qrData.contentHash() + "-" + format.extension() + "-" + size + "-" + level;
+        return new CertificateQrImageDto(image, format.getMediaType(), etag);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public CertificateDocumentDto getCertificateDocument(Long certificateId, Long requesterUserId) {
+        Certificate certificate = entityFinderHelper.findCertificateOrFail(certificateId);
+        authorizationHelper.verifyUserAuthorizationForCertificate(requesterUserId, certificate);
+
+        ensureQrData(certificate);
+        return certificateHelper.buildDocument(certificate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public List<CertificateDocumentDto> getClinicCertificateDocuments(Long clinicId, List<Long> certificateIds, Long requesterUserId) {
+        ClinicStaff staff = entityFinderHelper.findClinicStaffOrFail(requesterUserId, "print certificates of clinic");
+        if (!staff.getClinic().getId().equals(clinicId)) {
+            throw new AccessDeniedException("Staff " + requesterUserId + " is not authorized to print certificates of clinic " + clinicId);
+        }
+        Set<Long> ids = new LinkedHashSet<>(certificateIds);
+        if (ids.isEmpty() || ids.size() > MAX_DOCUMENT_BATCH_SIZE) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_DOCUMENT_BATCH_SIZE + " certificate IDs must be given.");
+        }
+
+        // Only certificate columns are read, so the whole batch is a single query
+        List<Certificate> certificates = certificateRepository.findByIssuingClinicIdAndIdInOrderByIdAsc(clinicId, ids);
+        if (certificates.size() != ids.size()) {
+            certificates.forEach(certificate -> ids.remove(certificate.getId()));
+            throw new EntityNotFoundException("Certificates not found for clinic " + clinicId + ": " + ids);
+        }
+        log.info("Staff {} printing {} certificates of clinic {}", requesterUserId, certificates.size(), clinicId);
+        certificates.forEach(this::ensureQrData);
+        return certificates.stream().map(certificateHelper::buildDocument).toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HcertVerificationResultDto verifyQrData(String qrData) {
+        HcertVerificationResultDto result = hcertVerificationService.verify(qrData);
+        if (!result.valid()) {
+            log.info("Certificate QR verification failed (certificate number {}): {}", result.certificateNumber(), result.error());
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public CertificateRevocationDto revokeCertificate(Long certificateId, CertificateRevocationRequestDto requestDto, Long requesterUserId) {
+        ClinicStaff staff = entityFinderHelper.findClinicStaffOrFail(requesterUserId, "revoke certificates");
+        Certificate certificate = entityFinderHelper.findCertificateOrFail(certificateId);
+        Clinic issuingClinic = Objects.requireNonNull(certificate.getIssuingClinic(), "Certificate must have an issuing Clinic.");
+        if (!issuingClinic.getId().equals(staff.getClinic().getId())) {
+            throw new AccessDeniedException("Staff " + requesterUserId + " is not authorized to revoke certificates of clinic " + issuingClinic.getId());
+        }
+        if (certificateRevocationRepository.existsByCertificateId(certificateId)) {
+            throw new CertificateAlreadyRevokedException(certificateId);
+        }
+
+        CertificateRevocation revocation = CertificateRevocation.builder()
+                .certificate(certificate)
+                .certificateNumber(certificate.getCertificateNumber())
+                .payloadHash(certificate.getHash())
+                .reason(requestDto.reason())
+                .note(StringUtils.hasText(requestDto.note()) ? requestDto.note().trim() : null)
+                .revokedBy(staff)
+                .build();
+        CertificateRevocation savedRevocation = certificateRevocationRepository.save(revocation);
+        log.info("Certificate ID {} ({}) revoked by Staff ID {}: {}", certificateId, certificate.getCertificateNumber(), requesterUserId, requestDto.reason());
+
+        registerRevocationAfterCommit(certificate.getCertificateNumber());
+        return certificateMapper.toRevocationDto(savedRevocation);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public RevocationDeltaDto getRevocationsSince(long watermark, int limit) {
+        if (watermark < 0) {
+            throw new IllegalArgumentException("Watermark cannot be negative.");
+        }
+        if (limit < 1 || limit > MAX_REVOCATION_DELTA_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_REVOCATION_DELTA_SIZE + ".");
+        }
+        // One extra row tells whether there is more after this delta, without a count query
+        List<CertificateRevocation> revocations = certificateRevocationRepository.findRevokedAfter(watermark, PageRequest.of(0, limit + 1));
+        boolean hasMore = revocations.size() > limit;
+        if (hasMore) {
+            revocations = revocations.subList(0, limit);
+        }
+        // Stop before the first revocation that is still within the settle lag: a transaction holding a lower ID
+        // may not have committed yet, and the watermark must not move past it
+        LocalDateTime settledBefore = LocalDateTime.now().minus(revocationSettleLag);
+        for (int i = 0; i < revocations.size(); i++) {
+            LocalDateTime createdAt = revocations.get(i).getCreatedAt();
+            if (createdAt != null && createdAt.isAfter(settledBefore)) {
+                revocations = revocations.subList(0, i);
+                hasMore = false;
+                break;
+            }
+        }
+        long nextWatermark = revocations.isEmpty() ? watermark : revocations.get(revocations.size() - 1).getId();
+        return new RevocationDeltaDto(revocations.stream().map(certificateMapper::toRevokedCertificateDto).toList(), nextWatermark, hasMore);
     }
 
     @Override
@@ -214,4 +484,148 @@ public class CertificateServiceImpl implements CertificateService {
         Page<Certificate> certificatePage = certificateRepository.findByIssuingClinicIdOrderByCreatedAtDesc(clinicId, pageable);
         return certificatePage.map(certificateMapper::toViewDto);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<CertificateViewDto> scrollCertificatesByClinic(Long clinicId, Long requesterUserId, String cursor, int size) {
+        ClinicStaff staff = entityFinderHelper.findClinicStaffOrFail(requesterUserId, "view issued certificates for clinic");
+        if (!staff.getClinic().getId().equals(clinicId)) {
+            throw new AccessDeniedException("Staff " + requesterUserId + " is not authorized to view certificates for clinic " + clinicId);
+        }
+        KeysetCursor.Position position = KeysetCursor.decode(cursor);
+        Pageable limit = KeysetCursor.pageLimit(size);
+
+        List<Certificate> certificates = position == null
+                ? certificateRepository.findFirstByIssuingClinic(clinicId, limit)
+                : certificateRepository.findByIssuingClinicAfter(clinicId, position.createdAt(), position.id(), limit);
+        return KeysetCursor.toPage(certificates, size, certificateMapper::toViewDto);
+    }
+
+    // Private methods
+
+    /**
+     * Generates and stores the QR data of a certificate issued before it was stored and not backfilled yet.
+     */
+    private void ensureQrData(Certificate certificate) {
+        if (!certificateQrHelper.hasQrData(certificate)) {
+            log.info("QR data of Certificate ID {} not stored yet (not backfilled). Generating it now.", certificate.getId());
+            certificateQrHelper.attachQrData(certificate);
+            certificateRepository.save(certificate);
+        }
+    }
+
+    /**
+     * Adds a revoked certificate to the in-memory revocation list once the revocation is committed,
+     * so a rolled back revocation never makes a valid certificate fail verification.
+     */
+    private void registerRevocationAfterCommit(String certificateNumber) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revocationListService.register(certificateNumber);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revocationListService.register(certificateNumber);
+            }
+        });
+    }
+
+    /**
+     * Keeps the first item of each pet and of each certificate number, rejecting the repeated ones.
+     */
+    private List<BulkCertificateItemDto> rejectDuplicatedItems(List<BulkCertificateItemDto> items, List<BulkCertificateFailureDto> rejected) {
+        Set<Long> petIds = new HashSet<>();
+        Set<String> certificateNumbers = new HashSet<>();
+        List<BulkCertificateItemDto> unique = new ArrayList<>(items.size());
+        for (BulkCertificateItemDto item : items) {
+            if (!petIds.add(item.petId())) {
+                rejected.add(new BulkCertificateFailureDto(item.petId(), item.certificateNumber(), "Pet is repeated in the request."));
+            } else if (!certificateNumbers.add(item.certificateNumber())) {
+                rejected.add(new BulkCertificateFailureDto(item.petId(), item.certificateNumber(), "Certificate number is repeated in the request."));
+            } else {
+                unique.add(item);
+            }
+        }
+        return unique;
+    }
+
+    /**
+     * Checks the prerequisites of every item with one query per kind of data (pets, Rabies vaccines,
+     * checkups, existing certificates) and builds and hashes the payload of the items that meet them.
+     */
+    private List<PreparedCertificate> prepareCertificates(List<BulkCertificateItemDto> items, Vet generatingVet, Clinic clinic,
+                                                          List<BulkCertificateFailureDto> rejected) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> petIds = items.stream().map(BulkCertificateItemDto::petId).collect(Collectors.toSet());
+        Map<Long, Pet> pets = petRepository.findAllForCertificateIssuance(petIds).stream()
+                .collect(Collectors.toMap(Pet::getId, Function.identity()));
+        Map<Long, Record> rabiesRecords = validateHelper.findValidRabiesRecords(petIds);
+        Map<Long, Record> checkupRecords = recordHelper.findValidCheckupRecords(petIds);
+        Set<Long> certifiedRecordIds = rabiesRecords.isEmpty() ? Set.of()
+                : certificateRepository.findCertifiedRecordIds(rabiesRecords.values().stream().map(Record::getId).toList());
+        Set<String> usedCertificateNumbers = certificateRepository.findUsedCertificateNumbers(
+                items.stream().map(BulkCertificateItemDto::certificateNumber).toList());
+
+        LocalDate today = LocalDate.now();
+        List<PreparedCertificate> prepared = new ArrayList<>(items.size());
+        for (BulkCertificateItemDto item : items) {
+            Pet pet = pets.get(item.petId());
+            Record rabiesRecord = rabiesRecords.get(item.petId());
+            Record checkupRecord = checkupRecords.get(item.petId());
+            String reason = null;
+            if (pet == null) {
+                reason = "Pet not found.";
+            } else if (pet.getPendingCertificateClinic() == null || !clinic.getId().equals(pet.getPendingCertificateClinic().getId())) {
+                reason = "Pet has no pending certificate request for this clinic.";
+            } else if (!pet.isAhcEligibleOn(today)) {
+                reason = "Pet does not meet the AHC prerequisites.";
+            } else if (rabiesRecord == null) {
+                reason = "No valid signed Rabies vaccine record.";
+            } else if (checkupRecord == null) {
+                reason = "No signed annual checkup within the last year.";
+            } else if (certifiedRecordIds.contains(rabiesRecord.getId())) {
+                reason = "A certificate already exists for Rabies vaccine record " + rabiesRecord.getId() + ".";
+            } else if (usedCertificateNumbers.contains(item.certificateNumber())) {
+                reason = "Certificate number is already in use.";
+            }
+            if (reason != null) {
+                log.debug("Bulk certificate item for Pet ID {} rejected: {}", item.petId(), reason);
+                rejected.add(new BulkCertificateFailureDto(item.petId(), item.certificateNumber(), reason));
+                continue;
+            }
+            CertificatePayload payload = certificateHelper.buildPayload(pet, rabiesRecord, generatingVet, clinic, item.certificateNumber());
+            byte[] payloadCbor = CertificatePayloadCodec.toCbor(payload);
+            prepared.add(new PreparedCertificate(item, pet, rabiesRecord, checkupRecord, payload, payloadCbor,
+                    recordHelper.hashPayload(payloadCbor, pet.getId())));
+        }
+        return prepared;
+    }
+
+    private void publishGeneratedEvents(List<Certificate> certificates, Long generatingVetId) {
+        if (this.certificateEventPublisher == null) {
+            log.warn("CertificateEventPublisherPort not available. Skipping event publication for {} bulk generated certificates.", certificates.size());
+            return;
+        }
+        LocalDateTime generatedAt = LocalDateTime.now();
+        List<CertificateGeneratedEvent> events = certificates.stream()
+                .map(certificate -> new CertificateGeneratedEvent(
+                        certificate.getId(),
+                        certificate.getPet().getId(),
+                        certificate.getPet().getOwner().getId(),
+                        generatingVetId,
+                        certificate.getCertificateNumber(),
+                        generatedAt))
+                .toList();
+        try {
+            this.certificateEventPublisher.publishCertificatesGenerated(events);
+        } catch (Exception e) {
+            log.error("Failed to publish {} CertificateGeneratedEvents after bulk generation.", events.size(), e);
+        }
+    }
 }
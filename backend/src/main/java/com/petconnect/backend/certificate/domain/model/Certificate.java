@@ -4,6 +4,7 @@ import com.petconnect.backend.user.domain.model.BaseEntity;
 import com.petconnect.backend.pet.domain.model.Pet;
 import com.petconnect.backend.record.domain.model.Record;
 import com.petconnect.backend.user.domain.model.Clinic;
+import com.petconnect.backend.user.domain.model.SignatureAlgorithm;
 import com.petconnect.backend.user.domain.model.Vet;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -20,12 +21,17 @@ import lombok.*;
  */
 @Getter
 @Setter
-@ToString(callSuper = true, exclude = {"pet", "medicalRecord", "generatorVet", "issuingClinic"})
+@ToString(callSuper = true, exclude = {"pet", "medicalRecord", "generatorVet", "issuingClinic", "qrData"})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "certificate")
+@Table(name = "certificate", indexes = {
+        // Clinic listings, newest first (offset and keyset pagination)
+        @Index(name = "idx_certificate_clinic_created", columnList = "issuing_clinic_id, created_at DESC, id DESC"),
+        // Certificates issued from a record (e.g., vaccine batch recalls)
+        @Index(name = "idx_certificate_record", columnList = "record_id")
+})
 public class Certificate extends BaseEntity {
 
     /**
@@ -63,6 +69,44 @@ public class Certificate extends BaseEntity {
     @Column(name = "clinic_signature", nullable = false, columnDefinition = "TEXT")
     private String clinicSignature;
 
+    /**
+     * The algorithm of the vet signature, resolved from the vet's key type at issuance.
+     * Null for certificates issued before it was recorded, which were always RS256.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "vet_signature_alg", length = 16)
+    private SignatureAlgorithm vetSignatureAlgorithm;
+
+    /**
+     * The algorithm of the clinic signature, resolved from the clinic's key type at issuance.
+     * Null for certificates issued before it was recorded, which were always RS256.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "clinic_signature_alg", length = 16)
+    private SignatureAlgorithm clinicSignatureAlgorithm;
+
+    /**
+     * How the signed payload bytes were produced, i.e. what {@link #hash} was computed over.
+     * Null for certificates issued before it was recorded, which are {@link CertificatePayloadFormat#JSON_V1}.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payload_format", length = 16)
+    private CertificatePayloadFormat payloadFormat;
+
+    /**
+     * The QR data string ({@code HC1:} + Base45) derived from the payload and signatures.
+     * Computed once at issuance, since a certificate never changes afterwards.
+     * Null for certificates issued before it was stored, until they are backfilled.
+     */
+    @Column(name = "qr_data", columnDefinition = "TEXT")
+    private String qrData;
+
+    /**
+     * SHA-256 hex hash of {@link #qrData}, served as the ETag of the QR data.
+     */
+    @Column(name = "qr_data_hash", length = 64)
+    private String qrDataHash;
+
     /**
      * The official certificate number assigned (e.g., AHC number).
      * This number is obtained externally based on regulations.
@@ -110,4 +154,13 @@ public class Certificate extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "issuing_clinic_id", nullable = false, foreignKey = @ForeignKey(name = "fk_certificate_clinic"))
     private Clinic issuingClinic;
+
+    /**
+     * Returns the payload format, treating certificates issued before it was recorded as JSON_V1.
+     *
+     * @return The effective payload format.
+     */
+    public CertificatePayloadFormat resolvePayloadFormat() {
+        return payloadFormat != null ? payloadFormat : CertificatePayloadFormat.JSON_V1;
+    }
 }
@@ -0,0 +1,43 @@
+package com.petconnect.backend.certificate.domain.model;
+
+import com.petconnect.backend.user.domain.model.SignatureAlgorithm;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat read-only projection of a {@link Certificate} with its revocation, if any, used to export
+ * all the certificates issued by a clinic. Only certificate and revocation columns are read.
+ *
+ * @param certificateId            The ID of the certificate.
+ * @param certificateNumber        The official certificate number.
+ * @param issuedAt                 When the certificate was issued.
+ * @param petId                    The ID of the certified pet.
+ * @param recordId                 The ID of the originating record.
+ * @param generatorVetId           The ID of the vet who generated the certificate.
+ * @param payload                  The signed payload, as stored.
+ * @param payloadHash              The hash of the payload.
+ * @param vetSignature             The Base64 vet signature.
+ * @param vetSignatureAlgorithm    The algorithm of the vet signature, or null for legacy certificates (RS256).
+ * @param clinicSignature          The Base64 clinic signature.
+ * @param clinicSignatureAlgorithm The algorithm of the clinic signature, or null for legacy certificates (RS256).
+ * @param revocationReason         The revocation reason, or null if the certificate is not revoked.
+ * @param revokedAt                When the certificate was revoked, or null.
+ *
+ * @author ibosquet
+ */
+public record CertificateExportRow(
+        Long certificateId,
+        String certificateNumber,
+        LocalDateTime issuedAt,
+        Long petId,
+        Long recordId,
+        Long generatorVetId,
+        String payload,
+        String payloadHash,
+        String vetSignature,
+        SignatureAlgorithm vetSignatureAlgorithm,
+        String clinicSignature,
+        SignatureAlgorithm clinicSignatureAlgorithm,
+        RevocationReason revocationReason,
+        LocalDateTime revokedAt
+) {}
@@ -0,0 +1,85 @@
+package com.petconnect.backend.certificate.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Typed content of a certificate: the data that is hashed, signed by the vet and the clinic,
+ * stored as JSON on {@link Certificate#getPayload()} and embedded as CBOR in the QR code.
+ * Encoded by {@link com.petconnect.backend.common.helper.CertificatePayloadCodec}; field names are
+ * part of the signed data and must not be renamed.
+ *
+ * @param certType          The payload type and version ({@link #CERT_TYPE_V2} for the canonical CBOR format).
+ * @param issuanceTimestamp Issuance time in epoch milliseconds.
+ * @param certificateNumber The official certificate number.
+ * @param issuer            The issuing clinic and vet.
+ * @param subject           The pet (and owner reference).
+ * @param event             The medical record the certificate is based on.
+ * @author ibosquet
+ */
+public record CertificatePayload(
+        String certType,
+        long issuanceTimestamp,
+        String certificateNumber,
+        Issuer issuer,
+        Subject subject,
+        Event event
+) {
+    /** Payload hashed as pretty-printed JSON ({@link CertificatePayloadFormat#JSON_V1}). */
+    public static final String CERT_TYPE_V1 = "PET_VACCINATION_CERT_V1";
+    /** Payload hashed as canonical CBOR ({@link CertificatePayloadFormat#CBOR_V2}). */
+    public static final String CERT_TYPE_V2 = "PET_VACCINATION_CERT_V2";
+
+    /**
+     * The issuing clinic and vet.
+     */
+    public record Issuer(
+            Long id,
+            String name,
+            String country,
+            Long issuingVetId,
+            String issuingVetName,
+            String issuingVetLicense
+    ) {}
+
+    /**
+     * The pet the certificate applies to. Dates are ISO-8601 strings.
+     */
+    public record Subject(
+            Long petId,
+            String petName,
+            String petSpecies,
+            String petBreed,
+            String petBirthDate,
+            String petGender,
+            String petColor,
+            String petMicrochip,
+            @JsonInclude(JsonInclude.Include.NON_NULL) OwnerInfo ownerInfo
+    ) {}
+
+    /**
+     * Reference to the owner of the pet.
+     */
+    public record OwnerInfo(Long id) {}
+
+    /**
+     * The source record. Vaccine records carry {@code vaccinationDetails}, other records their {@code description}.
+     */
+    public record Event(
+            Long recordId,
+            String recordType,
+            String recordDate,
+            @JsonInclude(JsonInclude.Include.NON_NULL) VaccinationDetails vaccinationDetails,
+            @JsonInclude(JsonInclude.Include.NON_NULL) String description
+    ) {}
+
+    /**
+     * Details of the vaccine of a vaccine record.
+     */
+    public record VaccinationDetails(
+            String name,
+            String batch,
+            String manufacturer,
+            Integer validityYears,
+            @JsonInclude(JsonInclude.Include.NON_NULL) String expiryDate
+    ) {}
+}
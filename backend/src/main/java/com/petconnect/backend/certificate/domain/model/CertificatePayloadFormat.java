@@ -0,0 +1,15 @@
+package com.petconnect.backend.certificate.domain.model;
+
+/**
+ * How the signed bytes of a certificate payload are produced.
+ * The stored hash and both signatures are computed over these bytes, so the format
+ * is needed to recompute the hash when verifying a certificate.
+ *
+ * @author ibosquet
+ */
+public enum CertificatePayloadFormat {
+    /** Hash of the pretty-printed JSON payload. Used by certificates issued before the canonical encoding. */
+    JSON_V1,
+    /** Hash of the canonical (deterministic) CBOR encoding of the {@link CertificatePayload}. */
+    CBOR_V2
+}
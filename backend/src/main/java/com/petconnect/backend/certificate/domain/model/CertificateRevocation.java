@@ -0,0 +1,72 @@
+package com.petconnect.backend.certificate.domain.model;
+
+import com.petconnect.backend.user.domain.model.BaseEntity;
+import com.petconnect.backend.user.domain.model.ClinicStaff;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * Represents the revocation of a {@link Certificate}. A certificate is revoked at most once and never un-revoked.
+ * The certificate number and payload hash are copied from the certificate, so the revocation list can be
+ * loaded and published without joining it. The creation date inherited from BaseEntity is the revocation date,
+ * and the ID, which only grows, is the watermark external verifiers sync from. Because the ID is assigned at persist
+ * time rather than commit time, deltas only publish revocations older than a settle lag.
+ *
+ * @author ibosquet
+ */
+@Getter
+@Setter
+@ToString(callSuper = true, exclude = {"certificate", "revokedBy"})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "certificate_revocation")
+public class CertificateRevocation extends BaseEntity {
+
+    /**
+     * The revoked certificate. Mandatory and unique.
+     */
+    @NotNull(message = "Revocation must reference a Certificate")
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "certificate_id", nullable = false, unique = true, foreignKey = @ForeignKey(name = "fk_revocation_certificate"))
+    private Certificate certificate;
+
+    /**
+     * The official number of the revoked certificate, as found in its signed payload.
+     */
+    @NotBlank(message = "Certificate number cannot be blank")
+    @Column(name = "certificate_number", nullable = false, unique = true)
+    private String certificateNumber;
+
+    /**
+     * The SHA-256 hex hash of the signed payload of the revoked certificate.
+     */
+    @NotBlank(message = "Payload hash cannot be blank")
+    @Column(name = "payload_hash", nullable = false, length = 64)
+    private String payloadHash;
+
+    /**
+     * Why the certificate was revoked.
+     */
+    @NotNull(message = "Revocation reason cannot be null")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reason", nullable = false, length = 32)
+    private RevocationReason reason;
+
+    /**
+     * Optional free-text details of the revocation.
+     */
+    @Column(name = "note", columnDefinition = "TEXT")
+    private String note;
+
+    /**
+     * The clinic staff member who revoked the certificate.
+     */
+    @NotNull(message = "Revocation must have a revoking staff member")
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "revoked_by_id", nullable = false, foreignKey = @ForeignKey(name = "fk_revocation_staff"))
+    private ClinicStaff revokedBy;
+}
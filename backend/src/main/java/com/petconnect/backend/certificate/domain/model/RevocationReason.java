@@ -0,0 +1,19 @@
+package com.petconnect.backend.certificate.domain.model;
+
+/**
+ * Why a certificate was revoked. Published to external verifiers with each revocation.
+ *
+ * @author ibosquet
+ */
+public enum RevocationReason {
+    /** The certificate was issued by mistake (wrong pet, record or certificate number). */
+    ISSUED_IN_ERROR,
+    /** The certificate was replaced by a new one with corrected data. */
+    SUPERSEDED,
+    /** The signing key of the vet or clinic is no longer trusted. */
+    KEY_COMPROMISE,
+    /** The certificate was obtained fraudulently or its data is false. */
+    FRAUD,
+    /** Any other reason, described in the revocation note. */
+    OTHER
+}
@@ -1,13 +1,23 @@
 package com.petconnect.backend.certificate.domain.repository;
 
 import com.petconnect.backend.certificate.domain.model.Certificate;
+import com.petconnect.backend.certificate.domain.model.CertificateExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for {@link Certificate} entities.
@@ -45,6 +55,24 @@ public interface CertificateRepository extends JpaRepository<Certificate, Long>
      */
     boolean existsByMedicalRecordId(Long recordId);
 
+    /**
+     * Finds which of the given medical records already have a certificate.
+     *
+     * @param recordIds The IDs of the medical records.
+     * @return The IDs of the records that already have a certificate.
+     */
+    @Query("SELECT c.medicalRecord.id FROM Certificate c WHERE c.medicalRecord.id IN :recordIds")
+    Set<Long> findCertifiedRecordIds(@Param("recordIds") Collection<Long> recordIds);
+
+    /**
+     * Finds which of the given official certificate numbers are already in use.
+     *
+     * @param certificateNumbers The certificate numbers to check.
+     * @return The certificate numbers already in use.
+     */
+    @Query("SELECT c.certificateNumber FROM Certificate c WHERE c.certificateNumber IN :certificateNumbers")
+    Set<String> findUsedCertificateNumbers(@Param("certificateNumbers") Collection<String> certificateNumbers);
+
     /**
      * Retrieves a page of certificates associated with a specific issuing clinic, ordered by creation date in descending order.
      *
@@ -53,4 +81,92 @@ public interface CertificateRepository extends JpaRepository<Certificate, Long>
      * @return A {@link Page} containing certificates issued by the specified clinic, ordered by creation date descending.
      */
     Page<Certificate> findByIssuingClinicIdOrderByCreatedAtDesc(Long issuingClinicId, Pageable pageable);
+
+    /**
+     * Finds the first certificates issued by a clinic, newest first (first page of keyset pagination).
+     * Served by the {@code idx_certificate_clinic_created} index, without a count query.
+     *
+     * @param issuingClinicId The ID of the issuing clinic.
+     * @param pageable        The number of certificates to read (only the first page is meaningful).
+     * @return The certificates found, ordered by creation date and ID descending.
+     */
+    @Query("SELECT c FROM Certificate c WHERE c.issuingClinic.id = :clinicId ORDER BY c.createdAt DESC, c.id DESC")
+    List<Certificate> findFirstByIssuingClinic(@Param("clinicId") Long issuingClinicId, Pageable pageable);
+
+    /**
+     * Finds the certificates issued by a clinic after a keyset position, newest first (next pages of keyset pagination).
+     * The redundant {@code createdAt <= :createdAt} condition lets the index seek directly to the position.
+     *
+     * @param issuingClinicId The ID of the issuing clinic.
+     * @param createdAt       The creation date of the last certificate already read.
+     * @param id              The ID of the last certificate already read.
+     * @param pageable        The number of certificates to read (only the first page is meaningful).
+     * @return The certificates found, ordered by creation date and ID descending.
+     */
+    @Query("SELECT c FROM Certificate c WHERE c.issuingClinic.id = :clinicId " +
+            "AND c.createdAt <= :createdAt AND (c.createdAt < :createdAt OR c.id < :id) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Certificate> findByIssuingClinicAfter(@Param("clinicId") Long issuingClinicId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    /**
+     * Finds the certificates with the given IDs among those issued by a clinic, in ascending ID order.
+     *
+     * @param issuingClinicId The ID of the issuing clinic.
+     * @param ids             The IDs of the certificates.
+     * @return The matching certificates; IDs of other clinics or unknown IDs are left out.
+     */
+    List<Certificate> findByIssuingClinicIdAndIdInOrderByIdAsc(Long issuingClinicId, Collection<Long> ids);
+
+    /**
+     * Finds all certificates of a pet with their generating vet and issuing clinic fetched
+     * in the same query, so their signatures can be verified without further lookups.
+     *
+     * @param petId The ID of the pet.
+     * @return A list of the pet's certificates, ordered by creation date desc.
+     */
+    @Query("SELECT c FROM Certificate c " +
+            "JOIN FETCH c.generatorVet " +
+            "JOIN FETCH c.issuingClinic " +
+            "WHERE c.pet.id = :petId " +
+            "ORDER BY c.createdAt DESC")
+    List<Certificate> findByPetIdWithSigners(@Param("petId") Long petId);
+
+    /**
+     * Finds the IDs of certificates whose QR data has not been stored yet, after the given ID.
+     * Used to backfill QR data in batches with keyset pagination.
+     *
+     * @param afterId  The last ID already processed (exclusive lower bound).
+     * @param pageable The batch size (only the first page is meaningful).
+     * @return The IDs found, in ascending order.
+     */
+    @Query("SELECT c.id FROM Certificate c WHERE c.qrData IS NULL AND c.id > :afterId ORDER BY c.id")
+    List<Long> findIdsWithoutQrData(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Streams the export rows of all certificates issued by a clinic, oldest first, through a forward-only cursor.
+     * Served by the {@code idx_certificate_clinic_created} index. Must be consumed inside a transaction and closed afterward.
+     *
+     * @param issuingClinicId The ID of the issuing clinic.
+     * @return A Stream of the export rows of the clinic's certificates, with their revocation if any.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.petconnect.backend.certificate.domain.model.CertificateExportRow(" +
+            "c.id, c.certificateNumber, c.createdAt, c.pet.id, c.medicalRecord.id, c.generatorVet.id, c.payload, c.hash, " +
+            "c.vetSignature, c.vetSignatureAlgorithm, c.clinicSignature, c.clinicSignatureAlgorithm, rv.reason, rv.createdAt) " +
+            "FROM Certificate c " +
+            "LEFT JOIN CertificateRevocation rv ON rv.certificate = c " +
+            "WHERE c.issuingClinic.id = :clinicId " +
+            "ORDER BY c.createdAt, c.id")
+    Stream<CertificateExportRow> streamExportRowsByIssuingClinicId(@Param("clinicId") Long issuingClinicId);
+
+    /**
+     * Counts the certificates issued by a clinic.
+     *
+     * @param issuingClinicId The ID of the issuing clinic.
+     * @return The number of certificates issued by the clinic.
+     */
+    long countByIssuingClinicId(Long issuingClinicId);
 }
@@ -0,0 +1,50 @@
+package com.petconnect.backend.certificate.domain.repository;
+
+import com.petconnect.backend.certificate.domain.model.CertificateRevocation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for {@link CertificateRevocation} entities.
+ * Provides the lookups used to revoke certificates and to publish the revocation list.
+ *
+ * @author ibosquet
+ */
+@Repository
+public interface CertificateRevocationRepository extends JpaRepository<CertificateRevocation, Long> {
+
+    /**
+     * Checks if a certificate has already been revoked.
+     *
+     * @param certificateId The ID of the certificate.
+     * @return true if a revocation of the certificate exists, false otherwise.
+     */
+    boolean existsByCertificateId(Long certificateId);
+
+    /**
+     * Finds the certificate numbers of all revoked certificates, to build the in-memory revocation list.
+     * Only the number column is read.
+     *
+     * @return The revoked certificate numbers.
+     */
+    @Query("SELECT r.certificateNumber FROM CertificateRevocation r")
+    List<String> findAllCertificateNumbers();
+
+    /**
+     * Finds the revocations recorded after a watermark, oldest first.
+     * Used by external verifiers to sync the revocation list incrementally, with keyset pagination on the ID.
+     * IDs are assigned at persist time, so callers must not advance past recently created rows (see the settle lag
+     * of the revocation delta).
+     *
+     * @param watermark The ID of the last revocation already synced (exclusive lower bound).
+     * @param pageable  The maximum number of revocations (only the first page is meaningful).
+     * @return The revocations found, in ascending ID order.
+     */
+    @Query("SELECT r FROM CertificateRevocation r WHERE r.id > :watermark ORDER BY r.id")
+    List<CertificateRevocation> findRevokedAfter(@Param("watermark") Long watermark, Pageable pageable);
+}
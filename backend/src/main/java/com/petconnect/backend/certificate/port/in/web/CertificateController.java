@@ -1,19 +1,36 @@
 package com.petconnect.backend.certificate.port.in.web;
 
+import com.petconnect.backend.certificate.application.dto.BulkCertificateGenerationRequestDto;
+import com.petconnect.backend.certificate.application.dto.BulkCertificateGenerationResultDto;
+import com.petconnect.backend.certificate.application.dto.CertificateDocumentDto;
 import com.petconnect.backend.certificate.application.dto.CertificateGenerationRequestDto;
+import com.petconnect.backend.certificate.application.dto.CertificateQrDataDto;
+import com.petconnect.backend.certificate.application.dto.CertificateQrImageDto;
+import com.petconnect.backend.certificate.application.dto.CertificateRevocationDto;
+import com.petconnect.backend.certificate.application.dto.CertificateRevocationRequestDto;
 import com.petconnect.backend.certificate.application.dto.CertificateViewDto;
+import com.petconnect.backend.certificate.application.dto.HcertVerificationResultDto;
+import com.petconnect.backend.certificate.application.dto.RevocationDeltaDto;
 import com.petconnect.backend.certificate.application.service.CertificateService;
+import com.petconnect.backend.common.dto.CursorPageDto;
 import com.petconnect.backend.common.helper.UserHelper;
+import com.petconnect.backend.common.service.CertificatePdfService;
+import com.petconnect.backend.common.service.QrImageService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -28,8 +45,12 @@ import java.util.List;
 @Slf4j
 public class CertificateController implements CertificateControllerApi {
 
+    /** Certificates are immutable, so their QR data can be cached by the client for a long time. */
+    private static final Duration QR_DATA_MAX_AGE = Duration.ofDays(365);
+
     private final CertificateService certificateService;
     private final UserHelper userHelper;
+    private final CertificatePdfService certificatePdfService;
 
     /**
      * {@inheritDoc}
@@ -44,6 +65,18 @@ public class CertificateController implements CertificateControllerApi {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdCertificate);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCertificateGenerationResultDto> generateCertificates(
+            @Valid @RequestBody BulkCertificateGenerationRequestDto requestDto) {
+        Long generatingVetId = userHelper.getAuthenticatedUserId();
+        log.info("Received request to generate {} certificates in bulk from Vet ID: {}", requestDto.items().size(), generatingVetId);
+        return ResponseEntity.ok(certificateService.generateCertificates(requestDto, generatingVetId));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -78,10 +111,88 @@ public class CertificateController implements CertificateControllerApi {
     public ResponseEntity<String> getCertificateQrData(@PathVariable Long certificateId) {
         Long requesterUserId = userHelper.getAuthenticatedUserId();
         log.debug("Received request for QR data string for certificate ID: {} by User ID: {}", certificateId, requesterUserId);
-        String qrData = certificateService.getQrDataForCertificate(certificateId, requesterUserId);
+        CertificateQrDataDto qrData = certificateService.getQrDataForCertificate(certificateId, requesterUserId);
+        // With an ETag set, Spring answers a matching If-None-Match with 304 and no body
         return ResponseEntity.ok()
                 .contentType(MediaType.TEXT_PLAIN)
-                .body(qrData);
+                .eTag(qrData.contentHash())
+                .cacheControl(CacheControl.maxAge(QR_DATA_MAX_AGE).cachePrivate())
+                .body(qrData.qrData());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GetMapping(value = "/{certificateId}/qr.png", produces = MediaType.IMAGE_PNG_VALUE)
+    public ResponseEntity<byte[]> getCertificateQrPng(
+            @PathVariable Long certificateId,
+            @RequestParam(defaultValue = "300") int size,
+            @RequestParam(name = "ecc", defaultValue = "M") String errorCorrection) {
+        return getCertificateQrImage(certificateId, QrImageService.Format.PNG, size, errorCorrection);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GetMapping(value = "/{certificateId}/qr.svg", produces = "image/svg+xml")
+    public ResponseEntity<byte[]> getCertificateQrSvg(
+            @PathVariable Long certificateId,
+            @RequestParam(defaultValue = "300") int size,
+            @RequestParam(name = "ecc", defaultValue = "M") String errorCorrection) {
+        return getCertificateQrImage(certificateId, QrImageService.Format.SVG, size, errorCorrection);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GetMapping(value = "/{certificateId}/certificate.pdf", produces = MediaType.APPLICATION_PDF_VALUE)
+    public ResponseEntity<StreamingResponseBody> getCertificatePdf(@PathVariable Long certificateId) {
+        Long requesterUserId = userHelper.getAuthenticatedUserId();
+        log.debug("Received request for PDF of certificate ID: {} by User ID: {}", certificateId, requesterUserId);
+        // Loaded and authorized before streaming, so errors are still reported with a proper status
+        CertificateDocumentDto document = certificateService.getCertificateDocument(certificateId, requesterUserId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(certificatePdfService.fileName(document)).build().toString())
+                .body(out -> certificatePdfService.writePdf(document, out));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @PostMapping(value = "/verify", consumes = MediaType.TEXT_PLAIN_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<HcertVerificationResultDto> verifyCertificateQrData(@RequestBody String qrData) {
+        HcertVerificationResultDto result = certificateService.verifyQrData(qrData.trim());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @PostMapping("/{certificateId}/revocation")
+    public ResponseEntity<CertificateRevocationDto> revokeCertificate(
+            @PathVariable Long certificateId,
+            @Valid @RequestBody CertificateRevocationRequestDto requestDto) {
+        Long requesterUserId = userHelper.getAuthenticatedUserId();
+        log.info("Received request to revoke certificate ID: {} by User ID: {}", certificateId, requesterUserId);
+        CertificateRevocationDto revocation = certificateService.revokeCertificate(certificateId, requestDto, requesterUserId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(revocation);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GetMapping(value = "/revocations", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<RevocationDeltaDto> getRevocations(
+            @RequestParam(name = "since", defaultValue = "0") long since,
+            @RequestParam(name = "limit", defaultValue = "1000") int limit) {
+        return ResponseEntity.ok(certificateService.getRevocationsSince(since, limit));
     }
 
     @Override
@@ -93,4 +204,51 @@ public class CertificateController implements CertificateControllerApi {
         Page<CertificateViewDto> certificatePage = certificateService.findCertificatesByClinic(clinicId, requesterUserId, pageable);
         return ResponseEntity.ok(certificatePage);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GetMapping("/clinic/{clinicId}/scroll")
+    public ResponseEntity<CursorPageDto<CertificateViewDto>> scrollCertificatesByClinic(
+            @PathVariable Long clinicId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        Long requesterUserId = userHelper.getAuthenticatedUserId();
+        return ResponseEntity.ok(certificateService.scrollCertificatesByClinic(clinicId, requesterUserId, cursor, size));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GetMapping(value = "/clinic/{clinicId}/certificates.zip", produces = "application/zip")
+    public ResponseEntity<StreamingResponseBody> getClinicCertificatesPdfZip(
+            @PathVariable Long clinicId,
+            @RequestParam("ids") List<Long> certificateIds) {
+        Long requesterUserId = userHelper.getAuthenticatedUserId();
+        log.info("Received request for a ZIP of {} certificate PDFs of clinic ID: {} by User ID: {}", certificateIds.size(), clinicId, requesterUserId);
+        List<CertificateDocumentDto> documents = certificateService.getClinicCertificateDocuments(clinicId, certificateIds, requesterUserId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("certificates-clinic-" + clinicId + ".zip").build().toString())
+                .body(out -> certificatePdfService.writeZip(documents, out));
+    }
+
+    // Private methods
+
+    /**
+     * Serves a rendered QR image. The cached array is written as is by the byte array converter, without copying.
+     */
+    private ResponseEntity<byte[]> getCertificateQrImage(Long certificateId, QrImageService.Format format, int size, String errorCorrection) {
+        Long requesterUserId = userHelper.getAuthenticatedUserId();
+        log.debug("Received request for {} QR image ({}px, level {}) of certificate ID: {} by User ID: {}", format, size, errorCorrection, certificateId, requesterUserId);
+        CertificateQrImageDto qrImage = certificateService.getQrImageForCertificate(certificateId, requesterUserId, format, size, errorCorrection);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(qrImage.mediaType()))
+                .contentLength(qrImage.image().length)
+                .eTag(qrImage.etag())
+                .cacheControl(CacheControl.maxAge(QR_DATA_MAX_AGE).cachePrivate())
+                .body(qrImage.image());
+    }
 }
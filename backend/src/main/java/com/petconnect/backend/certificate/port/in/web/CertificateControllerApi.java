@@ -1,7 +1,14 @@
 package com.petconnect.backend.certificate.port.in.web;
 
+import com.petconnect.backend.certificate.application.dto.BulkCertificateGenerationRequestDto;
+import com.petconnect.backend.certificate.application.dto.BulkCertificateGenerationResultDto;
 import com.petconnect.backend.certificate.application.dto.CertificateGenerationRequestDto;
+import com.petconnect.backend.certificate.application.dto.CertificateRevocationDto;
+import com.petconnect.backend.certificate.application.dto.CertificateRevocationRequestDto;
 import com.petconnect.backend.certificate.application.dto.CertificateViewDto;
+import com.petconnect.backend.certificate.application.dto.HcertVerificationResultDto;
+import com.petconnect.backend.certificate.application.dto.RevocationDeltaDto;
+import com.petconnect.backend.common.dto.CursorPageDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -17,6 +24,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -64,6 +72,34 @@ public interface CertificateControllerApi {
                     content = @Content(schema = @Schema(implementation = CertificateGenerationRequestDto.class)))
             @Valid @RequestBody CertificateGenerationRequestDto requestDto);
 
+    /**
+     * Generates certificates for several pets with pending requests for the Vet's clinic in a single call.
+     * Items that do not meet the prerequisites are reported as rejected; the others are issued together.
+     *
+     * @param requestDto DTO containing the pets, their certificate numbers and the private key passwords.
+     * @return ResponseEntity with the generated certificates and the rejected items, and status 200 (OK).
+     */
+    @Operation(summary = "Generate Certificates in Bulk (Vet)",
+            description = "Allows an authorized Vet to issue certificates for pets with pending certificate requests for their clinic. "
+                    + "The private keys are unlocked once for the whole batch. Items that do not meet the prerequisites are rejected with a reason, without failing the others.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed (see generated and rejected items)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = BulkCertificateGenerationResultDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid Input Data (e.g., empty batch, too many items, wrong key password)",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized (Token missing or invalid)",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (User is not a Vet)",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error (e.g., cryptographic operation failed)",
+                    content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @PostMapping("/bulk")
+    ResponseEntity<BulkCertificateGenerationResultDto> generateCertificates(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Pets and certificate numbers to issue, with the private key passwords.", required = true,
+                    content = @Content(schema = @Schema(implementation = BulkCertificateGenerationRequestDto.class)))
+            @Valid @RequestBody BulkCertificateGenerationRequestDto requestDto);
+
     /**
      * Retrieves all certificates issued for a specific pet.
      * Requires the requester to be the owner of the pet or authorized clinic staff.
@@ -111,17 +147,20 @@ public interface CertificateControllerApi {
      * Retrieves the data string encoded in Base45 (after CBOR, COSE, ZLib processing)
      * for a specific certificate, ready to be embedded in a QR code.
      * Requires the requester to be the owner of the associated pet or authorized clinic staff.
+     * The data never changes once the certificate is issued, so it is served with a strong ETag
+     * and a long private cache lifetime; a matching {@code If-None-Match} yields 304 (Not Modified).
      *
      * @param certificateId The ID of the certificate for which to generate QR data.
      * @return ResponseEntity with the Base45 encoded String and status 200 (OK).
      *         The response content type is 'text/plain'.
      */
     @Operation(summary = "Get QR Code Data (Base45)",
-            description = "Retrieves the final Base45 encoded string for a certificate, suitable for QR code generation. Requires Owner or associated Staff authorization.")
+            description = "Retrieves the final Base45 encoded string for a certificate, suitable for QR code generation. Requires Owner or associated Staff authorization. Supports conditional requests via ETag/If-None-Match.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "QR data string retrieved successfully",
                     content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE,
                             schema = @Schema(type = "string", example = "HC1:6BFOXN*TS0BI$ZD4EX/.."))),
+            @ApiResponse(responseCode = "304", description = "Not Modified (If-None-Match matches the current ETag)", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = Map.class))),
             @ApiResponse(responseCode = "403", description = "Forbidden (User not authorized for the associated pet)", content = @Content(schema = @Schema(implementation = Map.class))),
             @ApiResponse(responseCode = "404", description = "Certificate not found", content = @Content(schema = @Schema(implementation = Map.class))),
@@ -132,6 +171,160 @@ public interface CertificateControllerApi {
             @Parameter(description = "ID of the certificate", required = true)
             @PathVariable Long certificateId);
 
+    /**
+     * Renders the QR code of a certificate as a PNG image, e.g. for printing or email attachments.
+     * Requires the requester to be the owner of the associated pet or authorized clinic staff.
+     * Served with a strong ETag and a long private cache lifetime.
+     *
+     * @param certificateId   The ID of the certificate.
+     * @param size            The width and height of the image in pixels (64-2048).
+     * @param errorCorrection The QR error correction level (L, M, Q or H).
+     * @return ResponseEntity with the PNG bytes and status 200 (OK).
+     */
+    @Operation(summary = "Get QR Code Image (PNG)",
+            description = "Renders the certificate QR code server-side as a PNG image. Requires Owner or associated Staff authorization. Supports conditional requests via ETag/If-None-Match.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "QR image rendered successfully",
+                    content = @Content(mediaType = MediaType.IMAGE_PNG_VALUE, schema = @Schema(type = "string", format = "binary"))),
+            @ApiResponse(responseCode = "304", description = "Not Modified (If-None-Match matches the current ETag)", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Invalid size or error correction level", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (User not authorized for the associated pet)", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "404", description = "Certificate not found", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @GetMapping(value = "/{certificateId}/qr.png", produces = MediaType.IMAGE_PNG_VALUE)
+    ResponseEntity<byte[]> getCertificateQrPng(
+            @Parameter(description = "ID of the certificate", required = true)
+            @PathVariable Long certificateId,
+            @Parameter(description = "Image size in pixels (64-2048)")
+            @RequestParam(defaultValue = "300") int size,
+            @Parameter(description = "QR error correction level: L, M, Q or H")
+            @RequestParam(name = "ecc", defaultValue = "M") String errorCorrection);
+
+    /**
+     * Renders the QR code of a certificate as an SVG image.
+     * Requires the requester to be the owner of the associated pet or authorized clinic staff.
+     * Served with a strong ETag and a long private cache lifetime.
+     *
+     * @param certificateId   The ID of the certificate.
+     * @param size            The nominal width and height of the image in pixels (64-2048).
+     * @param errorCorrection The QR error correction level (L, M, Q or H).
+     * @return ResponseEntity with the SVG document and status 200 (OK).
+     */
+    @Operation(summary = "Get QR Code Image (SVG)",
+            description = "Renders the certificate QR code server-side as an SVG image. Requires Owner or associated Staff authorization. Supports conditional requests via ETag/If-None-Match.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "QR image rendered successfully",
+                    content = @Content(mediaType = "image/svg+xml", schema = @Schema(type = "string"))),
+            @ApiResponse(responseCode = "304", description = "Not Modified (If-None-Match matches the current ETag)", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Invalid size or error correction level", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (User not authorized for the associated pet)", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "404", description = "Certificate not found", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @GetMapping(value = "/{certificateId}/qr.svg", produces = "image/svg+xml")
+    ResponseEntity<byte[]> getCertificateQrSvg(
+            @Parameter(description = "ID of the certificate", required = true)
+            @PathVariable Long certificateId,
+            @Parameter(description = "Nominal image size in pixels (64-2048)")
+            @RequestParam(defaultValue = "300") int size,
+            @Parameter(description = "QR error correction level: L, M, Q or H")
+            @RequestParam(name = "ecc", defaultValue = "M") String errorCorrection);
+
+    /**
+     * Renders the certificate as a printable PDF document with its details, QR code and signature fingerprints.
+     * The document is streamed to the response while it is laid out.
+     * Requires the requester to be the owner of the associated pet or authorized clinic staff.
+     *
+     * @param certificateId The ID of the certificate.
+     * @return ResponseEntity streaming the PDF document, with status 200 (OK).
+     */
+    @Operation(summary = "Download Certificate PDF",
+            description = "Renders the certificate as a PDF (payload details, QR code, signature fingerprints), streamed as an attachment. Requires Owner or associated Staff authorization.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "PDF document streamed",
+                    content = @Content(mediaType = MediaType.APPLICATION_PDF_VALUE, schema = @Schema(type = "string", format = "binary"))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (User not authorized for the associated pet)", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "404", description = "Certificate not found", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @GetMapping(value = "/{certificateId}/certificate.pdf", produces = MediaType.APPLICATION_PDF_VALUE)
+    ResponseEntity<StreamingResponseBody> getCertificatePdf(
+            @Parameter(description = "ID of the certificate", required = true)
+            @PathVariable Long certificateId);
+
+    /**
+     * Verifies a scanned certificate QR code offline, checking the vet and clinic signatures
+     * against the trust list of registered public keys and the certificate number against the
+     * revocation list. Does not require authentication.
+     *
+     * @param qrData The scanned {@code HC1:} string.
+     * @return ResponseEntity with the {@link HcertVerificationResultDto} (status 200 also for invalid certificates).
+     */
+    @Operation(summary = "Verify Certificate QR Data (Public)",
+            description = "Decodes an HC1 QR string, verifies its vet and clinic signatures against the trust list and checks that the certificate is not revoked, without a database lookup. " +
+                    "Invalid, revoked or malformed QR data is reported in the result with valid=false.",
+            security = {})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Verification performed",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = HcertVerificationResultDto.class)))
+    })
+    @PostMapping(value = "/verify", consumes = MediaType.TEXT_PLAIN_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<HcertVerificationResultDto> verifyCertificateQrData(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "The scanned HC1: string", required = true)
+            @RequestBody String qrData);
+
+    /**
+     * Revokes a certificate, so that its QR code no longer verifies. A revocation is permanent.
+     * Requires the user to be staff of the issuing clinic.
+     *
+     * @param certificateId The ID of the certificate to revoke.
+     * @param requestDto    DTO containing the reason and an optional note.
+     * @return ResponseEntity with the {@link CertificateRevocationDto} and status 201 (Created).
+     */
+    @Operation(summary = "Revoke a Certificate",
+            description = "Permanently revokes a certificate issued by the user's clinic. The revocation is published to verifiers through the revocation delta. Requires clinic staff authorization.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Certificate revoked",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CertificateRevocationDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data (missing reason, note too long)", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (User not staff of the issuing clinic)", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "404", description = "Certificate not found", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "409", description = "Certificate already revoked", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @PostMapping("/{certificateId}/revocation")
+    ResponseEntity<CertificateRevocationDto> revokeCertificate(
+            @Parameter(description = "ID of the certificate to revoke", required = true)
+            @PathVariable Long certificateId,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Reason and optional note of the revocation", required = true,
+                    content = @Content(schema = @Schema(implementation = CertificateRevocationRequestDto.class)))
+            @Valid @RequestBody CertificateRevocationRequestDto requestDto);
+
+    /**
+     * Retrieves the certificate revocations recorded after a watermark, for external verifiers that keep
+     * their own revocation list. Does not require authentication.
+     *
+     * @param since The watermark returned by the previous request, or 0 for the full list.
+     * @param limit The maximum number of revocations to return (1 to 5000).
+     * @return ResponseEntity with the {@link RevocationDeltaDto} and status 200 (OK).
+     */
+    @Operation(summary = "Get Certificate Revocations since a Watermark (Public)",
+            description = "Returns the revocations recorded after the given watermark, oldest first, with the watermark to send next. " +
+                    "Verifiers start from 0 and request again while hasMore is true.",
+            security = {})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Revocations retrieved",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = RevocationDeltaDto.class))),
+            @ApiResponse(responseCode = "400", description = "Negative watermark or limit out of range", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @GetMapping(value = "/revocations", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<RevocationDeltaDto> getRevocations(
+            @Parameter(description = "Watermark returned by the previous request (0 for the full list)")
+            @RequestParam(name = "since", defaultValue = "0") long since,
+            @Parameter(description = "Maximum number of revocations to return (1-5000)")
+            @RequestParam(name = "limit", defaultValue = "1000") int limit);
+
     /**
      * Retrieves a paginated list of all digital certificates issued by staff of the specified clinic.
      * Requires the user to have clinic staff authorization.
@@ -155,4 +348,58 @@ public interface CertificateControllerApi {
             @Parameter(description = "ID of the issuing clinic") @PathVariable Long clinicId,
             @Parameter(hidden = true) Pageable pageable
     );
+
+    /**
+     * Retrieves one page of the digital certificates issued by staff of the specified clinic, newest first,
+     * paginated with a cursor instead of a page number. Deep pages load as fast as the first one.
+     *
+     * @param clinicId the identifier of the clinic whose certificates are to be retrieved
+     * @param cursor   the cursor returned with the previous page; omitted for the first page
+     * @param size     the page size (1 to 100)
+     * @return a page of digital certificates issued by the clinic, with the cursor of the next page
+     */
+    @Operation(summary = "Scroll certificates issued by a specific clinic",
+            description = "Retrieves the certificates issued by staff of the specified clinic, newest first, with keyset pagination: " +
+                    "send the returned nextCursor to get the next page. Requires clinic staff authorization.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Certificates retrieved successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CursorPageDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size out of range", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (User not authorized for the clinic)", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @GetMapping("/clinic/{clinicId}/scroll")
+    @SecurityRequirement(name = "bearerAuth")
+    ResponseEntity<CursorPageDto<CertificateViewDto>> scrollCertificatesByClinic(
+            @Parameter(description = "ID of the issuing clinic") @PathVariable Long clinicId,
+            @Parameter(description = "Cursor returned with the previous page (omit for the first page)")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "Page size (1-100)")
+            @RequestParam(name = "size", defaultValue = "20") int size
+    );
+
+    /**
+     * Renders several certificates issued by a clinic as PDF documents in a single ZIP archive, for printing.
+     * Each document is streamed into the archive while it is laid out.
+     * Requires the user to be staff of the clinic.
+     *
+     * @param clinicId       The ID of the issuing clinic.
+     * @param certificateIds The IDs of the certificates to include (1 to 100).
+     * @return ResponseEntity streaming the ZIP archive, with status 200 (OK).
+     */
+    @Operation(summary = "Download certificate PDFs of a clinic as a ZIP archive",
+            description = "Renders up to 100 certificates issued by the clinic as PDF documents, streamed in one ZIP archive. Requires clinic staff authorization.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "ZIP archive streamed",
+                    content = @Content(mediaType = "application/zip", schema = @Schema(type = "string", format = "binary"))),
+            @ApiResponse(responseCode = "400", description = "No certificate IDs or more than 100", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (User not authorized for the clinic)", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "404", description = "A certificate was not found among those issued by the clinic", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @GetMapping(value = "/clinic/{clinicId}/certificates.zip", produces = "application/zip")
+    ResponseEntity<StreamingResponseBody> getClinicCertificatesPdfZip(
+            @Parameter(description = "ID of the issuing clinic") @PathVariable Long clinicId,
+            @Parameter(description = "IDs of the certificates to include (1-100)", required = true)
+            @RequestParam("ids") List<Long> certificateIds);
 }
@@ -2,6 +2,8 @@ package com.petconnect.backend.certificate.port.spi;
 
 import com.petconnect.backend.certificate.application.event.CertificateGeneratedEvent;
 
+import java.util.List;
+
 /**
  * Output Port interface defining the contract for publishing events
  * related to the Certificate domain to an external messaging system (Kafka).
@@ -17,4 +19,14 @@ public interface CertificateEventPublisherPort {
      * @param event The CertificateGeneratedEvent containing details.
      */
     void publishCertificateGenerated(CertificateGeneratedEvent event);
+
+    /**
+     * Publishes the events of several certificates generated together (bulk issuance).
+     * By default, publishes them one by one.
+     *
+     * @param events The CertificateGeneratedEvents, one per certificate.
+     */
+    default void publishCertificatesGenerated(List<CertificateGeneratedEvent> events) {
+        events.forEach(this::publishCertificateGenerated);
+    }
 }
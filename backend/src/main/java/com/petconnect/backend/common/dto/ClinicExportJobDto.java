@@ -0,0 +1,48 @@
+package com.petconnect.backend.common.dto;
+
+import java.time.Instant;
+
+/**
+ * State of an asynchronous clinic-wide export job, returned when the job is started and when it is polled.
+ * Progress is reported as the number of rows written against the totals counted when the job started.
+ *
+ * @param jobId                The ID of the job.
+ * @param clinicId             The ID of the exported clinic.
+ * @param status               The current status of the job.
+ * @param recordsExported      The number of records written to the archive so far.
+ * @param recordsTotal         The number of records to export, or 0 until counted.
+ * @param certificatesExported The number of certificates written to the archive so far.
+ * @param certificatesTotal    The number of certificates to export, or 0 until counted.
+ * @param progressPercent      The overall progress, from 0 to 100.
+ * @param requestedAt          When the job was requested.
+ * @param finishedAt           When the job completed or failed, or null while it is pending.
+ * @param downloadUrl          The API path to download the archive from, or null until the job is completed.
+ * @param errorMessage         The reason of the failure, or null unless the job failed.
+ *
+ * @author ibosquet
+ */
+public record ClinicExportJobDto(
+        String jobId,
+        Long clinicId,
+        Status status,
+        long recordsExported,
+        long recordsTotal,
+        long certificatesExported,
+        long certificatesTotal,
+        int progressPercent,
+        Instant requestedAt,
+        Instant finishedAt,
+        String downloadUrl,
+        String errorMessage
+) {
+
+    /**
+     * Lifecycle of an export job.
+     */
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
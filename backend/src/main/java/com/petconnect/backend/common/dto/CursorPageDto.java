@@ -0,0 +1,21 @@
+package com.petconnect.backend.common.dto;
+
+import java.util.List;
+
+/**
+ * One page of a listing paginated with an opaque cursor (keyset pagination), newest first.
+ * Unlike a {@link org.springframework.data.domain.Page}, it has no total count or page number:
+ * the next page is requested with {@code nextCursor}, which keeps every page equally fast to load.
+ *
+ * @param content    The items of the page.
+ * @param nextCursor The cursor to request the next page with, or null if this is the last page.
+ * @param hasNext    Whether there are more items after this page.
+ * @param <T>        The type of the items.
+ *
+ * @author ibosquet
+ */
+public record CursorPageDto<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {}
@@ -0,0 +1,224 @@
+package com.petconnect.backend.common.helper;
+
+import com.petconnect.backend.pet.domain.model.Pet;
+import com.petconnect.backend.pet.domain.repository.PetRepository;
+import com.petconnect.backend.record.domain.model.LatestCheckupSummary;
+import com.petconnect.backend.record.domain.model.RabiesVaccinationSummary;
+import com.petconnect.backend.record.domain.repository.RecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Helper component that maintains and reads the AHC (Animal Health Certificate) eligibility
+ * read model persisted on {@link Pet#getAhcEligibleUntil()}.
+ * The eligibility date is recomputed from signed Rabies vaccine and checkup records when those
+ * records change, expired dates are cleared by a nightly sweep, and a consistency check
+ * recomputes the whole table in bulk to detect (and optionally correct) drift.
+ *
+ * @author ibosquet
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AhcEligibilityHelper {
+
+    /** Number of pets processed per page by the bulk consistency check. */
+    static final int CONSISTENCY_CHECK_PAGE_SIZE = 200;
+    /** Maximum number of drifted pet IDs kept in a {@link DriftReport}. */
+    static final int DRIFT_SAMPLE_SIZE = 20;
+
+    private final RecordRepository recordRepository;
+    private final PetRepository petRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Summary of a bulk eligibility consistency check.
+     *
+     * @param checked         Number of pets whose eligibility was recomputed.
+     * @param drifted         Number of pets whose persisted date differed from the recomputed one.
+     * @param corrected       Number of drifted pets updated with the recomputed date.
+     * @param driftedPetIds   A sample of the IDs of the drifted pets (at most {@value #DRIFT_SAMPLE_SIZE}).
+     */
+    public record DriftReport(long checked, long drifted, long corrected, List<Long> driftedPetIds) {}
+
+    /**
+     * Resolves whether each of the given pets can currently request an AHC certificate.
+     * This is a pure read of the persisted eligibility date; no records are queried.
+     *
+     * @param pets The pets to evaluate (typically the content of a page).
+     * @return A map from pet ID to eligibility flag, containing an entry for every pet with an ID.
+     */
+    public Map<Long, Boolean> resolveEligibility(Collection<Pet> pets) {
+        if (pets == null || pets.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        LocalDate today = LocalDate.now();
+        Map<Long, Boolean> eligibility = new HashMap<>();
+        for (Pet pet : pets) {
+            if (pet != null && pet.getId() != null) {
+                eligibility.put(pet.getId(), pet.isAhcEligibleOn(today));
+            }
+        }
+        return eligibility;
+    }
+
+    /**
+     * Recomputes and stores the eligibility date of a single pet from its signed records.
+     * Intended to be called whenever a signed Rabies vaccine or checkup record of the pet is created or deleted.
+     *
+     * @param pet The pet to refresh. Ignored if null or not yet persisted.
+     * @return The new eligibility date, or null if the pet is not eligible.
+     */
+    public LocalDate refreshEligibility(Pet pet) {
+        if (pet == null || pet.getId() == null) {
+            return null;
+        }
+        LocalDate eligibleUntil = computeEligibleUntil(List.of(pet.getId()), LocalDate.now()).get(pet.getId());
+        if (!Objects.equals(pet.getAhcEligibleUntil(), eligibleUntil)) {
+            log.debug("AHC eligibility of pet {} changed from {} to {}", pet.getId(), pet.getAhcEligibleUntil(), eligibleUntil);
+            pet.setAhcEligibleUntil(eligibleUntil);
+            petRepository.save(pet);
+        }
+        return eligibleUntil;
+    }
+
+    /**
+     * Computes, for the given pets, the last date on which they meet the AHC prerequisites:
+     * the earliest of the expiry of their latest valid Rabies vaccine and one year after their
+     * latest signed checkup. Pets missing either prerequisite, or whose date is already past,
+     * are not included in the result.
+     * Pet status is not taken into account here; it is checked when reading the flag.
+     *
+     * @param petIds The IDs of the pets to compute.
+     * @param today  The reference date.
+     * @return A map from pet ID to eligibility date, containing only currently eligible pets.
+     */
+    public Map<Long, LocalDate> computeEligibleUntil(Collection<Long> petIds, LocalDate today) {
+        if (petIds == null || petIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, LocalDate> rabiesValidUntil = new HashMap<>();
+        for (RabiesVaccinationSummary summary : recordRepository.findSignedRabiesVaccinationSummaries(petIds)) {
+            if (!ValidateHelper.isRabiesVaccinationValid(summary.vaccinatedAt(), summary.validityYears(), today)) {
+                continue;
+            }
+            LocalDate expiry = summary.vaccinatedAt().toLocalDate().plusYears(summary.validityYears());
+            rabiesValidUntil.merge(summary.petId(), expiry, (a, b) -> a.isAfter(b) ? a : b);
+        }
+        if (rabiesValidUntil.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, LocalDate> eligibleUntil = new HashMap<>();
+        for (LatestCheckupSummary checkup : recordRepository.findLatestSignedCheckupSummaries(rabiesValidUntil.keySet(), RecordHelper.CHECKUP_TYPES)) {
+            if (checkup.checkedAt() == null) {
+                continue;
+            }
+            LocalDate checkupValidUntil = checkup.checkedAt().toLocalDate().plusYears(1);
+            LocalDate rabiesExpiry = rabiesValidUntil.get(checkup.petId());
+            LocalDate until = checkupValidUntil.isBefore(rabiesExpiry) ? checkupValidUntil : rabiesExpiry;
+            if (!until.isBefore(today)) {
+                eligibleUntil.put(checkup.petId(), until);
+            }
+        }
+        return eligibleUntil;
+    }
+
+    /**
+     * Clears the eligibility date of every pet whose date is already in the past.
+     *
+     * @param today The reference date.
+     * @return The number of pets updated.
+     */
+    @Transactional
+    public int expireStaleEligibility(LocalDate today) {
+        int expired = petRepository.clearAhcEligibilityBefore(today);
+        log.info("AHC eligibility expiry sweep cleared {} pets (reference date {}).", expired, today);
+        return expired;
+    }
+
+    /**
+     * Recomputes the eligibility date of every pet in bulk, page by page, and compares it with
+     * the persisted value. Pages are read by keyset on the pet ID, without a count query, and each
+     * page runs in its own transaction so the persistence context never holds more than one page.
+     *
+     * @param correct Whether drifted pets should be updated with the recomputed date.
+     * @return A {@link DriftReport} summarizing the check.
+     */
+    public DriftReport checkConsistency(boolean correct) {
+        LocalDate today = LocalDate.now();
+        TransactionTemplate pageTransaction = new TransactionTemplate(transactionManager);
+        DriftTally tally = new DriftTally();
+
+        Long afterId = 0L;
+        while (afterId != null) {
+            Long lastCheckedId = afterId;
+            afterId = pageTransaction.execute(status -> checkConsistencyPage(lastCheckedId, today, correct, tally));
+        }
+
+        DriftReport report = new DriftReport(tally.checked, tally.drifted, tally.corrected, List.copyOf(tally.sample));
+        if (tally.drifted > 0) {
+            log.warn("AHC eligibility drift detected: {} of {} pets differ, {} corrected. Sample pet IDs: {}",
+                    tally.drifted, tally.checked, tally.corrected, tally.sample);
+        } else {
+            log.info("AHC eligibility consistency check passed for {} pets.", tally.checked);
+        }
+        return report;
+    }
+
+    // Private methods
+
+    /**
+     * Running totals of a consistency check, accumulated across page transactions.
+     */
+    private static final class DriftTally {
+        private long checked;
+        private long drifted;
+        private long corrected;
+        private final List<Long> sample = new ArrayList<>();
+    }
+
+    /**
+     * Checks (and optionally corrects) the next page of pets after the given ID.
+     *
+     * @return The ID of the last pet of the page, or null if there are no more pets to check.
+     */
+    private Long checkConsistencyPage(Long afterId, LocalDate today, boolean correct, DriftTally tally) {
+        List<Pet> pets = petRepository.findPageAfterId(afterId, PageRequest.of(0, CONSISTENCY_CHECK_PAGE_SIZE));
+        if (pets.isEmpty()) {
+            return null;
+        }
+        Map<Long, LocalDate> expected = computeEligibleUntil(pets.stream().map(Pet::getId).toList(), today);
+        List<Pet> toSave = new ArrayList<>();
+        for (Pet pet : pets) {
+            tally.checked++;
+            LocalDate recomputed = expected.get(pet.getId());
+            if (Objects.equals(pet.getAhcEligibleUntil(), recomputed)) {
+                continue;
+            }
+            tally.drifted++;
+            if (tally.sample.size() < DRIFT_SAMPLE_SIZE) {
+                tally.sample.add(pet.getId());
+            }
+            if (correct) {
+                pet.setAhcEligibleUntil(recomputed);
+                toSave.add(pet);
+            }
+        }
+        if (!toSave.isEmpty()) {
+            petRepository.saveAll(toSave);
+            tally.corrected += toSave.size();
+        }
+        // A short page is the last one, which saves the query that would return nothing
+        return pets.size() < CONSISTENCY_CHECK_PAGE_SIZE ? null : pets.getLast().getId();
+    }
+}
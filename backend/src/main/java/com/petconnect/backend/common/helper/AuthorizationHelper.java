@@ -55,15 +55,8 @@ public class AuthorizationHelper {
         }
         UserEntity requesterUser = entityFinderHelper.findUserOrFail(requesterUserId);
 
-        // Is the requester the owner?
-        if (isOwner(requesterUser, pet)) {
-            log.debug("Authorization granted for action '{}': User {} is the owner of pet {}", actionDescription, requesterUserId, pet.getId());
-            return;
-        }
-
-        // Is the requester authorized staff?
-        if (isAuthorizedStaff(requesterUser, pet)) {
-            log.debug("Authorization granted for action '{}': User {} is authorized staff for pet {}", actionDescription, requesterUserId, pet.getId());
+        if (isUserAuthorizedForPet(requesterUser, pet)) {
+            log.debug("Authorization granted for action '{}': User {} is the owner or authorized staff for pet {}", actionDescription, requesterUserId, pet.getId());
             return;
         }
 
@@ -73,6 +66,22 @@ public class AuthorizationHelper {
                 requesterUserId, actionDescription, pet.getId()));
     }
 
+    /**
+     * Checks, without throwing, if an already loaded user is the owner of the pet or authorized staff for it
+     * (same rules as {@link #verifyUserAuthorizationForPet}).
+     * Not transactional on purpose: callers that handle a denial themselves (e.g., per-item failures of a batch)
+     * must run it inside their own transaction, since an exception thrown through a transactional proxy would
+     * mark that transaction as rollback-only.
+     *
+     * @param requesterUser The user requesting access.
+     * @param pet           The Pet entity being accessed (its associated vets must be loadable).
+     * @return true if the user is the owner or authorized staff, false otherwise.
+     * @throws AccessDeniedException if the user is staff but has no associated clinic (data inconsistency).
+     */
+    public boolean isUserAuthorizedForPet(UserEntity requesterUser, Pet pet) {
+        return isOwner(requesterUser, pet) || isAuthorizedStaff(requesterUser, pet);
+    }
+
     /**
      * Checks if the given user is the owner of the pet.
      *
@@ -0,0 +1,156 @@
+package com.petconnect.backend.common.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Utility class implementing Base45 (RFC 9285), the encoding of the {@code HC1:} QR data.
+ * <p>
+ * Every output is sized exactly from the input length and written in a single pass:
+ * encoding fills one byte array that becomes a Latin-1 string, and decoding can write
+ * into a caller-owned buffer, so the verification path can decode without allocating.
+ *
+ * @author ibosquet
+ */
+public class Base45Codec {
+
+    private static final byte[] ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ $%*+-./:".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DECODE_TABLE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            DECODE_TABLE[ALPHABET[i]] = (byte) i;
+        }
+    }
+
+    private Base45Codec() {
+    }
+
+    /**
+     * Returns the number of characters of the Base45 encoding of {@code byteCount} bytes.
+     *
+     * @param byteCount The number of bytes to encode.
+     * @return The encoded length.
+     */
+    public static int encodedLength(int byteCount) {
+        return (byteCount / 2) * 3 + (byteCount % 2) * 2;
+    }
+
+    /**
+     * Returns the number of bytes encoded by {@code charCount} Base45 characters.
+     *
+     * @param charCount The number of characters.
+     * @return The decoded length.
+     * @throws IllegalArgumentException if no Base45 string has that length.
+     */
+    public static int decodedLength(int charCount) {
+        if (charCount % 3 == 1) {
+            throw new IllegalArgumentException("Invalid Base45 length: " + charCount);
+        }
+        return (charCount / 3) * 2 + (charCount % 3 == 2 ? 1 : 0);
+    }
+
+    /**
+     * Encodes the data as a Base45 string.
+     *
+     * @param data The bytes to encode. Cannot be null.
+     * @return The Base45 string.
+     */
+    public static String encodeToString(byte[] data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data to be encoded cannot be null");
+        }
+        byte[] out = new byte[encodedLength(data.length)];
+        encode(data, 0, data.length, out, 0);
+        // Latin-1 strings keep the byte array layout, so this is a single copy
+        return new String(out, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Encodes {@code length} bytes of {@code src} into {@code dst} as ASCII Base45 characters.
+     *
+     * @param src       The source bytes.
+     * @param srcOffset The first byte to encode.
+     * @param length    The number of bytes to encode.
+     * @param dst       The destination, with room for {@link #encodedLength(int)} bytes from {@code dstOffset}.
+     * @param dstOffset The first destination index.
+     * @return The number of characters written.
+     */
+    public static int encode(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+        int out = dstOffset;
+        int end = srcOffset + length;
+        int i = srcOffset;
+        for (; i + 1 < end; i += 2) {
+            int value = ((src[i] & 0xff) << 8) | (src[i + 1] & 0xff);
+            dst[out++] = ALPHABET[value % 45];
+            value /= 45;
+            dst[out++] = ALPHABET[value % 45];
+            dst[out++] = ALPHABET[value / 45];
+        }
+        if (i < end) {
+            int value = src[i] & 0xff;
+            dst[out++] = ALPHABET[value % 45];
+            dst[out++] = ALPHABET[value / 45];
+        }
+        return out - dstOffset;
+    }
+
+    /**
+     * Decodes a Base45 string.
+     *
+     * @param text The Base45 text. Cannot be null.
+     * @return The decoded bytes.
+     * @throws IllegalArgumentException if the text is not valid Base45.
+     */
+    public static byte[] decode(CharSequence text) {
+        byte[] out = new byte[decodedLength(text.length())];
+        decode(text, 0, text.length(), out);
+        return out;
+    }
+
+    /**
+     * Decodes a range of a Base45 string into a caller-owned buffer, without any intermediate copy
+     * (e.g., the data after the {@code HC1:} prefix, into a reused per-thread buffer).
+     *
+     * @param text  The text holding the Base45 characters.
+     * @param start The index of the first Base45 character.
+     * @param end   The index after the last Base45 character.
+     * @param dst   The destination, with room for {@link #decodedLength(int)} bytes.
+     * @return The number of bytes written at the start of {@code dst}.
+     * @throws IllegalArgumentException if the range is not valid Base45.
+     */
+    public static int decode(CharSequence text, int start, int end, byte[] dst) {
+        int length = decodedLength(end - start);
+        if (dst.length < length) {
+            throw new IllegalArgumentException("Destination too small for " + length + " decoded bytes");
+        }
+        int out = 0;
+        int i = start;
+        for (; i + 2 < end; i += 3) {
+            int value = digit(text, i) + digit(text, i + 1) * 45 + digit(text, i + 2) * 45 * 45;
+            if (value > 0xffff) {
+                throw new IllegalArgumentException("Invalid Base45 triplet at index " + i);
+            }
+            dst[out++] = (byte) (value >> 8);
+            dst[out++] = (byte) value;
+        }
+        if (i < end) {
+            int value = digit(text, i) + digit(text, i + 1) * 45;
+            if (value > 0xff) {
+                throw new IllegalArgumentException("Invalid Base45 pair at index " + i);
+            }
+            dst[out++] = (byte) value;
+        }
+        return out;
+    }
+
+    private static int digit(CharSequence text, int index) {
+        char c = text.charAt(index);
+        int value = c < DECODE_TABLE.length ? DECODE_TABLE[c] : -1;
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid Base45 character '" + c + "' at index " + index);
+        }
+        return value;
+    }
+}
@@ -1,19 +1,26 @@
 package com.petconnect.backend.common.helper;
 
+import com.petconnect.backend.certificate.application.dto.CertificateDocumentDto;
+import com.petconnect.backend.certificate.domain.model.Certificate;
+import com.petconnect.backend.certificate.domain.model.CertificatePayload;
 import com.petconnect.backend.pet.domain.model.Pet;
 import com.petconnect.backend.record.domain.model.Record;
 import com.petconnect.backend.record.domain.model.RecordType;
 import com.petconnect.backend.record.domain.model.Vaccine;
 import com.petconnect.backend.user.domain.model.Clinic;
 import com.petconnect.backend.user.domain.model.Owner;
+import com.petconnect.backend.user.domain.model.SignatureAlgorithm;
 import com.petconnect.backend.user.domain.model.Vet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Objects;
 
 /**
  * Helper component containing business logic related to Certificates,
@@ -27,87 +34,115 @@ import java.util.Map;
 public class CertificateHelper {
 
     /**
-     * Constructs the certificate payload as a Map.
-     * Ensure the structure is well-defined and includes all necessary information.
-     * Use LinkedHashMap to maintain insertion order if relevant for canonicalization/hashing.
-     * Delegates event payload creation to buildEventPayload.
+     * Constructs the typed certificate payload.
+     * The payload is encoded with {@link CertificatePayloadCodec}: its canonical CBOR form is hashed and signed,
+     * and its JSON form is stored on the certificate.
      *
      * @param pet                The Pet.
      * @param sourceRecord       The source Record.
      * @param vet                The generating Vet.
      * @param clinic             The issuing Clinic.
      * @param certificateNumber  The official certificate number.
-     * @return A Map representing the certificate payload.
+     * @return The {@link CertificatePayload}.
      */
-    public Map<String, Object> buildPayload(Pet pet, Record sourceRecord, Vet vet, Clinic clinic, String certificateNumber) {
-        Map<String, Object> payload = new LinkedHashMap<>();
+    public CertificatePayload buildPayload(Pet pet, Record sourceRecord, Vet vet, Clinic clinic, String certificateNumber) {
         Owner owner = pet.getOwner();
 
-        // --- Root Level ---
-        payload.put("certType", "PET_VACCINATION_CERT_V1");
-        payload.put("issuanceTimestamp", System.currentTimeMillis());
-        payload.put("certificateNumber", certificateNumber);
+        CertificatePayload.Issuer issuer = new CertificatePayload.Issuer(
+                clinic.getId(),
+                clinic.getName(),
+                clinic.getCountry().name(),
+                vet.getId(),
+                vet.getName() + " " + vet.getSurname(),
+                vet.getLicenseNumber());
 
-        // --- Issuer Details ---
-        Map<String, Object> issuer = new LinkedHashMap<>();
-        issuer.put("id", clinic.getId());
-        issuer.put("name", clinic.getName());
-        issuer.put("country", clinic.getCountry().name());
-        issuer.put("issuingVetId", vet.getId());
-        issuer.put("issuingVetName", vet.getName() + " " + vet.getSurname());
-        issuer.put("issuingVetLicense", vet.getLicenseNumber());
-        payload.put("issuer", issuer);
+        CertificatePayload.Subject subject = new CertificatePayload.Subject(
+                pet.getId(),
+                pet.getName(),
+                pet.getBreed().getSpecie().name(),
+                pet.getBreed().getName(),
+                pet.getBirthDate() != null ? pet.getBirthDate().toString() : null,
+                pet.getGender() != null ? pet.getGender().name() : null,
+                pet.getColor(),
+                pet.getMicrochip(),
+                owner != null ? new CertificatePayload.OwnerInfo(owner.getId()) : null);
 
-        // --- Subject Details (Pet & Owner) ---
-        Map<String, Object> subject = new LinkedHashMap<>();
-        subject.put("petId", pet.getId());
-        subject.put("petName", pet.getName());
-        subject.put("petSpecies", pet.getBreed().getSpecie().name());
-        subject.put("petBreed", pet.getBreed().getName());
-        subject.put("petBirthDate", pet.getBirthDate() != null ? pet.getBirthDate().toString() : null);
-        subject.put("petGender", pet.getGender() != null ? pet.getGender().name() : null);
-        subject.put("petColor", pet.getColor());
-        subject.put("petMicrochip", pet.getMicrochip());
-        if (owner != null) {
-            subject.put("ownerInfo", Map.of("id", owner.getId()));
-        }
-        payload.put("subject", subject);
-
-        // --- Event Details (Record & Vaccine if applicable) ---
-        payload.put("event", buildEventPayload(sourceRecord));
+        CertificatePayload payload = new CertificatePayload(
+                CertificatePayload.CERT_TYPE_V2,
+                System.currentTimeMillis(),
+                certificateNumber,
+                issuer,
+                subject,
+                buildEventPayload(sourceRecord));
 
         log.debug("Payload constructed for certificate generation: {}", payload);
         return payload;
     }
 
+    /**
+     * Builds the render model of a certificate document from the stored certificate: its payload details,
+     * QR data and signature fingerprints. Only columns of the certificate itself are read, so no relation is loaded.
+     *
+     * @param certificate The certificate, with its QR data attached.
+     * @return The {@link CertificateDocumentDto}.
+     */
+    public CertificateDocumentDto buildDocument(Certificate certificate) {
+        CertificatePayload payload = null;
+        try {
+            payload = CertificatePayloadCodec.fromJson(certificate.getPayload());
+        } catch (IllegalArgumentException e) {
+            log.warn("Payload of Certificate ID {} could not be read for its document; rendering without details: {}", certificate.getId(), e.getMessage());
+        }
+        return new CertificateDocumentDto(
+                certificate.getId(),
+                certificate.getCertificateNumber(),
+                certificate.getCreatedAt(),
+                payload,
+                certificate.getQrData(),
+                certificate.getHash(),
+                Objects.requireNonNullElse(certificate.getVetSignatureAlgorithm(), SignatureAlgorithm.RS256),
+                signatureFingerprint(certificate.getVetSignature()),
+                Objects.requireNonNullElse(certificate.getClinicSignatureAlgorithm(), SignatureAlgorithm.RS256),
+                signatureFingerprint(certificate.getClinicSignature()));
+    }
+
+    /**
+     * Computes the SHA-256 fingerprint of a Base64 signature, as colon-separated uppercase hex bytes.
+     *
+     * @param base64Signature The Base64 encoded signature.
+     * @return The fingerprint.
+     */
+    public String signatureFingerprint(String base64Signature) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(Base64.getDecoder().decode(base64Signature));
+            return HexFormat.ofDelimiter(":").withUpperCase().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
     /**
      * Builds the 'event' part of the certificate payload based on the source record.
      * @param sourceRecord The medical record (must be a VACCINE type for vaccine details).
-     * @return A Map containing event details.
+     * @return The event details.
      */
-    private Map<String, Object> buildEventPayload(Record sourceRecord) {
-        Map<String, Object> event = new LinkedHashMap<>();
-        event.put("recordId", sourceRecord.getId());
-        event.put("recordType", sourceRecord.getType().name());
+    private CertificatePayload.Event buildEventPayload(Record sourceRecord) {
         LocalDate recordDate = (sourceRecord.getCreatedAt() != null) ? sourceRecord.getCreatedAt().toLocalDate() : null;
-        event.put("recordDate", recordDate != null ? recordDate.toString() : null);
+        String recordDateText = recordDate != null ? recordDate.toString() : null;
 
-        if (sourceRecord.getType() == RecordType.VACCINE && sourceRecord.getVaccine() != null) {
+        if (sourceRecord.getType() == RecordType.VACCINE) {
+            CertificatePayload.VaccinationDetails vaccineInfo = null;
             Vaccine vaccine = sourceRecord.getVaccine();
-            Map<String, Object> vaccineInfo = new LinkedHashMap<>();
-            vaccineInfo.put("name", vaccine.getName());
-            vaccineInfo.put("batch", vaccine.getBatchNumber());
-            vaccineInfo.put("manufacturer", vaccine.getLaboratory());
-            vaccineInfo.put("validityYears", vaccine.getValidity());
-            if (recordDate != null && vaccine.getValidity() != null && vaccine.getValidity() > 0) {
-                vaccineInfo.put("expiryDate", recordDate.plusYears(vaccine.getValidity()).toString());
-            }
-            event.put("vaccinationDetails", vaccineInfo);
-        } else {
-            if (sourceRecord.getType() != RecordType.VACCINE) {
-                event.put("description", sourceRecord.getDescription());
+            if (vaccine != null) {
+                String expiryDate = null;
+                if (recordDate != null && vaccine.getValidity() != null && vaccine.getValidity() > 0) {
+                    expiryDate = recordDate.plusYears(vaccine.getValidity()).toString();
+                }
+                vaccineInfo = new CertificatePayload.VaccinationDetails(
+                        vaccine.getName(), vaccine.getBatchNumber(), vaccine.getLaboratory(), vaccine.getValidity(), expiryDate);
             }
+            return new CertificatePayload.Event(sourceRecord.getId(), sourceRecord.getType().name(), recordDateText, vaccineInfo, null);
         }
-        return event;
+        return new CertificatePayload.Event(sourceRecord.getId(), sourceRecord.getType().name(), recordDateText, null, sourceRecord.getDescription());
     }
 }
@@ -0,0 +1,179 @@
+package com.petconnect.backend.common.helper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.petconnect.backend.certificate.domain.model.CertificatePayload;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class encoding a {@link CertificatePayload} in its two representations:
+ * canonical CBOR, which is hashed, signed and embedded in the QR code as is, and pretty-printed
+ * JSON, which is stored on the certificate for display.
+ * <p>
+ * The CBOR encoding follows the core deterministic encoding requirements of RFC 8949 (section 4.2.1):
+ * shortest-form integers and lengths, definite-length maps, and map keys sorted by their encoded bytes.
+ * Encoding the same payload therefore always gives the same bytes, also after a JSON round trip,
+ * so the stored JSON is enough to rebuild the signed bytes.
+ *
+ * @author ibosquet
+ */
+public class CertificatePayloadCodec {
+
+    private static final int MAJOR_UNSIGNED = 0;
+    private static final int MAJOR_NEGATIVE = 1;
+    private static final int MAJOR_TEXT = 3;
+    private static final int MAJOR_ARRAY = 4;
+    private static final int MAJOR_MAP = 5;
+    private static final int SIMPLE_FALSE = 0xf4;
+    private static final int SIMPLE_TRUE = 0xf5;
+    private static final int SIMPLE_NULL = 0xf6;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectWriter JSON_WRITER = MAPPER.writerWithDefaultPrettyPrinter();
+
+    private CertificatePayloadCodec() {
+    }
+
+    /**
+     * Encodes the payload as canonical CBOR.
+     *
+     * @param payload The payload. Cannot be null.
+     * @return The canonical CBOR bytes.
+     * @throws IllegalArgumentException if the payload contains a value that has no canonical encoding here (e.g., a decimal number).
+     */
+    public static byte[] toCbor(CertificatePayload payload) {
+        if (payload == null) {
+            throw new IllegalArgumentException("Certificate payload cannot be null.");
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+        writeCanonical(MAPPER.valueToTree(payload), out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Encodes the payload as pretty-printed JSON, for storage.
+     *
+     * @param payload The payload. Cannot be null.
+     * @return The JSON string.
+     * @throws RuntimeException if serialization fails.
+     */
+    public static String toJson(CertificatePayload payload) {
+        try {
+            return JSON_WRITER.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize certificate payload to JSON.", e);
+        }
+    }
+
+    /**
+     * Reads a payload stored as JSON by {@link #toJson(CertificatePayload)}.
+     *
+     * @param payloadJson The JSON string.
+     * @return The payload.
+     * @throws IllegalArgumentException if the JSON is not a valid certificate payload.
+     */
+    public static CertificatePayload fromJson(String payloadJson) {
+        try {
+            return MAPPER.readValue(payloadJson, CertificatePayload.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid certificate payload JSON: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    // Private methods
+
+    private static void writeCanonical(JsonNode node, ByteArrayOutputStream out) {
+        switch (node.getNodeType()) {
+            case OBJECT -> writeMap(node, out);
+            case ARRAY -> {
+                writeHead(MAJOR_ARRAY, node.size(), out);
+                for (JsonNode element : node) {
+                    writeCanonical(element, out);
+                }
+            }
+            case STRING -> writeText(node.textValue(), out);
+            case NUMBER -> {
+                if (!node.isIntegralNumber() || !node.canConvertToLong()) {
+                    throw new IllegalArgumentException("Only integral numbers are supported in a certificate payload: " + node);
+                }
+                long value = node.longValue();
+                if (value >= 0) {
+                    writeHead(MAJOR_UNSIGNED, value, out);
+                } else {
+                    writeHead(MAJOR_NEGATIVE, -1 - value, out);
+                }
+            }
+            case BOOLEAN -> out.write(node.booleanValue() ? SIMPLE_TRUE : SIMPLE_FALSE);
+            case NULL -> out.write(SIMPLE_NULL);
+            default -> throw new IllegalArgumentException("Unsupported value in a certificate payload: " + node.getNodeType());
+        }
+    }
+
+    /**
+     * Writes a definite-length map whose entries are sorted by the bytewise order of their encoded keys.
+     */
+    private static void writeMap(JsonNode node, ByteArrayOutputStream out) {
+        List<byte[]> keys = new ArrayList<>(node.size());
+        List<JsonNode> values = new ArrayList<>(node.size());
+        Integer[] order = new Integer[node.size()];
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        for (int i = 0; fields.hasNext(); i++) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            ByteArrayOutputStream key = new ByteArrayOutputStream();
+            writeText(field.getKey(), key);
+            keys.add(key.toByteArray());
+            values.add(field.getValue());
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(keys.get(a), keys.get(b)));
+
+        writeHead(MAJOR_MAP, order.length, out);
+        for (int index : order) {
+            out.writeBytes(keys.get(index));
+            writeCanonical(values.get(index), out);
+        }
+    }
+
+    private static void writeText(String text, ByteArrayOutputStream out) {
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        writeHead(MAJOR_TEXT, utf8.length, out);
+        out.writeBytes(utf8);
+    }
+
+    /**
+     * Writes an item head with the argument in its shortest form.
+     */
+    private static void writeHead(int majorType, long argument, ByteArrayOutputStream out) {
+        int type = majorType << 5;
+        if (argument < 24) {
+            out.write(type | (int) argument);
+        } else if (argument <= 0xffL) {
+            out.write(type | 24);
+            out.write((int) argument);
+        } else if (argument <= 0xffffL) {
+            out.write(type | 25);
+            writeBigEndian(argument, 2, out);
+        } else if (argument <= 0xffffffffL) {
+            out.write(type | 26);
+            writeBigEndian(argument, 4, out);
+        } else {
+            out.write(type | 27);
+            writeBigEndian(argument, 8, out);
+        }
+    }
+
+    private static void writeBigEndian(long value, int bytes, ByteArrayOutputStream out) {
+        for (int shift = (bytes - 1) * 8; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift) & 0xff);
+        }
+    }
+}
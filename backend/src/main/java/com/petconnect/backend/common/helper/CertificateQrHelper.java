@@ -0,0 +1,109 @@
+package com.petconnect.backend.common.helper;
+
+import com.petconnect.backend.certificate.domain.model.Certificate;
+import com.petconnect.backend.certificate.domain.repository.CertificateRepository;
+import com.petconnect.backend.common.service.HashingService;
+import com.petconnect.backend.common.service.QrCodeService;
+import com.petconnect.backend.exception.HashingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Helper component that maintains the QR data persisted on {@link Certificate#getQrData()}.
+ * A certificate is immutable once issued, so its QR string is generated once (at issuance,
+ * or by the backfill for older certificates) and then served as stored.
+ *
+ * @author ibosquet
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CertificateQrHelper {
+
+    private final QrCodeService qrCodeService;
+    private final HashingService hashingService;
+    private final CertificateRepository certificateRepository;
+
+    /**
+     * Checks whether the certificate already has its QR data stored.
+     *
+     * @param certificate The certificate.
+     * @return true if both the QR data and its hash are present.
+     */
+    public boolean hasQrData(Certificate certificate) {
+        return StringUtils.hasText(certificate.getQrData()) && StringUtils.hasText(certificate.getQrDataHash());
+    }
+
+    /**
+     * Generates the QR data of the certificate and sets it, with its hash, on the entity.
+     * The caller is responsible for persisting the entity.
+     *
+     * @param certificate The certificate, with its payload and signatures set.
+     * @throws RuntimeException if the QR data cannot be generated or hashed.
+     */
+    public void attachQrData(Certificate certificate) {
+        attachQrData(certificate, null);
+    }
+
+    /**
+     * Generates the QR data of the certificate from the given signed CBOR payload and sets it, with its hash, on the entity.
+     * Used at issuance, so the payload bytes are not encoded a second time.
+     *
+     * @param certificate The certificate, with its payload and signatures set.
+     * @param payloadCbor The signed canonical CBOR payload, or null to rebuild it from the stored payload.
+     * @throws RuntimeException if the QR data cannot be generated or hashed.
+     */
+    public void attachQrData(Certificate certificate, byte[] payloadCbor) {
+        String qrData = qrCodeService.generateQrData(certificate, payloadCbor);
+        try {
+            certificate.setQrDataHash(hashingService.hashString(qrData));
+        } catch (HashingException e) {
+            log.error("Failed to hash QR data for Certificate ID {}: {}", certificate.getId(), e.getMessage(), e);
+            throw new RuntimeException("Failed to hash certificate QR data.", e);
+        }
+        certificate.setQrData(qrData);
+    }
+
+    /**
+     * Finds the IDs of certificates without stored QR data, in ascending ID order.
+     *
+     * @param afterId The last ID already processed (exclusive lower bound).
+     * @param limit   The maximum number of IDs to return.
+     * @return The IDs found, possibly empty.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findCertificateIdsWithoutQrData(Long afterId, int limit) {
+        return certificateRepository.findIdsWithoutQrData(afterId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Generates and stores the QR data of the given certificates in a single transaction.
+     * A certificate whose QR data cannot be generated is logged and skipped.
+     *
+     * @param certificateIds The IDs of the certificates to backfill.
+     * @return The number of certificates updated.
+     */
+    @Transactional
+    public int backfillQrData(Collection<Long> certificateIds) {
+        int updated = 0;
+        for (Certificate certificate : certificateRepository.findAllById(certificateIds)) {
+            if (hasQrData(certificate)) {
+                continue;
+            }
+            try {
+                attachQrData(certificate);
+                updated++;
+            } catch (RuntimeException e) {
+                log.warn("Could not backfill QR data for Certificate ID {}: {}", certificate.getId(), e.getMessage());
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,76 @@
+package com.petconnect.backend.common.helper;
+
+import com.petconnect.backend.user.domain.model.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.PublicKey;
+import java.util.Optional;
+
+/**
+ * Utility class to detect the signature algorithm of uploaded public keys.
+ *
+ * @author ibosquet
+ */
+@Slf4j
+public class KeyAlgorithmUtils {
+    private KeyAlgorithmUtils() {
+    }
+
+    /**
+     * Detects the signature algorithm of a PEM encoded public key or X.509 certificate.
+     *
+     * @param pemContent The PEM file content.
+     * @return The detected algorithm, or empty if the content is not a parseable public key.
+     * @throws IllegalArgumentException if the content is a public key of an unsupported type.
+     */
+    public static Optional<SignatureAlgorithm> detectPublicKeyAlgorithm(byte[] pemContent) {
+        if (pemContent == null || pemContent.length == 0) {
+            return Optional.empty();
+        }
+        PublicKey publicKey;
+        try (PEMParser pemParser = new PEMParser(new InputStreamReader(new ByteArrayInputStream(pemContent), StandardCharsets.UTF_8))) {
+            Object pemObject = pemParser.readObject();
+            SubjectPublicKeyInfo keyInfo = switch (pemObject) {
+                case SubjectPublicKeyInfo info -> info;
+                case X509CertificateHolder certHolder -> certHolder.getSubjectPublicKeyInfo();
+                case null, default -> null;
+            };
+            if (keyInfo == null) {
+                return Optional.empty();
+            }
+            publicKey = new JcaPEMKeyConverter().getPublicKey(keyInfo);
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+        return Optional.of(SignatureAlgorithm.forKey(publicKey));
+    }
+
+    /**
+     * Validates an uploaded public key before it is stored and logs its signature algorithm.
+     * Null or empty files are left to the storage validation; anything else must be a
+     * parseable public key or certificate of a supported type.
+     *
+     * @param file                The uploaded public key file.
+     * @param subDirectory        The storage subdirectory, used in the log message.
+     * @param desiredFilenameBase The base filename of the key, used in the log message.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a parseable public key or its type is not supported.
+     */
+    public static void validatePublicKey(MultipartFile file, String subDirectory, String desiredFilenameBase) throws IOException {
+        if (file == null || file.isEmpty()) {
+            return;
+        }
+        SignatureAlgorithm algorithm = detectPublicKeyAlgorithm(file.getBytes())
+                .orElseThrow(() -> new IllegalArgumentException("Public key file is not a valid PEM public key or certificate."));
+        log.info("Public key {}/{} uses signature algorithm {}.", subDirectory, desiredFilenameBase, algorithm);
+    }
+}
@@ -0,0 +1,158 @@
+package com.petconnect.backend.common.helper;
+
+import com.petconnect.backend.common.dto.CursorPageDto;
+import com.petconnect.backend.user.domain.model.BaseEntity;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Utility class for keyset (seek) pagination of listings ordered by {@code created_at DESC, id DESC}.
+ * The cursor is the position of the last item of a page, encoded as an opaque URL-safe string,
+ * so the next page is read from an index seek instead of skipping the previous rows.
+ * Listings ordered by relevance ({@code rank DESC, id DESC}, e.g. full-text search) use a ranked cursor instead.
+ *
+ * @author ibosquet
+ */
+public class KeysetCursor {
+
+    /** Page size used when none is requested. */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    /** Maximum number of items in one page. */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final char SEPARATOR = '|';
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * A position in a listing: the creation date and ID of the last item read.
+     *
+     * @param createdAt The creation date of the item.
+     * @param id        The ID of the item, breaking ties between items created at the same time.
+     */
+    public record Position(LocalDateTime createdAt, Long id) {}
+
+    /**
+     * A position in a listing ordered by relevance: the rank and ID of the last item read.
+     *
+     * @param rank The relevance rank of the item.
+     * @param id   The ID of the item, breaking ties between items with the same rank.
+     */
+    public record RankedPosition(float rank, Long id) {}
+
+    /**
+     * Encodes the position of an item as a cursor.
+     *
+     * @param createdAt The creation date of the item.
+     * @param id        The ID of the item.
+     * @return The opaque cursor.
+     */
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String position = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor returned by {@link #encode(LocalDateTime, Long)}.
+     *
+     * @param cursor The cursor, or null/blank for the first page.
+     * @return The position, or null for the first page.
+     * @throws IllegalArgumentException if the cursor is not valid.
+     */
+    public static Position decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+            return new Position(LocalDateTime.parse(position.substring(0, separator)), Long.valueOf(position.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            // NumberFormatException and Base64 errors are already IllegalArgumentExceptions
+            throw new IllegalArgumentException("Invalid cursor.", e);
+        }
+    }
+
+    /**
+     * Encodes the position of an item of a listing ordered by relevance as a cursor.
+     *
+     * @param rank The relevance rank of the item.
+     * @param id   The ID of the item.
+     * @return The opaque cursor.
+     */
+    public static String encodeRanked(float rank, Long id) {
+        String position = Float.toString(rank) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor returned by {@link #encodeRanked(float, Long)}.
+     *
+     * @param cursor The cursor, or null/blank for the first page.
+     * @return The position, or null for the first page.
+     * @throws IllegalArgumentException if the cursor is not valid.
+     */
+    public static RankedPosition decodeRanked(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        // Base64 and number format errors are already IllegalArgumentExceptions
+        String position = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+        int separator = position.lastIndexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+        float rank = Float.parseFloat(position.substring(0, separator));
+        if (!Float.isFinite(rank)) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+        return new RankedPosition(rank, Long.valueOf(position.substring(separator + 1)));
+    }
+
+    /**
+     * Returns the limit to query a page with: one more row than the page size, to know if there is a next page.
+     *
+     * @param size The requested page size.
+     * @return The {@link Pageable} limiting the query.
+     * @throws IllegalArgumentException if the size is not between 1 and {@link #MAX_PAGE_SIZE}.
+     */
+    public static Pageable pageLimit(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        return PageRequest.of(0, size + 1);
+    }
+
+    /**
+     * Builds a page from the rows read with {@link #pageLimit(int)}, with the cursor of its last item.
+     *
+     * @param rows   The rows read, in listing order (at most one more than the page size).
+     * @param size   The requested page size.
+     * @param mapper The conversion of each row to its DTO.
+     * @param <E>    The entity type.
+     * @param <D>    The DTO type.
+     * @return The page.
+     */
+    public static <E extends BaseEntity, D> CursorPageDto<D> toPage(List<E> rows, int size, Function<E, D> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            E last = page.get(page.size() - 1);
+            nextCursor = encode(last.getCreatedAt(), last.getId());
+        }
+        return new CursorPageDto<>(page.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,117 @@
+package com.petconnect.backend.common.helper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.Adler32;
+
+/**
+ * Versioned zlib preset dictionaries for the compressed COSE structure of the QR data.
+ * <p>
+ * A QR payload is about 1 KB, too short for DEFLATE to learn its own repetitions, while most of its
+ * non-signature bytes are the same field names and enum values in every certificate. A preset dictionary
+ * holding those strings lets the compressor reference them from the first byte.
+ * <p>
+ * The dictionary of a zlib stream is identified by the Adler-32 checksum of its bytes, which zlib writes
+ * in the stream header ({@code DICTID}), so QR data names the dictionary it needs without any extra field.
+ * The entries of a published version must never change: QR codes compressed with it are printed
+ * and must stay readable. Add a new version instead, and keep the old ones for decompression.
+ *
+ * @author ibosquet
+ */
+public enum QrCompressionDictionary {
+
+    /**
+     * Built from the {@code CertificatePayload} (V1 and V2) structure: COSE framing, enum values and the
+     * CBOR-encoded field names, most frequent last (DEFLATE matches closer distances with fewer bits).
+     */
+    V1(List.of(
+            // Enum values
+            "UNITED_KINGDOM", "AUSTRIA", "BELGIUM", "BULGARIA", "CROATIA", "CYPRUS", "CZECH_REPUBLIC", "DENMARK",
+            "ESTONIA", "FINLAND", "FRANCE", "GERMANY", "GREECE", "HUNGARY", "IRELAND", "ITALY", "LATVIA",
+            "LITHUANIA", "LUXEMBOURG", "MALTA", "NETHERLANDS", "POLAND", "PORTUGAL", "ROMANIA", "SLOVAKIA",
+            "SLOVENIA", "SWEDEN", "SPAIN",
+            "FIRST_VISIT", "ANNUAL_CHECK", "ILLNESS", "URGENCY", "OTHER", "FERRET", "RABBIT", "CAT", "DOG",
+            "FEMALE", "MALE", "VACCINE", "PET_VACCINATION_CERT_V1", "PET_VACCINATION_CERT_V2",
+            // Field names, in canonical (length-first) order
+            "id", "name", "batch", "event", "petId", "issuer", "country", "petName", "subject", "certType",
+            "petBreed", "petColor", "recordId", "ownerInfo", "petGender", "expiryDate", "petSpecies",
+            "recordDate", "recordType", "description", "petBirthDate", "issuingVetId", "manufacturer",
+            "petMicrochip", "validityYears", "issuingVetName", "issuingVetLicense", "certificateNumber",
+            "issuanceTimestamp", "vaccinationDetails"));
+
+    /** Dictionary used to compress new QR data. */
+    public static final QrCompressionDictionary CURRENT = V1;
+
+    private final byte[] bytes;
+    private final int id;
+
+    QrCompressionDictionary(List<String> entries) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        out.writeBytes(coseFraming());
+        for (String entry : entries) {
+            // Each entry as a CBOR text string, so the match includes its head byte
+            byte[] utf8 = entry.getBytes(StandardCharsets.UTF_8);
+            if (utf8.length < 24) {
+                out.write(0x60 | utf8.length);
+            } else {
+                out.write(0x78);
+                out.write(utf8.length);
+            }
+            out.writeBytes(utf8);
+        }
+        this.bytes = out.toByteArray();
+        Adler32 adler = new Adler32();
+        adler.update(bytes);
+        this.id = (int) adler.getValue();
+    }
+
+    /**
+     * Returns the dictionary bytes, to be passed to {@code Deflater.setDictionary} / {@code Inflater.setDictionary}.
+     * The array is shared and must not be modified.
+     *
+     * @return The dictionary bytes.
+     */
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the zlib dictionary id (Adler-32 of the bytes), as reported by {@code Inflater.getAdler()}
+     * when a stream needs a dictionary.
+     *
+     * @return The dictionary id.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Finds the dictionary with the given zlib dictionary id.
+     *
+     * @param id The dictionary id from the zlib stream header.
+     * @return The dictionary, or null if no known dictionary has that id.
+     */
+    public static QrCompressionDictionary findById(int id) {
+        for (QrCompressionDictionary dictionary : values()) {
+            if (dictionary.id == id) {
+                return dictionary;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * COSE framing shared by all QR data: the COSE_Sign array with empty body headers, and the
+     * protected {@code alg} header of each signature (RS256 with a 256-byte signature, Ed25519, ES256).
+     * A method rather than a constant, as enum constructors cannot read static fields.
+     */
+    private static byte[] coseFraming() {
+        return new byte[] {
+                (byte) 0x84, 0x40, (byte) 0xa0, 0x59,
+                (byte) 0x82, (byte) 0x83, 0x44, (byte) 0xa1, 0x01, 0x39, 0x01, 0x00, (byte) 0xa0, 0x59, 0x01, 0x00,
+                (byte) 0x83, 0x43, (byte) 0xa1, 0x01, 0x27, (byte) 0xa0, 0x58, 0x40,
+                (byte) 0x83, 0x43, (byte) 0xa1, 0x01, 0x26, (byte) 0xa0, 0x58
+        };
+    }
+}
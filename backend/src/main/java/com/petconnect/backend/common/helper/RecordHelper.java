@@ -1,8 +1,5 @@
 package com.petconnect.backend.common.helper;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.petconnect.backend.exception.HashingException;
 import com.petconnect.backend.exception.MissingRecentCheckupException;
 import com.petconnect.backend.common.service.SigningService;
@@ -12,6 +9,7 @@ import com.petconnect.backend.record.application.dto.RecordCreateDto;
 import com.petconnect.backend.record.application.dto.VaccineCreateDto;
 import com.petconnect.backend.record.domain.model.RecordType;
 import com.petconnect.backend.record.domain.model.Record;
+import com.petconnect.backend.record.domain.model.Vaccine;
 import com.petconnect.backend.record.domain.repository.RecordRepository;
 import com.petconnect.backend.user.domain.model.Clinic;
 import com.petconnect.backend.user.domain.model.Vet;
@@ -21,6 +19,8 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -35,6 +35,11 @@ import java.util.Map;
 @Slf4j
 public class RecordHelper {
 
+    /**
+     * Record types considered as a valid checkup for certificate prerequisites.
+     */
+    public static final List<RecordType> CHECKUP_TYPES = List.of(RecordType.ANNUAL_CHECK);
+
     private final RecordRepository recordRepository;
     private final HashingService hashingService;
     private final SigningService signingService;
@@ -55,31 +60,50 @@ public class RecordHelper {
             throw new IllegalArgumentException("Pet, Vet creator, and Record DTO must not be null for signing.");
         }
 
-        StringBuilder sb = new StringBuilder();
-        sb.append("petId=").append(pet.getId()).append("|");
-        sb.append("vetId=").append(vetCreator.getId()).append("|");
-        sb.append("vetClinicId=").append(vetCreator.getClinic() != null ? vetCreator.getClinic().getId() : "null").append("|");
-        sb.append("vetLicense=").append(vetCreator.getLicenseNumber()).append("|");
-        sb.append("recordType=").append(dto.type()).append("|");
-        sb.append("description=").append(dto.description() != null ? dto.description() : "").append("|");
-
-        if (dto.type() == RecordType.VACCINE) {
-            VaccineCreateDto vDto = dto.vaccine();
-            if (vDto == null) {
-                log.error("Record type is VACCINE but vaccine details are missing in DTO for Pet ID {}", pet.getId());
-                throw new IllegalArgumentException("Vaccine details missing for VACCINE record type during signing preparation.");
-            }
-            sb.append("vaccineName=").append(vDto.name()).append("|");
-            sb.append("vaccineBatch=").append(vDto.batchNumber()).append("|");
-            sb.append("vaccineLab=").append(vDto.laboratory() != null ? vDto.laboratory() : "").append("|");
-            sb.append("vaccineValidity=").append(vDto.validity()).append("|");
+        VaccineCreateDto vDto = dto.vaccine();
+        if (dto.type() == RecordType.VACCINE && vDto == null) {
+            log.error("Record type is VACCINE but vaccine details are missing in DTO for Pet ID {}", pet.getId());
+            throw new IllegalArgumentException("Vaccine details missing for VACCINE record type during signing preparation.");
         }
-
-        String data = sb.toString();
+        Long clinicId = vetCreator.getClinic() != null ? vetCreator.getClinic().getId() : null;
+        String data = (dto.type() == RecordType.VACCINE)
+                ? canonicalRecordData(pet.getId(), vetCreator, clinicId, dto.type(), dto.description(),
+                        vDto.name(), vDto.batchNumber(), vDto.laboratory(), vDto.validity())
+                : canonicalRecordData(pet.getId(), vetCreator, clinicId, dto.type(), dto.description(), null, null, null, null);
         log.debug("Data prepared for signing for Pet ID {}: {}", pet.getId(), data);
         return data;
     }
 
+    /**
+     * Rebuilds the canonical string that was signed when the given record was created,
+     * so its stored signature can be verified.
+     * The clinic is taken from the clinic the record was created in; vet details are read from the
+     * current state of the creator, so a changed license number makes the signature fail verification.
+     *
+     * @param recordEntity The signed record. Its pet, creator and (for vaccines) vaccine must be loaded.
+     * @return The canonical string representation that was signed.
+     * @throws IllegalArgumentException if the record was not created by a Vet or is missing required data.
+     */
+    public String buildSignableData(Record recordEntity) {
+        if (recordEntity == null || recordEntity.getPet() == null || !(recordEntity.getCreator() instanceof Vet vetCreator)) {
+            throw new IllegalArgumentException("Signed record must have a Pet and a Vet creator to be verified.");
+        }
+        Long clinicId = recordEntity.getCreatedInClinic() != null
+                ? recordEntity.getCreatedInClinic().getId()
+                : (vetCreator.getClinic() != null ? vetCreator.getClinic().getId() : null);
+
+        if (recordEntity.getType() == RecordType.VACCINE) {
+            Vaccine vaccine = recordEntity.getVaccine();
+            if (vaccine == null) {
+                throw new IllegalArgumentException("Vaccine details missing for VACCINE record ID " + recordEntity.getId() + ".");
+            }
+            return canonicalRecordData(recordEntity.getPet().getId(), vetCreator, clinicId, recordEntity.getType(), recordEntity.getDescription(),
+                    vaccine.getName(), vaccine.getBatchNumber(), vaccine.getLaboratory(), vaccine.getValidity());
+        }
+        return canonicalRecordData(recordEntity.getPet().getId(), vetCreator, clinicId, recordEntity.getType(), recordEntity.getDescription(),
+                null, null, null, null);
+    }
+
     /**
      * Validates that a recent, signed annual checkup record exists for the pet.
      * Throws MissingRecentCheckupException if no suitable record is found within the
@@ -89,9 +113,8 @@ public class RecordHelper {
      * @throws MissingRecentCheckupException if no valid checkup is found.
      */
     public Record findValidCheckupRecord(Long petId) {
-        LocalDateTime checkupCutoff = LocalDate.now().minusYears(1).atStartOfDay();
-        List<RecordType> checkupTypes = List.of(RecordType.ANNUAL_CHECK);
-        List<Record> potentialCheckupRecords = recordRepository.findSignedCheckupsAfterDateDesc(petId, checkupTypes, checkupCutoff);
+        LocalDateTime checkupCutoff = checkupCutoff(LocalDate.now());
+        List<Record> potentialCheckupRecords = recordRepository.findSignedCheckupsAfterDateDesc(petId, CHECKUP_TYPES, checkupCutoff);
         if (potentialCheckupRecords.isEmpty()) {
             throw new MissingRecentCheckupException(petId, checkupCutoff.toLocalDate());
         }
@@ -101,22 +124,30 @@ public class RecordHelper {
     }
 
     /**
-     * Serializes the certificate payload map into a JSON string.
-     * Uses pretty printing for readability if stored/logged.
+     * Finds, for each of the given pets, its most recent signed checkup record within the validity period,
+     * with a single query for all pets.
      *
-     * @param payloadMap The map representing the certificate payload.
-     * @param recordId The ID of the source record (for logging purposes).
-     * @return The JSON string representation of the payload.
-     * @throws RuntimeException if JSON serialization fails.
+     * @param petIds The IDs of the pets.
+     * @return A map from pet ID to its latest valid checkup record; pets without one are absent.
      */
-    public String serializePayload(Map<String, Object> payloadMap, Long recordId) {
-        try {
-            ObjectMapper localObjectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
-            return localObjectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(payloadMap);
-        } catch (JsonProcessingException e) {
-            log.error("Error serializing certificate payload to JSON for record {}", recordId, e);
-            throw new RuntimeException("Failed to create certificate payload.", e);
+    public Map<Long, Record> findValidCheckupRecords(Collection<Long> petIds) {
+        Map<Long, Record> validCheckups = new HashMap<>();
+        // Ordered by pet and most recent first, so the first record of each pet is its latest checkup
+        for (Record checkup : recordRepository.findSignedCheckupsAfterDateByPetIdsDesc(petIds, CHECKUP_TYPES, checkupCutoff(LocalDate.now()))) {
+            validCheckups.putIfAbsent(checkup.getPet().getId(), checkup);
         }
+        return validCheckups;
+    }
+
+    /**
+     * Computes the earliest creation timestamp a checkup may have to still count
+     * as recent (one year before the given reference date).
+     *
+     * @param referenceDate The date on which the checkup requirement is evaluated (usually today).
+     * @return The start of the day one year before the reference date.
+     */
+    public static LocalDateTime checkupCutoff(LocalDate referenceDate) {
+        return referenceDate.minusYears(1).atStartOfDay();
     }
 
     /**
@@ -136,6 +167,23 @@ public class RecordHelper {
         }
     }
 
+    /**
+     * Hashes the given encoded payload bytes (e.g., the canonical CBOR of a certificate payload).
+     *
+     * @param payloadBytes The payload bytes to hash.
+     * @param petId The ID of the pet (for logging purposes).
+     * @return The hexadecimal representation of the hash.
+     * @throws RuntimeException if hashing fails.
+     */
+    public String hashPayload(byte[] payloadBytes, Long petId) {
+        try {
+            return hashingService.hashBytes(payloadBytes);
+        } catch (HashingException e) {
+            log.error("Failed to hash certificate payload for Pet ID {}: {}", petId, e.getMessage(), e);
+            throw new RuntimeException("Failed to hash certificate payload.", e);
+        }
+    }
+
     /**
      * Generates a digital signature for the given data using the Vet's private key.
      * Delegates to the SigningService.
@@ -171,4 +219,27 @@ public class RecordHelper {
             throw new RuntimeException("Failed to generate Clinic digital signature.", e);
         }
     }
+
+    /**
+     * Builds the canonical signable string of a record. The order and inclusion of fields
+     * MUST stay stable, since stored signatures are verified against it.
+     */
+    private String canonicalRecordData(Long petId, Vet vet, Long clinicId, RecordType type, String description,
+                                       String vaccineName, String vaccineBatch, String vaccineLab, Integer vaccineValidity) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("petId=").append(petId).append("|");
+        sb.append("vetId=").append(vet.getId()).append("|");
+        sb.append("vetClinicId=").append(clinicId != null ? clinicId : "null").append("|");
+        sb.append("vetLicense=").append(vet.getLicenseNumber()).append("|");
+        sb.append("recordType=").append(type).append("|");
+        sb.append("description=").append(description != null ? description : "").append("|");
+
+        if (type == RecordType.VACCINE) {
+            sb.append("vaccineName=").append(vaccineName).append("|");
+            sb.append("vaccineBatch=").append(vaccineBatch).append("|");
+            sb.append("vaccineLab=").append(vaccineLab != null ? vaccineLab : "").append("|");
+            sb.append("vaccineValidity=").append(vaccineValidity).append("|");
+        }
+        return sb.toString();
+    }
 }
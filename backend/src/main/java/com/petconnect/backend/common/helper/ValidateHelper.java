@@ -19,7 +19,10 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Helper component containing common validation logic reused across services.
@@ -142,6 +145,25 @@ public class ValidateHelper {
                 .orElseThrow(() -> new MissingRabiesVaccineException(petId));
     }
 
+    /**
+     * Finds, for each of the given pets, the most recent signed and still valid Rabies vaccine record,
+     * with a single query for all pets.
+     *
+     * @param petIds The IDs of the pets.
+     * @return A map from pet ID to its valid Rabies vaccine record; pets without one are absent.
+     */
+    public Map<Long, Record> findValidRabiesRecords(Collection<Long> petIds) {
+        Map<Long, Record> validRecords = new HashMap<>();
+        // Ordered by pet and most recent first, so the first valid record of each pet wins
+        for (Record rabiesRecord : recordRepository.findAllSignedRabiesVaccinesByPetIdsDesc(petIds)) {
+            Long petId = rabiesRecord.getPet().getId();
+            if (!validRecords.containsKey(petId) && isRabiesRecordValid(rabiesRecord)) {
+                validRecords.put(petId, rabiesRecord);
+            }
+        }
+        return validRecords;
+    }
+
     /**
      * Checks if a given Rabies vaccine record is still valid based on its creation date and validity period.
      *
@@ -155,11 +177,24 @@ public class ValidateHelper {
             log.warn("Skipping rabies record {} due to missing vaccine details, validity, or creation date.", recordVaccine.getId());
             return false;
         }
-        if (vaccine.getValidity() >= 0) {
-            LocalDate expiryDate = vaccinationDate.toLocalDate().plusYears(vaccine.getValidity());
-            return !LocalDate.now().isAfter(expiryDate);
+        return isRabiesVaccinationValid(vaccinationDate, vaccine.getValidity(), LocalDate.now());
+    }
+
+    /**
+     * Checks if a Rabies vaccination is still valid on a given date, based on its
+     * vaccination date and validity period in years.
+     *
+     * @param vaccinationDate The date and time the vaccine was administered (record creation).
+     * @param validityYears   The validity period of the vaccine in years.
+     * @param referenceDate   The date on which validity is evaluated (usually today).
+     * @return true if the vaccination has not expired on the reference date, false otherwise or if data is missing.
+     */
+    public static boolean isRabiesVaccinationValid(LocalDateTime vaccinationDate, Integer validityYears, LocalDate referenceDate) {
+        if (vaccinationDate == null || validityYears == null || validityYears < 0) {
+            return false;
         }
-        return false;
+        LocalDate expiryDate = vaccinationDate.toLocalDate().plusYears(validityYears);
+        return !referenceDate.isAfter(expiryDate);
     }
 
     /**
@@ -0,0 +1,25 @@
+package com.petconnect.backend.common.service;
+
+import java.security.PrivateKey;
+import java.util.List;
+
+/**
+ * Service interface for signing many values with the same, already unlocked, private key
+ * (e.g., the payload hashes of a bulk certificate issuance).
+ *
+ * @author ibosquet
+ */
+public interface BulkSigningService {
+
+    /**
+     * Signs every given value with the private key, spreading the signatures across a bounded
+     * pool of worker threads.
+     *
+     * @param privateKey The unlocked private key (see {@link SigningService#loadVetPrivateKey} and
+     *                   {@link SigningService#loadClinicPrivateKey}).
+     * @param dataToSign The values to sign, typically payload hashes.
+     * @return The Base64 encoded signatures, in the order of {@code dataToSign}.
+     * @throws RuntimeException if any signature fails; no partial result is returned.
+     */
+    List<String> signAll(PrivateKey privateKey, List<String> dataToSign);
+}
@@ -0,0 +1,45 @@
+package com.petconnect.backend.common.service;
+
+import com.petconnect.backend.certificate.application.dto.CertificateDocumentDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Service interface for rendering certificate documents as PDF.
+ * Documents are written straight to the given stream as they are laid out, so a response can be
+ * streamed to the client without holding the whole document (or archive) in memory.
+ *
+ * @author ibosquet
+ */
+public interface CertificatePdfService {
+
+    /**
+     * Writes the PDF document of a certificate: payload details, QR code and signature fingerprints.
+     * The stream is flushed but not closed.
+     *
+     * @param certificate The certificate render model.
+     * @param out         The stream to write the PDF to.
+     * @throws IOException if writing to the stream fails.
+     */
+    void writePdf(CertificateDocumentDto certificate, OutputStream out) throws IOException;
+
+    /**
+     * Writes a ZIP archive with one PDF document per certificate, each rendered directly into its entry.
+     * The stream is flushed but not closed.
+     *
+     * @param certificates The certificate render models, in archive order.
+     * @param out          The stream to write the archive to.
+     * @throws IOException if writing to the stream fails.
+     */
+    void writeZip(List<CertificateDocumentDto> certificates, OutputStream out) throws IOException;
+
+    /**
+     * Returns the file name of the PDF document of a certificate (e.g., {@code certificate-AHC-123.pdf}).
+     *
+     * @param certificate The certificate render model.
+     * @return A file name safe for a {@code Content-Disposition} header and a ZIP entry.
+     */
+    String fileName(CertificateDocumentDto certificate);
+}
@@ -0,0 +1,91 @@
+package com.petconnect.backend.common.service;
+
+import com.petconnect.backend.common.dto.ClinicExportJobDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for clinic-wide bulk exports: a background job that dumps all the records created
+ * in a clinic and all the certificates it issued into a compressed archive in the export storage,
+ * whose progress is polled until the archive can be downloaded.
+ * Only administrators of the clinic may export it.
+ *
+ * @author ibosquet
+ */
+public interface ClinicExportService {
+
+    /**
+     * Starts an export of a clinic. If an export of the clinic is already queued or running, that job
+     * is returned instead of starting another one.
+     *
+     * @param clinicId        The ID of the clinic to export.
+     * @param requesterUserId The ID of the requesting admin.
+     * @return The state of the job.
+     * @throws com.petconnect.backend.exception.EntityNotFoundException if the requester is not found.
+     * @throws org.springframework.security.access.AccessDeniedException if the requester is not an admin of the clinic.
+     * @throws IllegalStateException if too many exports are already queued.
+     */
+    ClinicExportJobDto startExport(Long clinicId, Long requesterUserId);
+
+    /**
+     * Returns the current state of an export job of a clinic.
+     *
+     * @param clinicId        The ID of the clinic.
+     * @param jobId           The ID of the job.
+     * @param requesterUserId The ID of the requesting admin.
+     * @return The state of the job.
+     * @throws com.petconnect.backend.exception.EntityNotFoundException if the job is not found for the clinic.
+     * @throws org.springframework.security.access.AccessDeniedException if the requester is not an admin of the clinic.
+     */
+    ClinicExportJobDto getExport(Long clinicId, String jobId, Long requesterUserId);
+
+    /**
+     * Verifies that the archive of an export job can be downloaded by the requester.
+     * Called before streaming starts, so errors are still reported with a proper status.
+     *
+     * @param clinicId        The ID of the clinic.
+     * @param jobId           The ID of the job.
+     * @param requesterUserId The ID of the requesting admin.
+     * @return The state of the completed job.
+     * @throws com.petconnect.backend.exception.EntityNotFoundException if the job is not found for the clinic.
+     * @throws org.springframework.security.access.AccessDeniedException if the requester is not an admin of the clinic.
+     * @throws IllegalStateException if the job is not completed.
+     */
+    ClinicExportJobDto verifyDownload(Long clinicId, String jobId, Long requesterUserId);
+
+    /**
+     * Copies the archive of a completed export job from the export storage to the given stream.
+     * The stream is flushed but not closed.
+     *
+     * @param jobId The ID of the completed job.
+     * @param out   The stream to write the archive to.
+     * @throws IOException if the archive cannot be read or written.
+     */
+    void writeArchive(String jobId, OutputStream out) throws IOException;
+
+    /**
+     * Returns the file name of the archive of an export job (e.g., {@code clinic-5-export-<jobId>.zip}).
+     *
+     * @param job The state of the job.
+     * @return A file name safe for a {@code Content-Disposition} header.
+     */
+    String fileName(ClinicExportJobDto job);
+
+    /**
+     * Forgets the jobs that finished longer ago than the retention period and deletes their archives.
+     * Stored exports that no longer belong to a known job, such as leftovers of jobs lost in a crash,
+     * are deleted once they are older than the retention period.
+     *
+     * @return The number of jobs removed.
+     */
+    int evictExpiredJobs();
+
+    /**
+     * Reloads the jobs persisted in the export storage, typically after a restart.
+     * Jobs that were still queued or running are marked as failed, since their work was lost with the previous instance.
+     *
+     * @return The number of interrupted jobs marked as failed.
+     */
+    int recoverJobs();
+}
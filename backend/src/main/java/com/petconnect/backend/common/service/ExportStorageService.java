@@ -0,0 +1,75 @@
+package com.petconnect.backend.common.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Service interface for storing generated export archives (e.g., clinic-wide data dumps)
+ * in the same storage backend as images and keys.
+ * Content is written incrementally to the backend while it is produced, and only becomes
+ * readable once it has been written completely.
+ *
+ * @author ibosquet
+ */
+public interface ExportStorageService {
+
+    /**
+     * Produces the content of an export by writing it to a stream.
+     */
+    @FunctionalInterface
+    interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * A stored export and when it was last written.
+     *
+     * @param key          The storage key.
+     * @param lastModified When the export was last written.
+     */
+    record StoredExport(String key, Instant lastModified) {
+    }
+
+    /**
+     * Stores an export under the given key, streaming whatever the writer produces to the storage backend.
+     * The export is committed only if the writer returns normally; if it throws, the partial content is
+     * discarded and the exception is rethrown. The writer may close the stream it is given.
+     *
+     * @param key         The storage key (relative path), e.g. {@code clinics/5/exports/job.zip}.
+     * @param contentType The media type of the content.
+     * @param writer      The producer of the content.
+     * @throws IOException              if the writer or the storage backend fails.
+     * @throws IllegalArgumentException if the key is invalid.
+     */
+    void store(String key, String contentType, ContentWriter writer) throws IOException;
+
+    /**
+     * Opens a stored export for reading. The caller must close the stream.
+     *
+     * @param key The storage key.
+     * @return An InputStream over the export content.
+     * @throws IOException if the export does not exist or cannot be read.
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * Deletes a stored export. Missing exports are ignored.
+     *
+     * @param key The storage key.
+     */
+    void delete(String key);
+
+    /**
+     * Lists the stored exports whose keys start with the given prefix.
+     * Leftovers of interrupted writes are included when the backend keeps them as regular entries.
+     *
+     * @param prefix The key prefix, e.g. {@code clinics/}.
+     * @return The matching exports, in no particular order.
+     * @throws IOException              if the storage backend cannot be listed.
+     * @throws IllegalArgumentException if the prefix is invalid.
+     */
+    List<StoredExport> list(String prefix) throws IOException;
+}
@@ -16,4 +16,13 @@ public interface HashingService {
      * @throws HashingException if an error occurs during the hashing process.
      */
     String hashString(String input) throws HashingException;
+
+    /**
+     * Hashes the input bytes using the same algorithm as {@link #hashString(String)}.
+     *
+     * @param input The bytes to hash.
+     * @return The hash value as a lowercase hexadecimal string.
+     * @throws HashingException if an error occurs during the hashing process.
+     */
+    String hashBytes(byte[] input) throws HashingException;
 }
@@ -0,0 +1,22 @@
+package com.petconnect.backend.common.service;
+
+import com.petconnect.backend.certificate.application.dto.HcertVerificationResultDto;
+
+/**
+ * Service interface for verifying certificate QR strings ({@code HC1:}) offline:
+ * the data is decoded and both signatures are checked against the in-memory trust list,
+ * without any database access.
+ *
+ * @author ibosquet
+ */
+public interface HcertVerificationService {
+
+    /**
+     * Verifies a certificate QR string as produced by {@link QrCodeService#generateQrData}.
+     * Malformed input is reported in the result rather than thrown.
+     *
+     * @param qrData The scanned {@code HC1:} string.
+     * @return The verification result.
+     */
+    HcertVerificationResultDto verify(String qrData);
+}
@@ -22,7 +22,7 @@ public interface KeyStorageService {
      * @return The relative path (including subdirectory and filename) where the key was stored.
      *         Suitable for storing in the database. Example: "vets/vet_username_pub.pem".
      * @throws IOException              if an error occurs during file writing.
-     * @throws IllegalArgumentException if the file is invalid (null, empty, unsupported type).
+     * @throws IllegalArgumentException if the file is invalid (null, empty, unsupported type, not a parseable public key).
      */
     String storePublicKey(MultipartFile file, String subDirectory, String desiredFilename) throws IOException;
 
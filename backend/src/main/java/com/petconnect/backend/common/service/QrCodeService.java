@@ -14,7 +14,7 @@ public interface QrCodeService {
      * Generates the Base45 encoded string representing the signed and compressed certificate data.
      * This involves:
      * 1. Retrieving necessary data from the Certificate entity (payload, signatures).
-     * 2. Potentially reconstructing or re-serializing payload into CBOR format.
+     * 2. Rebuilding the CBOR payload from the stored payload (canonically re-encoded for CBOR_V2 certificates).
      * 3. Creating a COSE_Sign1 structure containing the payload and signatures.
      * 4. Compressing the COSE structure using ZLib.
      * 5. Encoding the compressed bytes using Base45.
@@ -24,4 +24,15 @@ public interface QrCodeService {
      * @throws RuntimeException if any step in the process fails (e.g., CBOR/COSE error, compression error).
      */
     String generateQrData(Certificate certificate);
+
+    /**
+     * Generates the QR data string embedding the given CBOR payload bytes, avoiding their re-encoding.
+     * Used at issuance, where the canonical CBOR payload that was hashed and signed is at hand.
+     *
+     * @param certificate The Certificate entity, with its signatures set.
+     * @param payloadCbor The signed CBOR payload, or null to rebuild it from the stored payload.
+     * @return The final Base45 encoded string ready for QR code generation.
+     * @throws RuntimeException if any step in the process fails.
+     */
+    String generateQrData(Certificate certificate, byte[] payloadCbor);
 }
@@ -0,0 +1,66 @@
+package com.petconnect.backend.common.service;
+
+import java.util.Locale;
+
+/**
+ * Service interface for rendering certificate QR data as an image (PNG or SVG).
+ * Rendered images are cached, since a certificate's QR data never changes.
+ *
+ * @author ibosquet
+ */
+public interface QrImageService {
+
+    /**
+     * Supported image formats.
+     */
+    enum Format {
+        PNG("image/png"),
+        SVG("image/svg+xml");
+
+        private final String mediaType;
+
+        Format(String mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public String getMediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Snapshot of the counters of the rendered image cache.
+     *
+     * @param hits      Number of renders served from the cache.
+     * @param misses    Number of renders that had to draw the image.
+     * @param evictions Number of images evicted to stay within the size bound.
+     * @param entries   Current number of cached images.
+     * @param bytes     Current total size of the cached images.
+     * @param maxBytes  Maximum total size of the cached images.
+     */
+    record QrImageCacheStats(long hits, long misses, long evictions, int entries, long bytes, long maxBytes) {}
+
+    /**
+     * Renders the QR code of a certificate. The returned array is shared with the cache and must not be modified.
+     *
+     * @param certificateId   The ID of the certificate, part of the cache key.
+     * @param qrData          The data to encode (the certificate's {@code HC1:} string).
+     * @param format          The image format.
+     * @param size            The width and height of the image in pixels (SVG: nominal size).
+     * @param errorCorrection The QR error correction level: L, M, Q or H.
+     * @return The encoded image.
+     * @throws IllegalArgumentException if the size or error correction level is invalid, or the data does not fit a QR code.
+     */
+    byte[] renderQrImage(Long certificateId, String qrData, Format format, int size, String errorCorrection);
+
+    /**
+     * Returns the current counters of the rendered image cache.
+     *
+     * @return A {@link QrImageCacheStats} snapshot.
+     */
+    QrImageCacheStats getCacheStats();
+}
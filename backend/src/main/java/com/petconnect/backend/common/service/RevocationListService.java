@@ -0,0 +1,53 @@
+package com.petconnect.backend.common.service;
+
+import java.time.Instant;
+
+/**
+ * Service interface for the in-memory list of revoked certificates consulted when verifying
+ * certificate QR codes, so that the revocation check does not need database access.
+ * Lookups go through a Bloom filter first and only reach the exact set of revoked numbers
+ * when the filter reports a possible match.
+ *
+ * @author ibosquet
+ */
+public interface RevocationListService {
+
+    /**
+     * Summary of the current revocation list.
+     *
+     * @param revoked     Number of revoked certificates.
+     * @param filterBytes Size of the Bloom filter in bytes.
+     * @param loadedAt    When the list was last rebuilt from storage, or null if it was never loaded.
+     */
+    record RevocationListStats(int revoked, long filterBytes, Instant loadedAt) {}
+
+    /**
+     * Checks if a certificate has been revoked.
+     *
+     * @param certificateNumber The official certificate number found in the signed payload.
+     * @return true if the certificate is in the revocation list, false otherwise (also for a null number).
+     */
+    boolean isRevoked(String certificateNumber);
+
+    /**
+     * Adds a certificate revoked by this instance to the list right away, without waiting for the next refresh.
+     *
+     * @param certificateNumber The official number of the revoked certificate.
+     */
+    void register(String certificateNumber);
+
+    /**
+     * Rebuilds the revocation list from the revocations in storage and publishes it atomically.
+     * Certificates registered while it is being rebuilt are kept.
+     *
+     * @return The summary of the new list.
+     */
+    RevocationListStats refresh();
+
+    /**
+     * Returns the summary of the current list.
+     *
+     * @return A {@link RevocationListStats} snapshot.
+     */
+    RevocationListStats getStats();
+}
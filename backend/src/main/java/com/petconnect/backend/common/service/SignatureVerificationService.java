@@ -0,0 +1,29 @@
+package com.petconnect.backend.common.service;
+
+import com.petconnect.backend.certificate.domain.model.Certificate;
+import com.petconnect.backend.record.application.dto.SignatureVerificationReportDto;
+import com.petconnect.backend.record.domain.model.Record;
+
+import java.util.List;
+
+/**
+ * Service interface for bulk verification of the signatures stored in a pet's medical history.
+ *
+ * @author ibosquet
+ */
+public interface SignatureVerificationService {
+
+    /**
+     * Verifies the vet signature of every given record and the vet and clinic signatures of every
+     * given certificate. Each distinct public key is resolved once, and the signature checks are
+     * spread across a bounded pool of worker threads.
+     * A signature that cannot be checked (e.g., missing key) is reported as invalid with a reason;
+     * it never fails the whole verification.
+     *
+     * @param petId        The ID of the pet the records and certificates belong to.
+     * @param records      The signed records to verify, with creator, vaccine and creation clinic loaded.
+     * @param certificates The certificates to verify, with generating vet and issuing clinic loaded.
+     * @return A {@link SignatureVerificationReportDto} with per-item results and timing.
+     */
+    SignatureVerificationReportDto verifyPetHistory(Long petId, List<Record> records, List<Certificate> certificates);
+}
@@ -1,8 +1,10 @@
 package com.petconnect.backend.common.service;
 
 import com.petconnect.backend.user.domain.model.Clinic;
+import com.petconnect.backend.user.domain.model.SignatureAlgorithm;
 import com.petconnect.backend.user.domain.model.Vet;
 
+import java.security.PrivateKey;
 import java.security.PublicKey;
 
 /**
@@ -14,6 +16,17 @@ import java.security.PublicKey;
  */
 public interface SigningService {
 
+    /**
+     * Snapshot of the counters of the parsed public key cache.
+     *
+     * @param hits      Number of lookups served from the cache.
+     * @param misses    Number of lookups that had to read and parse the key.
+     * @param evictions Number of entries evicted because the cache was full.
+     * @param size      Current number of cached keys.
+     * @param maxSize   Maximum number of cached keys.
+     */
+    record PublicKeyCacheStats(long hits, long misses, long evictions, int size, int maxSize) {}
+
     /**
      * Generates a digital signature for a given data string using the veterinarian's private key.
      * The private key is decrypted using the provided password.
@@ -26,6 +39,28 @@ public interface SigningService {
      */
     String generateVetSignature(Vet vet, String dataToSign, char[] vetKeyPassword);
 
+    /**
+     * Loads and decrypts the veterinarian's private key so it can be reused for several signatures
+     * (e.g., held in a signing session) without decrypting it each time.
+     * The password array is cleared after use.
+     *
+     * @param vet            The veterinarian whose private key will be loaded.
+     * @param vetKeyPassword The password used to decrypt the veterinarian's private key.
+     * @return The decrypted private key.
+     * @throws RuntimeException if the key cannot be read or decrypted.
+     */
+    PrivateKey loadVetPrivateKey(Vet vet, char[] vetKeyPassword);
+
+    /**
+     * Generates a digital signature for a given data string using an already decrypted private key.
+     *
+     * @param privateKey The private key to sign with.
+     * @param dataToSign The string data to be signed.
+     * @return A Base64 encoded string representation of the generated digital signature.
+     * @throws RuntimeException if signing fails.
+     */
+    String signWithPrivateKey(PrivateKey privateKey, String dataToSign);
+
     /**
      * Generates a digital signature using the issuing Clinic's configured private key.
      * (For TFG, this might use a single system-wide clinic key).
@@ -37,6 +72,18 @@ public interface SigningService {
      */
     String generateClinicSignature(Clinic clinic, String dataToSign, char[] clinicKeyPassword);
 
+    /**
+     * Loads and decrypts the clinic's private key so it can be reused for several signatures
+     * (e.g., a bulk certificate issuance) without decrypting it each time.
+     * The password array is cleared after use.
+     *
+     * @param clinic            The clinic whose private key will be loaded.
+     * @param clinicKeyPassword The password used to decrypt the clinic's private key.
+     * @return The decrypted private key.
+     * @throws RuntimeException if the key cannot be read or decrypted.
+     */
+    PrivateKey loadClinicPrivateKey(Clinic clinic, char[] clinicKeyPassword);
+
     /**
      * Verifies a digital signature using a provided public key.
      *
@@ -47,6 +94,17 @@ public interface SigningService {
      */
     boolean verifySignature(String publicKeyPemB64, String originalData, String signatureB64);
 
+    /**
+     * Verifies a digital signature using an already parsed public key.
+     * Intended for bulk verification, where the same key is reused for many signatures.
+     *
+     * @param publicKey    The public key of the signer.
+     * @param originalData The original data that was supposedly signed.
+     * @param signatureB64 The Base64 encoded signature to verify.
+     * @return true if the signature is valid, false otherwise.
+     */
+    boolean verifySignature(PublicKey publicKey, String originalData, String signatureB64);
+
     /**
      * Retrieves the PublicKey object corresponding to the Vet's private key.
      * This might load from a file or be derived if not stored separately.
@@ -64,4 +122,41 @@ public interface SigningService {
      * @throws RuntimeException if key loading/derivation fails.
      */
     PublicKey getClinicPublicKey(Clinic clinic);
+
+    /**
+     * Resolves the signature algorithm used by the Vet's key pair, from the type of its public key.
+     *
+     * The algorithm is never guessed: it is stored in certificates and must match the key verifiers check against.
+     *
+     * @param vet The veterinarian.
+     * @return The signature algorithm.
+     * @throws RuntimeException if the public key cannot be loaded or its type is not supported.
+     */
+    SignatureAlgorithm getVetSignatureAlgorithm(Vet vet);
+
+    /**
+     * Resolves the signature algorithm used by the Clinic's key pair, from the type of its public key.
+     *
+     * The algorithm is never guessed: it is stored in certificates and must match the key verifiers check against.
+     *
+     * @param clinic The clinic.
+     * @return The signature algorithm.
+     * @throws RuntimeException if the public key cannot be loaded or its type is not supported.
+     */
+    SignatureAlgorithm getClinicSignatureAlgorithm(Clinic clinic);
+
+    /**
+     * Removes the parsed public key stored at the given storage path from the cache.
+     * Must be called whenever a public key file is replaced or deleted.
+     *
+     * @param publicKeyPath The storage path (relative path or S3 key) of the public key.
+     */
+    void evictPublicKey(String publicKeyPath);
+
+    /**
+     * Returns the current counters of the parsed public key cache.
+     *
+     * @return A {@link PublicKeyCacheStats} snapshot.
+     */
+    PublicKeyCacheStats getPublicKeyCacheStats();
 }
@@ -0,0 +1,53 @@
+package com.petconnect.backend.common.service;
+
+import com.petconnect.backend.exception.InvalidSigningSessionException;
+import com.petconnect.backend.record.application.dto.SigningSessionDto;
+import com.petconnect.backend.user.domain.model.Vet;
+
+/**
+ * Service interface for vet signing sessions.
+ * A vet unlocks their private key once with the password and receives a session handle;
+ * while the session is open, signatures are generated with the in-memory key instead of
+ * fetching and decrypting the encrypted key for every record.
+ *
+ * @author ibosquet
+ */
+public interface SigningSessionService {
+
+    /**
+     * Opens (or replaces) the signing session of a vet by decrypting their private key.
+     * The password array is cleared after use.
+     *
+     * @param vet            The veterinarian opening the session.
+     * @param vetKeyPassword The password of the vet's encrypted private key.
+     * @return The session handle and its expiry.
+     * @throws RuntimeException if the key cannot be read or decrypted.
+     */
+    SigningSessionDto openSession(Vet vet, char[] vetKeyPassword);
+
+    /**
+     * Signs data with the key held in the vet's signing session.
+     *
+     * @param vet          The veterinarian signing.
+     * @param sessionToken The session handle returned by {@link #openSession(Vet, char[])}.
+     * @param dataToSign   The string data to be signed.
+     * @return A Base64 encoded signature.
+     * @throws InvalidSigningSessionException if the session is unknown, expired, or the vet's key changed.
+     */
+    String signWithSession(Vet vet, String sessionToken, String dataToSign);
+
+    /**
+     * Closes the signing session of a vet, if any, discarding the unlocked key.
+     * Used on explicit logout from the session and when the vet's keys are rotated or the vet is deactivated.
+     *
+     * @param vetId The ID of the veterinarian.
+     */
+    void closeSession(Long vetId);
+
+    /**
+     * Discards all expired sessions.
+     *
+     * @return The number of sessions evicted.
+     */
+    int evictExpiredSessions();
+}
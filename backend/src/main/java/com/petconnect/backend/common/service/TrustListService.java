@@ -0,0 +1,54 @@
+package com.petconnect.backend.common.service;
+
+import java.security.PublicKey;
+import java.time.Instant;
+
+/**
+ * Service interface for the in-memory trust list of vet and clinic public keys
+ * used to verify certificate signatures without database access.
+ * The list is an immutable snapshot, replaced as a whole on each refresh, so lookups never block.
+ *
+ * @author ibosquet
+ */
+public interface TrustListService {
+
+    /**
+     * Summary of the current trust list snapshot.
+     *
+     * @param vets     Number of trusted vet keys.
+     * @param clinics  Number of trusted clinic keys.
+     * @param loadedAt When the snapshot was built, or null if it was never loaded.
+     */
+    record TrustListStats(int vets, int clinics, Instant loadedAt) {}
+
+    /**
+     * Returns the trusted public key of a vet.
+     *
+     * @param vetId The ID of the vet.
+     * @return The public key, or null if the vet is not in the trust list.
+     */
+    PublicKey findVetKey(Long vetId);
+
+    /**
+     * Returns the trusted public key of a clinic.
+     *
+     * @param clinicId The ID of the clinic.
+     * @return The public key, or null if the clinic is not in the trust list.
+     */
+    PublicKey findClinicKey(Long clinicId);
+
+    /**
+     * Rebuilds the trust list from the current vet and clinic keys and publishes it atomically.
+     * Keys that cannot be loaded are left out of the new snapshot.
+     *
+     * @return The summary of the new snapshot.
+     */
+    TrustListStats refresh();
+
+    /**
+     * Returns the summary of the current snapshot.
+     *
+     * @return A {@link TrustListStats} snapshot.
+     */
+    TrustListStats getStats();
+}
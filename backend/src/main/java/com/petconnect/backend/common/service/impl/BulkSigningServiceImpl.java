@@ -0,0 +1,89 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.common.service.BulkSigningService;
+import com.petconnect.backend.common.service.SigningService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.PrivateKey;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of {@link BulkSigningService}.
+ * Signatures are CPU-bound, so they run on a bounded pool sized to the available processors by default.
+ * When the pool queue is full, the calling thread signs itself.
+ *
+ * @author ibosquet
+ */
+@Service
+@Slf4j
+public class BulkSigningServiceImpl implements BulkSigningService {
+
+    private final SigningService signingService;
+    private final ExecutorService signingExecutor;
+
+    @Autowired
+    public BulkSigningServiceImpl(SigningService signingService,
+                                  @Value("${app.bulk-signing.threads:0}") int threads,
+                                  @Value("${app.bulk-signing.queue-capacity:1000}") int queueCapacity) {
+        this(signingService, newSigningExecutor(threads, queueCapacity));
+    }
+
+    BulkSigningServiceImpl(SigningService signingService, ExecutorService signingExecutor) {
+        this.signingService = signingService;
+        this.signingExecutor = signingExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> signAll(PrivateKey privateKey, List<String> dataToSign) {
+        long start = System.nanoTime();
+        List<CompletableFuture<String>> signatures = dataToSign.stream()
+                .map(data -> CompletableFuture.supplyAsync(() -> signingService.signWithPrivateKey(privateKey, data), signingExecutor))
+                .toList();
+        try {
+            List<String> result = signatures.stream().map(CompletableFuture::join).toList();
+            log.debug("Signed {} values in {} ms.", result.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return result;
+        } catch (CompletionException e) {
+            signatures.forEach(signature -> signature.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("Bulk signing failed.", e.getCause());
+        }
+    }
+
+    /**
+     * Shuts down the signing worker pool when the application stops.
+     */
+    @PreDestroy
+    public void shutdown() {
+        signingExecutor.shutdown();
+    }
+
+    private static ExecutorService newSigningExecutor(int threads, int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCounter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "bulk-signing-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
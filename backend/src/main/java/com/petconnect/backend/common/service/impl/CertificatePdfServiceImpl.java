@@ -0,0 +1,229 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.Image;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+import com.petconnect.backend.certificate.application.dto.CertificateDocumentDto;
+import com.petconnect.backend.certificate.domain.model.CertificatePayload;
+import com.petconnect.backend.common.service.CertificatePdfService;
+import com.petconnect.backend.common.service.QrImageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Implementation of the {@link CertificatePdfService} interface.
+ * Lays the document out with OpenPDF, whose writer emits each object to the output stream as soon as
+ * it is complete, so memory use stays at about one page per document regardless of the batch size.
+ * The QR code is the cached PNG from {@link QrImageService}, and only the standard PDF fonts are used,
+ * so nothing else is embedded.
+ *
+ * @author ibosquet
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CertificatePdfServiceImpl implements CertificatePdfService {
+
+    /** Rendered size of the QR code in pixels; printed at {@link #QR_PRINT_SIZE} points (about 7 cm). */
+    static final int QR_IMAGE_SIZE = 400;
+    private static final float QR_PRINT_SIZE = 200f;
+    private static final DateTimeFormatter ISSUED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private static final Font TITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16);
+    private static final Font SECTION_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11);
+    private static final Font LABEL_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9);
+    private static final Font VALUE_FONT = FontFactory.getFont(FontFactory.HELVETICA, 9);
+    private static final Font FINGERPRINT_FONT = FontFactory.getFont(FontFactory.COURIER, 7);
+
+    private final QrImageService qrImageService;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writePdf(CertificateDocumentDto certificate, OutputStream out) throws IOException {
+        Document document = new Document(PageSize.A4, 48, 48, 48, 48);
+        try {
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setCloseStream(false);
+            document.addTitle("Animal Health Certificate " + certificate.certificateNumber());
+            document.addCreator("PetConnect");
+            document.open();
+
+            Paragraph title = new Paragraph("Animal Health Certificate", TITLE_FONT);
+            title.setAlignment(Element.ALIGN_CENTER);
+            document.add(title);
+            Paragraph number = new Paragraph("No. " + certificate.certificateNumber(), SECTION_FONT);
+            number.setAlignment(Element.ALIGN_CENTER);
+            number.setSpacingAfter(12f);
+            document.add(number);
+
+            document.add(detailsTable(certificate));
+            document.add(qrCode(certificate));
+            document.add(signaturesTable(certificate));
+            document.close();
+        } catch (DocumentException e) {
+            throw new IOException("Failed to render the PDF of Certificate ID " + certificate.certificateId(), e);
+        }
+        out.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeZip(List<CertificateDocumentDto> certificates, OutputStream out) throws IOException {
+        // Closing the archive releases its deflater; the caller's stream stays open
+        try (ZipOutputStream zip = new ZipOutputStream(nonClosing(out))) {
+            // The page streams are already compressed, so only the PDF structure is left to deflate
+            zip.setLevel(Deflater.BEST_SPEED);
+            for (CertificateDocumentDto certificate : certificates) {
+                zip.putNextEntry(new ZipEntry(fileName(certificate)));
+                writePdf(certificate, zip);
+                zip.closeEntry();
+            }
+        }
+        log.debug("Wrote ZIP archive with {} certificate PDFs.", certificates.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String fileName(CertificateDocumentDto certificate) {
+        return "certificate-" + certificate.certificateNumber().replaceAll("[^A-Za-z0-9._-]", "_") + ".pdf";
+    }
+
+    // Private methods
+
+    private PdfPTable detailsTable(CertificateDocumentDto certificate) throws DocumentException {
+        PdfPTable table = newTable();
+        addRow(table, "Issued at", certificate.issuedAt() != null ? certificate.issuedAt().format(ISSUED_AT_FORMAT) : null);
+        CertificatePayload payload = certificate.payload();
+        if (payload == null) {
+            return table;
+        }
+        if (payload.issuer() != null) {
+            addSection(table, "Issuer");
+            addRow(table, "Clinic", payload.issuer().name());
+            addRow(table, "Country", payload.issuer().country());
+            addRow(table, "Veterinarian", payload.issuer().issuingVetName());
+            addRow(table, "License number", payload.issuer().issuingVetLicense());
+        }
+        if (payload.subject() != null) {
+            CertificatePayload.Subject subject = payload.subject();
+            addSection(table, "Animal");
+            addRow(table, "Name", subject.petName());
+            addRow(table, "Species", subject.petSpecies());
+            addRow(table, "Breed", subject.petBreed());
+            addRow(table, "Date of birth", subject.petBirthDate());
+            addRow(table, "Sex", subject.petGender());
+            addRow(table, "Colour", subject.petColor());
+            addRow(table, "Microchip", subject.petMicrochip());
+        }
+        if (payload.event() != null) {
+            CertificatePayload.Event event = payload.event();
+            addSection(table, "Vaccination");
+            addRow(table, "Record", event.recordType());
+            addRow(table, "Date", event.recordDate());
+            CertificatePayload.VaccinationDetails vaccine = event.vaccinationDetails();
+            if (vaccine != null) {
+                addRow(table, "Vaccine", vaccine.name());
+                addRow(table, "Batch", vaccine.batch());
+                addRow(table, "Manufacturer", vaccine.manufacturer());
+                addRow(table, "Validity (years)", vaccine.validityYears() != null ? vaccine.validityYears().toString() : null);
+                addRow(table, "Valid until", vaccine.expiryDate());
+            }
+            addRow(table, "Description", event.description());
+        }
+        return table;
+    }
+
+    private Image qrCode(CertificateDocumentDto certificate) throws IOException, DocumentException {
+        byte[] png = qrImageService.renderQrImage(certificate.certificateId(), certificate.qrData(), QrImageService.Format.PNG, QR_IMAGE_SIZE, "M");
+        Image image = Image.getInstance(png);
+        image.scaleAbsolute(QR_PRINT_SIZE, QR_PRINT_SIZE);
+        image.setAlignment(Image.ALIGN_CENTER);
+        image.setSpacingBefore(12f);
+        image.setSpacingAfter(12f);
+        return image;
+    }
+
+    private PdfPTable signaturesTable(CertificateDocumentDto certificate) throws DocumentException {
+        PdfPTable table = newTable();
+        addSection(table, "Digital signatures");
+        addRow(table, "Payload SHA-256", certificate.payloadHash(), FINGERPRINT_FONT);
+        addRow(table, "Veterinarian (" + certificate.vetSignatureAlgorithm() + ")", certificate.vetSignatureFingerprint(), FINGERPRINT_FONT);
+        addRow(table, "Clinic (" + certificate.clinicSignatureAlgorithm() + ")", certificate.clinicSignatureFingerprint(), FINGERPRINT_FONT);
+        return table;
+    }
+
+    private PdfPTable newTable() throws DocumentException {
+        PdfPTable table = new PdfPTable(2);
+        table.setWidthPercentage(100);
+        table.setWidths(new float[] {1f, 3f});
+        return table;
+    }
+
+    private void addSection(PdfPTable table, String name) {
+        PdfPCell cell = new PdfPCell(new Phrase(name, SECTION_FONT));
+        cell.setColspan(2);
+        cell.setBorder(Rectangle.BOTTOM);
+        cell.setPaddingTop(10f);
+        cell.setPaddingBottom(4f);
+        table.addCell(cell);
+    }
+
+    private void addRow(PdfPTable table, String label, String value) {
+        addRow(table, label, value, VALUE_FONT);
+    }
+
+    private void addRow(PdfPTable table, String label, String value, Font valueFont) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        table.addCell(borderless(new Phrase(label, LABEL_FONT)));
+        table.addCell(borderless(new Phrase(value, valueFont)));
+    }
+
+    private PdfPCell borderless(Phrase phrase) {
+        PdfPCell cell = new PdfPCell(phrase);
+        cell.setBorder(Rectangle.NO_BORDER);
+        cell.setPadding(3f);
+        return cell;
+    }
+
+    private static OutputStream nonClosing(OutputStream out) {
+        return new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+    }
+}
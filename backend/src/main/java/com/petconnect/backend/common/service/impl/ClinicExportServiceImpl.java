@@ -0,0 +1,485 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.petconnect.backend.certificate.domain.model.CertificateExportRow;
+import com.petconnect.backend.certificate.domain.repository.CertificateRepository;
+import com.petconnect.backend.common.dto.ClinicExportJobDto;
+import com.petconnect.backend.common.helper.EntityFinderHelper;
+import com.petconnect.backend.common.service.ClinicExportService;
+import com.petconnect.backend.common.service.ExportStorageService;
+import com.petconnect.backend.exception.EntityNotFoundException;
+import com.petconnect.backend.record.domain.model.RecordExportRow;
+import com.petconnect.backend.record.domain.repository.RecordRepository;
+import com.petconnect.backend.user.domain.model.ClinicStaff;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Implementation of {@link ClinicExportService}.
+ * Jobs run on a small dedicated pool (one export at a time by default) and are tracked in memory.
+ * The state of each job is also written as a small JSON file next to its archive, so that after a restart
+ * completed jobs can still be downloaded and jobs that were cut off are reported as failed.
+ * Finished jobs, their archives and any orphaned export files are deleted after the retention period.
+ * Each job reads the clinic's records and certificates as flat projections through forward-only cursors,
+ * inside one read-only transaction so the counts and both listings come from the same snapshot, and
+ * writes them as NDJSON entries of a ZIP archive streamed straight to the export storage.
+ * Neither the rows nor the archive are ever held in memory as a whole.
+ *
+ * @author ibosquet
+ */
+@Service
+@Slf4j
+public class ClinicExportServiceImpl implements ClinicExportService {
+
+    static final String ARCHIVE_CONTENT_TYPE = "application/zip";
+    static final String RECORDS_ENTRY = "records.ndjson";
+    static final String CERTIFICATES_ENTRY = "certificates.ndjson";
+    static final String MANIFEST_ENTRY = "manifest.json";
+    static final String INTERRUPTED_MESSAGE = "The export was interrupted by a restart. Please start a new export.";
+    private static final String STATE_CONTENT_TYPE = "application/json";
+    private static final String EXPORTS_PREFIX = "clinics/";
+    private static final Pattern EXPORT_KEY = Pattern.compile("clinics/\\d+/exports/([^/]+?)\\.(zip|json)(\\.part)?");
+    private static final String MANIFEST_FORMAT = "petconnect-clinic-export/1";
+    private static final int ENTRY_BUFFER_SIZE = 64 * 1024;
+
+    private final RecordRepository recordRepository;
+    private final CertificateRepository certificateRepository;
+    private final EntityFinderHelper entityFinderHelper;
+    private final ExportStorageService exportStorageService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Executor exportExecutor;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${app.clinic-export.retention:P1D}")
+    private Duration retention = Duration.ofDays(1);
+
+    @Autowired
+    public ClinicExportServiceImpl(RecordRepository recordRepository,
+                                   CertificateRepository certificateRepository,
+                                   EntityFinderHelper entityFinderHelper,
+                                   ExportStorageService exportStorageService,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.clinic-export.threads:1}") int threads,
+                                   @Value("${app.clinic-export.queue-capacity:20}") int queueCapacity) {
+        this(recordRepository, certificateRepository, entityFinderHelper, exportStorageService, objectMapper,
+                transactionManager, newExportExecutor(threads, queueCapacity));
+    }
+
+    ClinicExportServiceImpl(RecordRepository recordRepository,
+                            CertificateRepository certificateRepository,
+                            EntityFinderHelper entityFinderHelper,
+                            ExportStorageService exportStorageService,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            Executor exportExecutor) {
+        this.recordRepository = recordRepository;
+        this.certificateRepository = certificateRepository;
+        this.entityFinderHelper = entityFinderHelper;
+        this.exportStorageService = exportStorageService;
+        this.objectMapper = objectMapper;
+        this.exportExecutor = exportExecutor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * An export job and its progress.
+     */
+    private static final class ExportJob {
+        private final String id;
+        private final Long clinicId;
+        private final Instant requestedAt;
+        private final AtomicLong recordsExported = new AtomicLong();
+        private final AtomicLong certificatesExported = new AtomicLong();
+        private volatile ClinicExportJobDto.Status status = ClinicExportJobDto.Status.QUEUED;
+        private volatile long recordsTotal;
+        private volatile long certificatesTotal;
+        private volatile Instant finishedAt;
+        private volatile String errorMessage;
+
+        private ExportJob(String id, Long clinicId, Instant requestedAt) {
+            this.id = id;
+            this.clinicId = clinicId;
+            this.requestedAt = requestedAt;
+        }
+
+        private static ExportJob restore(ClinicExportJobDto state) {
+            ExportJob job = new ExportJob(state.jobId(), state.clinicId(), state.requestedAt());
+            job.status = state.status();
+            job.recordsExported.set(state.recordsExported());
+            job.certificatesExported.set(state.certificatesExported());
+            job.recordsTotal = state.recordsTotal();
+            job.certificatesTotal = state.certificatesTotal();
+            job.finishedAt = state.finishedAt();
+            job.errorMessage = state.errorMessage();
+            return job;
+        }
+
+        private String storageKey() {
+            return "clinics/" + clinicId + "/exports/" + id + ".zip";
+        }
+
+        private String stateKey() {
+            return "clinics/" + clinicId + "/exports/" + id + ".json";
+        }
+
+        private boolean isActive() {
+            return status == ClinicExportJobDto.Status.QUEUED || status == ClinicExportJobDto.Status.RUNNING;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ClinicExportJobDto startExport(Long clinicId, Long requesterUserId) {
+        verifyClinicAdmin(clinicId, requesterUserId);
+        synchronized (jobs) {
+            for (ExportJob job : jobs.values()) {
+                if (job.clinicId.equals(clinicId) && job.isActive()) {
+                    log.info("Clinic export of Clinic ID {} already pending as job {}.", clinicId, job.id);
+                    return toDto(job);
+                }
+            }
+            ExportJob job = new ExportJob(UUID.randomUUID().toString(), clinicId, Instant.now());
+            jobs.put(job.id, job);
+            persistState(job);
+            try {
+                exportExecutor.execute(() -> runExport(job));
+            } catch (RejectedExecutionException e) {
+                jobs.remove(job.id);
+                exportStorageService.delete(job.stateKey());
+                throw new IllegalStateException("Too many clinic exports are queued. Please try again later.");
+            }
+            log.info("Clinic export job {} queued for Clinic ID {} by User ID {}.", job.id, clinicId, requesterUserId);
+            return toDto(job);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ClinicExportJobDto getExport(Long clinicId, String jobId, Long requesterUserId) {
+        verifyClinicAdmin(clinicId, requesterUserId);
+        return toDto(findJob(clinicId, jobId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ClinicExportJobDto verifyDownload(Long clinicId, String jobId, Long requesterUserId) {
+        verifyClinicAdmin(clinicId, requesterUserId);
+        ExportJob job = findJob(clinicId, jobId);
+        if (job.status != ClinicExportJobDto.Status.COMPLETED) {
+            throw new IllegalStateException("Export job " + jobId + " is not completed (status: " + job.status + ").");
+        }
+        return toDto(job);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeArchive(String jobId, OutputStream out) throws IOException {
+        ExportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new EntityNotFoundException("Export job not found: " + jobId);
+        }
+        try (InputStream in = exportStorageService.open(job.storageKey())) {
+            in.transferTo(out);
+        }
+        out.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String fileName(ClinicExportJobDto job) {
+        return "clinic-" + job.clinicId() + "-export-" + job.jobId() + ".zip";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${app.clinic-export.eviction-interval:PT10M}")
+    public int evictExpiredJobs() {
+        Instant threshold = Instant.now().minus(retention);
+        int evicted = 0;
+        for (ExportJob job : jobs.values()) {
+            Instant finishedAt = job.finishedAt;
+            if (!job.isActive() && finishedAt != null && !finishedAt.isAfter(threshold) && jobs.remove(job.id, job)) {
+                exportStorageService.delete(job.storageKey());
+                exportStorageService.delete(job.stateKey());
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            log.info("Evicted {} expired clinic export jobs.", evicted);
+        }
+        sweepOrphanedExports(threshold);
+        return evicted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public int recoverJobs() {
+        List<ExportStorageService.StoredExport> stored;
+        try {
+            stored = exportStorageService.list(EXPORTS_PREFIX);
+        } catch (IOException e) {
+            log.error("Could not list stored clinic exports to recover their jobs: {}", e.getMessage(), e);
+            return 0;
+        }
+        int restored = 0;
+        int interrupted = 0;
+        for (ExportStorageService.StoredExport export : stored) {
+            Matcher matcher = EXPORT_KEY.matcher(export.key());
+            if (!matcher.matches() || !"json".equals(matcher.group(2)) || matcher.group(3) != null || jobs.containsKey(matcher.group(1))) {
+                continue;
+            }
+            ExportJob job;
+            try (InputStream in = exportStorageService.open(export.key())) {
+                job = ExportJob.restore(objectMapper.readValue(in, ClinicExportJobDto.class));
+            } catch (IOException | RuntimeException e) {
+                log.warn("Skipping unreadable clinic export job state {}: {}", export.key(), e.getMessage());
+                continue;
+            }
+            if (job.isActive()) {
+                job.errorMessage = INTERRUPTED_MESSAGE;
+                job.finishedAt = Instant.now();
+                job.status = ClinicExportJobDto.Status.FAILED;
+                exportStorageService.delete(job.storageKey());
+                persistState(job);
+                interrupted++;
+            }
+            if (jobs.putIfAbsent(job.id, job) == null) {
+                restored++;
+            }
+        }
+        log.info("Recovered {} clinic export jobs from storage, {} of them interrupted by the restart.", restored, interrupted);
+        return interrupted;
+    }
+
+    /**
+     * Shuts down the export worker pool when the application stops.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (exportExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    // Private methods
+
+    private void verifyClinicAdmin(Long clinicId, Long requesterUserId) {
+        ClinicStaff admin = entityFinderHelper.findAdminStaffOrFail(requesterUserId, "export clinic data");
+        if (!admin.getClinic().getId().equals(clinicId)) {
+            throw new AccessDeniedException("Admin " + requesterUserId + " is not authorized to export clinic " + clinicId);
+        }
+    }
+
+    private ExportJob findJob(Long clinicId, String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null || !job.clinicId.equals(clinicId)) {
+            throw new EntityNotFoundException("Export job not found for clinic " + clinicId + ": " + jobId);
+        }
+        return job;
+    }
+
+    private void runExport(ExportJob job) {
+        job.status = ClinicExportJobDto.Status.RUNNING;
+        long start = System.nanoTime();
+        try {
+            exportStorageService.store(job.storageKey(), ARCHIVE_CONTENT_TYPE, out -> writeArchiveInTransaction(job, out));
+            job.finishedAt = Instant.now();
+            job.status = ClinicExportJobDto.Status.COMPLETED;
+            persistState(job);
+            log.info("Clinic export job {} of Clinic ID {} completed: {} records, {} certificates in {} ms.", job.id, job.clinicId,
+                    job.recordsExported.get(), job.certificatesExported.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            log.error("Clinic export job {} of Clinic ID {} failed.", job.id, job.clinicId, e);
+            job.errorMessage = "The export could not be completed. Please start a new export.";
+            job.finishedAt = Instant.now();
+            job.status = ClinicExportJobDto.Status.FAILED;
+            persistState(job);
+        }
+    }
+
+    private void persistState(ExportJob job) {
+        try {
+            byte[] state = objectMapper.writeValueAsBytes(toDto(job));
+            exportStorageService.store(job.stateKey(), STATE_CONTENT_TYPE, out -> out.write(state));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not persist the state of clinic export job {}: {}", job.id, e.getMessage());
+        }
+    }
+
+    private void sweepOrphanedExports(Instant threshold) {
+        List<ExportStorageService.StoredExport> stored;
+        try {
+            stored = exportStorageService.list(EXPORTS_PREFIX);
+        } catch (IOException e) {
+            log.error("Could not list stored clinic exports to sweep them: {}", e.getMessage());
+            return;
+        }
+        int deleted = 0;
+        for (ExportStorageService.StoredExport export : stored) {
+            Matcher matcher = EXPORT_KEY.matcher(export.key());
+            if (matcher.matches() && !jobs.containsKey(matcher.group(1)) && export.lastModified().isBefore(threshold)) {
+                exportStorageService.delete(export.key());
+                deleted++;
+            }
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} orphaned clinic export files older than the retention period.", deleted);
+        }
+    }
+
+    private void writeArchiveInTransaction(ExportJob job, OutputStream out) throws IOException {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try {
+                    writeArchiveContent(job, out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeArchiveContent(ExportJob job, OutputStream out) throws IOException {
+        job.recordsTotal = recordRepository.countByCreatedInClinicId(job.clinicId);
+        job.certificatesTotal = certificateRepository.countByIssuingClinicId(job.clinicId);
+
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            // Rows are small, so they are gathered before reaching the deflater; flushed before each entry is closed
+            OutputStream entryOut = new BufferedOutputStream(zip, ENTRY_BUFFER_SIZE);
+
+            zip.putNextEntry(new ZipEntry(RECORDS_ENTRY));
+            try (Stream<RecordExportRow> rows = recordRepository.streamExportRowsByCreatedInClinicId(job.clinicId)) {
+                writeNdjson(rows, RecordExportRow.class, entryOut, job.recordsExported);
+            }
+            entryOut.flush();
+            zip.closeEntry();
+
+            zip.putNextEntry(new ZipEntry(CERTIFICATES_ENTRY));
+            try (Stream<CertificateExportRow> rows = certificateRepository.streamExportRowsByIssuingClinicId(job.clinicId)) {
+                writeNdjson(rows, CertificateExportRow.class, entryOut, job.certificatesExported);
+            }
+            entryOut.flush();
+            zip.closeEntry();
+
+            zip.putNextEntry(new ZipEntry(MANIFEST_ENTRY));
+            entryOut.write(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(manifest(job)));
+            entryOut.flush();
+            zip.closeEntry();
+        }
+    }
+
+    private <T> void writeNdjson(Stream<T> rows, Class<T> type, OutputStream out, AtomicLong counter) throws IOException {
+        ObjectWriter rowWriter = objectMapper.writerFor(type);
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            out.write(rowWriter.writeValueAsBytes(iterator.next()));
+            out.write('\n');
+            counter.incrementAndGet();
+        }
+    }
+
+    private Map<String, Object> manifest(ExportJob job) {
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        manifest.put("format", MANIFEST_FORMAT);
+        manifest.put("jobId", job.id);
+        manifest.put("clinicId", job.clinicId);
+        manifest.put("generatedAt", Instant.now().toString());
+        manifest.put("records", job.recordsExported.get());
+        manifest.put("certificates", job.certificatesExported.get());
+        manifest.put("entries", List.of(RECORDS_ENTRY, CERTIFICATES_ENTRY));
+        return manifest;
+    }
+
+    private ClinicExportJobDto toDto(ExportJob job) {
+        ClinicExportJobDto.Status status = job.status;
+        long recordsExported = job.recordsExported.get();
+        long certificatesExported = job.certificatesExported.get();
+        long total = job.recordsTotal + job.certificatesTotal;
+        int progressPercent;
+        if (status == ClinicExportJobDto.Status.COMPLETED) {
+            progressPercent = 100;
+        } else if (total == 0) {
+            progressPercent = 0;
+        } else {
+            progressPercent = (int) Math.min(99, (recordsExported + certificatesExported) * 100 / total);
+        }
+        String downloadUrl = status == ClinicExportJobDto.Status.COMPLETED
+                ? "/api/clinics/" + job.clinicId + "/exports/" + job.id + "/archive"
+                : null;
+        return new ClinicExportJobDto(job.id, job.clinicId, status, recordsExported, job.recordsTotal,
+                certificatesExported, job.certificatesTotal, progressPercent, job.requestedAt, job.finishedAt,
+                downloadUrl, job.errorMessage);
+    }
+
+    private static ExecutorService newExportExecutor(int threads, int queueCapacity) {
+        int poolSize = Math.max(1, threads);
+        AtomicInteger threadCounter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "clinic-export-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+}
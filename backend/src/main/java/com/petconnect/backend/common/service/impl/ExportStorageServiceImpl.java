@@ -0,0 +1,145 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.common.service.ExportStorageService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of ExportStorageService for storing exports in the local filesystem.
+ * Content is written to a {@code .part} file next to the target and moved into place once complete,
+ * so a partially written export is never readable. A {@code .part} file left behind by a crash is listed
+ * like any other export, so it is swept once it is older than the retention period.
+ * Active when the 'dev' profile is active.
+ *
+ * @author ibosquet
+ */
+@Service
+@Profile("dev")
+@Slf4j
+public class ExportStorageServiceImpl implements ExportStorageService {
+
+    private static final String PART_SUFFIX = ".part";
+
+    @Value("${app.external.exports.path:../exports}")
+    private String externalExportsPathString = "../exports";
+
+    private Path baseStorageLocation;
+
+    /**
+     * Initializes the base storage location after dependency injection.
+     * Creates the directory if it doesn't exist.
+     *
+     * @throws IOException If the storage directory cannot be created.
+     */
+    @PostConstruct
+    public void init() throws IOException {
+        if (!StringUtils.hasText(this.externalExportsPathString)) {
+            throw new IllegalStateException("Configuration property 'app.external.exports.path' cannot be empty.");
+        }
+        this.baseStorageLocation = Paths.get(this.externalExportsPathString).toAbsolutePath().normalize();
+        Files.createDirectories(this.baseStorageLocation);
+        log.info("Base export storage location initialized at: {}", this.baseStorageLocation);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void store(String key, String contentType, ContentWriter writer) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path part = target.resolveSibling(target.getFileName() + PART_SUFFIX);
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(part))) {
+                writer.writeTo(out);
+            }
+            Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(part);
+            throw e;
+        }
+        log.info("Stored export {} ({} bytes).", target, Files.size(target));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delete(String key) {
+        try {
+            if (Files.deleteIfExists(resolve(key))) {
+                log.info("Deleted export {}.", key);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Failed to delete export '{}': {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<StoredExport> list(String prefix) throws IOException {
+        Path root = resolve(prefix);
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+        List<StoredExport> exports = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(root)) {
+            Iterator<Path> iterator = paths.filter(Files::isRegularFile).iterator();
+            while (iterator.hasNext()) {
+                Path path = iterator.next();
+                try {
+                    String key = this.baseStorageLocation.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+                    exports.add(new StoredExport(key, Files.getLastModifiedTime(path).toInstant()));
+                } catch (NoSuchFileException e) {
+                    // Deleted while listing
+                }
+            }
+        }
+        return exports;
+    }
+
+    // Private methods
+
+    private Path resolve(String key) {
+        if (!StringUtils.hasText(key)) {
+            throw new IllegalArgumentException("Export key cannot be empty or null.");
+        }
+        String cleanKey = StringUtils.cleanPath(key);
+        if (cleanKey.contains("..")) {
+            throw new IllegalArgumentException("Invalid export key containing '..'.");
+        }
+        Path path = this.baseStorageLocation.resolve(cleanKey).normalize();
+        if (!path.startsWith(this.baseStorageLocation)) {
+            throw new IllegalArgumentException("Export key resolves outside the export storage location.");
+        }
+        return path;
+    }
+}
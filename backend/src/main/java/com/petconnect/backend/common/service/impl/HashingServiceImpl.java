@@ -28,9 +28,20 @@ public class HashingServiceImpl implements HashingService {
         if (input == null) {
             throw new IllegalArgumentException("Input string for hashing cannot be null.");
         }
+        return hashBytes(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String hashBytes(byte[] input) throws HashingException {
+        if (input == null) {
+            throw new IllegalArgumentException("Input bytes for hashing cannot be null.");
+        }
         try {
             MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
-            byte[] encodedhash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
+            byte[] encodedhash = digest.digest(input);
             return FormatUtils.bytesToHex(encodedhash);
         } catch (NoSuchAlgorithmException e) {
             log.error("Hashing algorithm {} not found!", HASH_ALGORITHM, e);
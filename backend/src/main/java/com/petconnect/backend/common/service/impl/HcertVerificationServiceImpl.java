@@ -0,0 +1,289 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.petconnect.backend.certificate.application.dto.HcertVerificationResultDto;
+import com.petconnect.backend.certificate.domain.model.CertificatePayload;
+import com.petconnect.backend.common.helper.Base45Codec;
+import com.petconnect.backend.common.helper.QrCompressionDictionary;
+import com.petconnect.backend.common.service.HcertVerificationService;
+import com.petconnect.backend.common.service.RevocationListService;
+import com.petconnect.backend.common.service.TrustListService;
+import com.petconnect.backend.user.domain.model.SignatureAlgorithm;
+import com.upokecenter.cbor.CBORObject;
+import com.upokecenter.cbor.CBORType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.Security;
+import java.security.Signature;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Implementation of the {@link HcertVerificationService} interface.
+ * Reverses the {@link QrCodeServiceImpl} pipeline (Base45, zlib with or without a {@link QrCompressionDictionary}, COSE_Sign, CBOR payload),
+ * recomputes the signed payload hash (over the embedded canonical CBOR, or the JSON form of legacy payloads)
+ * and checks the vet and clinic signatures against the {@link TrustListService} and the certificate number
+ * against the {@link RevocationListService}, never touching the database.
+ * <p>
+ * The path is built for bursts of scans: the Base45 and inflate buffers, the inflater, digest and
+ * {@link Signature} instances are reused per thread, and trust list and revocation list reads are lock-free.
+ * Per-thread inflaters are never ended; they live as long as the (pooled) request threads.
+ *
+ * @author ibosquet
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HcertVerificationServiceImpl implements HcertVerificationService {
+
+    private static final String QR_DATA_PREFIX = "HC1:";
+    private static final int COSE_SIGN_TAG = 98;
+    /** Alphanumeric capacity of the largest QR code (version 40, level L); longer input cannot come from a scan. */
+    static final int MAX_QR_DATA_LENGTH = 4296;
+    /** Upper bound of the inflated COSE structure, protecting against decompression bombs. */
+    static final int MAX_INFLATED_SIZE = 64 * 1024;
+    private static final int INITIAL_INFLATE_BUFFER = 4 * 1024;
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final TrustListService trustListService;
+    private final RevocationListService revocationListService;
+
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+    /** Legacy (JSON_V1) payloads were signed as the hash of this exact serialization of the payload map. */
+    private final ObjectWriter payloadJsonWriter = new ObjectMapper().registerModule(new JavaTimeModule()).writerWithDefaultPrettyPrinter();
+
+    private final ThreadLocal<byte[]> decodeBuffers = ThreadLocal.withInitial(() -> new byte[Base45Codec.decodedLength(MAX_QR_DATA_LENGTH)]);
+    private final ThreadLocal<Inflater> inflaters = ThreadLocal.withInitial(Inflater::new);
+    private final ThreadLocal<byte[]> inflateBuffers = ThreadLocal.withInitial(() -> new byte[INITIAL_INFLATE_BUFFER]);
+    private final ThreadLocal<MessageDigest> digests = ThreadLocal.withInitial(HcertVerificationServiceImpl::newSha256);
+    private final ThreadLocal<byte[]> hexBuffers = ThreadLocal.withInitial(() -> new byte[64]);
+    private final ThreadLocal<EnumMap<SignatureAlgorithm, Signature>> verifiers =
+            ThreadLocal.withInitial(() -> new EnumMap<>(SignatureAlgorithm.class));
+
+    static {
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+    }
+
+    /**
+     * A signature of the COSE_Sign structure.
+     *
+     * @param algorithm The algorithm from the signature's protected header.
+     * @param signature The raw signature bytes.
+     */
+    private record CoseSignature(SignatureAlgorithm algorithm, byte[] signature) {}
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HcertVerificationResultDto verify(String qrData) {
+        if (!StringUtils.hasText(qrData) || !qrData.startsWith(QR_DATA_PREFIX)) {
+            return malformed("QR data must start with " + QR_DATA_PREFIX);
+        }
+        if (qrData.length() > MAX_QR_DATA_LENGTH) {
+            return malformed("QR data exceeds the capacity of a QR code.");
+        }
+
+        byte[] payloadCbor;
+        CoseSignature vetSignature;
+        CoseSignature clinicSignature;
+        try {
+            byte[] compressed = decodeBuffers.get();
+            int compressedLength = Base45Codec.decode(qrData, QR_DATA_PREFIX.length(), qrData.length(), compressed);
+            int length = inflate(compressed, compressedLength);
+            CBORObject coseSign = CBORObject.Read(new ByteArrayInputStream(inflateBuffers.get(), 0, length));
+            if (coseSign.HasMostOuterTag(COSE_SIGN_TAG)) {
+                coseSign = coseSign.UntagOne();
+            }
+            if (coseSign.getType() != CBORType.Array || coseSign.size() != 4) {
+                return malformed("Not a COSE_Sign structure.");
+            }
+            payloadCbor = coseSign.get(2).GetByteString();
+            CBORObject signatures = coseSign.get(3);
+            if (signatures.getType() != CBORType.Array || signatures.size() != 2) {
+                return malformed("Expected a vet and a clinic signature.");
+            }
+            vetSignature = readSignature(signatures.get(0));
+            clinicSignature = readSignature(signatures.get(1));
+        } catch (DataFormatException e) {
+            return malformed("Invalid compressed data: " + e.getMessage());
+        } catch (RuntimeException e) {
+            return malformed("Invalid QR data encoding: " + e.getMessage());
+        }
+
+        Map<String, Object> payload;
+        int hashLength;
+        try {
+            payload = cborMapper.readValue(payloadCbor, new TypeReference<LinkedHashMap<String, Object>>() {});
+            // Canonical payloads were signed as embedded; legacy payloads as their pretty-printed JSON
+            boolean canonical = CertificatePayload.CERT_TYPE_V2.equals(payload.get("certType"));
+            hashLength = hashPayload(canonical ? payloadCbor : payloadJsonWriter.writeValueAsBytes(payload));
+        } catch (IOException e) {
+            return malformed("Invalid certificate payload: " + e.getMessage());
+        }
+
+        String certificateNumber = payload.get("certificateNumber") instanceof String number ? number : null;
+        Long clinicId = null;
+        Long vetId = null;
+        if (payload.get("issuer") instanceof Map<?, ?> issuer) {
+            clinicId = issuer.get("id") instanceof Number id ? id.longValue() : null;
+            vetId = issuer.get("issuingVetId") instanceof Number id ? id.longValue() : null;
+        }
+
+        byte[] signedData = hexBuffers.get();
+        String error = null;
+        PublicKey vetKey = trustListService.findVetKey(vetId);
+        boolean vetValid = vetKey != null && verifySignature(vetKey, vetSignature, signedData, hashLength);
+        if (vetKey == null) {
+            error = "Vet " + vetId + " is not in the trust list.";
+        } else if (!vetValid) {
+            error = "Vet signature is invalid.";
+        }
+        PublicKey clinicKey = trustListService.findClinicKey(clinicId);
+        boolean clinicValid = clinicKey != null && verifySignature(clinicKey, clinicSignature, signedData, hashLength);
+        if (error == null && clinicKey == null) {
+            error = "Clinic " + clinicId + " is not in the trust list.";
+        } else if (error == null && !clinicValid) {
+            error = "Clinic signature is invalid.";
+        }
+        boolean revoked = revocationListService.isRevoked(certificateNumber);
+        if (error == null && revoked) {
+            error = "Certificate " + certificateNumber + " has been revoked.";
+        }
+
+        return new HcertVerificationResultDto(vetValid && clinicValid && !revoked, certificateNumber, clinicId, vetId, vetValid, clinicValid, revoked, error);
+    }
+
+    // Private methods
+
+    private HcertVerificationResultDto malformed(String error) {
+        log.debug("Rejected malformed QR data: {}", error);
+        return new HcertVerificationResultDto(false, null, null, null, false, false, false, error);
+    }
+
+    /**
+     * Inflates zlib data into this thread's buffer, growing it up to {@link #MAX_INFLATED_SIZE}.
+     * Streams compressed with a preset dictionary name it by id in their header; any known version is accepted.
+     *
+     * @return The number of inflated bytes at the start of the buffer.
+     */
+    private int inflate(byte[] compressed, int compressedLength) throws DataFormatException {
+        Inflater inflater = inflaters.get();
+        inflater.reset();
+        inflater.setInput(compressed, 0, compressedLength);
+        byte[] buffer = inflateBuffers.get();
+        int length = 0;
+        while (!inflater.finished()) {
+            if (length == buffer.length) {
+                if (buffer.length >= MAX_INFLATED_SIZE) {
+                    throw new DataFormatException("inflated data exceeds " + MAX_INFLATED_SIZE + " bytes");
+                }
+                buffer = Arrays.copyOf(buffer, Math.min(buffer.length * 2, MAX_INFLATED_SIZE));
+                inflateBuffers.set(buffer);
+            }
+            int inflated = inflater.inflate(buffer, length, buffer.length - length);
+            if (inflated == 0 && inflater.needsDictionary()) {
+                QrCompressionDictionary dictionary = QrCompressionDictionary.findById(inflater.getAdler());
+                if (dictionary == null) {
+                    throw new DataFormatException("unknown zlib preset dictionary " + Integer.toHexString(inflater.getAdler()));
+                }
+                inflater.setDictionary(dictionary.getBytes());
+                continue;
+            }
+            if (inflated == 0 && inflater.needsInput()) {
+                throw new DataFormatException("truncated zlib stream");
+            }
+            length += inflated;
+        }
+        return length;
+    }
+
+    /**
+     * Reads a COSE_Signature: [protected header bstr, unprotected header map, signature bstr].
+     * Signatures without an {@code alg} header come from QR data generated before it was written, and are RSA.
+     */
+    private CoseSignature readSignature(CBORObject coseSignature) {
+        if (coseSignature.getType() != CBORType.Array || coseSignature.size() != 3) {
+            throw new IllegalArgumentException("Not a COSE_Signature structure.");
+        }
+        SignatureAlgorithm algorithm = SignatureAlgorithm.RS256;
+        byte[] protectedBytes = coseSignature.get(0).GetByteString();
+        if (protectedBytes.length > 0) {
+            CBORObject algorithmId = CBORObject.DecodeFromBytes(protectedBytes).get(CBORObject.FromInt32(1));
+            if (algorithmId != null) {
+                algorithm = SignatureAlgorithm.fromCoseAlgorithmId(algorithmId.AsInt32Value());
+            }
+        }
+        return new CoseSignature(algorithm, coseSignature.get(2).GetByteString());
+    }
+
+    /**
+     * Writes the lowercase hex SHA-256 of the payload JSON (the data that was signed) into this thread's hex buffer.
+     *
+     * @return The number of bytes written.
+     */
+    private int hashPayload(byte[] payloadJson) {
+        MessageDigest digest = digests.get();
+        byte[] hash = digest.digest(payloadJson);
+        byte[] hex = hexBuffers.get();
+        for (int i = 0; i < hash.length; i++) {
+            hex[2 * i] = HEX_DIGITS[(hash[i] >> 4) & 0x0f];
+            hex[2 * i + 1] = HEX_DIGITS[hash[i] & 0x0f];
+        }
+        return hash.length * 2;
+    }
+
+    private boolean verifySignature(PublicKey publicKey, CoseSignature coseSignature, byte[] signedData, int signedLength) {
+        try {
+            if (SignatureAlgorithm.forKey(publicKey) != coseSignature.algorithm()) {
+                return false;
+            }
+            Signature verifier = verifierFor(coseSignature.algorithm());
+            verifier.initVerify(publicKey);
+            verifier.update(signedData, 0, signedLength);
+            return verifier.verify(coseSignature.signature());
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            log.debug("Signature verification error: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private Signature verifierFor(SignatureAlgorithm algorithm) throws GeneralSecurityException {
+        EnumMap<SignatureAlgorithm, Signature> threadVerifiers = verifiers.get();
+        Signature verifier = threadVerifiers.get(algorithm);
+        if (verifier == null) {
+            verifier = Signature.getInstance(algorithm.getJcaName(), BouncyCastleProvider.PROVIDER_NAME);
+            threadVerifiers.put(algorithm, verifier);
+        }
+        return verifier;
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available.", e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.petconnect.backend.common.service.impl;
 
+import com.petconnect.backend.common.helper.KeyAlgorithmUtils;
 import com.petconnect.backend.common.helper.Utils;
 import com.petconnect.backend.common.service.KeyStorageService;
 import jakarta.annotation.PostConstruct;
@@ -47,6 +48,7 @@ public class KeyStorageServiceImpl implements KeyStorageService {
 
     @Override
     public String storePublicKey(MultipartFile file, String subDirectory, String desiredFilenameBase) throws IOException {
+        KeyAlgorithmUtils.validatePublicKey(file, subDirectory, desiredFilenameBase);
         return storeKeyFile(file, subDirectory, desiredFilenameBase, this.publicKeysBaseLocation);
     }
 
@@ -269,4 +271,4 @@ public class KeyStorageServiceImpl implements KeyStorageService {
         }
         return baseLocation.resolve(cleanRelativePath).normalize();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,87 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.common.service.SigningService.PublicKeyCacheStats;
+
+import java.security.PublicKey;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, least-recently-used cache of parsed {@link PublicKey} objects used by {@link SigningServiceImpl}.
+ * Entries are keyed either by the key's storage path or by a fingerprint of its PEM content,
+ * and hit, miss and eviction counts are kept to help size the cache.
+ *
+ * @author ibosquet
+ */
+class PublicKeyCache {
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private volatile int maxSize;
+
+    private final LinkedHashMap<String, PublicKey> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PublicKey> eldest) {
+            if (size() > maxSize) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    PublicKeyCache(int maxSize) {
+        this.maxSize = Math.max(1, maxSize);
+    }
+
+    /**
+     * Returns the cached key for the given cache key, counting a hit or a miss.
+     *
+     * @param cacheKey The cache key.
+     * @return The cached key, or null if absent.
+     */
+    synchronized PublicKey get(String cacheKey) {
+        PublicKey key = entries.get(cacheKey);
+        if (key != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return key;
+    }
+
+    /**
+     * Stores a key, evicting the least recently used entry if the cache is full.
+     */
+    synchronized void put(String cacheKey, PublicKey publicKey) {
+        entries.put(cacheKey, publicKey);
+    }
+
+    /**
+     * Removes a key if present. Removals are not counted as evictions.
+     *
+     * @return true if an entry was removed.
+     */
+    synchronized boolean remove(String cacheKey) {
+        return entries.remove(cacheKey) != null;
+    }
+
+    /**
+     * Changes the maximum number of entries, evicting least recently used entries if needed.
+     */
+    synchronized void resize(int newMaxSize) {
+        this.maxSize = Math.max(1, newMaxSize);
+        var iterator = entries.entrySet().iterator();
+        while (entries.size() > this.maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    synchronized PublicKeyCacheStats stats() {
+        return new PublicKeyCacheStats(hits.get(), misses.get(), evictions.get(), entries.size(), maxSize);
+    }
+}
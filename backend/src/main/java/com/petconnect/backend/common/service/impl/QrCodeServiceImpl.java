@@ -6,24 +6,32 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.petconnect.backend.certificate.domain.model.Certificate;
+import com.petconnect.backend.certificate.domain.model.CertificatePayloadFormat;
+import com.petconnect.backend.common.helper.Base45Codec;
+import com.petconnect.backend.common.helper.CertificatePayloadCodec;
+import com.petconnect.backend.common.helper.QrCompressionDictionary;
 import com.petconnect.backend.common.service.QrCodeService;
+import com.petconnect.backend.user.domain.model.SignatureAlgorithm;
 import java.io.ByteArrayOutputStream;
 import java.util.Base64;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.zip.Deflater;
-import java.util.zip.DeflaterOutputStream;
-import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import nl.minvws.encoding.Base45;
 import COSE.*;
 import com.upokecenter.cbor.CBORObject;
 
 /**
  * Implementation of the {@link QrCodeService} interface.
  * Handles the complex process of encoding certificate data into a Base45 string for QR codes.
+ * The individual encoding stages are package-private so they can be measured one by one
+ * (see the {@code backend-benchmarks} module).
+ * <p>
+ * Compression uses the current {@link QrCompressionDictionary} unless disabled, and reuses one
+ * {@link Deflater} per thread; per-thread deflaters are never ended, as they live as long as the (pooled) threads.
  *
  * @author ibosquet
  */
@@ -37,21 +45,34 @@ public class QrCodeServiceImpl implements QrCodeService {
 
     //  Standard prefix for EU DCC certificates
     private static final String QR_DATA_PREFIX = "HC1:";
+    private static final int COMPRESS_CHUNK_SIZE = 1024;
+
+    /** Whether new QR data is compressed with the preset dictionary (verifiers must know it, see {@link QrCompressionDictionary}). */
+    @Value("${app.certificate.qr-data.dictionary-compression:true}")
+    private boolean dictionaryCompression = true;
+
+    private final ThreadLocal<Deflater> deflaters = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_COMPRESSION));
 
     /**
      * {@inheritDoc}
      */
     @Override
     public String generateQrData(Certificate certificate) {
+        return generateQrData(certificate, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String generateQrData(Certificate certificate, byte[] payloadCbor) {
         log.info("Generating QR data for Certificate ID: {}", certificate.getId());
         try {
-            String payloadJson = certificate.getPayload();
-
-            // Convert payload to CBOR after hashing the JSON
-            byte[] payloadCbor = convertJsonToCbor(payloadJson);
+            // The embedded payload must be the signed bytes for canonical payloads
+            byte[] embeddedPayload = payloadCbor != null ? payloadCbor : resolvePayloadCbor(certificate);
 
             // Create the COSE structure using the already generated signatures from the Certificate entity
-            byte[] coseSignedData = createCoseStructure(certificate, payloadCbor);
+            byte[] coseSignedData = createCoseStructure(certificate, embeddedPayload);
 
             // Compress
             byte[] compressedData = compressWithZlib(coseSignedData);
@@ -73,13 +94,24 @@ public class QrCodeServiceImpl implements QrCodeService {
     }
 
     /**
-     * Converts a JSON string payload into a CBOR byte array.
+     * Rebuilds the CBOR payload from the stored JSON. Canonical payloads are re-encoded deterministically,
+     * giving back the signed bytes; legacy payloads are converted key by key, as before.
+     */
+    private byte[] resolvePayloadCbor(Certificate certificate) {
+        if (certificate.resolvePayloadFormat() == CertificatePayloadFormat.CBOR_V2) {
+            return CertificatePayloadCodec.toCbor(CertificatePayloadCodec.fromJson(certificate.getPayload()));
+        }
+        return convertJsonToCbor(certificate.getPayload());
+    }
+
+    /**
+     * Converts a legacy ({@link CertificatePayloadFormat#JSON_V1}) JSON string payload into a CBOR byte array.
      *
      * @param jsonPayload The JSON string representing the certificate payload.
      * @return The CBOR encoded a byte array.
      * @throws RuntimeException if JSON parsing or CBOR writing fails.
      */
-    private byte[] convertJsonToCbor(String jsonPayload) {
+    byte[] convertJsonToCbor(String jsonPayload) {
         log.debug("Converting JSON payload to CBOR...");
         try {
             Map<String, Object> payloadMap = jsonMapper.readValue(jsonPayload, new TypeReference<LinkedHashMap<String, Object>>() {
@@ -102,7 +134,7 @@ public class QrCodeServiceImpl implements QrCodeService {
      * @throws CoseException If an error occurs during CBOR/COSE processing.
      * @throws IllegalArgumentException if signatures in certificate are invalid Base64.
      */
-    private byte[] createCoseStructure(Certificate certificate, byte[] payloadCbor) throws CoseException {
+    byte[] createCoseStructure(Certificate certificate, byte[] payloadCbor) throws CoseException {
         log.debug("Creating COSE_Sign structure for certificate ID: {}", certificate.getId());
 
         // Decode existing signatures from Base64
@@ -117,8 +149,8 @@ public class QrCodeServiceImpl implements QrCodeService {
         }
 
         // Build COSE_Sign structure: [ protected_empty, unprotected_empty, payload, signatures_array ]
+        // The algorithm is a per-signer parameter, so it lives in each COSE_Signature and not in the body headers.
         CBORObject protectedHeadersMap = CBORObject.NewMap();
-        protectedHeadersMap.Add(HeaderKeys.Algorithm.AsCBOR(), AlgorithmID.RSA_PSS_256.AsCBOR());
         byte[] protectedHeadersBytes = protectedHeadersMap.EncodeToBytes();
 
         CBORObject unprotectedHeadersMap = CBORObject.NewMap();
@@ -126,8 +158,8 @@ public class QrCodeServiceImpl implements QrCodeService {
         // Build Signatures Array: [ COSE_Signature_Vet, COSE_Signature_Clinic ]
         CBORObject signaturesArray = CBORObject.NewArray();
 
-        signaturesArray.Add(buildCoseSignature(vetSignatureBytes));
-        signaturesArray.Add(buildCoseSignature(clinicSignatureBytes));
+        signaturesArray.Add(buildCoseSignature(vetSignatureBytes, resolveAlgorithm(certificate.getVetSignatureAlgorithm())));
+        signaturesArray.Add(buildCoseSignature(clinicSignatureBytes, resolveAlgorithm(certificate.getClinicSignatureAlgorithm())));
 
         // Assemble final COSE_Sign Array
         CBORObject coseSignStructure = CBORObject.NewArray();
@@ -147,12 +179,14 @@ public class QrCodeServiceImpl implements QrCodeService {
      * [ protected_headers': bstr, unprotected_headers': map, signature: bstr ]
      *
      * @param signatureBytes The raw bytes of the pre-generated signature.
+     * @param algorithm      The algorithm that produced the signature, written as the protected {@code alg} header.
      * @return A CBORObject representing the COSE_Signature array.
      */
-    private CBORObject buildCoseSignature(byte[] signatureBytes)  {
+    private CBORObject buildCoseSignature(byte[] signatureBytes, SignatureAlgorithm algorithm)  {
         try {
             // Protected headers for THIS signature
             CBORObject protectedMap = CBORObject.NewMap();
+            protectedMap.Add(HeaderKeys.Algorithm.AsCBOR(), CBORObject.FromInt32(algorithm.getCoseAlgorithmId()));
             byte[] protectedBytes = protectedMap.EncodeToBytes();
 
             CBORObject unprotectedMap = CBORObject.NewMap();
@@ -172,31 +206,55 @@ public class QrCodeServiceImpl implements QrCodeService {
     }
 
     /**
-     * Compresses the input data using ZLib (DEFLATE algorithm).
+     * Returns the stored signature algorithm, treating certificates issued before it was recorded as RSA.
+     */
+    private SignatureAlgorithm resolveAlgorithm(SignatureAlgorithm storedAlgorithm) {
+        return storedAlgorithm != null ? storedAlgorithm : SignatureAlgorithm.RS256;
+    }
+
+    /**
+     * Compresses the input data using ZLib (DEFLATE algorithm), with the current preset dictionary
+     * unless dictionary compression is disabled.
      *
      * @param data The byte array to compress.
      * @return The compressed byte array.
-     * @throws RuntimeException if an IOException occurs during compression.
      */
-    private byte[] compressWithZlib(byte[] data) {
+    byte[] compressWithZlib(byte[] data) {
+        return compressWithZlib(data, dictionaryCompression ? QrCompressionDictionary.CURRENT : null);
+    }
+
+    /**
+     * Compresses the input data using ZLib (DEFLATE algorithm) with this thread's deflater.
+     *
+     * @param data       The byte array to compress.
+     * @param dictionary The preset dictionary, or null for plain zlib.
+     * @return The compressed byte array.
+     */
+    byte[] compressWithZlib(byte[] data, QrCompressionDictionary dictionary) {
         if (data == null) {
             throw new IllegalArgumentException("Data to be compressed cannot be null");
         }
-        log.debug("Compressing data with ZLib (DEFLATE)... Input size: {} bytes", data.length);
-        try (ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-            // Use BEST_COMPRESSION for potentially smaller QR codes
-            DeflaterOutputStream deflaterStream = new DeflaterOutputStream(byteStream, new Deflater(Deflater.BEST_COMPRESSION))) {
-
-            deflaterStream.write(data);
-
-            deflaterStream.finish();
+        log.debug("Compressing data with ZLib (DEFLATE)... Input size: {} bytes, dictionary: {}", data.length, dictionary);
+        Deflater deflater = deflaters.get();
+        deflater.reset();
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary.getBytes());
+            }
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream byteStream = new ByteArrayOutputStream(Math.max(64, data.length / 2));
+            byte[] chunk = new byte[COMPRESS_CHUNK_SIZE];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(chunk);
+                byteStream.write(chunk, 0, length);
+            }
             byte[] compressedData = byteStream.toByteArray();
             log.debug("ZLib compression complete. Output size: {} bytes", compressedData.length);
             return compressedData;
-
-        } catch (IOException e) {
-            log.error("IOException during ZLib compression: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to compress data using ZLib.", e);
+        } finally {
+            // Drop the reference to the input until the next call
+            deflater.reset();
         }
     }
 
@@ -206,12 +264,12 @@ public class QrCodeServiceImpl implements QrCodeService {
      * @param data The byte array to encode (typically ZLib compressed COSE data).
      * @return The Base45 encoded string.
      */
-    private String encodeToBase45(byte[] data) {
+    String encodeToBase45(byte[] data) {
         if (data == null) {
             throw new IllegalArgumentException("Data to be encoded cannot be null");
         }
         log.debug("Encoding {} bytes to Base45...", data.length);
-        String encoded = Base45.getEncoder().encodeToString(data);
+        String encoded = Base45Codec.encodeToString(data);
         log.debug("Base45 encoding complete.");
         return encoded;
     }
@@ -0,0 +1,93 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.common.service.QrImageService.Format;
+import com.petconnect.backend.common.service.QrImageService.QrImageCacheStats;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Least-recently-used cache of rendered QR images used by {@link QrImageServiceImpl},
+ * bounded by the total size of the cached images rather than their number
+ * (a 2048px PNG is much larger than a 200px SVG).
+ *
+ * @author ibosquet
+ */
+class QrImageCache {
+
+    /**
+     * Cache key of a rendered image.
+     *
+     * @param certificateId   The certificate whose QR data was rendered.
+     * @param format          The image format.
+     * @param size            The requested size in pixels.
+     * @param errorCorrection The QR error correction level.
+     */
+    record Key(Long certificateId, Format format, int size, String errorCorrection) {}
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final LinkedHashMap<Key, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long maxBytes;
+
+    QrImageCache(long maxBytes) {
+        this.maxBytes = Math.max(0, maxBytes);
+    }
+
+    /**
+     * Returns the cached image for the given key, counting a hit or a miss.
+     *
+     * @param key The cache key.
+     * @return The cached image, or null if absent.
+     */
+    synchronized byte[] get(Key key) {
+        byte[] image = entries.get(key);
+        if (image != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return image;
+    }
+
+    /**
+     * Stores an image, evicting least recently used images until the cache fits its bound.
+     * Images larger than the whole cache are not stored.
+     */
+    synchronized void put(Key key, byte[] image) {
+        if (image.length > maxBytes) {
+            return;
+        }
+        byte[] previous = entries.put(key, image);
+        if (previous != null) {
+            bytes -= previous.length;
+        }
+        bytes += image.length;
+        evictToFit();
+    }
+
+    /**
+     * Changes the maximum total size, evicting least recently used images if needed.
+     */
+    synchronized void resize(long newMaxBytes) {
+        this.maxBytes = Math.max(0, newMaxBytes);
+        evictToFit();
+    }
+
+    synchronized QrImageCacheStats stats() {
+        return new QrImageCacheStats(hits.get(), misses.get(), evictions.get(), entries.size(), bytes, maxBytes);
+    }
+
+    private void evictToFit() {
+        Iterator<Map.Entry<Key, byte[]>> iterator = entries.entrySet().iterator();
+        while (bytes > maxBytes && iterator.hasNext()) {
+            bytes -= iterator.next().getValue().length;
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.google.zxing.WriterException;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+import com.google.zxing.qrcode.encoder.Encoder;
+import com.petconnect.backend.common.service.QrImageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Implementation of the {@link QrImageService} interface.
+ * Encodes the QR matrix with ZXing and draws it directly (PNG via ImageIO, SVG as a single path),
+ * keeping the rendered bytes in a {@link QrImageCache} bounded by total size.
+ *
+ * @author ibosquet
+ */
+@Service
+@Slf4j
+public class QrImageServiceImpl implements QrImageService {
+
+    static final int MIN_SIZE = 64;
+    static final int MAX_SIZE = 2048;
+    private static final int QUIET_ZONE_MODULES = 4;
+    private static final long DEFAULT_CACHE_MAX_BYTES = 16L * 1024 * 1024;
+
+    private final QrImageCache cache = new QrImageCache(DEFAULT_CACHE_MAX_BYTES);
+
+    /**
+     * Sets the maximum total size of the rendered images kept in memory.
+     *
+     * @param maxBytes The maximum number of cached bytes.
+     */
+    @Value("${app.certificate.qr-image.cache.max-bytes:" + DEFAULT_CACHE_MAX_BYTES + "}")
+    void setCacheMaxBytes(long maxBytes) {
+        cache.resize(maxBytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] renderQrImage(Long certificateId, String qrData, Format format, int size, String errorCorrection) {
+        if (!StringUtils.hasText(qrData) || format == null) {
+            throw new IllegalArgumentException("QR data and image format are required.");
+        }
+        if (size < MIN_SIZE || size > MAX_SIZE) {
+            throw new IllegalArgumentException("QR image size must be between " + MIN_SIZE + " and " + MAX_SIZE + " pixels.");
+        }
+        ErrorCorrectionLevel level = parseErrorCorrection(errorCorrection);
+
+        QrImageCache.Key key = new QrImageCache.Key(certificateId, format, size, level.name());
+        byte[] cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        ByteMatrix matrix = encode(qrData, level);
+        byte[] image = switch (format) {
+            case PNG -> renderPng(matrix, size);
+            case SVG -> renderSvg(matrix, size);
+        };
+        log.debug("Rendered {} QR image ({}px, level {}) for Certificate ID {}: {} bytes", format, size, level, certificateId, image.length);
+        cache.put(key, image);
+        return image;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public QrImageCacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    // Private methods
+
+    private ErrorCorrectionLevel parseErrorCorrection(String errorCorrection) {
+        if (!StringUtils.hasText(errorCorrection)) {
+            return ErrorCorrectionLevel.M;
+        }
+        try {
+            return ErrorCorrectionLevel.valueOf(errorCorrection.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid QR error correction level '" + errorCorrection + "'. Allowed: L, M, Q, H.");
+        }
+    }
+
+    /**
+     * Encodes the data into a QR module matrix. HC1 strings only use the Base45 alphabet,
+     * so ZXing selects the compact alphanumeric mode.
+     */
+    private ByteMatrix encode(String qrData, ErrorCorrectionLevel level) {
+        try {
+            return Encoder.encode(qrData, level).getMatrix();
+        } catch (WriterException e) {
+            throw new IllegalArgumentException("QR data does not fit in a QR code with error correction level " + level + ".", e);
+        }
+    }
+
+    /**
+     * Draws the matrix as a black and white PNG, using the largest whole number of pixels per module
+     * that fits the requested size and centering the code.
+     */
+    private byte[] renderPng(ByteMatrix matrix, int size) {
+        int modules = matrix.getWidth() + 2 * QUIET_ZONE_MODULES;
+        int imageSize = Math.max(size, modules);
+        int scale = imageSize / modules;
+        int offset = (imageSize - modules * scale) / 2 + QUIET_ZONE_MODULES * scale;
+
+        BufferedImage image = new BufferedImage(imageSize, imageSize, BufferedImage.TYPE_BYTE_BINARY);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, imageSize, imageSize);
+            graphics.setColor(Color.BLACK);
+            for (int y = 0; y < matrix.getHeight(); y++) {
+                for (int x = 0; x < matrix.getWidth(); x++) {
+                    if (matrix.get(x, y) == 1) {
+                        graphics.fillRect(offset + x * scale, offset + y * scale, scale, scale);
+                    }
+                }
+            }
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream(imageSize * imageSize / 32 + 256);
+        try {
+            ImageIO.write(image, "png", output);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode QR image as PNG.", e);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Draws the matrix as an SVG in module units, with one path of horizontal runs of dark modules.
+     */
+    private byte[] renderSvg(ByteMatrix matrix, int size) {
+        int modules = matrix.getWidth() + 2 * QUIET_ZONE_MODULES;
+        StringBuilder svg = new StringBuilder(matrix.getWidth() * matrix.getHeight() * 4);
+        svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append(size)
+                .append("\" height=\"").append(size)
+                .append("\" viewBox=\"0 0 ").append(modules).append(' ').append(modules)
+                .append("\" shape-rendering=\"crispEdges\">")
+                .append("<rect width=\"100%\" height=\"100%\" fill=\"#fff\"/>")
+                .append("<path fill=\"#000\" d=\"");
+        for (int y = 0; y < matrix.getHeight(); y++) {
+            int x = 0;
+            while (x < matrix.getWidth()) {
+                if (matrix.get(x, y) != 1) {
+                    x++;
+                    continue;
+                }
+                int runStart = x;
+                while (x < matrix.getWidth() && matrix.get(x, y) == 1) {
+                    x++;
+                }
+                int run = x - runStart;
+                svg.append('M').append(runStart + QUIET_ZONE_MODULES).append(' ').append(y + QUIET_ZONE_MODULES)
+                        .append('h').append(run).append("v1h-").append(run).append('z');
+            }
+        }
+        svg.append("\"/></svg>");
+        return svg.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
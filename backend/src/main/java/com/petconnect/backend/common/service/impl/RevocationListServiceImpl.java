@@ -0,0 +1,138 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.certificate.domain.repository.CertificateRevocationRepository;
+import com.petconnect.backend.common.service.RevocationListService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of {@link RevocationListService} backed by the certificate revocations in storage.
+ * Readers go through a volatile reference to the current list without locks. A refresh builds a new list,
+ * with its Bloom filter sized for twice the current number of revocations, and swaps it in; certificates
+ * revoked locally are added to the current list in place. The list is loaded when the application is ready
+ * and refreshed periodically, so revocations made by other instances are picked up within one refresh interval.
+ *
+ * @author ibosquet
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RevocationListServiceImpl implements RevocationListService {
+
+    /** False positive rate of the Bloom filter at its sized capacity; false positives cost one hash set lookup. */
+    static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_FILTER_CAPACITY = 1024;
+
+    private final CertificateRevocationRepository certificateRevocationRepository;
+
+    private volatile RevocationList revocationList = RevocationList.empty();
+    /** Numbers registered while a refresh is loading, re-added to the list it builds; null when no refresh is running. */
+    private Set<String> registeredDuringRefresh;
+
+    /**
+     * A revocation list: the Bloom filter and the exact set of revoked certificate numbers.
+     *
+     * @param filter   The Bloom filter of the revoked numbers.
+     * @param revoked  The revoked numbers (concurrent, so numbers can be added while it is read).
+     * @param loadedAt When the list was loaded from storage, or null if it was never loaded.
+     */
+    private record RevocationList(BloomFilter filter, Set<String> revoked, Instant loadedAt) {
+        static RevocationList empty() {
+            return new RevocationList(new BloomFilter(MIN_FILTER_CAPACITY, FALSE_POSITIVE_RATE), ConcurrentHashMap.newKeySet(), null);
+        }
+
+        void add(String certificateNumber) {
+            // Set first, so a number in the filter is always confirmed by the set
+            revoked.add(certificateNumber);
+            filter.put(certificateNumber);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRevoked(String certificateNumber) {
+        if (certificateNumber == null) {
+            return false;
+        }
+        RevocationList current = revocationList;
+        return current.filter().mightContain(certificateNumber) && current.revoked().contains(certificateNumber);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void register(String certificateNumber) {
+        revocationList.add(certificateNumber);
+        if (registeredDuringRefresh != null) {
+            registeredDuringRefresh.add(certificateNumber);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${app.hcert.revocation-list.refresh-interval:PT1M}", initialDelayString = "${app.hcert.revocation-list.refresh-interval:PT1M}")
+    public RevocationListStats refresh() {
+        synchronized (this) {
+            registeredDuringRefresh = new HashSet<>();
+        }
+        List<String> numbers;
+        try {
+            numbers = certificateRevocationRepository.findAllCertificateNumbers();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                registeredDuringRefresh = null;
+            }
+            throw e;
+        }
+        Set<String> revoked = ConcurrentHashMap.newKeySet(numbers.size());
+        RevocationList loaded = new RevocationList(
+                new BloomFilter(Math.max(MIN_FILTER_CAPACITY, numbers.size() * 2), FALSE_POSITIVE_RATE), revoked, Instant.now());
+        numbers.forEach(loaded::add);
+        synchronized (this) {
+            registeredDuringRefresh.forEach(loaded::add);
+            registeredDuringRefresh = null;
+            revocationList = loaded;
+        }
+        RevocationListStats stats = getStats();
+        log.info("Revocation list refreshed: {}", stats);
+        return stats;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RevocationListStats getStats() {
+        RevocationList current = revocationList;
+        return new RevocationListStats(current.revoked().size(), current.filter().sizeInBytes(), current.loadedAt());
+    }
+
+    /**
+     * Loads the revocation list once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("Loading the revocation list on startup failed: {}", e.getMessage(), e);
+        }
+    }
+}
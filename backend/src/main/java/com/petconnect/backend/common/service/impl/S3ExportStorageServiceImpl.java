@@ -0,0 +1,125 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.common.service.ExportStorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of ExportStorageService for storing exports in AWS S3.
+ * Content is uploaded with a multipart upload while it is written, holding a single part in memory,
+ * and the object only appears once the upload is completed.
+ * Exports go to a dedicated bucket ({@code aws.s3.bucket.exports}), which must be configured: they never share
+ * the private keys bucket.
+ * The export service deletes archives after {@code app.clinic-export.retention}; as a backstop for archives
+ * orphaned while the application was down, the bucket should also carry a lifecycle rule that expires objects
+ * under {@code clinics/} a day after the retention period and aborts incomplete multipart uploads after one day.
+ * Active only when the 'prod' profile is active.
+ *
+ * @author ibosquet
+ */
+@Service
+@Profile("prod")
+@RequiredArgsConstructor
+@Slf4j
+public class S3ExportStorageServiceImpl implements ExportStorageService {
+
+    private final S3Client s3Client;
+
+    @Value("${aws.s3.bucket.exports}")
+    private String exportsBucketName;
+
+    @Value("${app.exports.s3.part-size:8388608}")
+    private int partSize = 8 * 1024 * 1024;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void store(String key, String contentType, ContentWriter writer) throws IOException {
+        validateKey(key);
+        S3MultipartUploadOutputStream out = new S3MultipartUploadOutputStream(s3Client, exportsBucketName, key, contentType, partSize);
+        try {
+            writer.writeTo(out);
+            out.complete();
+        } catch (IOException | RuntimeException e) {
+            try {
+                out.abort();
+            } catch (SdkException abortFailure) {
+                log.error("Failed to abort the upload of export {}: {}", key, abortFailure.getMessage());
+            }
+            if (e instanceof SdkException) {
+                throw new IOException("Failed to upload export " + key + " to S3.", e);
+            }
+            throw e;
+        }
+        log.info("Stored export in S3. Bucket: {}, Key: {}", exportsBucketName, key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream open(String key) throws IOException {
+        validateKey(key);
+        try {
+            return s3Client.getObject(GetObjectRequest.builder().bucket(exportsBucketName).key(key).build());
+        } catch (SdkException e) {
+            throw new IOException("Failed to read export " + key + " from S3.", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delete(String key) {
+        if (!StringUtils.hasText(key)) {
+            return;
+        }
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(exportsBucketName).key(key).build());
+            log.info("Deleted export from S3. Bucket: {}, Key: {}", exportsBucketName, key);
+        } catch (SdkException e) {
+            log.error("Failed to delete export from S3. Bucket: {}, Key: {}. Error: {}", exportsBucketName, key, e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<StoredExport> list(String prefix) throws IOException {
+        validateKey(prefix);
+        List<StoredExport> exports = new ArrayList<>();
+        try {
+            s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder().bucket(exportsBucketName).prefix(prefix).build())
+                    .contents()
+                    .forEach(object -> exports.add(new StoredExport(object.key(), object.lastModified())));
+        } catch (SdkException e) {
+            throw new IOException("Failed to list exports under " + prefix + " in S3.", e);
+        }
+        return exports;
+    }
+
+    // Private methods
+
+    private void validateKey(String key) {
+        if (!StringUtils.hasText(key) || key.contains("..") || key.startsWith("/")) {
+            throw new IllegalArgumentException("Invalid export key: " + key);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.petconnect.backend.common.service.impl;
 
+import com.petconnect.backend.common.helper.KeyAlgorithmUtils;
 import com.petconnect.backend.common.helper.Utils;
 import com.petconnect.backend.common.service.KeyStorageService;
 import jakarta.annotation.PostConstruct;
@@ -60,6 +61,7 @@ public class S3KeyStorageServiceImpl implements KeyStorageService {
 
     @Override
     public String storePublicKey(MultipartFile file, String subDirectory, String desiredFilenameBase) throws IOException {
+        KeyAlgorithmUtils.validatePublicKey(file, subDirectory, desiredFilenameBase);
         return storeKeyFileToS3(file, subDirectory, desiredFilenameBase, "Public");
     }
 
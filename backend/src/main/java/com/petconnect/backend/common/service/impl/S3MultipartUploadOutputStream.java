@@ -0,0 +1,133 @@
+package com.petconnect.backend.common.service.impl;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Output stream uploading its content to S3 in fixed-size parts, used by {@link S3ExportStorageServiceImpl}.
+ * Only one part is buffered in memory at a time. Content smaller than one part is sent with a single
+ * {@code PutObject} request instead of a multipart upload.
+ * Closing the stream does not store anything: the object is created by {@link #complete()},
+ * and a started upload is discarded by {@link #abort()}.
+ *
+ * @author ibosquet
+ */
+class S3MultipartUploadOutputStream extends OutputStream {
+
+    /** Smallest part size accepted by S3 for all but the last part. */
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String key;
+    private final String contentType;
+    private final byte[] buffer;
+    private final List<CompletedPart> parts = new ArrayList<>();
+    private int position;
+    private String uploadId;
+    private boolean finished;
+
+    S3MultipartUploadOutputStream(S3Client s3Client, String bucket, String key, String contentType, int partSize) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.key = key;
+        this.contentType = contentType;
+        this.buffer = new byte[Math.max(MIN_PART_SIZE, partSize)];
+    }
+
+    @Override
+    public void write(int b) {
+        ensureOpen();
+        if (position == buffer.length) {
+            uploadPart();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        ensureOpen();
+        while (length > 0) {
+            if (position == buffer.length) {
+                uploadPart();
+            }
+            int chunk = Math.min(length, buffer.length - position);
+            System.arraycopy(bytes, offset, buffer, position, chunk);
+            position += chunk;
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    /**
+     * Does nothing: the object is only created by {@link #complete()}.
+     */
+    @Override
+    public void close() {
+        // Closing must not commit partial content (e.g., when a writer fails inside try-with-resources)
+    }
+
+    /**
+     * Uploads the buffered content and creates the object.
+     */
+    void complete() {
+        ensureOpen();
+        finished = true;
+        if (uploadId == null) {
+            s3Client.putObject(PutObjectRequest.builder().bucket(bucket).key(key).contentType(contentType).build(),
+                    RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, position), position));
+            return;
+        }
+        if (position > 0) {
+            uploadPart();
+        }
+        s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build());
+    }
+
+    /**
+     * Discards the parts uploaded so far. Nothing is stored.
+     */
+    void abort() {
+        finished = true;
+        if (uploadId != null) {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder().bucket(bucket).key(key).uploadId(uploadId).build());
+        }
+    }
+
+    // Private methods
+
+    private void uploadPart() {
+        if (uploadId == null) {
+            uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucket).key(key).contentType(contentType).build()).uploadId();
+        }
+        int partNumber = parts.size() + 1;
+        String eTag = s3Client.uploadPart(UploadPartRequest.builder().bucket(bucket).key(key).uploadId(uploadId).partNumber(partNumber).build(),
+                RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, position), position)).eTag();
+        parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+        position = 0;
+    }
+
+    private void ensureOpen() {
+        if (finished) {
+            throw new IllegalStateException("Upload of " + key + " is already finished.");
+        }
+    }
+}
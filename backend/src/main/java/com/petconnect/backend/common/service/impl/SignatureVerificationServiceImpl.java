@@ -0,0 +1,213 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.certificate.domain.model.Certificate;
+import com.petconnect.backend.certificate.domain.model.CertificatePayloadFormat;
+import com.petconnect.backend.common.helper.CertificatePayloadCodec;
+import com.petconnect.backend.common.helper.RecordHelper;
+import com.petconnect.backend.common.service.HashingService;
+import com.petconnect.backend.common.service.SignatureVerificationService;
+import com.petconnect.backend.common.service.SigningService;
+import com.petconnect.backend.record.application.dto.CertificateSignatureStatusDto;
+import com.petconnect.backend.record.application.dto.RecordSignatureStatusDto;
+import com.petconnect.backend.record.application.dto.SignatureVerificationReportDto;
+import com.petconnect.backend.record.domain.model.Record;
+import com.petconnect.backend.record.domain.model.RecordType;
+import com.petconnect.backend.user.domain.model.Clinic;
+import com.petconnect.backend.user.domain.model.Vet;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.PublicKey;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of {@link SignatureVerificationService}.
+ * Entity data (signable strings, signatures, public keys) is read on the calling thread, inside its
+ * transaction; only the detached values are handed to a bounded worker pool for the actual checks.
+ * When the pool queue is full, the calling thread runs the check itself.
+ *
+ * @author ibosquet
+ */
+@Service
+@Slf4j
+public class SignatureVerificationServiceImpl implements SignatureVerificationService {
+
+    private final SigningService signingService;
+    private final HashingService hashingService;
+    private final RecordHelper recordHelper;
+    private final ExecutorService verificationExecutor;
+
+    @Autowired
+    public SignatureVerificationServiceImpl(SigningService signingService,
+                                            HashingService hashingService,
+                                            RecordHelper recordHelper,
+                                            @Value("${app.signature-verification.threads:0}") int threads,
+                                            @Value("${app.signature-verification.queue-capacity:1000}") int queueCapacity) {
+        this(signingService, hashingService, recordHelper, newVerificationExecutor(threads, queueCapacity));
+    }
+
+    SignatureVerificationServiceImpl(SigningService signingService,
+                                     HashingService hashingService,
+                                     RecordHelper recordHelper,
+                                     ExecutorService verificationExecutor) {
+        this.signingService = signingService;
+        this.hashingService = hashingService;
+        this.recordHelper = recordHelper;
+        this.verificationExecutor = verificationExecutor;
+    }
+
+    /**
+     * Result of resolving a public key: either the key or the reason it could not be loaded.
+     */
+    private record KeyLookup(PublicKey key, String error) {}
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SignatureVerificationReportDto verifyPetHistory(Long petId, List<Record> records, List<Certificate> certificates) {
+        long start = System.nanoTime();
+        Map<String, KeyLookup> keys = new HashMap<>();
+
+        List<CompletableFuture<RecordSignatureStatusDto>> recordChecks = records.stream()
+                .map(recordEntity -> submitRecordCheck(recordEntity, keys))
+                .toList();
+        List<CompletableFuture<CertificateSignatureStatusDto>> certificateChecks = certificates.stream()
+                .map(certificate -> submitCertificateCheck(certificate, keys))
+                .toList();
+
+        List<RecordSignatureStatusDto> recordResults = recordChecks.stream().map(CompletableFuture::join).toList();
+        List<CertificateSignatureStatusDto> certificateResults = certificateChecks.stream().map(CompletableFuture::join).toList();
+
+        int recordsValid = (int) recordResults.stream().filter(RecordSignatureStatusDto::valid).count();
+        int certificatesValid = (int) certificateResults.stream().filter(CertificateSignatureStatusDto::valid).count();
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        boolean allValid = recordsValid == recordResults.size() && certificatesValid == certificateResults.size();
+
+        log.info("Verified signatures of Pet {}: {}/{} records and {}/{} certificates valid, {} distinct keys, {} ms.",
+                petId, recordsValid, recordResults.size(), certificatesValid, certificateResults.size(), keys.size(), durationMillis);
+        return new SignatureVerificationReportDto(petId, allValid, recordResults.size(), recordsValid,
+                certificateResults.size(), certificatesValid, durationMillis, recordResults, certificateResults);
+    }
+
+    /**
+     * Shuts down the verification worker pool when the application stops.
+     */
+    @PreDestroy
+    public void shutdown() {
+        verificationExecutor.shutdown();
+    }
+
+    // Private methods
+
+    private CompletableFuture<RecordSignatureStatusDto> submitRecordCheck(Record recordEntity, Map<String, KeyLookup> keys) {
+        Long recordId = recordEntity.getId();
+        RecordType type = recordEntity.getType();
+        Long vetId = recordEntity.getCreator() != null ? recordEntity.getCreator().getId() : null;
+        String data;
+        try {
+            data = recordHelper.buildSignableData(recordEntity);
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(new RecordSignatureStatusDto(recordId, type, vetId, false, e.getMessage()));
+        }
+        KeyLookup vetKey = resolveVetKey((Vet) recordEntity.getCreator(), keys);
+        if (vetKey.key() == null) {
+            return CompletableFuture.completedFuture(new RecordSignatureStatusDto(recordId, type, vetId, false, vetKey.error()));
+        }
+        String signature = recordEntity.getVetSignature();
+        return CompletableFuture.supplyAsync(() -> new RecordSignatureStatusDto(recordId, type, vetId,
+                signingService.verifySignature(vetKey.key(), data, signature), null), verificationExecutor);
+    }
+
+    private CompletableFuture<CertificateSignatureStatusDto> submitCertificateCheck(Certificate certificate, Map<String, KeyLookup> keys) {
+        Long certificateId = certificate.getId();
+        String certificateNumber = certificate.getCertificateNumber();
+        KeyLookup vetKey = resolveVetKey(certificate.getGeneratorVet(), keys);
+        KeyLookup clinicKey = resolveClinicKey(certificate.getIssuingClinic(), keys);
+        if (vetKey.key() == null || clinicKey.key() == null) {
+            String error = vetKey.key() == null ? vetKey.error() : clinicKey.error();
+            return CompletableFuture.completedFuture(new CertificateSignatureStatusDto(certificateId, certificateNumber, false, false, false, false, error));
+        }
+        String payload = certificate.getPayload();
+        CertificatePayloadFormat payloadFormat = certificate.resolvePayloadFormat();
+        String hash = certificate.getHash();
+        String vetSignature = certificate.getVetSignature();
+        String clinicSignature = certificate.getClinicSignature();
+        return CompletableFuture.supplyAsync(() -> {
+            boolean payloadIntact;
+            try {
+                payloadIntact = hash != null && hash.equals(hashCertificatePayload(payload, payloadFormat));
+            } catch (RuntimeException e) {
+                payloadIntact = false;
+            }
+            boolean vetValid = signingService.verifySignature(vetKey.key(), hash, vetSignature);
+            boolean clinicValid = signingService.verifySignature(clinicKey.key(), hash, clinicSignature);
+            return new CertificateSignatureStatusDto(certificateId, certificateNumber, payloadIntact, vetValid, clinicValid,
+                    payloadIntact && vetValid && clinicValid, null);
+        }, verificationExecutor);
+    }
+
+    /**
+     * Recomputes the hash of a stored certificate payload over the bytes that were signed for its format.
+     */
+    private String hashCertificatePayload(String payload, CertificatePayloadFormat payloadFormat) {
+        if (payloadFormat == CertificatePayloadFormat.CBOR_V2) {
+            return hashingService.hashBytes(CertificatePayloadCodec.toCbor(CertificatePayloadCodec.fromJson(payload)));
+        }
+        return hashingService.hashString(payload);
+    }
+
+    private KeyLookup resolveVetKey(Vet vet, Map<String, KeyLookup> keys) {
+        if (vet == null) {
+            return new KeyLookup(null, "Signer vet is missing.");
+        }
+        return resolveKey(keys, "vet:" + vet.getId() + ":" + vet.getVetPublicKey(), () -> signingService.getVetPublicKey(vet));
+    }
+
+    private KeyLookup resolveClinicKey(Clinic clinic, Map<String, KeyLookup> keys) {
+        if (clinic == null) {
+            return new KeyLookup(null, "Issuing clinic is missing.");
+        }
+        return resolveKey(keys, "clinic:" + clinic.getId() + ":" + clinic.getPublicKey(), () -> signingService.getClinicPublicKey(clinic));
+    }
+
+    /**
+     * Resolves each distinct key once per verification, remembering failures too so a missing
+     * key file is not read again for every record it signed.
+     */
+    private KeyLookup resolveKey(Map<String, KeyLookup> keys, String lookupKey, Supplier<PublicKey> loader) {
+        return keys.computeIfAbsent(lookupKey, k -> {
+            try {
+                return new KeyLookup(loader.get(), null);
+            } catch (RuntimeException e) {
+                log.warn("Public key {} could not be loaded for signature verification: {}", k, e.getMessage());
+                return new KeyLookup(null, "Public key could not be loaded: " + e.getMessage());
+            }
+        });
+    }
+
+    private static ExecutorService newVerificationExecutor(int threads, int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCounter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "signature-verification-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
@@ -3,6 +3,7 @@ package com.petconnect.backend.common.service.impl;
 import com.petconnect.backend.common.service.KeyStorageService;
 import com.petconnect.backend.common.service.SigningService;
 import com.petconnect.backend.user.domain.model.Clinic;
+import com.petconnect.backend.user.domain.model.SignatureAlgorithm;
 import com.petconnect.backend.user.domain.model.Vet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,25 +20,25 @@ import org.bouncycastle.operator.InputDecryptorProvider;
 import org.bouncycastle.operator.OperatorCreationException;
 import org.bouncycastle.pkcs.PKCSException;
 import org.bouncycastle.pkcs.PKCS8EncryptedPrivateKeyInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import java.io.*;
 import java.security.PrivateKey;
 import java.security.PublicKey;
-import java.security.KeyFactory;
 import java.nio.charset.StandardCharsets;
 import java.security.*;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
-import java.security.spec.InvalidKeySpecException;
-import java.security.spec.X509EncodedKeySpec;
 import java.util.Arrays;
 import java.util.Base64;
 
 /**
  * Service responsible for handling digital signature creation and verification
- * using RSA and SHA256withRSA algorithm via BouncyCastle provider.
+ * via BouncyCastle provider. The signature algorithm is chosen from the key type
+ * (RSA, EC P-256 or Ed25519), see {@link SignatureAlgorithm}.
  * Handles loading simulated private keys and stored public keys.
  *
  * @author ibosquet
@@ -47,7 +48,12 @@ import java.util.Base64;
 @Slf4j
 public class SigningServiceImpl implements SigningService {
 
+    private static final int DEFAULT_PUBLIC_KEY_CACHE_SIZE = 256;
+    private static final String PATH_CACHE_PREFIX = "path:";
+    private static final String CONTENT_CACHE_PREFIX = "sha256:";
+
     private final KeyStorageService keyStorageService;
+    private final PublicKeyCache publicKeyCache = new PublicKeyCache(DEFAULT_PUBLIC_KEY_CACHE_SIZE);
 
     // --- Static Initializer for BouncyCastle ---
     static {
@@ -57,30 +63,30 @@ public class SigningServiceImpl implements SigningService {
         }
     }
 
+    /**
+     * Sets the maximum number of parsed public keys kept in memory.
+     *
+     * @param maxSize The maximum number of cached public keys.
+     */
+    @Value("${app.signing.public-key-cache.max-size:" + DEFAULT_PUBLIC_KEY_CACHE_SIZE + "}")
+    void setPublicKeyCacheMaxSize(int maxSize) {
+        publicKeyCache.resize(maxSize);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public String generateVetSignature(Vet vet, String dataToSign, char[] vetKeyPassword) {
-        if (vet == null || !StringUtils.hasText(vet.getVetPrivateKey())) {
-            log.error("Vet or vetPrivateKey path (S3 key) is missing for Vet ID: {}", vet != null ? vet.getId() : "null");
-            throw new IllegalArgumentException("Veterinarian's private key S3 key not configured.");
-        }
-        if (vetKeyPassword == null || vetKeyPassword.length == 0) {
-            log.error("Password for Vet's private key (ID: {}) was not provided.", vet.getId());
-            throw new IllegalArgumentException("Password for veterinarian's private key is required for signing.");
-        }
+        validateVetKeyRequest(vet, vetKeyPassword);
 
         log.info("Attempting to generate Vet signature for Vet ID: {}", vet.getId());
-        try (InputStream privateKeyStream = keyStorageService.getPrivateKeyContent(vet.getVetPrivateKey())) {
-            PrivateKey vetPrivateKeyLoaded = loadPrivateKeyFromPEMStream(privateKeyStream, vetKeyPassword, "Vet " + vet.getId());
+        try {
+            PrivateKey vetPrivateKeyLoaded = readVetPrivateKey(vet, vetKeyPassword);
             return signData(vetPrivateKeyLoaded, dataToSign);
         } catch (Exception e) {
             log.error("Error generating Vet signature for Vet ID {}: {}", vet.getId(), e.getMessage(), e);
-            if (e instanceof PEMException || e instanceof PKCSException ||
-                    (e.getCause() instanceof IOException && e.getCause().getMessage() != null &&
-                            e.getCause().getMessage().contains("AEADBadTagException")) ||
-                    (e.getMessage() != null && e.getMessage().contains("decryption failed"))) {
+            if (isDecryptionFailure(e)) {
                 throw new RuntimeException("Failed to decrypt Vet private key. Incorrect password or key format for Vet ID " + vet.getId() + ".", e);
             }
             throw new RuntimeException("Failed to generate Vet digital signature for Vet ID " + vet.getId() + ".", e);
@@ -89,29 +95,56 @@ public class SigningServiceImpl implements SigningService {
         }
    }
 
-     /**
+    /**
      * {@inheritDoc}
      */
     @Override
-    public String generateClinicSignature(Clinic clinic, String dataToSign, char[] clinicKeyPassword ) {
-        if (clinic == null || !StringUtils.hasText(clinic.getPrivateKey())) {
-            log.error("Clinic or privateKey path is missing for Clinic ID: {}", clinic != null ? clinic.getId() : "null");
-            throw new IllegalArgumentException("Clinic's private key path not configured.");
+    public PrivateKey loadVetPrivateKey(Vet vet, char[] vetKeyPassword) {
+        validateVetKeyRequest(vet, vetKeyPassword);
+
+        log.info("Attempting to unlock Vet private key for Vet ID: {}", vet.getId());
+        try {
+            return readVetPrivateKey(vet, vetKeyPassword);
+        } catch (Exception e) {
+            log.error("Error unlocking Vet private key for Vet ID {}: {}", vet.getId(), e.getMessage(), e);
+            if (isDecryptionFailure(e)) {
+                throw new RuntimeException("Failed to decrypt Vet private key. Incorrect password or key format for Vet ID " + vet.getId() + ".", e);
+            }
+            throw new RuntimeException("Failed to load Vet private key for Vet ID " + vet.getId() + ".", e);
+        } finally {
+            Arrays.fill(vetKeyPassword, ' ');
         }
-        if (clinicKeyPassword == null || clinicKeyPassword.length == 0) {
-            log.error("Password for Clinic's private key (ID: {}) was not provided.", clinic.getId());
-            throw new IllegalArgumentException("Password for clinic's private key is required for signing.");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String signWithPrivateKey(PrivateKey privateKey, String dataToSign) {
+        if (privateKey == null) {
+            throw new IllegalArgumentException("Private key is required for signing.");
+        }
+        try {
+            return signData(privateKey, dataToSign);
+        } catch (GeneralSecurityException e) {
+            log.error("Error generating signature with unlocked private key: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to generate Vet digital signature with unlocked key.", e);
         }
+    }
+
+     /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String generateClinicSignature(Clinic clinic, String dataToSign, char[] clinicKeyPassword ) {
+        validateClinicKeyRequest(clinic, clinicKeyPassword);
         log.info("Attempting to generate Clinic signature for Clinic ID: {}", clinic.getId());
-        try (InputStream privateKeyStream = keyStorageService.getPrivateKeyContent(clinic.getPrivateKey())) {
-            PrivateKey clinicPkLoaded = loadPrivateKeyFromPEMStream(privateKeyStream, clinicKeyPassword, "Clinic " + clinic.getId());
+        try {
+            PrivateKey clinicPkLoaded = readClinicPrivateKey(clinic, clinicKeyPassword);
             return signData(clinicPkLoaded, dataToSign);
         } catch (Exception e) {
             log.error("Error generating Clinic signature for Clinic ID {}: {}", clinic.getId(), e.getMessage(), e);
-            if (e instanceof PEMException || e instanceof PKCSException ||
-                    (e.getCause() instanceof IOException && e.getCause().getMessage() != null &&
-                            e.getCause().getMessage().contains("AEADBadTagException")) ||
-                    (e.getMessage() != null && e.getMessage().contains("decryption failed"))) {
+            if (isDecryptionFailure(e)) {
                 throw new RuntimeException("Failed to decrypt Clinic private key. Incorrect password or key format for Clinic ID " + clinic.getId() + ".", e);
             }
             throw new RuntimeException("Failed to generate Clinic digital signature for Clinic ID " + clinic.getId() + ".", e);
@@ -120,6 +153,27 @@ public class SigningServiceImpl implements SigningService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PrivateKey loadClinicPrivateKey(Clinic clinic, char[] clinicKeyPassword) {
+        validateClinicKeyRequest(clinic, clinicKeyPassword);
+
+        log.info("Attempting to unlock Clinic private key for Clinic ID: {}", clinic.getId());
+        try {
+            return readClinicPrivateKey(clinic, clinicKeyPassword);
+        } catch (Exception e) {
+            log.error("Error unlocking Clinic private key for Clinic ID {}: {}", clinic.getId(), e.getMessage(), e);
+            if (isDecryptionFailure(e)) {
+                throw new RuntimeException("Failed to decrypt Clinic private key. Incorrect password or key format for Clinic ID " + clinic.getId() + ".", e);
+            }
+            throw new RuntimeException("Failed to load Clinic private key for Clinic ID " + clinic.getId() + ".", e);
+        } finally {
+            Arrays.fill(clinicKeyPassword, ' ');
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -130,9 +184,15 @@ public class SigningServiceImpl implements SigningService {
             throw new IllegalArgumentException("Vet or Vet's public key path is missing.");
         }
         String publicKeyRelativePath = vet.getVetPublicKey();
+        PublicKey cachedKey = publicKeyCache.get(PATH_CACHE_PREFIX + publicKeyRelativePath);
+        if (cachedKey != null) {
+            return cachedKey;
+        }
         log.info("Attempting to load Vet public key from relative path: {}", publicKeyRelativePath);
         try (InputStream publicKeyStream = keyStorageService.getPublicKeyContent(publicKeyRelativePath)) {
-            return loadPublicKeyFromPemStream(publicKeyStream, "Vet " + vet.getId());
+            PublicKey publicKey = loadPublicKeyFromPemStream(publicKeyStream, "Vet " + vet.getId());
+            publicKeyCache.put(PATH_CACHE_PREFIX + publicKeyRelativePath, publicKey);
+            return publicKey;
         } catch (IOException e) {
             log.error("IOException loading Vet public key from path {}: {}", publicKeyRelativePath, e.getMessage(), e);
             throw new RuntimeException("Could not read Vet public key file: " + publicKeyRelativePath, e);
@@ -155,9 +215,15 @@ public class SigningServiceImpl implements SigningService {
             throw new IllegalArgumentException("Clinic or Clinic's public key path is missing.");
         }
         String publicKeyRelativePath = clinic.getPublicKey();
+        PublicKey cachedKey = publicKeyCache.get(PATH_CACHE_PREFIX + publicKeyRelativePath);
+        if (cachedKey != null) {
+            return cachedKey;
+        }
         log.info("Attempting to load Clinic public key from relative path: {}", publicKeyRelativePath);
         try  (InputStream publicKeyStream = keyStorageService.getPublicKeyContent(publicKeyRelativePath)) {
-            return loadPublicKeyFromPemStream(publicKeyStream, "Clinic " + clinic.getId());
+            PublicKey publicKey = loadPublicKeyFromPemStream(publicKeyStream, "Clinic " + clinic.getId());
+            publicKeyCache.put(PATH_CACHE_PREFIX + publicKeyRelativePath, publicKey);
+            return publicKey;
         } catch (IOException e) {
             log.error("IOException loading Clinic public key from path {}: {}", publicKeyRelativePath, e.getMessage(), e);
             throw new RuntimeException("Could not read Clinic public key file: " + publicKeyRelativePath, e);
@@ -179,12 +245,30 @@ public class SigningServiceImpl implements SigningService {
             log.warn("Verification skipped: Missing public key content, data, or signature.");
             return false;
         }
+        PublicKey publicKey;
+        try {
+            publicKey = resolvePublicKeyFromContent(publicKeyPemB64);
+        } catch (Exception e) {
+            log.error("Error parsing public key for signature verification: {}", e.getMessage(), e);
+            return false;
+        }
+        return verifySignature(publicKey, originalData, signatureB64);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean verifySignature(PublicKey publicKey, String originalData, String signatureB64) {
+        if (publicKey == null || !StringUtils.hasText(originalData) || !StringUtils.hasText(signatureB64)) {
+            log.warn("Verification skipped: Missing public key, data, or signature.");
+            return false;
+        }
         log.debug("Verifying signature...");
         try {
-            PublicKey publicKey = loadPublicKeyFromPemStringContent(publicKeyPemB64);
             byte[] signatureBytes = Base64.getDecoder().decode(signatureB64);
 
-            Signature signature = Signature.getInstance("SHA256withRSA", BouncyCastleProvider.PROVIDER_NAME);
+            Signature signature = Signature.getInstance(SignatureAlgorithm.forKey(publicKey).getJcaName(), BouncyCastleProvider.PROVIDER_NAME);
             signature.initVerify(publicKey);
             signature.update(originalData.getBytes(StandardCharsets.UTF_8));
 
@@ -197,8 +281,133 @@ public class SigningServiceImpl implements SigningService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SignatureAlgorithm getVetSignatureAlgorithm(Vet vet) {
+        return SignatureAlgorithm.forKey(getVetPublicKey(vet));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SignatureAlgorithm getClinicSignatureAlgorithm(Clinic clinic) {
+        return SignatureAlgorithm.forKey(getClinicPublicKey(clinic));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evictPublicKey(String publicKeyPath) {
+        if (StringUtils.hasText(publicKeyPath) && publicKeyCache.remove(PATH_CACHE_PREFIX + publicKeyPath)) {
+            log.info("Evicted cached public key for path: {}", publicKeyPath);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PublicKeyCacheStats getPublicKeyCacheStats() {
+        return publicKeyCache.stats();
+    }
+
+    /**
+     * Periodically logs the public key cache counters, to help size the cache.
+     */
+    @Scheduled(fixedDelayString = "${app.signing.public-key-cache.stats-log-interval:PT1H}")
+    public void logPublicKeyCacheStats() {
+        PublicKeyCacheStats stats = publicKeyCache.stats();
+        if (stats.hits() + stats.misses() > 0) {
+            log.info("Public key cache stats: {}", stats);
+        }
+    }
+
     // Private methods
 
+    /**
+     * Returns the parsed public key for the given PEM/Base64 content, using the cache keyed by
+     * a SHA-256 fingerprint of the content so the same key is only parsed once.
+     */
+    private PublicKey resolvePublicKeyFromContent(String publicKeyPemContent) throws Exception {
+        String cacheKey = CONTENT_CACHE_PREFIX + fingerprint(publicKeyPemContent);
+        PublicKey cachedKey = publicKeyCache.get(cacheKey);
+        if (cachedKey != null) {
+            return cachedKey;
+        }
+        PublicKey publicKey = loadPublicKeyFromPemStringContent(publicKeyPemContent);
+        publicKeyCache.put(cacheKey, publicKey);
+        return publicKey;
+    }
+
+    /**
+     * Computes a Base64 encoded SHA-256 fingerprint of the given content.
+     */
+    private String fingerprint(String content) throws NoSuchAlgorithmException {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    /**
+     * Validates that the vet has a private key configured and that a password was provided.
+     */
+    private void validateVetKeyRequest(Vet vet, char[] vetKeyPassword) {
+        if (vet == null || !StringUtils.hasText(vet.getVetPrivateKey())) {
+            log.error("Vet or vetPrivateKey path (S3 key) is missing for Vet ID: {}", vet != null ? vet.getId() : "null");
+            throw new IllegalArgumentException("Veterinarian's private key S3 key not configured.");
+        }
+        if (vetKeyPassword == null || vetKeyPassword.length == 0) {
+            log.error("Password for Vet's private key (ID: {}) was not provided.", vet.getId());
+            throw new IllegalArgumentException("Password for veterinarian's private key is required for signing.");
+        }
+    }
+
+    /**
+     * Validates that the clinic has a private key configured and that a password was provided.
+     */
+    private void validateClinicKeyRequest(Clinic clinic, char[] clinicKeyPassword) {
+        if (clinic == null || !StringUtils.hasText(clinic.getPrivateKey())) {
+            log.error("Clinic or privateKey path is missing for Clinic ID: {}", clinic != null ? clinic.getId() : "null");
+            throw new IllegalArgumentException("Clinic's private key path not configured.");
+        }
+        if (clinicKeyPassword == null || clinicKeyPassword.length == 0) {
+            log.error("Password for Clinic's private key (ID: {}) was not provided.", clinic.getId());
+            throw new IllegalArgumentException("Password for clinic's private key is required for signing.");
+        }
+    }
+
+    /**
+     * Reads the clinic's encrypted private key from storage and decrypts it.
+     */
+    private PrivateKey readClinicPrivateKey(Clinic clinic, char[] clinicKeyPassword) throws Exception {
+        try (InputStream privateKeyStream = keyStorageService.getPrivateKeyContent(clinic.getPrivateKey())) {
+            return loadPrivateKeyFromPEMStream(privateKeyStream, clinicKeyPassword, "Clinic " + clinic.getId());
+        }
+    }
+
+    /**
+     * Reads the vet's encrypted private key from storage and decrypts it.
+     */
+    private PrivateKey readVetPrivateKey(Vet vet, char[] vetKeyPassword) throws Exception {
+        try (InputStream privateKeyStream = keyStorageService.getPrivateKeyContent(vet.getVetPrivateKey())) {
+            return loadPrivateKeyFromPEMStream(privateKeyStream, vetKeyPassword, "Vet " + vet.getId());
+        }
+    }
+
+    /**
+     * Checks whether an exception raised while loading a private key was caused by a failed decryption
+     * (typically an incorrect password).
+     */
+    private boolean isDecryptionFailure(Exception e) {
+        return e instanceof PEMException || e instanceof PKCSException ||
+                (e.getCause() instanceof IOException && e.getCause().getMessage() != null &&
+                        e.getCause().getMessage().contains("AEADBadTagException")) ||
+                (e.getMessage() != null && e.getMessage().contains("decryption failed"));
+    }
+
     /**
      * Loads a private key from a PEM-encoded input stream.
      * The method supports both encrypted and unencrypted keys and uses the BouncyCastle library for parsing and decryption.
@@ -291,6 +500,7 @@ public class SigningServiceImpl implements SigningService {
 
     /**
      * Performs the actual signing operation using the provided key and data.
+     * The signature algorithm is derived from the key type.
      *
      * @param privateKey The private key to use for signing.
      * @param dataToSign The data string to sign.
@@ -298,14 +508,17 @@ public class SigningServiceImpl implements SigningService {
      * @throws GeneralSecurityException If a signing error occurs.
      */
     private String signData(PrivateKey privateKey, String dataToSign) throws GeneralSecurityException {
-        Signature signature = Signature.getInstance("SHA256withRSA", BouncyCastleProvider.PROVIDER_NAME);
+        Signature signature = Signature.getInstance(SignatureAlgorithm.forKey(privateKey).getJcaName(), BouncyCastleProvider.PROVIDER_NAME);
         signature.initSign(privateKey);
         signature.update(dataToSign.getBytes(StandardCharsets.UTF_8));
         byte[] signatureBytes = signature.sign();
         return Base64.getEncoder().encodeToString(signatureBytes);
     }
 
-
+    /**
+     * Parses public key content (PEM or bare Base64 of a SubjectPublicKeyInfo or X.509 certificate).
+     * Any key algorithm known to BouncyCastle is accepted; whether it can sign is decided by {@link SignatureAlgorithm}.
+     */
     private PublicKey loadPublicKeyFromPemStringContent(String publicKeyPemContent) throws Exception {
         String pureBase64 = publicKeyPemContent
                 .replace("-----BEGIN PUBLIC KEY-----", "")
@@ -316,17 +529,16 @@ public class SigningServiceImpl implements SigningService {
         byte[] keyBytes = Base64.getDecoder().decode(pureBase64);
 
         try {
-            X509EncodedKeySpec spec = new X509EncodedKeySpec(keyBytes);
-            KeyFactory kf = KeyFactory.getInstance("RSA", BouncyCastleProvider.PROVIDER_NAME);
-            return kf.generatePublic(spec);
-        } catch (InvalidKeySpecException e) {
-            log.warn("Failed to parse as X509EncodedKeySpec, attempting as Certificate for content of length: {}", publicKeyPemContent.length());
+            SubjectPublicKeyInfo keyInfo = SubjectPublicKeyInfo.getInstance(keyBytes);
+            return new JcaPEMKeyConverter().setProvider(BouncyCastleProvider.PROVIDER_NAME).getPublicKey(keyInfo);
+        } catch (IllegalArgumentException | PEMException e) {
+            log.warn("Failed to parse as SubjectPublicKeyInfo, attempting as Certificate for content of length: {}", publicKeyPemContent.length());
             try (InputStream certStream = new ByteArrayInputStream(keyBytes)) {
                 CertificateFactory cf = CertificateFactory.getInstance("X.509", BouncyCastleProvider.PROVIDER_NAME);
                 X509Certificate certificate = (X509Certificate) cf.generateCertificate(certStream);
                 return certificate.getPublicKey();
             } catch (Exception certEx) {
-                log.error("Failed to parse public key content as X509EncodedKeySpec or X509Certificate", certEx);
+                log.error("Failed to parse public key content as SubjectPublicKeyInfo or X509Certificate", certEx);
                 throw new GeneralSecurityException("Could not parse public key content.", certEx);
             }
         }
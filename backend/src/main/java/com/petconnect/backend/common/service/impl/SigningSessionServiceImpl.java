@@ -0,0 +1,210 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.common.service.SigningService;
+import com.petconnect.backend.common.service.SigningSessionService;
+import com.petconnect.backend.exception.InvalidSigningSessionException;
+import com.petconnect.backend.record.application.dto.SigningSessionDto;
+import com.petconnect.backend.user.domain.model.Vet;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import javax.security.auth.DestroyFailedException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory implementation of {@link SigningSessionService}.
+ * Holds at most one session per vet, each with a fixed time-to-live, and a bounded total number
+ * of sessions (the session closest to expiry is evicted when the store is full).
+ * Unlocked keys are discarded on expiry, explicit close, or when the vet's private key path changes.
+ *
+ * @author ibosquet
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SigningSessionServiceImpl implements SigningSessionService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SigningService signingService;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Map<Long, SigningSession> sessionsByVet = new ConcurrentHashMap<>();
+
+    @Value("${app.signing-session.ttl:PT30M}")
+    private Duration sessionTtl = Duration.ofMinutes(30);
+
+    private int maxSessions = 500;
+
+    /**
+     * Sets the maximum number of open sessions, clamped to at least one so a full store can always make room.
+     *
+     * @param maxSessions The configured maximum.
+     */
+    @Value("${app.signing-session.max-sessions:500}")
+    void setMaxSessions(int maxSessions) {
+        this.maxSessions = Math.max(1, maxSessions);
+    }
+
+    /**
+     * An open signing session.
+     *
+     * @param vetId          The owner of the session.
+     * @param token          The session handle.
+     * @param privateKey     The unlocked private key.
+     * @param privateKeyPath The storage path of the key when it was unlocked, used to detect rotation.
+     * @param expiresAt      The moment the session expires.
+     */
+    private record SigningSession(Long vetId, String token, PrivateKey privateKey, String privateKeyPath, Instant expiresAt) {
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SigningSessionDto openSession(Vet vet, char[] vetKeyPassword) {
+        PrivateKey privateKey = signingService.loadVetPrivateKey(vet, vetKeyPassword);
+
+        Instant expiresAt = Instant.now().plus(sessionTtl);
+        SigningSession session = new SigningSession(vet.getId(), generateToken(), privateKey, vet.getVetPrivateKey(), expiresAt);
+
+        makeRoomFor(vet.getId());
+        SigningSession previous = sessionsByVet.put(vet.getId(), session);
+        if (previous != null) {
+            discard(previous);
+        }
+        log.info("Signing session opened for Vet ID {} (expires at {}).", vet.getId(), expiresAt);
+        return new SigningSessionDto(session.token(), expiresAt);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String signWithSession(Vet vet, String sessionToken, String dataToSign) {
+        if (vet == null || !StringUtils.hasText(sessionToken)) {
+            throw new InvalidSigningSessionException("A signing session token is required.");
+        }
+        SigningSession session = sessionsByVet.get(vet.getId());
+        if (session == null || !tokensMatch(session.token(), sessionToken)) {
+            log.warn("Unknown signing session used by Vet ID {}.", vet.getId());
+            throw new InvalidSigningSessionException("Signing session not found. Please unlock your private key again.");
+        }
+        if (session.isExpired(Instant.now())) {
+            closeSession(vet.getId());
+            throw new InvalidSigningSessionException("Signing session has expired. Please unlock your private key again.");
+        }
+        if (!Objects.equals(session.privateKeyPath(), vet.getVetPrivateKey())) {
+            log.warn("Private key of Vet ID {} changed since the signing session was opened. Closing session.", vet.getId());
+            closeSession(vet.getId());
+            throw new InvalidSigningSessionException("Your private key has changed. Please unlock your new private key.");
+        }
+        return signingService.signWithPrivateKey(session.privateKey(), dataToSign);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void closeSession(Long vetId) {
+        if (vetId == null) {
+            return;
+        }
+        SigningSession removed = sessionsByVet.remove(vetId);
+        if (removed != null) {
+            discard(removed);
+            log.info("Signing session closed for Vet ID {}.", vetId);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${app.signing-session.eviction-interval:PT1M}")
+    public int evictExpiredSessions() {
+        Instant now = Instant.now();
+        int evicted = 0;
+        for (SigningSession session : sessionsByVet.values()) {
+            if (session.isExpired(now) && sessionsByVet.remove(session.vetId(), session)) {
+                discard(session);
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            log.info("Evicted {} expired signing sessions.", evicted);
+        }
+        return evicted;
+    }
+
+    /**
+     * Discards every open session when the application shuts down.
+     */
+    @PreDestroy
+    public void closeAllSessions() {
+        sessionsByVet.values().forEach(this::discard);
+        sessionsByVet.clear();
+    }
+
+    // Private methods
+
+    /**
+     * Ensures there is room for a new session of the given vet, evicting expired sessions first and,
+     * if the store is still full, the session closest to expiry.
+     */
+    private void makeRoomFor(Long vetId) {
+        if (sessionsByVet.containsKey(vetId) || sessionsByVet.size() < maxSessions) {
+            return;
+        }
+        evictExpiredSessions();
+        while (sessionsByVet.size() >= maxSessions) {
+            sessionsByVet.values().stream()
+                    .min(Comparator.comparing(SigningSession::expiresAt))
+                    .ifPresent(oldest -> {
+                        if (sessionsByVet.remove(oldest.vetId(), oldest)) {
+                            discard(oldest);
+                            log.warn("Signing session store full; evicted session of Vet ID {}.", oldest.vetId());
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Tries to destroy the unlocked key material. Most JCA providers do not support destroying
+     * private keys, in which case the key is simply released for garbage collection.
+     */
+    private void discard(SigningSession session) {
+        try {
+            session.privateKey().destroy();
+        } catch (DestroyFailedException | UnsupportedOperationException e) {
+            log.debug("Private key of signing session for Vet ID {} cannot be destroyed explicitly; released.", session.vetId());
+        }
+    }
+
+    private String generateToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private boolean tokensMatch(String expected, String provided) {
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), provided.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,117 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.common.service.SigningService;
+import com.petconnect.backend.common.service.TrustListService;
+import com.petconnect.backend.user.domain.model.Clinic;
+import com.petconnect.backend.user.domain.model.Vet;
+import com.petconnect.backend.user.domain.repository.ClinicRepository;
+import com.petconnect.backend.user.domain.repository.VetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.PublicKey;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Implementation of {@link TrustListService} backed by the vet and clinic public keys in storage.
+ * Readers see an immutable snapshot through a volatile reference (no locks); refreshes build a new
+ * snapshot and swap it in. The list is loaded when the application is ready and refreshed periodically,
+ * so key changes are picked up within one refresh interval.
+ *
+ * @author ibosquet
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrustListServiceImpl implements TrustListService {
+
+    private final VetRepository vetRepository;
+    private final ClinicRepository clinicRepository;
+    private final SigningService signingService;
+
+    private volatile TrustList trustList = TrustList.EMPTY;
+
+    /**
+     * An immutable trust list snapshot.
+     *
+     * @param vetKeys    Public keys by vet ID.
+     * @param clinicKeys Public keys by clinic ID.
+     * @param loadedAt   When the snapshot was built.
+     */
+    private record TrustList(Map<Long, PublicKey> vetKeys, Map<Long, PublicKey> clinicKeys, Instant loadedAt) {
+        static final TrustList EMPTY = new TrustList(Map.of(), Map.of(), null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PublicKey findVetKey(Long vetId) {
+        return vetId != null ? trustList.vetKeys().get(vetId) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PublicKey findClinicKey(Long clinicId) {
+        return clinicId != null ? trustList.clinicKeys().get(clinicId) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${app.hcert.trust-list.refresh-interval:PT5M}", initialDelayString = "${app.hcert.trust-list.refresh-interval:PT5M}")
+    public TrustListStats refresh() {
+        Map<Long, PublicKey> vetKeys = new HashMap<>();
+        for (Vet vet : vetRepository.findByVetPublicKeyIsNotNull()) {
+            try {
+                vetKeys.put(vet.getId(), signingService.getVetPublicKey(vet));
+            } catch (RuntimeException e) {
+                log.warn("Vet ID {} left out of the trust list: {}", vet.getId(), e.getMessage());
+            }
+        }
+        Map<Long, PublicKey> clinicKeys = new HashMap<>();
+        for (Clinic clinic : clinicRepository.findByPublicKeyIsNotNull()) {
+            try {
+                clinicKeys.put(clinic.getId(), signingService.getClinicPublicKey(clinic));
+            } catch (RuntimeException e) {
+                log.warn("Clinic ID {} left out of the trust list: {}", clinic.getId(), e.getMessage());
+            }
+        }
+        trustList = new TrustList(Map.copyOf(vetKeys), Map.copyOf(clinicKeys), Instant.now());
+        TrustListStats stats = getStats();
+        log.info("Trust list refreshed: {}", stats);
+        return stats;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TrustListStats getStats() {
+        TrustList current = trustList;
+        return new TrustListStats(current.vetKeys().size(), current.clinicKeys().size(), current.loadedAt());
+    }
+
+    /**
+     * Loads the trust list once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("Loading the trust list on startup failed: {}", e.getMessage(), e);
+        }
+    }
+}
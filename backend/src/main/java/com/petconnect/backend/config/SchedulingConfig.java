@@ -0,0 +1,15 @@
+package com.petconnect.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class enabling Spring's scheduled task execution,
+ * used by background maintenance jobs (e.g., AHC eligibility sweeps).
+ *
+ * @author ibosquet
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
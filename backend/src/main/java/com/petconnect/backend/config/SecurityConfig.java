@@ -3,6 +3,7 @@ package com.petconnect.backend.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.petconnect.backend.security.JwtUtils;
 import com.petconnect.backend.user.application.service.UserService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -84,12 +85,16 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(http -> {
                     http.requestMatchers(HttpMethod.OPTIONS, "/api/**").permitAll();
+                    // Async dispatch completing a streamed response (e.g., certificate PDFs): already authorized on the initial dispatch
+                    http.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
                     // --- 1. PUBLIC ENDPOINTS ---
                     http.requestMatchers("/api/auth/**").permitAll(); // Login/Register
                     http.requestMatchers(HttpMethod.GET, "/api/clinics").permitAll(); // Search clinics
                     http.requestMatchers(HttpMethod.GET, "/api/clinics/countries").permitAll(); // List countries
                     http.requestMatchers(HttpMethod.GET, "/api/clinics/{id}").permitAll(); // Get clinic detail
                     http.requestMatchers(HttpMethod.GET, "/api/records/verify-temporary-access").permitAll(); // Temporal access
+                    http.requestMatchers(HttpMethod.POST, "/api/certificates/verify").permitAll(); // Offline certificate QR verification (border/airline partners)
+                    http.requestMatchers(HttpMethod.GET, "/api/certificates/revocations").permitAll(); // Certificate revocation delta for external verifiers
                     http.requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/api-docs/**").permitAll(); // API Docs
                     http.requestMatchers(HttpMethod.GET, "/images/**", "/storage/**").permitAll(); // Static Images
 
@@ -99,6 +104,11 @@ public class SecurityConfig {
                     http.requestMatchers(HttpMethod.GET, "/api/pets/{petId}").authenticated(); // Get Pet details (Owner or associated Staff)
                     http.requestMatchers(HttpMethod.GET, "/api/records").authenticated(); // List records (requires petId param, checked in service)
                     http.requestMatchers(HttpMethod.POST, "/api/records").authenticated(); // Create a record (checked in service)
+                    http.requestMatchers(HttpMethod.GET, "/api/records/verify").authenticated(); // Verify signatures of a pet's history (requires petId param, checked in service)
+                    http.requestMatchers(HttpMethod.GET, "/api/records/export").authenticated(); // Export a pet's full history (requires petId param, checked in service)
+                    http.requestMatchers(HttpMethod.POST, "/api/records/batch").hasRole(ROLE_VET); // Create and sign records in batch
+                    http.requestMatchers(HttpMethod.POST, "/api/records/signing-session").hasRole(ROLE_VET); // Open signing session (before {recordId} rules)
+                    http.requestMatchers(HttpMethod.DELETE, "/api/records/signing-session").hasRole(ROLE_VET); // Close signing session (before {recordId} rules)
                     http.requestMatchers(HttpMethod.GET, RECORD_ID_URL).authenticated(); // Get record detail (checked in service)
                     http.requestMatchers(HttpMethod.PUT, RECORD_ID_URL).authenticated(); // Update record
                     http.requestMatchers(HttpMethod.DELETE, RECORD_ID_URL).authenticated(); // Delete record (checked in service)
@@ -106,6 +116,8 @@ public class SecurityConfig {
                     http.requestMatchers(HttpMethod.GET, "/api/certificates").authenticated(); // List certificates (requires petId param, checked in service)
                     http.requestMatchers(HttpMethod.GET, "/api/certificates/{certificateId}").authenticated(); // Get certificate detail (checked in service)
                     http.requestMatchers(HttpMethod.GET, "/api/certificates/{certificateId}/qr-data").authenticated(); // Get QR data (checked in service)
+                    http.requestMatchers(HttpMethod.GET, "/api/certificates/{certificateId}/qr.png", "/api/certificates/{certificateId}/qr.svg").authenticated(); // Get QR image (checked in service)
+                    http.requestMatchers(HttpMethod.GET, "/api/certificates/{certificateId}/certificate.pdf").authenticated(); // Get certificate PDF (checked in service)
 
                     // --- 3. ENDPOINTS BY SPECIFIC ROLE ---
                     // --- OWNER ---
@@ -123,6 +135,7 @@ public class SecurityConfig {
                     // --- VET ---
                     http.requestMatchers(HttpMethod.PUT, "/api/pets/{petId}/activate").hasAnyRole(ROLE_VET); // Activate pet
                     http.requestMatchers(HttpMethod.POST, "/api/certificates").hasRole(ROLE_VET); // Generate Certificate
+                    http.requestMatchers(HttpMethod.POST, "/api/certificates/bulk").hasRole(ROLE_VET); // Generate Certificates for pending requests in bulk
 
                     // --- ADMIN ---
                     http.requestMatchers(HttpMethod.POST, "/api/staff").hasRole(ROLE_ADMIN); // Create staff
@@ -130,6 +143,8 @@ public class SecurityConfig {
                     http.requestMatchers(HttpMethod.PUT, "/api/staff/{staffId}/activate").hasRole(ROLE_ADMIN); // Activate staff
                     http.requestMatchers(HttpMethod.PUT, "/api/staff/{staffId}/deactivate").hasRole(ROLE_ADMIN); // Deactivate staff
                     http.requestMatchers(HttpMethod.PUT, "/api/clinics/{id}").hasRole(ROLE_ADMIN); // Update an own clinic
+                    http.requestMatchers(HttpMethod.POST, "/api/clinics/{clinicId}/exports").hasRole(ROLE_ADMIN); // Start a bulk export of an own clinic
+                    http.requestMatchers(HttpMethod.GET, "/api/clinics/{clinicId}/exports/{jobId}", "/api/clinics/{clinicId}/exports/{jobId}/archive").hasRole(ROLE_ADMIN); // Poll and download a bulk export of an own clinic
                     http.requestMatchers(HttpMethod.GET, "/api/users/{id}").hasRole(ROLE_ADMIN); // Admin viewing specific user by ID
                     http.requestMatchers(HttpMethod.GET, "/api/users/by-email").hasRole(ROLE_ADMIN); // Admin viewing specific user by email
 
@@ -142,8 +157,14 @@ public class SecurityConfig {
                     http.requestMatchers(HttpMethod.GET, "/api/pets/clinic/pending").hasAnyRole(ROLE_ADMIN, ROLE_VET); // List pets pending at MY clinic
                     http.requestMatchers(HttpMethod.GET, "/api/clinics/{clinicId}/public-key/download").hasAnyRole(ROLE_ADMIN, ROLE_VET); // Download the public-key file
                     http.requestMatchers(HttpMethod.GET, "/api/records/clinic/{clinicId}/created-by").hasAnyRole(ROLE_ADMIN, ROLE_VET); // List all historic records of the clinic
+                    http.requestMatchers(HttpMethod.GET, "/api/records/clinic/{clinicId}/created-by/scroll").hasAnyRole(ROLE_ADMIN, ROLE_VET); // Scroll historic records of the clinic (keyset pagination)
+                    http.requestMatchers(HttpMethod.GET, "/api/records/clinic/{clinicId}/search").hasAnyRole(ROLE_ADMIN, ROLE_VET); // Full-text search of the records of the clinic
+                    http.requestMatchers(HttpMethod.GET, "/api/records/clinic/{clinicId}/vaccine-recall").hasAnyRole(ROLE_ADMIN, ROLE_VET); // Stream the pets, owners and certificates affected by a vaccine batch recall
                     http.requestMatchers(HttpMethod.GET, "/api/pets/{clinicId}/pending-certificate-requests").hasAnyRole(ROLE_ADMIN, ROLE_VET); // List requests for certificates from pets associated with MY clinic
                     http.requestMatchers(HttpMethod.GET, "/api/certificates/clinic/{clinicId}").hasAnyRole(ROLE_ADMIN, ROLE_VET); // List all certificates of the clinic
+                    http.requestMatchers(HttpMethod.GET, "/api/certificates/clinic/{clinicId}/scroll").hasAnyRole(ROLE_ADMIN, ROLE_VET); // Scroll certificates of the clinic (keyset pagination)
+                    http.requestMatchers(HttpMethod.GET, "/api/certificates/clinic/{clinicId}/certificates.zip").hasAnyRole(ROLE_ADMIN, ROLE_VET); // Print certificates of the clinic as a ZIP of PDFs
+                    http.requestMatchers(HttpMethod.POST, "/api/certificates/{certificateId}/revocation").hasAnyRole(ROLE_ADMIN, ROLE_VET); // Revoke a certificate of MY clinic
 
                     // --- 4. DEFAULT RULE ---
                     // Any other request requires authentication
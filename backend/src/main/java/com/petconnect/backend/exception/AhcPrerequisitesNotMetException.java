@@ -0,0 +1,18 @@
+package com.petconnect.backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a pet does not currently meet the AHC certificate prerequisites
+ * (valid signed Rabies vaccine and recent signed checkup) according to its persisted eligibility.
+ * Suggests an HTTP 400 Bad Request status.
+ *
+ * @author ibosquet
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class AhcPrerequisitesNotMetException extends RuntimeException {
+    public AhcPrerequisitesNotMetException(Long petId) {
+        super(String.format("Pet %d does not meet the AHC certificate prerequisites: a valid, signed Rabies vaccine and a signed checkup within the last year are required.", petId));
+    }
+}
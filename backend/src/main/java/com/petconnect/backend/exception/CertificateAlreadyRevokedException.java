@@ -0,0 +1,23 @@
+package com.petconnect.backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom runtime exception thrown when attempting to revoke a certificate
+ * that has already been revoked.
+ * Suggests an HTTP 409 Conflict status.
+ *
+ * @author ibosquet
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class CertificateAlreadyRevokedException extends RuntimeException {
+    /**
+     * Constructs a new CertificateAlreadyRevokedException.
+     *
+     * @param certificateId The ID of the certificate that is already revoked.
+     */
+    public CertificateAlreadyRevokedException(Long certificateId) {
+        super("Certificate " + certificateId + " has already been revoked.");
+    }
+}
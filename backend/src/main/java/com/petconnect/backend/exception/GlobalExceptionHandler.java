@@ -81,6 +81,7 @@ public class GlobalExceptionHandler {
             MicrochipAlreadyExistsException.class,
             CertificateNumberAlreadyExistsException.class,
             CertificateAlreadyExistsForRecordException.class,
+            CertificateAlreadyRevokedException.class,
             RecordSignedException.class,
             RecordUpdateVaccineException.class,
             RecordImmutableException.class
@@ -192,6 +193,8 @@ public class GlobalExceptionHandler {
             IllegalArgumentException.class,
             MissingRecentCheckupException.class,
             MissingRabiesVaccineException.class,
+            AhcPrerequisitesNotMetException.class,
+            InvalidSigningSessionException.class,
             InvalidPasswordResetTokenException.class
     })
     public ResponseEntity<Map<String, Object>> handleBadLogicExceptions(RuntimeException ex) {
@@ -0,0 +1,18 @@
+package com.petconnect.backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a vet signing session handle is unknown, expired, or no longer
+ * valid (e.g., the vet's key was rotated). The vet must open a new session or sign with the password.
+ * Suggests an HTTP 400 Bad Request status.
+ *
+ * @author ibosquet
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidSigningSessionException extends RuntimeException {
+    public InvalidSigningSessionException(String message) {
+        super(message);
+    }
+}
@@ -10,7 +10,9 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Kafka Adapter implementation for the CertificateEventPublisherPort interface.
@@ -59,4 +61,38 @@ public class KafkaCertificateEventPublisherAdapter implements CertificateEventPu
                     event.certificateId(), e.getMessage(), e);
         }
     }
+
+    /**
+     * {@inheritDoc}
+     * Sends all events without waiting for each acknowledgement, so the producer can batch them,
+     * and logs a single summary once every send has completed.
+     */
+    @Override
+    public void publishCertificatesGenerated(List<CertificateGeneratedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        log.info("Publishing {} CertificateGeneratedEvents to topic '{}'", events.size(), certificateGeneratedTopic);
+        AtomicInteger failed = new AtomicInteger();
+        CompletableFuture<?>[] sends = new CompletableFuture<?>[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            CertificateGeneratedEvent event = events.get(i);
+            try {
+                sends[i] = kafkaTemplate.send(certificateGeneratedTopic, event.certificateId().toString(), event)
+                        .whenComplete((result, ex) -> {
+                            if (ex != null) {
+                                failed.incrementAndGet();
+                                log.error("Failed to send CertificateGeneratedEvent for certId {}: {}", event.certificateId(), ex.getMessage(), ex);
+                            }
+                        });
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                sends[i] = CompletableFuture.completedFuture(null);
+                log.error("Exception caught while trying to send CertificateGeneratedEvent for certId {}: {}",
+                        event.certificateId(), e.getMessage(), e);
+            }
+        }
+        CompletableFuture.allOf(sends).whenComplete((ignored, ex) ->
+                log.info("Sent {} of {} CertificateGeneratedEvents to topic '{}'", events.size() - failed.get(), events.size(), certificateGeneratedTopic));
+    }
 }
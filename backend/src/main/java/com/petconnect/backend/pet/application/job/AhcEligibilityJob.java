@@ -0,0 +1,70 @@
+package com.petconnect.backend.pet.application.job;
+
+import com.petconnect.backend.common.helper.AhcEligibilityHelper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Scheduled jobs maintaining the persisted AHC eligibility read model of pets.
+ * <ul>
+ *     <li>A nightly expiry sweep clears eligibility dates that are already past.</li>
+ *     <li>A consistency check recomputes eligibility for all pets from their records,
+ *     reporting (and correcting) any drift. It also runs once at startup to backfill
+ *     pets created before the read model existed or loaded from seed data.</li>
+ * </ul>
+ *
+ * @author ibosquet
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AhcEligibilityJob {
+
+    private final AhcEligibilityHelper ahcEligibilityHelper;
+
+    @Value("${app.ahc-eligibility.consistency-check.correct:true}")
+    private boolean correctDrift;
+
+    @Value("${app.ahc-eligibility.consistency-check.on-startup:true}")
+    private boolean checkOnStartup;
+
+    /**
+     * Nightly sweep clearing expired AHC eligibility dates.
+     */
+    @Scheduled(cron = "${app.ahc-eligibility.expiry-sweep.cron:0 5 0 * * *}")
+    public void expireStaleEligibility() {
+        ahcEligibilityHelper.expireStaleEligibility(LocalDate.now());
+    }
+
+    /**
+     * Periodic bulk recomputation of AHC eligibility, reporting drift between the
+     * persisted read model and the records.
+     */
+    @Scheduled(cron = "${app.ahc-eligibility.consistency-check.cron:0 30 3 * * *}")
+    public void checkConsistency() {
+        AhcEligibilityHelper.DriftReport report = ahcEligibilityHelper.checkConsistency(correctDrift);
+        log.info("AHC eligibility consistency check finished: {}", report);
+    }
+
+    /**
+     * Runs the consistency check once the application is ready, backfilling the read model.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkConsistencyOnStartup() {
+        if (!checkOnStartup) {
+            return;
+        }
+        try {
+            checkConsistency();
+        } catch (Exception e) {
+            log.error("AHC eligibility consistency check on startup failed: {}", e.getMessage(), e);
+        }
+    }
+}
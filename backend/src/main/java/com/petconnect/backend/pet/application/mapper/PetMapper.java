@@ -1,17 +1,12 @@
 package com.petconnect.backend.pet.application.mapper;
 
 import com.petconnect.backend.common.helper.ImageUrlHelper;
-import com.petconnect.backend.common.helper.RecordHelper;
 import com.petconnect.backend.common.helper.Utils;
-import com.petconnect.backend.common.helper.ValidateHelper;
-import com.petconnect.backend.exception.MissingRabiesVaccineException;
-import com.petconnect.backend.exception.MissingRecentCheckupException;
 import com.petconnect.backend.pet.application.dto.PetClinicUpdateDto;
 import com.petconnect.backend.pet.application.dto.PetOwnerUpdateDto;
 import com.petconnect.backend.pet.application.dto.PetProfileDto;
 import com.petconnect.backend.pet.domain.model.Breed;
 import com.petconnect.backend.pet.domain.model.Pet;
-import com.petconnect.backend.pet.domain.model.PetStatus;
 import com.petconnect.backend.pet.domain.model.Specie;
 import com.petconnect.backend.user.application.dto.OwnerSummaryDto;
 import com.petconnect.backend.user.application.dto.VetSummaryDto;
@@ -20,8 +15,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -45,8 +42,6 @@ public class PetMapper {
 
     private final UserMapper userMapper;
     private final ImageUrlHelper imageUrlHelper;
-    private final ValidateHelper validateHelper;
-    private final RecordHelper recordHelper;
 
     @Value("${app.backend.base-url}")
     private String backendBaseUrl;
@@ -70,7 +65,17 @@ public class PetMapper {
         if (pet == null) {
             return null;
         }
+        return buildProfileDto(pet, resolveCanRequestAhc(pet));
+    }
 
+    /**
+     * Builds the {@link PetProfileDto} for a pet using an already resolved AHC eligibility flag.
+     *
+     * @param pet           The Pet entity to convert. Must not be null.
+     * @param canRequestAhc Whether the pet currently meets the AHC certificate prerequisites.
+     * @return The corresponding PetProfileDto.
+     */
+    private PetProfileDto buildProfileDto(Pet pet, boolean canRequestAhc) {
         Long ownerId = (pet.getOwner() != null) ? pet.getOwner().getId() : null;
         String ownerUsername = (pet.getOwner() != null) ? pet.getOwner().getUsername() : null;
         Long breedId = pet.getBreed().getId();
@@ -97,19 +102,6 @@ public class PetMapper {
                 fallbackPetAvatarUrl
         );
 
-        boolean canRequestAhc = false;
-        if (pet.getStatus() == PetStatus.ACTIVE) {
-            try {
-                validateHelper.findValidRabiesRecord(pet.getId());
-                recordHelper.findValidCheckupRecord(pet.getId());
-                canRequestAhc = true;
-            } catch (MissingRabiesVaccineException | MissingRecentCheckupException e) {
-                log.debug("Pet {} does not meet AHC prerequisites: {}", pet.getId(), e.getMessage());
-            } catch (Exception e) {
-                log.warn("Unexpected error checking AHC prerequisites for pet {}: {}", pet.getId(), e.getMessage());
-            }
-        }
-
         return new PetProfileDto(
                 pet.getId(),
                 pet.getName(),
@@ -134,6 +126,39 @@ public class PetMapper {
         );
     }
 
+    /**
+     * Checks, for a single pet, whether it currently meets the AHC certificate prerequisites,
+     * reading the persisted eligibility date maintained by
+     * {@link com.petconnect.backend.common.helper.AhcEligibilityHelper}.
+     *
+     * @param pet The pet to check.
+     * @return true if the pet can request an AHC certificate, false otherwise.
+     */
+    private boolean resolveCanRequestAhc(Pet pet) {
+        return pet.isAhcEligibleOn(LocalDate.now());
+    }
+
+    /**
+     * Converts a list of {@link Pet} entities to an unmodifiable list of {@link PetProfileDto},
+     * using AHC eligibility flags resolved beforehand for the whole list
+     * (see {@link com.petconnect.backend.common.helper.AhcEligibilityHelper}).
+     * Pets missing from the map are considered not eligible.
+     *
+     * @param pets           The list of Pet entities.
+     * @param ahcEligibility Map from pet ID to its AHC eligibility flag.
+     * @return An unmodifiable list of corresponding PetProfileDto objects.
+     */
+    public List<PetProfileDto> toProfileDtoList(List<Pet> pets, Map<Long, Boolean> ahcEligibility) {
+        if (pets == null || pets.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Boolean> eligibility = (ahcEligibility != null) ? ahcEligibility : Collections.emptyMap();
+        return pets.stream()
+                .filter(Objects::nonNull)
+                .map(pet -> buildProfileDto(pet, Boolean.TRUE.equals(eligibility.get(pet.getId()))))
+                .toList();
+    }
+
     /**
      * Converts a list of {@link Pet} entities to an unmodifiable list of {@link PetProfileDto}.
      * Returns an empty list if the input list is null or empty.
@@ -1,8 +1,11 @@
 package com.petconnect.backend.pet.application.service.impl;
 
 import com.petconnect.backend.pet.application.event.CertificateRequestedEvent;
+import com.petconnect.backend.common.helper.AhcEligibilityHelper;
 import com.petconnect.backend.common.helper.EntityFinderHelper;
 import com.petconnect.backend.common.helper.AuthorizationHelper;
+import com.petconnect.backend.exception.AhcPrerequisitesNotMetException;
+import com.petconnect.backend.exception.EntityNotFoundException;
 import com.petconnect.backend.exception.MicrochipAlreadyExistsException;
 import com.petconnect.backend.pet.port.spi.PetEventPublisherPort;
 import com.petconnect.backend.pet.application.event.PetActivationRequestedEvent;
@@ -24,6 +27,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -38,6 +42,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -60,6 +65,7 @@ public class PetServiceImpl implements PetService {
     private final BreedMapper breedMapper;
     private final EntityFinderHelper entityFinderHelper;
     private final AuthorizationHelper authorizationHelper;
+    private final AhcEligibilityHelper ahcEligibilityHelper;
     private final ImageService imageService;
 
     @Value("${app.default.pet.image.path:images/avatars/pets/}")
@@ -150,6 +156,7 @@ public class PetServiceImpl implements PetService {
         Clinic targetClinic = entityFinderHelper.findClinicOrFail(clinicId);
 
         pet.setPendingActivationClinic(targetClinic);
+        pet.refreshAssociatedClinics();
         petRepository.save(pet);
         log.info("Owner {} associated PENDING pet {} with clinic {} for activation.", ownerId, petId, clinicId);
 
@@ -196,6 +203,7 @@ public class PetServiceImpl implements PetService {
         petToActivate.setPendingActivationClinic(null);
         Vet assignedVet = assignVetOnActivation(activatingStaff);
         petToActivate.addVet(assignedVet);
+        petToActivate.refreshAssociatedClinics();
 
         Pet activatedPet = petRepository.save(petToActivate);
 
@@ -238,6 +246,7 @@ public class PetServiceImpl implements PetService {
         if (!petToDeactivate.getAssociatedVets().isEmpty()) {
             log.info("Deactivating Pet {}: Clearing all ({}) associated veterinarians.", petId, petToDeactivate.getAssociatedVets().size());
             petToDeactivate.getAssociatedVets().clear();
+            petToDeactivate.refreshAssociatedClinics();
         }
 
         Pet deactivatedPet = petRepository.save(petToDeactivate);
@@ -322,7 +331,7 @@ public class PetServiceImpl implements PetService {
             log.debug("Finding pets for owner {} with specified statuses: {}", ownerId, statusesToSearch);
         }
         Page<Pet> petPage = petRepository.findByOwnerIdAndStatusIn(ownerId, statusesToSearch, pageable);
-        return petPage.map(petMapper::toProfileDto);
+        return toProfileDtoPage(petPage);
     }
 
     /**
@@ -334,7 +343,7 @@ public class PetServiceImpl implements PetService {
         ClinicStaff staff = entityFinderHelper.findClinicStaffOrFail(requesterUserId, "find pets for clinic");
         Long clinicId = staff.getClinic().getId();
         Page<Pet> petPage = petRepository.findPetsAssociatedWithClinic(clinicId, pageable);
-        return petPage.map(petMapper::toProfileDto);
+        return toProfileDtoPage(petPage);
     }
 
     /**
@@ -346,7 +355,7 @@ public class PetServiceImpl implements PetService {
         ClinicStaff staff = entityFinderHelper.findClinicStaffOrFail(requesterUserId, "find pending pets for clinic");
         Long clinicId = staff.getClinic().getId();
         List<Pet> pendingPets = petRepository.findByPendingActivationClinicIdAndStatus(clinicId, PetStatus.PENDING);
-        return petMapper.toProfileDtoList(pendingPets);
+        return toProfileDtoList(pendingPets);
     }
 
     /**
@@ -355,7 +364,8 @@ public class PetServiceImpl implements PetService {
     @Override
     @Transactional(readOnly = true)
     public PetProfileDto findPetById(Long petId, Long requesterUserId) {
-        Pet pet = entityFinderHelper.findPetByIdOrFail(petId);
+        Pet pet = petRepository.findProfileById(petId)
+                .orElseThrow(() -> new EntityNotFoundException(Pet.class.getSimpleName(), petId));
         authorizationHelper.verifyUserAuthorizationForPet(requesterUserId, pet, "view"); // Verify an owner or associated staff
         return petMapper.toProfileDto(pet);
     }
@@ -391,6 +401,7 @@ public class PetServiceImpl implements PetService {
         }
 
         pet.addVet(vet);
+        pet.refreshAssociatedClinics();
         if (pet.getStatus() == PetStatus.INACTIVE && !pet.getAssociatedVets().isEmpty()) {
             log.info("Reactivating Pet {} as a Vet has been associated.", petId);
             pet.setStatus(PetStatus.ACTIVE);
@@ -414,6 +425,7 @@ public class PetServiceImpl implements PetService {
         }
 
         pet.removeVet(vet);
+        pet.refreshAssociatedClinics();
         log.info("Owner {} disassociated Vet {} from Pet {}", ownerId, vetId, petId);
 
         if (pet.getAssociatedVets().isEmpty() && pet.getStatus() == PetStatus.ACTIVE) {
@@ -437,6 +449,11 @@ public class PetServiceImpl implements PetService {
             throw new IllegalStateException("Pet " + pet.getName() + " must be in ACTIVE status to request a certificate.");
         }
 
+        if (!pet.isAhcEligibleOn(LocalDate.now())) {
+            log.warn("Certificate request failed: Pet {} does not meet AHC prerequisites (eligible until {}).", petId, pet.getAhcEligibleUntil());
+            throw new AhcPrerequisitesNotMetException(petId);
+        }
+
         boolean isAssociatedWithTargetClinic = pet.getAssociatedVets().stream()
                 .anyMatch(vet -> vet.getClinic() != null && vet.getClinic().getId().equals(clinicId));
 
@@ -492,11 +509,32 @@ public class PetServiceImpl implements PetService {
             throw new AccessDeniedException("Staff " + requesterStaffId + " is not authorized for clinic " + clinicId);
         }
         List<Pet> petsWithRequests = petRepository.findByPendingCertificateClinicIdAndStatus(clinicId, PetStatus.ACTIVE);
-        return petMapper.toProfileDtoList(petsWithRequests);
+        return toProfileDtoList(petsWithRequests);
     }
 
     // --- PRIVATE HELPER METHODS ---
 
+    /**
+     * Maps a list of pets to profile DTOs, resolving AHC eligibility for all of them
+     * in a batch instead of pet by pet.
+     */
+    private List<PetProfileDto> toProfileDtoList(List<Pet> pets) {
+        Map<Long, Boolean> ahcEligibility = ahcEligibilityHelper.resolveEligibility(pets);
+        return petMapper.toProfileDtoList(pets, ahcEligibility);
+    }
+
+    /**
+     * Maps a page of pets to a page of profile DTOs, resolving AHC eligibility
+     * for the whole page content in a batch.
+     */
+    private Page<PetProfileDto> toProfileDtoPage(Page<Pet> petPage) {
+        if (petPage.isEmpty()) {
+            return petPage.map(petMapper::toProfileDto);
+        }
+        List<PetProfileDto> content = toProfileDtoList(petPage.getContent());
+        return new PageImpl<>(content, petPage.getPageable(), petPage.getTotalElements());
+    }
+
     /**
      * Finds a Pet by ID and verifies ownership or throws.
      */
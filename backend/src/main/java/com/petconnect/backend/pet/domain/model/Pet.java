@@ -7,9 +7,12 @@ import com.petconnect.backend.user.domain.model.Vet;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -18,21 +21,42 @@ import java.util.Set;
  * Contains identification details, owner information, medical status,
  * and links to breed and potentially associated veterinarians.
  * Inherits auditing fields from BaseEntity.
+ * <p>
+ * Two entity graphs describe the fetch plans of the profile queries: {@link #SUMMARY_GRAPH} fetches the
+ * single-valued associations and is safe to combine with pagination, while {@link #PROFILE_GRAPH} also
+ * fetches the associated vets and their clinics, for single pets and unpaginated lists.
  *
  * @author ibosquet
  */
 @Getter
 @Setter
-@ToString(callSuper = true, exclude = {"owner", "breed", "associatedVets"})
+@ToString(callSuper = true, exclude = {"owner", "breed", "associatedVets", "associatedClinics"})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Entity
+@NamedEntityGraph(name = Pet.SUMMARY_GRAPH, attributeNodes = {
+        @NamedAttributeNode("owner"),
+        @NamedAttributeNode("breed"),
+        @NamedAttributeNode("pendingActivationClinic")
+})
+@NamedEntityGraph(name = Pet.PROFILE_GRAPH, attributeNodes = {
+        @NamedAttributeNode("owner"),
+        @NamedAttributeNode("breed"),
+        @NamedAttributeNode("pendingActivationClinic"),
+        @NamedAttributeNode(value = "associatedVets", subgraph = "vets")
+}, subgraphs = @NamedSubgraph(name = "vets", attributeNodes = @NamedAttributeNode("clinic")))
 @Table(name = "pet", indexes = {
         @Index(name = "idx_pet_microchip", columnList = "microchip", unique = true)
 })
 public class Pet extends BaseEntity {
 
+    /** Entity graph fetching the owner, breed and pending activation clinic. */
+    public static final String SUMMARY_GRAPH = "Pet.summary";
+
+    /** Entity graph fetching everything {@link #SUMMARY_GRAPH} does plus the associated vets and their clinics. */
+    public static final String PROFILE_GRAPH = "Pet.profile";
+
     /**
      * The given name of the pet.
      * Cannot be blank.
@@ -108,6 +132,15 @@ public class Pet extends BaseEntity {
     @Column(name = "last_eu_exit_date")
     private LocalDate lastEuExitDate;
 
+    /**
+     * Last date (inclusive) on which the pet meets the AHC certificate prerequisites
+     * (valid Rabies vaccine and recent checkup), or null if it does not meet them.
+     * This is a read model maintained from signed records and refreshed by a nightly sweep,
+     * so eligibility checks do not need to query the records every time.
+     */
+    @Column(name = "ahc_eligible_until")
+    private LocalDate ahcEligibleUntil;
+
     /**
      * Determines equality based solely on the entity's unique identifier (ID).
      * Two {@code Pet} instances are considered equal if they both have a non-null ID
@@ -186,8 +219,10 @@ public class Pet extends BaseEntity {
      * The set of Veterinarians associated with providing care for this pet.
      * Mapped using a Many-to-Many relationship through the join table "pet_vet_association".
      * Fetched lazily. Cascade type is typically limited (PERSIST, MERGE) as Vets exist independently.
+     * When a page of pets is mapped, the vet sets of up to 50 pets are initialized with a single query.
      */
     @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     @JoinTable(
             name = "pet_vet_association",
             joinColumns = @JoinColumn(name = "pet_id", referencedColumnName = "id"),
@@ -198,6 +233,35 @@ public class Pet extends BaseEntity {
     @Builder.Default
     private Set<Vet> associatedVets = new HashSet<>();
 
+    /**
+     * The clinics this pet is associated with: the clinic where it is pending activation plus the clinics of
+     * its associated vets. Denormalized into the join table "pet_clinic_association", indexed by clinic,
+     * so the pets of a clinic can be listed with an index range scan.
+     * Derived data: kept in sync by {@link #refreshAssociatedClinics()} and never modified directly.
+     */
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(
+            name = "pet_clinic_association",
+            joinColumns = @JoinColumn(name = "pet_id", referencedColumnName = "id"),
+            inverseJoinColumns = @JoinColumn(name = "clinic_id", referencedColumnName = "id"),
+            foreignKey = @ForeignKey(name = "fk_petclinic_pet"),
+            inverseForeignKey = @ForeignKey(name = "fk_petclinic_clinic"),
+            indexes = @Index(name = "idx_pet_clinic_assoc_clinic", columnList = "clinic_id, pet_id")
+    )
+    @Builder.Default
+    private Set<Clinic> associatedClinics = new HashSet<>();
+
+    /**
+     * Checks whether the pet can request an AHC certificate on the given date,
+     * based on its status and the persisted eligibility date.
+     *
+     * @param date The date to check eligibility for.
+     * @return true if the pet is ACTIVE and its eligibility date is not before the given date.
+     */
+    public boolean isAhcEligibleOn(LocalDate date) {
+        return this.status == PetStatus.ACTIVE && this.ahcEligibleUntil != null && !this.ahcEligibleUntil.isBefore(date);
+    }
+
     /**
      * Associates a Veterinarian with this Pet.
      * @param vet The Vet to associate.
@@ -213,4 +277,24 @@ public class Pet extends BaseEntity {
     public void removeVet(Vet vet) {
         this.associatedVets.remove(vet);
     }
+
+    /**
+     * Recomputes {@link #associatedClinics} from the pending activation clinic and the clinics of the
+     * associated vets. Must be called after changing either of them. Clinics are compared by ID, so
+     * unchanged rows of the association table are left untouched.
+     */
+    public void refreshAssociatedClinics() {
+        Map<Long, Clinic> clinics = new HashMap<>();
+        if (this.pendingActivationClinic != null) {
+            clinics.put(this.pendingActivationClinic.getId(), this.pendingActivationClinic);
+        }
+        for (Vet vet : this.associatedVets) {
+            if (vet.getClinic() != null) {
+                clinics.putIfAbsent(vet.getClinic().getId(), vet.getClinic());
+            }
+        }
+        this.associatedClinics.removeIf(clinic -> !clinics.containsKey(clinic.getId()));
+        this.associatedClinics.forEach(clinic -> clinics.remove(clinic.getId()));
+        this.associatedClinics.addAll(clinics.values());
+    }
 }
\ No newline at end of file
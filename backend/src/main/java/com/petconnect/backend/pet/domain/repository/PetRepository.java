@@ -4,14 +4,18 @@ import com.petconnect.backend.pet.domain.model.Pet;
 import com.petconnect.backend.pet.domain.model.PetStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Spring Data JPA repository for {@link Pet} entities.
@@ -27,21 +31,25 @@ public interface PetRepository extends JpaRepository<Pet, Long>, JpaSpecificatio
     /**
      * Finds a page of pets belonging to a specific owner, filtered by a list of statuses.
      * Useful for getting ACTIVE and PENDING pets, excluding INACTIVE ones by default.
+     * Fetches the pets with the {@link Pet#SUMMARY_GRAPH} plan; their vets are batch-loaded.
      *
      * @param ownerId The ID of the owner.
      * @param statuses A collection of PetStatus values to include.
      * @param pageable Pagination information.
      * @return A Page of Pet entities matching the criteria.
      */
+    @EntityGraph(Pet.SUMMARY_GRAPH)
     Page<Pet> findByOwnerIdAndStatusIn(Long ownerId, Collection<PetStatus> statuses, Pageable pageable);
 
     /**
      * Finds a list of pets that are PENDING activation at a specific clinic.
+     * Fetches the pets with the {@link Pet#PROFILE_GRAPH} plan.
      *
      * @param clinicId The ID of the clinic.
      * @param status The status to filter by (should typically be PetStatus PENDING).
      * @return A List of Pet entities pending activation at the clinic.
      */
+    @EntityGraph(Pet.PROFILE_GRAPH)
     List<Pet> findByPendingActivationClinicIdAndStatus(Long clinicId, PetStatus status);
 
     /**
@@ -73,21 +81,32 @@ public interface PetRepository extends JpaRepository<Pet, Long>, JpaSpecificatio
     boolean existsByMicrochipAndIdNot(String microchip, Long petIdToExclude);
 
     /**
-     * Finds a paginated list of distinct pets associated with a specific clinic.
+     * Finds a paginated list of pets associated with a specific clinic.
      * Association is defined as either being in PENDING status at the clinic
      * (via {@code pendingActivationClinic}) OR being actively associated with a
-     * Veterinarian ({@code associatedVets}) who belongs to that clinic.
-     * Uses a custom JPQL query to handle the OR condition across relationships and grouping.
+     * Veterinarian ({@code associatedVets}) who belongs to that clinic, as denormalized
+     * in {@code associatedClinics}, whose {@code (clinic_id, pet_id)} index makes this a range scan.
+     * Fetches the pets with the {@link Pet#SUMMARY_GRAPH} plan; their vets are batch-loaded.
      *
      * @param clinicId The ID of the clinic.
      * @param pageable Pagination information (page number, size, sort order).
      * @return A {@link Page} containing the distinct {@link Pet} entities associated with the clinic.
      */
-    @Query("SELECT p FROM Pet p LEFT JOIN p.associatedVets vet " +
-            "WHERE p.pendingActivationClinic.id = :clinicId OR vet.clinic.id = :clinicId " +
-            "GROUP BY p")
+    @EntityGraph(Pet.SUMMARY_GRAPH)
+    @Query("SELECT p FROM Pet p JOIN p.associatedClinics c WHERE c.id = :clinicId")
     Page<Pet> findPetsAssociatedWithClinic(@Param("clinicId") Long clinicId, Pageable pageable);
 
+    /**
+     * Finds a pet by ID with the {@link Pet#PROFILE_GRAPH} plan, i.e. with everything
+     * needed to authorize access to it and map its profile fetched in a single query.
+     *
+     * @param petId The ID of the pet.
+     * @return An Optional containing the pet if found.
+     */
+    @EntityGraph(Pet.PROFILE_GRAPH)
+    @Query("SELECT p FROM Pet p WHERE p.id = :petId")
+    Optional<Pet> findProfileById(@Param("petId") Long petId);
+
     /**
      * Finds all pets belonging to a specific owner, regardless of their status
      * (includes PENDING, ACTIVE, and INACTIVE).
@@ -96,4 +115,39 @@ public interface PetRepository extends JpaRepository<Pet, Long>, JpaSpecificatio
      * @return A {@link List} containing all {@link Pet} entities owned by the specified owner.
      */
     List<Pet> findByOwnerId(Long ownerId);
+
+    /**
+     * Finds several pets by ID with the breed, owner and pending certificate clinic fetched in the same query,
+     * as needed to issue their certificates in bulk.
+     *
+     * @param petIds The IDs of the pets.
+     * @return The pets found; missing IDs are simply absent.
+     */
+    @Query("SELECT p FROM Pet p " +
+            "JOIN FETCH p.breed " +
+            "JOIN FETCH p.owner " +
+            "LEFT JOIN FETCH p.pendingCertificateClinic " +
+            "WHERE p.id IN :petIds")
+    List<Pet> findAllForCertificateIssuance(@Param("petIds") Collection<Long> petIds);
+
+    /**
+     * Finds the next pets after a given ID, in ascending ID order, for keyset pagination over all pets.
+     * Unlike {@code findAll(Pageable)}, no count query is run.
+     *
+     * @param afterId  The ID of the last pet already processed (exclusive lower bound).
+     * @param pageable The maximum number of pets (only the first page is meaningful).
+     * @return The pets found, possibly empty.
+     */
+    @Query("SELECT p FROM Pet p WHERE p.id > :afterId ORDER BY p.id")
+    List<Pet> findPageAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Clears the persisted AHC eligibility date of all pets whose date is before the given date.
+     *
+     * @param date The reference date; eligibility dates strictly before it are cleared.
+     * @return The number of pets updated.
+     */
+    @Modifying
+    @Query("UPDATE Pet p SET p.ahcEligibleUntil = NULL WHERE p.ahcEligibleUntil < :date")
+    int clearAhcEligibilityBefore(@Param("date") LocalDate date);
 }
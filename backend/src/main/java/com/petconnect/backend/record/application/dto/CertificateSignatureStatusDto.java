@@ -0,0 +1,25 @@
+package com.petconnect.backend.record.application.dto;
+
+/**
+ * Verification result of the vet and clinic signatures of a single certificate.
+ *
+ * @param certificateId        The ID of the certificate.
+ * @param certificateNumber    The official certificate number.
+ * @param payloadIntact        Whether the stored payload still matches the signed hash.
+ * @param vetSignatureValid    Whether the vet signature of the payload hash is valid.
+ * @param clinicSignatureValid Whether the clinic signature of the payload hash is valid.
+ * @param valid                Whether the payload is intact and both signatures are valid.
+ * @param error                The reason the signatures could not be checked, or null.
+ *
+ * @author ibosquet
+ */
+public record CertificateSignatureStatusDto(
+        Long certificateId,
+        String certificateNumber,
+        boolean payloadIntact,
+        boolean vetSignatureValid,
+        boolean clinicSignatureValid,
+        boolean valid,
+        String error
+) {
+}
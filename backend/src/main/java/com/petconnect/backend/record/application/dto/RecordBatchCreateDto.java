@@ -0,0 +1,31 @@
+package com.petconnect.backend.record.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for creating several medical records in a single request
+ * (e.g., a vaccination day at a clinic). Records may belong to different pets.
+ * When the creator is a Vet, all records are signed with the same unlocked key,
+ * using either the key password (decrypted once) or an open signing session.
+ *
+ * @param records               The records to create. Between 1 and 200 items.
+ * @param vetPrivateKeyPassword Password of the vet's private key, used when no signing session is given.
+ * @param signingSessionToken   Optional handle of an open vet signing session.
+ *
+ * @author ibosquet
+ */
+public record RecordBatchCreateDto(
+        @NotEmpty(message = "At least one record is required")
+        @Size(max = 200, message = "A batch cannot contain more than 200 records")
+        List<@Valid RecordCreateDto> records,
+        @Nullable
+        String vetPrivateKeyPassword,
+        @Nullable
+        String signingSessionToken
+) {
+}
@@ -0,0 +1,21 @@
+package com.petconnect.backend.record.application.dto;
+
+/**
+ * Result of a single item of a batch record creation.
+ *
+ * @param index   The position of the item in the request list.
+ * @param petId   The ID of the pet the record was intended for.
+ * @param success Whether the record was created.
+ * @param record  The created record, or null if the item failed.
+ * @param error   The reason of the failure, or null if the item succeeded.
+ *
+ * @author ibosquet
+ */
+public record RecordBatchItemResultDto(
+        int index,
+        Long petId,
+        boolean success,
+        RecordViewDto record,
+        String error
+) {
+}
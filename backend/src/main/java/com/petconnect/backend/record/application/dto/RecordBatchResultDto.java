@@ -0,0 +1,22 @@
+package com.petconnect.backend.record.application.dto;
+
+import java.util.List;
+
+/**
+ * Result of a batch record creation, with one entry per requested record
+ * so partial failures are visible to the client.
+ *
+ * @param total     Number of records requested.
+ * @param succeeded Number of records created.
+ * @param failed    Number of records rejected.
+ * @param items     Per-item results, in request order.
+ *
+ * @author ibosquet
+ */
+public record RecordBatchResultDto(
+        int total,
+        int succeeded,
+        int failed,
+        List<RecordBatchItemResultDto> items
+) {
+}
@@ -14,6 +14,8 @@ import org.springframework.lang.Nullable;
  * @param type        The type of record being created. Cannot be null.
  * @param description A textual description for the record. Optional, max 2000 chars.
  * @param vaccine     Optional details of the vaccine, required if the type is VACCINE. Must be valid if present.
+ * @param vetPrivateKeyPassword Password of the vet's private key, used to sign when no signing session is given.
+ * @param signingSessionToken   Optional handle of an open vet signing session, used to sign instead of the password.
  *
  * @author ibosquet
  */
@@ -27,6 +29,14 @@ public record RecordCreateDto(
         @Valid
         VaccineCreateDto vaccine,
         @Nullable
-        String vetPrivateKeyPassword
+        String vetPrivateKeyPassword,
+        @Nullable
+        String signingSessionToken
 ) {
+    /**
+     * Creates a record DTO without a signing session (signing, if any, uses the key password).
+     */
+    public RecordCreateDto(Long petId, RecordType type, String description, VaccineCreateDto vaccine, String vetPrivateKeyPassword) {
+        this(petId, type, description, vaccine, vetPrivateKeyPassword, null);
+    }
 }
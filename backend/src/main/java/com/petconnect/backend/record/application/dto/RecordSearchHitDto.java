@@ -0,0 +1,37 @@
+package com.petconnect.backend.record.application.dto;
+
+import com.petconnect.backend.record.domain.model.RecordType;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO representing a medical record found by a full-text search within a clinic, most relevant first.
+ *
+ * @param recordId           The ID of the matched record.
+ * @param petId              The ID of the pet the record belongs to.
+ * @param petName            The name of the pet the record belongs to.
+ * @param type               The type of the record.
+ * @param createdAt          The creation timestamp of the record.
+ * @param vaccineName        The name of the vaccine, or null if the record has no vaccine details.
+ * @param vaccineBatchNumber The batch number of the vaccine, or null if the record has no vaccine details.
+ * @param vaccineLaboratory  The laboratory of the vaccine, or null if the record has no vaccine details.
+ * @param signed             Whether the record is signed by a veterinarian.
+ * @param rank               The relevance rank of the record for the search (higher is more relevant).
+ * @param highlight          The matching fragments of the vaccine details and description as HTML-escaped text,
+ *                           with each match enclosed in {@code <mark>} tags.
+ *
+ * @author ibosquet
+ */
+public record RecordSearchHitDto(
+        Long recordId,
+        Long petId,
+        String petName,
+        RecordType type,
+        LocalDateTime createdAt,
+        String vaccineName,
+        String vaccineBatchNumber,
+        String vaccineLaboratory,
+        boolean signed,
+        float rank,
+        String highlight
+) {}
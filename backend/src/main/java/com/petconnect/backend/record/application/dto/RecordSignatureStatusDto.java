@@ -0,0 +1,23 @@
+package com.petconnect.backend.record.application.dto;
+
+import com.petconnect.backend.record.domain.model.RecordType;
+
+/**
+ * Verification result of the vet signature of a single signed record.
+ *
+ * @param recordId The ID of the record.
+ * @param type     The type of the record.
+ * @param vetId    The ID of the vet who signed the record.
+ * @param valid    Whether the signature matches the record data and the vet's public key.
+ * @param error    The reason the signature could not be checked, or null.
+ *
+ * @author ibosquet
+ */
+public record RecordSignatureStatusDto(
+        Long recordId,
+        RecordType type,
+        Long vetId,
+        boolean valid,
+        String error
+) {
+}
@@ -0,0 +1,31 @@
+package com.petconnect.backend.record.application.dto;
+
+import java.util.List;
+
+/**
+ * Report of the bulk verification of every signature in a pet's medical history.
+ *
+ * @param petId               The ID of the pet.
+ * @param allValid            Whether every checked signature is valid.
+ * @param recordsChecked      Number of signed records checked.
+ * @param recordsValid        Number of signed records with a valid signature.
+ * @param certificatesChecked Number of certificates checked.
+ * @param certificatesValid   Number of certificates with both signatures valid.
+ * @param durationMillis      Time spent verifying, in milliseconds.
+ * @param records             Per-record results, newest first.
+ * @param certificates        Per-certificate results, newest first.
+ *
+ * @author ibosquet
+ */
+public record SignatureVerificationReportDto(
+        Long petId,
+        boolean allValid,
+        int recordsChecked,
+        int recordsValid,
+        int certificatesChecked,
+        int certificatesValid,
+        long durationMillis,
+        List<RecordSignatureStatusDto> records,
+        List<CertificateSignatureStatusDto> certificates
+) {
+}
@@ -0,0 +1,16 @@
+package com.petconnect.backend.record.application.dto;
+
+import java.time.Instant;
+
+/**
+ * DTO describing an open vet signing session.
+ *
+ * @param sessionToken The opaque session handle to send instead of the key password when signing records.
+ * @param expiresAt    The moment the session expires and the unlocked key is discarded.
+ * @author ibosquet
+ */
+public record SigningSessionDto(
+        String sessionToken,
+        Instant expiresAt
+) {
+}
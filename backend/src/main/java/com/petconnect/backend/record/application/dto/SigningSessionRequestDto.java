@@ -0,0 +1,15 @@
+package com.petconnect.backend.record.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * DTO for opening a vet signing session, unlocking the vet's private key once.
+ *
+ * @param vetPrivateKeyPassword The password of the vet's encrypted private key.
+ * @author ibosquet
+ */
+public record SigningSessionRequestDto(
+        @NotBlank(message = "Veterinarian's private key password is required to open a signing session.")
+        String vetPrivateKeyPassword
+) {
+}
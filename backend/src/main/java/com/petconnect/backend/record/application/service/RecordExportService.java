@@ -0,0 +1,85 @@
+package com.petconnect.backend.record.application.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Service interface for exporting the full medical history of a pet (records, vaccine details and signatures).
+ * Records are read through a database cursor and written straight to the given stream, so a response can be
+ * streamed to the client without loading the whole history in memory.
+ *
+ * @author ibosquet
+ */
+public interface RecordExportService {
+
+    /**
+     * Supported export formats.
+     */
+    enum Format {
+        NDJSON("application/x-ndjson"),
+        CSV("text/csv");
+
+        private final String mediaType;
+
+        Format(String mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public String getMediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * Resolves a format from a request parameter, ignoring case.
+         *
+         * @param value The parameter value (e.g., {@code ndjson} or {@code csv}).
+         * @return The matching format.
+         * @throws IllegalArgumentException if the value is not a supported format.
+         */
+        public static Format fromParameter(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + value + ". Supported formats are ndjson and csv.");
+        }
+    }
+
+    /**
+     * Verifies that the requester may export the records of a pet.
+     * Called before streaming starts, so errors are still reported with a proper status.
+     *
+     * @param petId           The ID of the pet.
+     * @param requesterUserId The ID of the user requesting the export.
+     * @throws com.petconnect.backend.exception.EntityNotFoundException if the pet is not found.
+     * @throws org.springframework.security.access.AccessDeniedException if the requester is not the owner or authorized staff.
+     */
+    void verifyExportAccess(Long petId, Long requesterUserId);
+
+    /**
+     * Writes all records of a pet, oldest first, in the given format: one JSON object per line for
+     * {@link Format#NDJSON}, or a header line and one row per record for {@link Format#CSV}.
+     * The stream is flushed but not closed.
+     *
+     * @param petId  The ID of the pet.
+     * @param format The export format.
+     * @param out    The stream to write the export to.
+     * @throws IOException if writing to the stream fails.
+     */
+    void writeExport(Long petId, Format format, OutputStream out) throws IOException;
+
+    /**
+     * Returns the file name of the export of a pet (e.g., {@code records-pet-12.csv}).
+     *
+     * @param petId  The ID of the pet.
+     * @param format The export format.
+     * @return A file name safe for a {@code Content-Disposition} header.
+     */
+    String fileName(Long petId, Format format);
+}
@@ -1,5 +1,6 @@
 package com.petconnect.backend.record.application.service;
 
+import com.petconnect.backend.common.dto.CursorPageDto;
 import com.petconnect.backend.exception.RecordImmutableException;
 import com.petconnect.backend.record.application.dto.*;
 import jakarta.persistence.EntityNotFoundException;
@@ -50,6 +51,19 @@ public interface RecordService {
      */
     Page<RecordViewDto> findRecordsByPetId(Long petId, Long requesterUserId, Pageable pageable);
 
+    /**
+     * Verifies every signature in a pet's medical history: the vet signature of each signed record
+     * and the vet and clinic signatures of each certificate, against the stored public keys.
+     * Requires the requester to be the pet's owner or authorized clinic staff.
+     *
+     * @param petId           The ID of the pet whose history is verified.
+     * @param requesterUserId The ID of the user requesting the verification (for authorization).
+     * @return A {@link SignatureVerificationReportDto} with per-record and per-certificate results and timing.
+     * @throws com.petconnect.backend.exception.EntityNotFoundException if the pet is not found.
+     * @throws org.springframework.security.access.AccessDeniedException  if the requester is not authorized to view records for this pet.
+     */
+    SignatureVerificationReportDto verifyPetSignatures(Long petId, Long requesterUserId);
+
     /**
      * Retrieves a specific medical record by its ID.
      * Requires the requester to be the pet's owner or authorized clinic staff.
@@ -110,6 +124,8 @@ public interface RecordService {
     /**
      * Retrieves a list of medical records linked to a temporary access token.
      * The token provides limited, read-only access to signed medical records.
+     * The records are cached per token ID for a short time (never beyond the token expiry)
+     * and dropped as soon as a signed record of the pet is created or deleted.
      *
      * @param tokenValue The value of the temporary access token used for authorization.
      * @return A list of {@link RecordViewDto} objects representing the medical records accessible with the provided token.
@@ -128,4 +144,68 @@ public interface RecordService {
      * @throws AccessDeniedException if the requester is not authorized, staff of the clinic.
      */
     Page<RecordViewDto> findRecordsCreatedByClinic(Long clinicId, Long requesterUserId, Pageable pageable);
+
+    /**
+     * Retrieves one page of the medical records created by staff within a specific clinic, newest first,
+     * using keyset pagination: each page is read from the position of the previous one, so deep pages
+     * are as fast as the first and no count query is run.
+     *
+     * @param clinicId        The ID of the clinic.
+     * @param requesterUserId The ID of the user (clinic staff) requesting the records.
+     * @param cursor          The cursor returned with the previous page, or null for the first page.
+     * @param size            The page size (1 to 100).
+     * @return A {@link CursorPageDto} of {@link RecordViewDto} with the cursor of the next page.
+     * @throws AccessDeniedException if the requester is not authorized, staff of the clinic.
+     * @throws IllegalArgumentException if the cursor is invalid or the size is out of range.
+     */
+    CursorPageDto<RecordViewDto> scrollRecordsCreatedByClinic(Long clinicId, Long requesterUserId, String cursor, int size);
+
+    /**
+     * Full-text searches the medical records created by staff within a specific clinic, most relevant first.
+     * Matches the record type and description and the vaccine name, batch number and laboratory
+     * (e.g., all records of a recalled vaccine batch), with the matches highlighted.
+     * Uses keyset pagination over the rank, like {@link #scrollRecordsCreatedByClinic}.
+     *
+     * @param clinicId        The ID of the clinic.
+     * @param requesterUserId The ID of the user (clinic staff) searching the records.
+     * @param query           The search text (quoted phrases, {@code or} and {@code -excluded} words are supported).
+     * @param cursor          The cursor returned with the previous page, or null for the first page.
+     * @param size            The page size (1 to 100).
+     * @return A {@link CursorPageDto} of {@link RecordSearchHitDto} with the cursor of the next page.
+     * @throws AccessDeniedException if the requester is not authorized, staff of the clinic.
+     * @throws IllegalArgumentException if the query is blank or too long, the cursor is invalid or the size is out of range.
+     */
+    CursorPageDto<RecordSearchHitDto> searchRecordsCreatedByClinic(Long clinicId, Long requesterUserId, String query, String cursor, int size);
+
+    /**
+     * Creates and signs several medical records in a single transaction on behalf of a veterinarian.
+     * Each pet is looked up and authorized only once, the vet's key is unlocked only once
+     * (or the open signing session is used), and all valid records are saved together.
+     * Invalid items do not abort the batch; they are reported in the per-item results.
+     *
+     * @param batchDto The DTO containing the records and the signing credentials.
+     * @param vetId    The ID of the authenticated veterinarian.
+     * @return A {@link RecordBatchResultDto} with one result per requested record.
+     * @throws EntityNotFoundException if the user is not a veterinarian.
+     * @throws IllegalArgumentException if neither a key password nor a signing session is provided.
+     */
+    RecordBatchResultDto createRecordsBatch(RecordBatchCreateDto batchDto, Long vetId);
+
+    /**
+     * Opens a signing session for a veterinarian by unlocking their private key once.
+     * Records created afterwards can be signed with the returned session token instead of the key password.
+     *
+     * @param requestDto The DTO containing the password of the vet's private key.
+     * @param vetId      The ID of the authenticated veterinarian.
+     * @return A {@link SigningSessionDto} with the session token and its expiry.
+     * @throws EntityNotFoundException if the user is not a veterinarian.
+     */
+    SigningSessionDto openSigningSession(SigningSessionRequestDto requestDto, Long vetId);
+
+    /**
+     * Closes the signing session of a veterinarian, discarding the unlocked key.
+     *
+     * @param vetId The ID of the authenticated veterinarian.
+     */
+    void closeSigningSession(Long vetId);
 }
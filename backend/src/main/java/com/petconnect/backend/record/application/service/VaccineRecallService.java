@@ -0,0 +1,51 @@
+package com.petconnect.backend.record.application.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for vaccine batch recalls: finds the vaccinations with a recalled batch administered
+ * within a clinic, with the affected pets, their owners (to be notified) and the certificates issued from them.
+ * Rows are read through a database cursor and written straight to the given stream, so large recalls
+ * can be streamed to the client without loading them in memory.
+ *
+ * @author ibosquet
+ */
+public interface VaccineRecallService {
+
+    /**
+     * Verifies that the requester may look up a batch recall in the clinic and that the batch number is valid.
+     * Called before streaming starts, so errors are still reported with a proper status.
+     *
+     * @param clinicId        The ID of the clinic.
+     * @param batchNumber     The recalled batch number.
+     * @param requesterUserId The ID of the requesting user (clinic staff).
+     * @throws com.petconnect.backend.exception.EntityNotFoundException if the requester is not found.
+     * @throws org.springframework.security.access.AccessDeniedException if the requester is not staff of the clinic.
+     * @throws IllegalArgumentException if the batch number is blank or too long.
+     */
+    void verifyRecallLookup(Long clinicId, String batchNumber, Long requesterUserId);
+
+    /**
+     * Writes the vaccinations affected by a batch recall to the given stream, grouped by owner,
+     * one vaccination (and certificate) per line. The stream is flushed but not closed.
+     * In CSV, owner-entered text that a spreadsheet would evaluate as a formula is prefixed with a single quote.
+     *
+     * @param clinicId    The ID of the clinic.
+     * @param batchNumber The recalled batch number (exact match, surrounding blanks ignored).
+     * @param laboratory  The laboratory of the recalled batch, or null/blank for any laboratory.
+     * @param format      The output format.
+     * @param out         The stream to write to.
+     * @throws IOException if writing to the stream fails.
+     */
+    void writeAffected(Long clinicId, String batchNumber, String laboratory, RecordExportService.Format format, OutputStream out) throws IOException;
+
+    /**
+     * Returns the file name of a recall lookup (e.g., {@code vaccine-recall-RB-1.csv}).
+     *
+     * @param batchNumber The recalled batch number.
+     * @param format      The output format.
+     * @return A file name safe for a {@code Content-Disposition} header.
+     */
+    String fileName(String batchNumber, RecordExportService.Format format);
+}
@@ -0,0 +1,58 @@
+package com.petconnect.backend.record.application.service.impl;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes CSV lines (RFC 4180) for the streamed record exports.
+ *
+ * @author ibosquet
+ */
+final class CsvLineWriter {
+
+    private CsvLineWriter() {
+    }
+
+    /** Leading characters that make spreadsheet applications evaluate a cell as a formula. */
+    private static final String FORMULA_TRIGGERS = "=+-@\t\r";
+
+    /**
+     * Writes one CSV line: values containing a separator, quote or line break are quoted,
+     * with quotes doubled, and null values are written as empty fields.
+     * Text values starting with a formula trigger ({@code = + - @}, tab or carriage return) are prefixed
+     * with a single quote, so a spreadsheet shows them as text instead of evaluating them. Numbers are written as is.
+     *
+     * @param writer The writer to write the line to.
+     * @param values The values of the line.
+     * @throws IOException if the line cannot be written.
+     */
+    static void writeLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] == null) {
+                continue;
+            }
+            String value = values[i] instanceof Number ? values[i].toString() : neutralizeFormula(values[i].toString());
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Prefixes a text value with a single quote if it starts with a formula trigger.
+     */
+    private static String neutralizeFormula(String value) {
+        if (!value.isEmpty() && FORMULA_TRIGGERS.indexOf(value.charAt(0)) >= 0) {
+            return "'" + value;
+        }
+        return value;
+    }
+}
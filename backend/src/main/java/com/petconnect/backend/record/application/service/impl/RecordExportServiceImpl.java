@@ -0,0 +1,105 @@
+package com.petconnect.backend.record.application.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.petconnect.backend.common.helper.AuthorizationHelper;
+import com.petconnect.backend.common.helper.EntityFinderHelper;
+import com.petconnect.backend.pet.domain.model.Pet;
+import com.petconnect.backend.record.application.service.RecordExportService;
+import com.petconnect.backend.record.domain.model.RecordExportRow;
+import com.petconnect.backend.record.domain.repository.RecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the {@link RecordExportService} interface.
+ * Rows are read as flat projections through a forward-only cursor and written one at a time through
+ * a buffered writer, so memory use stays constant regardless of the length of the pet's history.
+ *
+ * @author ibosquet
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecordExportServiceImpl implements RecordExportService {
+
+    private static final String[] CSV_HEADER = {
+            "recordId", "petId", "createdAt", "type", "description", "creatorId", "creatorUsername", "clinicId", "clinicName",
+            "vaccineName", "vaccineLaboratory", "vaccineBatchNumber", "vaccineValidityYears", "rabiesVaccine",
+            "vetSignature", "immutable"
+    };
+
+    private final RecordRepository recordRepository;
+    private final EntityFinderHelper entityFinderHelper;
+    private final AuthorizationHelper authorizationHelper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void verifyExportAccess(Long petId, Long requesterUserId) {
+        Pet pet = entityFinderHelper.findPetByIdOrFail(petId);
+        authorizationHelper.verifyUserAuthorizationForPet(requesterUserId, pet, "export records of");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void writeExport(Long petId, Format format, OutputStream out) throws IOException {
+        // Not closed, so the caller's stream stays open; flushed below instead
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        ObjectWriter rowWriter = objectMapper.writerFor(RecordExportRow.class);
+        long count = 0;
+        if (format == Format.CSV) {
+            CsvLineWriter.writeLine(writer, CSV_HEADER);
+        }
+        try (Stream<RecordExportRow> rows = recordRepository.streamExportRowsByPetId(petId)) {
+            Iterator<RecordExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                RecordExportRow row = iterator.next();
+                if (format == Format.NDJSON) {
+                    writer.write(rowWriter.writeValueAsString(row));
+                    writer.write('\n');
+                } else {
+                    CsvLineWriter.writeLine(writer, csvValues(row));
+                }
+                count++;
+            }
+        }
+        writer.flush();
+        log.info("Exported {} records of Pet ID {} as {}.", count, petId, format);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String fileName(Long petId, Format format) {
+        return "records-pet-" + petId + "." + format.extension();
+    }
+
+    // Private methods
+
+    private Object[] csvValues(RecordExportRow row) {
+        return new Object[] {
+                row.recordId(), row.petId(), row.createdAt(), row.type(), row.description(), row.creatorId(), row.creatorUsername(),
+                row.clinicId(), row.clinicName(), row.vaccineName(), row.vaccineLaboratory(), row.vaccineBatchNumber(),
+                row.vaccineValidityYears(), row.rabiesVaccine(), row.vetSignature(), row.immutable()
+        };
+    }
+}
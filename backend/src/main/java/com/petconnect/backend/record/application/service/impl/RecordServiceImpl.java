@@ -1,11 +1,18 @@
 package com.petconnect.backend.record.application.service.impl;
 
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.petconnect.backend.certificate.domain.model.Certificate;
+import com.petconnect.backend.certificate.domain.repository.CertificateRepository;
+import com.petconnect.backend.common.dto.CursorPageDto;
+import com.petconnect.backend.common.helper.AhcEligibilityHelper;
 import com.petconnect.backend.common.helper.AuthorizationHelper;
 import com.petconnect.backend.common.helper.EntityFinderHelper;
+import com.petconnect.backend.common.helper.KeysetCursor;
 import com.petconnect.backend.common.helper.RecordHelper;
 import com.petconnect.backend.common.helper.ValidateHelper;
+import com.petconnect.backend.common.service.SignatureVerificationService;
 import com.petconnect.backend.common.service.SigningService;
+import com.petconnect.backend.common.service.SigningSessionService;
 import com.petconnect.backend.exception.RecordSignedException;
 import com.petconnect.backend.exception.RecordUpdateVaccineException;
 import com.petconnect.backend.pet.domain.model.Pet;
@@ -15,6 +22,7 @@ import com.petconnect.backend.record.application.mapper.RecordMapper;
 import com.petconnect.backend.record.application.mapper.VaccineMapper;
 import com.petconnect.backend.record.application.service.RecordService;
 import com.petconnect.backend.record.domain.model.Record;
+import com.petconnect.backend.record.domain.model.RecordSearchHit;
 import com.petconnect.backend.record.domain.model.RecordType;
 import com.petconnect.backend.record.domain.model.Vaccine;
 import com.petconnect.backend.record.domain.repository.RecordRepository;
@@ -22,19 +30,25 @@ import com.petconnect.backend.security.JwtUtils;
 import com.petconnect.backend.user.domain.model.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
+import org.springframework.web.util.HtmlUtils;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.petconnect.backend.exception.InvalidTemporaryTokenException;
 
+import java.security.PrivateKey;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.format.DateTimeParseException;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.function.UnaryOperator;
 
 /**
  * Implementation of the {@link RecordService} interface.
@@ -55,7 +69,32 @@ public class RecordServiceImpl implements RecordService {
     private final ValidateHelper validateHelper;
     private final RecordHelper recordHelper;
     private final SigningService signingService;
+    private final SigningSessionService signingSessionService;
     private final JwtUtils jwtUtils;
+    private final AhcEligibilityHelper ahcEligibilityHelper;
+    private final CertificateRepository certificateRepository;
+    private final SignatureVerificationService signatureVerificationService;
+
+    private static final int DEFAULT_TEMPORARY_ACCESS_CACHE_MAX_ENTRIES = 1000;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+    // Match delimiters returned by the search query (see RecordSearchHit#getHighlight)
+    private static final String HIGHLIGHT_START = "\u0002";
+    private static final String HIGHLIGHT_STOP = "\u0003";
+
+    private final TemporaryAccessRecordCache temporaryAccessCache = new TemporaryAccessRecordCache(DEFAULT_TEMPORARY_ACCESS_CACHE_MAX_ENTRIES);
+
+    @Value("${app.records.temporary-access.cache.ttl:PT30S}")
+    private Duration temporaryAccessCacheTtl = Duration.ofSeconds(30);
+
+    /**
+     * Sets the maximum number of temporary access tokens whose records are kept in memory.
+     *
+     * @param maxEntries The maximum number of cached tokens.
+     */
+    @Value("${app.records.temporary-access.cache.max-entries:" + DEFAULT_TEMPORARY_ACCESS_CACHE_MAX_ENTRIES + "}")
+    void setTemporaryAccessCacheMaxEntries(int maxEntries) {
+        temporaryAccessCache.resize(maxEntries);
+    }
 
     /**
      * {@inheritDoc}
@@ -74,28 +113,21 @@ public class RecordServiceImpl implements RecordService {
         authorizationHelper.verifyUserAuthorizationForPet(creatorUserId, pet, "create record for");
         validateHelper.validateRecordCreationDto(createDto);
 
-        Record newRecord = Record.builder()
-                .pet(pet)
-                .creator(creator)
-                .type(createDto.type())
-                .description(createDto.description())
-                .build();
-
-        if (createDto.type() == RecordType.VACCINE) {
-            Vaccine vaccineEntity = vaccineMapper.fromCreateDto(createDto.vaccine());
-            newRecord.setVaccineDetails(vaccineEntity);
-        }
+        Record newRecord = buildNewRecord(pet, creator, createDto);
 
         if (creator instanceof ClinicStaff staffCreator) {
             newRecord.setCreatedInClinic(staffCreator.getClinic());
             if (creator instanceof Vet vetCreator) {
                 log.info("Creator is Vet (ID: {}), from clinic {}, proceeding with signature.", creatorUserId, staffCreator.getClinic().getId());
-                if (!StringUtils.hasText(createDto.vetPrivateKeyPassword())) {
-                    log.error("Vet (ID: {}) attempting to create a record but no private key password provided in DTO.", creatorUserId);
+                boolean hasSigningSession = StringUtils.hasText(createDto.signingSessionToken());
+                if (!hasSigningSession && !StringUtils.hasText(createDto.vetPrivateKeyPassword())) {
+                    log.error("Vet (ID: {}) attempting to create a record but no private key password or signing session provided in DTO.", creatorUserId);
                     throw new IllegalArgumentException("Veterinarian's private key password is required for signing.");
                 }
                 String dataToSign = recordHelper.buildSignableData(pet, vetCreator, createDto);
-                String signature = signingService.generateVetSignature(vetCreator, dataToSign, createDto.vetPrivateKeyPassword().toCharArray());
+                String signature = hasSigningSession
+                        ? signingSessionService.signWithSession(vetCreator, createDto.signingSessionToken(), dataToSign)
+                        : signingService.generateVetSignature(vetCreator, dataToSign, createDto.vetPrivateKeyPassword().toCharArray());
                 newRecord.setVetSignature(signature);
                 log.info("Record for Pet {} created, signed by Vet {}...", createDto.petId(), creatorUserId);
             } else { // If it is Clinic Staff but not Vet
@@ -107,9 +139,65 @@ public class RecordServiceImpl implements RecordService {
 
         Record savedRecord = recordRepository.save(newRecord);
         log.info("User {} created new record ID {} for Pet {}", creatorUserId, savedRecord.getId(), createDto.petId());
+        refreshAhcEligibilityIfAffected(savedRecord);
+        evictTemporaryAccessIfSigned(List.of(savedRecord));
         return recordMapper.toViewDto(savedRecord);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public RecordBatchResultDto createRecordsBatch(RecordBatchCreateDto batchDto, Long vetId) {
+        Vet vet = entityFinderHelper.findVetOrFail(vetId);
+        List<RecordCreateDto> requested = batchDto.records();
+        log.info("Vet {} creating a batch of {} records.", vetId, requested.size());
+
+        // Unlock the key once for the whole batch
+        UnaryOperator<String> signer = resolveBatchSigner(vet, batchDto);
+
+        RecordBatchItemResultDto[] results = new RecordBatchItemResultDto[requested.size()];
+        Map<Long, Pet> authorizedPets = new HashMap<>();
+        Map<Long, String> rejectedPets = new HashMap<>();
+        List<Record> recordsToSave = new ArrayList<>();
+        List<Integer> recordIndexes = new ArrayList<>();
+
+        for (int i = 0; i < requested.size(); i++) {
+            RecordCreateDto itemDto = requested.get(i);
+            try {
+                Pet pet = resolveBatchPet(itemDto.petId(), vet, authorizedPets, rejectedPets);
+                validateHelper.validateRecordCreationDto(itemDto);
+                Record newRecord = buildNewRecord(pet, vet, itemDto);
+                newRecord.setCreatedInClinic(vet.getClinic());
+                newRecord.setVetSignature(signer.apply(recordHelper.buildSignableData(pet, vet, itemDto)));
+                recordsToSave.add(newRecord);
+                recordIndexes.add(i);
+            } catch (RuntimeException e) {
+                log.warn("Batch item {} (Pet {}) rejected for Vet {}: {}", i, itemDto.petId(), vetId, e.getMessage());
+                results[i] = new RecordBatchItemResultDto(i, itemDto.petId(), false, null, e.getMessage());
+            }
+        }
+
+        List<Record> savedRecords = recordRepository.saveAll(recordsToSave);
+        for (int j = 0; j < savedRecords.size(); j++) {
+            Record saved = savedRecords.get(j);
+            int index = recordIndexes.get(j);
+            results[index] = new RecordBatchItemResultDto(index, saved.getPet().getId(), true, recordMapper.toViewDto(saved), null);
+        }
+
+        savedRecords.stream()
+                .filter(this::affectsAhcEligibility)
+                .map(Record::getPet)
+                .distinct()
+                .forEach(ahcEligibilityHelper::refreshEligibility);
+        evictTemporaryAccessIfSigned(savedRecords);
+
+        int succeeded = savedRecords.size();
+        log.info("Vet {} batch finished: {} created, {} rejected.", vetId, succeeded, requested.size() - succeeded);
+        return new RecordBatchResultDto(requested.size(), succeeded, requested.size() - succeeded, List.of(results));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -123,6 +211,21 @@ public class RecordServiceImpl implements RecordService {
         return recordMapper.toViewDtoPage(recordPage);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SignatureVerificationReportDto verifyPetSignatures(Long petId, Long requesterUserId) {
+        Pet pet = entityFinderHelper.findPetByIdOrFail(petId);
+        authorizationHelper.verifyUserAuthorizationForPet(requesterUserId, pet, "verify records for");
+
+        List<Record> signedRecords = recordRepository.findSignedByPetIdForVerification(petId);
+        List<Certificate> certificates = certificateRepository.findByPetIdWithSigners(petId);
+        log.info("User {} verifying {} signed records and {} certificates of Pet {}.", requesterUserId, signedRecords.size(), certificates.size(), petId);
+        return signatureVerificationService.verifyPetHistory(petId, signedRecords, certificates);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -215,6 +318,8 @@ public class RecordServiceImpl implements RecordService {
 
         recordRepository.delete(recordToDelete);
         log.info("Record ID {} deleted successfully by User ID {}", recordId, requesterUserId);
+        refreshAhcEligibilityIfAffected(recordToDelete);
+        evictTemporaryAccessIfSigned(List.of(recordToDelete));
     }
 
     /**
@@ -279,25 +384,38 @@ public class RecordServiceImpl implements RecordService {
             throw new InvalidTemporaryTokenException("Token claims are critically incomplete.");
         }
 
+        // Shared links are refreshed repeatedly: serve them from memory while the token and the entry are valid
+        String tokenId = decodedJWT.getId();
+        Instant now = Instant.now();
+        if (tokenId != null) {
+            List<RecordViewDto> cached = temporaryAccessCache.get(tokenId, now);
+            if (cached != null) {
+                log.debug("Serving {} signed records for petId {} from the temporary access cache.", cached.size(), petId);
+                return cached;
+            }
+        }
+
         log.info("Fetching signed records for petId {} via temporary token.", petId);
         // Validates that the pet exists
         entityFinderHelper.findPetByIdOrFail(petId);
 
-        // Get ALL pet records
-        List<Record> allPetRecords = recordRepository.findAllByPetIdOrderByCreatedAtDesc(petId);
-
-        // Filter only the signed ones
-        List<Record> signedRecords = allPetRecords
-                .stream()
-                .filter(recordEntity -> StringUtils.hasText(recordEntity.getVetSignature()))
-                .toList();
+        // Only the signed records, filtered by the database and fetched with everything the DTOs need
+        List<Record> signedRecords = recordRepository.findSignedByPetIdForView(petId);
 
         if (signedRecords.isEmpty()) {
             log.info("No signed records found for petId {} via temporary token.", petId);
         }
 
         log.info("Successfully retrieved {} signed records for petId {} using temporary token.", signedRecords.size(), petId);
-        return recordMapper.toViewDtoList(signedRecords);
+        List<RecordViewDto> recordDtos = recordMapper.toViewDtoList(signedRecords);
+        if (tokenId != null) {
+            Instant expiresAt = now.plus(temporaryAccessCacheTtl);
+            if (decodedJWT.getExpiresAtAsInstant() != null && decodedJWT.getExpiresAtAsInstant().isBefore(expiresAt)) {
+                expiresAt = decodedJWT.getExpiresAtAsInstant();
+            }
+            temporaryAccessCache.put(tokenId, petId, recordDtos, expiresAt, now);
+        }
+        return recordDtos;
     }
 
     @Override
@@ -313,4 +431,222 @@ public class RecordServiceImpl implements RecordService {
 
         return recordMapper.toViewDtoPage(recordPage);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<RecordViewDto> scrollRecordsCreatedByClinic(Long clinicId, Long requesterUserId, String cursor, int size) {
+        ClinicStaff staff = entityFinderHelper.findClinicStaffOrFail(requesterUserId, "view clinic's created records");
+        if (!staff.getClinic().getId().equals(clinicId)) {
+            throw new AccessDeniedException("Staff " + requesterUserId + " is not authorized to view records for clinic " + clinicId);
+        }
+        KeysetCursor.Position position = KeysetCursor.decode(cursor);
+        Pageable limit = KeysetCursor.pageLimit(size);
+
+        List<Record> records = position == null
+                ? recordRepository.findFirstCreatedInClinic(clinicId, limit)
+                : recordRepository.findCreatedInClinicAfter(clinicId, position.createdAt(), position.id(), limit);
+        return KeysetCursor.toPage(records, size, recordMapper::toViewDto);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<RecordSearchHitDto> searchRecordsCreatedByClinic(Long clinicId, Long requesterUserId, String query, String cursor, int size) {
+        ClinicStaff staff = entityFinderHelper.findClinicStaffOrFail(requesterUserId, "search clinic's created records");
+        if (!staff.getClinic().getId().equals(clinicId)) {
+            throw new AccessDeniedException("Staff " + requesterUserId + " is not authorized to search records for clinic " + clinicId);
+        }
+        if (!StringUtils.hasText(query) || query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be between 1 and " + MAX_SEARCH_QUERY_LENGTH + " characters.");
+        }
+        KeysetCursor.RankedPosition position = KeysetCursor.decodeRanked(cursor);
+        int limit = KeysetCursor.pageLimit(size).getPageSize();
+
+        String searchText = query.trim();
+        List<RecordSearchHit> hits = position == null
+                ? recordRepository.searchFirstInClinic(clinicId, searchText, limit)
+                : recordRepository.searchInClinicAfter(clinicId, searchText, position.rank(), position.id(), limit);
+
+        boolean hasNext = hits.size() > size;
+        List<RecordSearchHit> page = hasNext ? hits.subList(0, size) : hits;
+        String nextCursor = null;
+        if (hasNext) {
+            RecordSearchHit last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.encodeRanked(last.getRank(), last.getRecordId());
+        }
+        return new CursorPageDto<>(page.stream().map(this::toSearchHitDto).toList(), nextCursor, hasNext);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SigningSessionDto openSigningSession(SigningSessionRequestDto requestDto, Long vetId) {
+        Vet vet = entityFinderHelper.findVetOrFail(vetId);
+        return signingSessionService.openSession(vet, requestDto.vetPrivateKeyPassword().toCharArray());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void closeSigningSession(Long vetId) {
+        signingSessionService.closeSession(vetId);
+    }
+
+    /**
+     * Converts a search hit to its DTO, escaping the highlighted text as HTML
+     * and replacing the match delimiters with {@code <mark>} tags.
+     *
+     * @param hit The search hit.
+     * @return The DTO.
+     */
+    private RecordSearchHitDto toSearchHitDto(RecordSearchHit hit) {
+        String highlight = hit.getHighlight() == null ? null : HtmlUtils.htmlEscape(hit.getHighlight())
+                .replace(HIGHLIGHT_START, "<mark>")
+                .replace(HIGHLIGHT_STOP, "</mark>");
+        return new RecordSearchHitDto(
+                hit.getRecordId(),
+                hit.getPetId(),
+                hit.getPetName(),
+                hit.getType(),
+                hit.getCreatedAt(),
+                hit.getVaccineName(),
+                hit.getVaccineBatchNumber(),
+                hit.getVaccineLaboratory(),
+                Boolean.TRUE.equals(hit.getSigned()),
+                hit.getRank() == null ? 0f : hit.getRank(),
+                highlight
+        );
+    }
+
+    /**
+     * Refreshes the persisted AHC eligibility of the record's pet when the record
+     * is a signed vaccine or checkup, i.e. when it may change the pet's eligibility.
+     *
+     * @param affectedRecord The record just created or deleted.
+     */
+    private void refreshAhcEligibilityIfAffected(Record affectedRecord) {
+        if (affectsAhcEligibility(affectedRecord)) {
+            ahcEligibilityHelper.refreshEligibility(affectedRecord.getPet());
+        }
+    }
+
+    /**
+     * Drops the cached temporary access responses of the pets of the signed records, as those responses
+     * list exactly the pet's signed records. Within a transaction the eviction runs after the commit,
+     * so a concurrent request cannot cache the records as they were before the change.
+     *
+     * @param records The records just created or deleted.
+     */
+    private void evictTemporaryAccessIfSigned(Collection<Record> records) {
+        Set<Long> petIds = new HashSet<>();
+        for (Record recordEntity : records) {
+            if (StringUtils.hasText(recordEntity.getVetSignature()) && recordEntity.getPet() != null) {
+                petIds.add(recordEntity.getPet().getId());
+            }
+        }
+        if (petIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            petIds.forEach(temporaryAccessCache::invalidatePet);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                petIds.forEach(temporaryAccessCache::invalidatePet);
+            }
+        });
+    }
+
+    /**
+     * Checks whether a record can change its pet's AHC eligibility (signed vaccine or checkup).
+     */
+    private boolean affectsAhcEligibility(Record affectedRecord) {
+        if (affectedRecord == null || affectedRecord.getVetSignature() == null) {
+            return false;
+        }
+        RecordType type = affectedRecord.getType();
+        return type == RecordType.VACCINE || RecordHelper.CHECKUP_TYPES.contains(type);
+    }
+
+    /**
+     * Builds a new, unsigned record entity from the creation DTO, including vaccine details if applicable.
+     */
+    private Record buildNewRecord(Pet pet, UserEntity creator, RecordCreateDto createDto) {
+        Record newRecord = Record.builder()
+                .pet(pet)
+                .creator(creator)
+                .type(createDto.type())
+                .description(createDto.description())
+                .build();
+
+        if (createDto.type() == RecordType.VACCINE) {
+            Vaccine vaccineEntity = vaccineMapper.fromCreateDto(createDto.vaccine());
+            newRecord.setVaccineDetails(vaccineEntity);
+        }
+        return newRecord;
+    }
+
+    /**
+     * Resolves how the records of a batch are signed: with the vet's open signing session if a token
+     * is given, otherwise with the private key decrypted once from the password.
+     *
+     * @throws IllegalArgumentException if neither a signing session nor a password is provided.
+     */
+    private UnaryOperator<String> resolveBatchSigner(Vet vet, RecordBatchCreateDto batchDto) {
+        if (StringUtils.hasText(batchDto.signingSessionToken())) {
+            String sessionToken = batchDto.signingSessionToken();
+            return dataToSign -> signingSessionService.signWithSession(vet, sessionToken, dataToSign);
+        }
+        if (!StringUtils.hasText(batchDto.vetPrivateKeyPassword())) {
+            log.error("Vet (ID: {}) attempting to create a record batch but no private key password or signing session provided.", vet.getId());
+            throw new IllegalArgumentException("Veterinarian's private key password is required for signing.");
+        }
+        PrivateKey privateKey = signingService.loadVetPrivateKey(vet, batchDto.vetPrivateKeyPassword().toCharArray());
+        return dataToSign -> signingService.signWithPrivateKey(privateKey, dataToSign);
+    }
+
+    /**
+     * Finds and authorizes a pet for a batch, doing the lookup and checks only once per pet.
+     * A rejected pet makes all its items fail with the same reason.
+     */
+    private Pet resolveBatchPet(Long petId, Vet vet, Map<Long, Pet> authorizedPets, Map<Long, String> rejectedPets) {
+        if (petId == null) {
+            throw new IllegalArgumentException("Pet ID cannot be null");
+        }
+        Pet cached = authorizedPets.get(petId);
+        if (cached != null) {
+            return cached;
+        }
+        String rejection = rejectedPets.get(petId);
+        if (rejection != null) {
+            throw new IllegalStateException(rejection);
+        }
+        try {
+            Pet pet = entityFinderHelper.findPetByIdOrFail(petId);
+            if (pet.getStatus() == PetStatus.INACTIVE) {
+                throw new IllegalStateException("Cannot create a new record for an inactive pet (ID: " + petId + ").");
+            }
+            // Checked here, not through the transactional verifyUserAuthorizationForPet: a denial thrown through
+            // that proxy would mark the batch transaction rollback-only and fail the authorized items too
+            if (!authorizationHelper.isUserAuthorizedForPet(vet, pet)) {
+                throw new AccessDeniedException(String.format("User (ID: %d) is not authorized to create record for pet (ID: %d).",
+                        vet.getId(), petId));
+            }
+            authorizedPets.put(petId, pet);
+            return pet;
+        } catch (RuntimeException e) {
+            rejectedPets.put(petId, e.getMessage());
+            throw e;
+        }
+    }
 }
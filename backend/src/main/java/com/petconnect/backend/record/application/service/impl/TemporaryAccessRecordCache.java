@@ -0,0 +1,89 @@
+package com.petconnect.backend.record.application.service.impl;
+
+import com.petconnect.backend.record.application.dto.RecordViewDto;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded, least-recently-used cache of the signed records served through temporary access tokens,
+ * used by {@link RecordServiceImpl}. Entries are keyed by the token ID ({@code jti}), so a shared link
+ * refreshed repeatedly is served from memory, and expire with the token or after the cache TTL,
+ * whichever comes first. Entries of a pet are dropped when its signed records change.
+ *
+ * @author ibosquet
+ */
+class TemporaryAccessRecordCache {
+
+    private record Entry(Long petId, List<RecordViewDto> records, Instant expiresAt) {}
+
+    private volatile int maxEntries;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    TemporaryAccessRecordCache(int maxEntries) {
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    /**
+     * Returns the cached records of a token, removing the entry if it has expired.
+     *
+     * @param tokenId The token ID.
+     * @param now     The current instant.
+     * @return The cached records, or null if absent or expired.
+     */
+    synchronized List<RecordViewDto> get(String tokenId, Instant now) {
+        Entry entry = entries.get(tokenId);
+        if (entry == null) {
+            return null;
+        }
+        if (!now.isBefore(entry.expiresAt())) {
+            entries.remove(tokenId);
+            return null;
+        }
+        return entry.records();
+    }
+
+    /**
+     * Stores the records of a token until the given expiry. Nothing is stored if it is not in the future.
+     *
+     * @param tokenId   The token ID.
+     * @param petId     The ID of the pet the records belong to.
+     * @param records   The records to cache; must not be modified afterward.
+     * @param expiresAt When the entry expires.
+     * @param now       The current instant.
+     */
+    synchronized void put(String tokenId, Long petId, List<RecordViewDto> records, Instant expiresAt, Instant now) {
+        if (expiresAt.isAfter(now)) {
+            entries.put(tokenId, new Entry(petId, records, expiresAt));
+        }
+    }
+
+    /**
+     * Removes the entries of all tokens of a pet.
+     *
+     * @param petId The ID of the pet.
+     */
+    synchronized void invalidatePet(Long petId) {
+        entries.values().removeIf(entry -> entry.petId().equals(petId));
+    }
+
+    /**
+     * Changes the maximum number of entries, evicting least recently used entries if needed.
+     */
+    synchronized void resize(int newMaxEntries) {
+        this.maxEntries = Math.max(1, newMaxEntries);
+        var iterator = entries.entrySet().iterator();
+        while (entries.size() > this.maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
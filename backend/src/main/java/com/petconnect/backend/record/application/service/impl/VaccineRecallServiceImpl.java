@@ -0,0 +1,117 @@
+package com.petconnect.backend.record.application.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.petconnect.backend.common.helper.EntityFinderHelper;
+import com.petconnect.backend.record.application.service.RecordExportService.Format;
+import com.petconnect.backend.record.application.service.VaccineRecallService;
+import com.petconnect.backend.record.domain.model.VaccineRecallRow;
+import com.petconnect.backend.record.domain.repository.RecordRepository;
+import com.petconnect.backend.user.domain.model.ClinicStaff;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the {@link VaccineRecallService} interface.
+ * The affected vaccinations, pets, owners and certificates are read with a single indexed query
+ * through a forward-only cursor and written one row at a time, like the record exports.
+ *
+ * @author ibosquet
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VaccineRecallServiceImpl implements VaccineRecallService {
+
+    /** Length of the {@code vaccine.batch_number} column. */
+    private static final int MAX_BATCH_NUMBER_LENGTH = 50;
+
+    private static final String[] CSV_HEADER = {
+            "ownerId", "ownerUsername", "ownerEmail", "ownerPhone", "petId", "petName", "petMicrochip",
+            "recordId", "vaccinatedAt", "vaccineName", "vaccineLaboratory", "vaccineBatchNumber",
+            "certificateId", "certificateNumber"
+    };
+
+    private final RecordRepository recordRepository;
+    private final EntityFinderHelper entityFinderHelper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void verifyRecallLookup(Long clinicId, String batchNumber, Long requesterUserId) {
+        ClinicStaff staff = entityFinderHelper.findClinicStaffOrFail(requesterUserId, "look up vaccine batch recalls");
+        if (!staff.getClinic().getId().equals(clinicId)) {
+            throw new AccessDeniedException("Staff " + requesterUserId + " is not authorized to look up vaccine recalls for clinic " + clinicId);
+        }
+        if (!StringUtils.hasText(batchNumber) || batchNumber.trim().length() > MAX_BATCH_NUMBER_LENGTH) {
+            throw new IllegalArgumentException("Batch number must be between 1 and " + MAX_BATCH_NUMBER_LENGTH + " characters.");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void writeAffected(Long clinicId, String batchNumber, String laboratory, Format format, OutputStream out) throws IOException {
+        String batch = batchNumber.trim();
+        String lab = StringUtils.hasText(laboratory) ? laboratory.trim() : null;
+        // Not closed, so the caller's stream stays open; flushed below instead
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        ObjectWriter rowWriter = objectMapper.writerFor(VaccineRecallRow.class);
+        long count = 0;
+        if (format == Format.CSV) {
+            CsvLineWriter.writeLine(writer, CSV_HEADER);
+        }
+        try (Stream<VaccineRecallRow> rows = recordRepository.streamRecallRowsByBatch(clinicId, batch, lab)) {
+            Iterator<VaccineRecallRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                VaccineRecallRow row = iterator.next();
+                if (format == Format.NDJSON) {
+                    writer.write(rowWriter.writeValueAsString(row));
+                    writer.write('\n');
+                } else {
+                    CsvLineWriter.writeLine(writer, csvValues(row));
+                }
+                count++;
+            }
+        }
+        writer.flush();
+        log.info("Vaccine recall lookup of batch '{}' (laboratory: {}) in Clinic ID {}: {} affected rows written as {}.",
+                batch, lab, clinicId, count, format);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String fileName(String batchNumber, Format format) {
+        return "vaccine-recall-" + batchNumber.trim().replaceAll("[^A-Za-z0-9._-]", "_") + "." + format.extension();
+    }
+
+    // Private methods
+
+    private Object[] csvValues(VaccineRecallRow row) {
+        return new Object[] {
+                row.ownerId(), row.ownerUsername(), row.ownerEmail(), row.ownerPhone(), row.petId(), row.petName(), row.petMicrochip(),
+                row.recordId(), row.vaccinatedAt(), row.vaccineName(), row.vaccineLaboratory(), row.vaccineBatchNumber(),
+                row.certificateId(), row.certificateNumber()
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package com.petconnect.backend.record.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight read-only projection of the most recent signed checkup of a pet.
+ * Used to compute until when the checkup prerequisite of an AHC certificate is met
+ * without loading full {@link Record} graphs.
+ *
+ * @param petId     The ID of the pet.
+ * @param checkedAt The creation timestamp of the latest signed checkup record.
+ *
+ * @author ibosquet
+ */
+public record LatestCheckupSummary(
+        Long petId,
+        LocalDateTime checkedAt
+) {}
@@ -0,0 +1,20 @@
+package com.petconnect.backend.record.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight read-only projection of a signed Rabies vaccination.
+ * Carries only the data needed to decide whether the vaccination is still valid,
+ * so that eligibility checks over many pets do not load full {@link Record} and {@link Vaccine} graphs.
+ *
+ * @param petId         The ID of the vaccinated pet.
+ * @param vaccinatedAt  The creation timestamp of the vaccine record (vaccination date).
+ * @param validityYears The validity period of the vaccine in years.
+ *
+ * @author ibosquet
+ */
+public record RabiesVaccinationSummary(
+        Long petId,
+        LocalDateTime vaccinatedAt,
+        Integer validityYears
+) {}
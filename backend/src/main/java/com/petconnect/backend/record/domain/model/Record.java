@@ -24,7 +24,12 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "record")
+@Table(name = "record", indexes = {
+        // Clinic listings, newest first (offset and keyset pagination)
+        @Index(name = "idx_record_clinic_created", columnList = "clinic_id, created_at DESC, id DESC"),
+        // Pet histories, newest first (including the signed records served through temporary access tokens)
+        @Index(name = "idx_record_pet_created", columnList = "pet_id, created_at DESC")
+})
 public class Record extends BaseEntity {
     /**
      * The type of medical record (e.g., VACCINE, ANNUAL_CHECK).
@@ -0,0 +1,47 @@
+package com.petconnect.backend.record.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat read-only projection of a {@link Record} with its creator, clinic and {@link Vaccine} details,
+ * one row per record, used to export the medical history of a pet or all the records created by a clinic.
+ * Rows are streamed from the database and written out one by one, so no entity graphs are
+ * built or kept in the persistence context while the export runs.
+ *
+ * @param recordId             The ID of the record.
+ * @param petId                The ID of the pet the record belongs to.
+ * @param createdAt            The creation timestamp of the record.
+ * @param type                 The type of the record.
+ * @param description          The description of the record.
+ * @param creatorId            The ID of the user who created the record.
+ * @param creatorUsername      The username of the user who created the record.
+ * @param clinicId             The ID of the clinic where the record was created, or null if created by the owner.
+ * @param clinicName           The name of the clinic where the record was created, or null.
+ * @param vaccineName          The vaccine name, or null if the record is not a vaccination.
+ * @param vaccineLaboratory    The vaccine laboratory, or null.
+ * @param vaccineBatchNumber   The vaccine batch number, or null.
+ * @param vaccineValidityYears The validity period of the vaccine in years, or null.
+ * @param rabiesVaccine        Whether the vaccine is a Rabies vaccine, or null if the record is not a vaccination.
+ * @param vetSignature         The Base64 vet signature, or null if the record is not signed.
+ * @param immutable            Whether the record is immutable.
+ *
+ * @author ibosquet
+ */
+public record RecordExportRow(
+        Long recordId,
+        Long petId,
+        LocalDateTime createdAt,
+        RecordType type,
+        String description,
+        Long creatorId,
+        String creatorUsername,
+        Long clinicId,
+        String clinicName,
+        String vaccineName,
+        String vaccineLaboratory,
+        String vaccineBatchNumber,
+        Integer vaccineValidityYears,
+        Boolean rabiesVaccine,
+        String vetSignature,
+        boolean immutable
+) {}
@@ -0,0 +1,49 @@
+package com.petconnect.backend.record.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a medical record matched by a full-text search within a clinic.
+ * Returned by native queries over the {@code record.search_vector} column, which is not mapped
+ * by the {@link Record} entity, so it is declared as an interface projection (one getter per column alias).
+ *
+ * @author ibosquet
+ */
+public interface RecordSearchHit {
+
+    /** @return The ID of the matched record. */
+    Long getRecordId();
+
+    /** @return The ID of the pet the record belongs to. */
+    Long getPetId();
+
+    /** @return The name of the pet the record belongs to. */
+    String getPetName();
+
+    /** @return The type of the record. */
+    RecordType getType();
+
+    /** @return The creation timestamp of the record. */
+    LocalDateTime getCreatedAt();
+
+    /** @return The name of the vaccine, or null if the record has no vaccine details. */
+    String getVaccineName();
+
+    /** @return The batch number of the vaccine, or null if the record has no vaccine details. */
+    String getVaccineBatchNumber();
+
+    /** @return The laboratory of the vaccine, or null if the record has no vaccine details. */
+    String getVaccineLaboratory();
+
+    /** @return Whether the record is signed by a veterinarian. */
+    Boolean getSigned();
+
+    /** @return The relevance rank of the record for the search (higher is more relevant). */
+    Float getRank();
+
+    /**
+     * @return The matching fragments of the vaccine details and description, with each match
+     * enclosed between the control characters U+0002 and U+0003 (raw text, not escaped).
+     */
+    String getHighlight();
+}
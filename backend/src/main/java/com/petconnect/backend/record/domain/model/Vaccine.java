@@ -23,7 +23,10 @@ import java.util.Objects;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "vaccine")
+@Table(name = "vaccine", indexes = {
+        // Batch recall lookups (batch number alone, or batch number and laboratory)
+        @Index(name = "idx_vaccine_batch_laboratory", columnList = "batch_number, laboratory")
+})
 public class Vaccine {
     /**
      * The primary key, which is also the foreign key referencing the associated Record.
@@ -0,0 +1,42 @@
+package com.petconnect.backend.record.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat read-only projection of a vaccination affected by a vaccine batch recall: the record with the
+ * recalled batch, its pet and the pet's owner (to be notified), and a certificate issued from the record, if any.
+ * A record from which several certificates were issued yields one row per certificate.
+ *
+ * @param ownerId            The ID of the pet's owner.
+ * @param ownerUsername      The username of the pet's owner.
+ * @param ownerEmail         The email of the pet's owner.
+ * @param ownerPhone         The phone number of the pet's owner.
+ * @param petId              The ID of the vaccinated pet.
+ * @param petName            The name of the vaccinated pet.
+ * @param petMicrochip       The microchip of the vaccinated pet, or null if not set.
+ * @param recordId           The ID of the vaccine record.
+ * @param vaccinatedAt       The creation timestamp of the vaccine record.
+ * @param vaccineName        The name of the vaccine.
+ * @param vaccineLaboratory  The laboratory of the vaccine, or null if not set.
+ * @param vaccineBatchNumber The batch number of the vaccine.
+ * @param certificateId      The ID of a certificate issued from the record, or null if none.
+ * @param certificateNumber  The number of that certificate, or null if none.
+ *
+ * @author ibosquet
+ */
+public record VaccineRecallRow(
+        Long ownerId,
+        String ownerUsername,
+        String ownerEmail,
+        String ownerPhone,
+        Long petId,
+        String petName,
+        String petMicrochip,
+        Long recordId,
+        LocalDateTime vaccinatedAt,
+        String vaccineName,
+        String vaccineLaboratory,
+        String vaccineBatchNumber,
+        Long certificateId,
+        String certificateNumber
+) {}
@@ -1,19 +1,28 @@
 package com.petconnect.backend.record.domain.repository;
 
+import com.petconnect.backend.record.domain.model.LatestCheckupSummary;
+import com.petconnect.backend.record.domain.model.RabiesVaccinationSummary;
 import com.petconnect.backend.record.domain.model.Record;
+import com.petconnect.backend.record.domain.model.RecordExportRow;
+import com.petconnect.backend.record.domain.model.RecordSearchHit;
 import com.petconnect.backend.record.domain.model.RecordType;
+import com.petconnect.backend.record.domain.model.VaccineRecallRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 
 /**
@@ -81,6 +90,78 @@ public interface RecordRepository extends JpaRepository<Record, Long>, JpaSpecif
             @Param("checkupTypes") Collection<RecordType> checkupTypes,
             @Param("cutoffDateTime") LocalDateTime cutoffDateTime);
 
+    /**
+     * Finds all signed Rabies vaccine records of several pets at once, with their vaccine fetched,
+     * ordered by pet and most recent first.
+     * Filtering for date validity must be done in the service layer.
+     *
+     * @param petIds The IDs of the pets.
+     * @return A list of signed Rabies vaccine Records of the given pets.
+     */
+    @Query("SELECT r FROM Record r JOIN FETCH r.vaccine v " +
+            "WHERE r.pet.id IN :petIds " +
+            "AND r.type = com.petconnect.backend.record.domain.model.RecordType.VACCINE " +
+            "AND v.isRabiesVaccine = true " +
+            "AND r.vetSignature IS NOT NULL " +
+            "ORDER BY r.pet.id, r.createdAt DESC")
+    List<Record> findAllSignedRabiesVaccinesByPetIdsDesc(@Param("petIds") Collection<Long> petIds);
+
+    /**
+     * Finds all signed checkup records (of specified types) of several pets created on or after
+     * a given date, ordered by pet and most recent first.
+     *
+     * @param petIds         The IDs of the pets.
+     * @param checkupTypes   A collection of RecordType considered as checkups.
+     * @param cutoffDateTime The earliest creation timestamp (inclusive).
+     * @return A list of signed checkup Records of the given pets after the cutoff date.
+     */
+    @Query("SELECT r FROM Record r " +
+            "WHERE r.pet.id IN :petIds " +
+            "AND r.type IN :checkupTypes " +
+            "AND r.vetSignature IS NOT NULL " +
+            "AND r.createdAt >= :cutoffDateTime " +
+            "ORDER BY r.pet.id, r.createdAt DESC")
+    List<Record> findSignedCheckupsAfterDateByPetIdsDesc(
+            @Param("petIds") Collection<Long> petIds,
+            @Param("checkupTypes") Collection<RecordType> checkupTypes,
+            @Param("cutoffDateTime") LocalDateTime cutoffDateTime);
+
+    /**
+     * Finds the signed Rabies vaccinations of several pets at once as lightweight projections,
+     * ordered by pet and most recent first.
+     * Used to resolve certificate eligibility for a whole page of pets in a single query.
+     * Filtering for date validity must be done in the service layer.
+     *
+     * @param petIds The IDs of the pets.
+     * @return A list of {@link RabiesVaccinationSummary} for the given pets.
+     */
+    @Query("SELECT new com.petconnect.backend.record.domain.model.RabiesVaccinationSummary(r.pet.id, r.createdAt, v.validity) " +
+            "FROM Record r JOIN r.vaccine v " +
+            "WHERE r.pet.id IN :petIds " +
+            "AND r.type = com.petconnect.backend.record.domain.model.RecordType.VACCINE " +
+            "AND v.isRabiesVaccine = true " +
+            "AND r.vetSignature IS NOT NULL " +
+            "ORDER BY r.pet.id, r.createdAt DESC")
+    List<RabiesVaccinationSummary> findSignedRabiesVaccinationSummaries(@Param("petIds") Collection<Long> petIds);
+
+    /**
+     * Finds, for each of the given pets, the creation timestamp of its latest signed checkup
+     * record (of the specified types). Pets without any signed checkup are not included.
+     *
+     * @param petIds       The IDs of the pets to check.
+     * @param checkupTypes A collection of RecordType considered as checkups.
+     * @return One {@link LatestCheckupSummary} per pet having at least one signed checkup.
+     */
+    @Query("SELECT new com.petconnect.backend.record.domain.model.LatestCheckupSummary(r.pet.id, MAX(r.createdAt)) " +
+            "FROM Record r " +
+            "WHERE r.pet.id IN :petIds " +
+            "AND r.type IN :checkupTypes " +
+            "AND r.vetSignature IS NOT NULL " +
+            "GROUP BY r.pet.id")
+    List<LatestCheckupSummary> findLatestSignedCheckupSummaries(
+            @Param("petIds") Collection<Long> petIds,
+            @Param("checkupTypes") Collection<RecordType> checkupTypes);
+
     /**
      * Finds all records created within a specific clinic,
      * ordered by creation date descending.
@@ -92,6 +173,102 @@ public interface RecordRepository extends JpaRepository<Record, Long>, JpaSpecif
      */
     Page<Record> findByCreatedInClinicIdOrderByCreatedAtDesc(Long clinicId, Pageable pageable);
 
+    /**
+     * Finds the first records created within a clinic, newest first (first page of keyset pagination).
+     * Served by the {@code idx_record_clinic_created} index, without a count query.
+     *
+     * @param clinicId The ID of the clinic where the records were created.
+     * @param pageable The number of records to read (only the first page is meaningful).
+     * @return The records found, ordered by creation date and ID descending.
+     */
+    @Query("SELECT r FROM Record r WHERE r.createdInClinic.id = :clinicId ORDER BY r.createdAt DESC, r.id DESC")
+    List<Record> findFirstCreatedInClinic(@Param("clinicId") Long clinicId, Pageable pageable);
+
+    /**
+     * Finds the records created within a clinic after a keyset position, newest first (next pages of keyset pagination).
+     * The redundant {@code createdAt <= :createdAt} condition lets the index seek directly to the position.
+     *
+     * @param clinicId  The ID of the clinic where the records were created.
+     * @param createdAt The creation date of the last record already read.
+     * @param id        The ID of the last record already read.
+     * @param pageable  The number of records to read (only the first page is meaningful).
+     * @return The records found, ordered by creation date and ID descending.
+     */
+    @Query("SELECT r FROM Record r WHERE r.createdInClinic.id = :clinicId " +
+            "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.id < :id) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Record> findCreatedInClinicAfter(@Param("clinicId") Long clinicId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    /**
+     * Full-text searches the records created within a clinic, most relevant first (first page of keyset pagination).
+     * Matches the {@code search_vector} column, which is kept up to date by database triggers from the record's
+     * type and description and its vaccine's name, batch number and laboratory, through its GIN index.
+     * The query is parsed with {@code websearch_to_tsquery} (quoted phrases, {@code or}, {@code -excluded} words).
+     * Matches are highlighted only for the rows of the page.
+     *
+     * @param clinicId The ID of the clinic where the records were created.
+     * @param query    The search text.
+     * @param limit    The maximum number of records to return.
+     * @return The matching records, ordered by rank and ID descending.
+     */
+    @Query(value = "SELECT hit.id AS \"recordId\", hit.pet_id AS \"petId\", p.name AS \"petName\", hit.type AS type, hit.created_at AS \"createdAt\", " +
+            "v.name AS \"vaccineName\", v.batch_number AS \"vaccineBatchNumber\", v.laboratory AS \"vaccineLaboratory\", " +
+            "hit.vet_signature IS NOT NULL AS signed, hit.rank AS rank, " +
+            "ts_headline('simple', concat_ws(' ', v.name, v.batch_number, v.laboratory, hit.description), " +
+            "websearch_to_tsquery('simple', :query), " +
+            "'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', MaxFragments=2, MaxWords=20, MinWords=5') AS highlight " +
+            "FROM (SELECT r.id, r.pet_id, r.type, r.created_at, r.description, r.vet_signature, " +
+            "      ts_rank_cd(r.search_vector, websearch_to_tsquery('simple', :query)) AS rank " +
+            "      FROM record r " +
+            "      WHERE r.clinic_id = :clinicId AND r.search_vector @@ websearch_to_tsquery('simple', :query) " +
+            "      ORDER BY rank DESC, r.id DESC " +
+            "      LIMIT :limit) hit " +
+            "JOIN pet p ON p.id = hit.pet_id " +
+            "LEFT JOIN vaccine v ON v.record_id = hit.id " +
+            "ORDER BY hit.rank DESC, hit.id DESC",
+            nativeQuery = true)
+    List<RecordSearchHit> searchFirstInClinic(@Param("clinicId") Long clinicId,
+                                              @Param("query") String query,
+                                              @Param("limit") int limit);
+
+    /**
+     * Full-text searches the records created within a clinic after a keyset position, most relevant first
+     * (next pages of keyset pagination). See {@link #searchFirstInClinic(Long, String, int)}.
+     *
+     * @param clinicId The ID of the clinic where the records were created.
+     * @param query    The search text.
+     * @param rank     The rank of the last record already read.
+     * @param id       The ID of the last record already read.
+     * @param limit    The maximum number of records to return.
+     * @return The matching records, ordered by rank and ID descending.
+     */
+    @Query(value = "SELECT hit.id AS \"recordId\", hit.pet_id AS \"petId\", p.name AS \"petName\", hit.type AS type, hit.created_at AS \"createdAt\", " +
+            "v.name AS \"vaccineName\", v.batch_number AS \"vaccineBatchNumber\", v.laboratory AS \"vaccineLaboratory\", " +
+            "hit.vet_signature IS NOT NULL AS signed, hit.rank AS rank, " +
+            "ts_headline('simple', concat_ws(' ', v.name, v.batch_number, v.laboratory, hit.description), " +
+            "websearch_to_tsquery('simple', :query), " +
+            "'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', MaxFragments=2, MaxWords=20, MinWords=5') AS highlight " +
+            "FROM (SELECT m.* FROM (" +
+            "            SELECT r.id, r.pet_id, r.type, r.created_at, r.description, r.vet_signature, " +
+            "            ts_rank_cd(r.search_vector, websearch_to_tsquery('simple', :query)) AS rank " +
+            "            FROM record r " +
+            "            WHERE r.clinic_id = :clinicId AND r.search_vector @@ websearch_to_tsquery('simple', :query)) m " +
+            "      WHERE m.rank < :rank OR (m.rank = :rank AND m.id < :id) " +
+            "      ORDER BY m.rank DESC, m.id DESC " +
+            "      LIMIT :limit) hit " +
+            "JOIN pet p ON p.id = hit.pet_id " +
+            "LEFT JOIN vaccine v ON v.record_id = hit.id " +
+            "ORDER BY hit.rank DESC, hit.id DESC",
+            nativeQuery = true)
+    List<RecordSearchHit> searchInClinicAfter(@Param("clinicId") Long clinicId,
+                                              @Param("query") String query,
+                                              @Param("rank") float rank,
+                                              @Param("id") Long id,
+                                              @Param("limit") int limit);
+
     /**
      * Finds all records associated with a specific pet, ordered by creation date descending.
      * Returns a List, not a Page.
@@ -100,4 +277,116 @@ public interface RecordRepository extends JpaRepository<Record, Long>, JpaSpecif
      * @return A List of the Pet's Records ordered by creation date descending.
      */
     List<Record> findAllByPetIdOrderByCreatedAtDesc(Long petId);
+
+    /**
+     * Finds all signed records of a pet with the data needed to verify their signatures
+     * (creator, vaccine details and creation clinic) fetched in the same query,
+     * ordered by creation date descending.
+     *
+     * @param petId The ID of the pet.
+     * @return A List of the Pet's signed Records.
+     */
+    @Query("SELECT r FROM Record r " +
+            "JOIN FETCH r.creator " +
+            "LEFT JOIN FETCH r.vaccine " +
+            "LEFT JOIN FETCH r.createdInClinic " +
+            "WHERE r.pet.id = :petId " +
+            "AND r.vetSignature IS NOT NULL " +
+            "ORDER BY r.createdAt DESC")
+    List<Record> findSignedByPetIdForVerification(@Param("petId") Long petId);
+
+    /**
+     * Finds all signed records of a pet with everything their view DTOs need (creator, vaccine details,
+     * creation clinic, pet and breed) fetched in the same query, ordered by creation date descending.
+     * Unsigned records are filtered out by the database.
+     *
+     * @param petId The ID of the pet.
+     * @return A List of the Pet's signed Records.
+     */
+    @Query("SELECT r FROM Record r " +
+            "JOIN FETCH r.creator " +
+            "LEFT JOIN FETCH r.vaccine " +
+            "LEFT JOIN FETCH r.createdInClinic " +
+            "JOIN FETCH r.pet p " +
+            "JOIN FETCH p.breed " +
+            "WHERE p.id = :petId " +
+            "AND r.vetSignature IS NOT NULL " +
+            "ORDER BY r.createdAt DESC")
+    List<Record> findSignedByPetIdForView(@Param("petId") Long petId);
+
+    /**
+     * Streams the export rows of all records of a pet, oldest first, through a forward-only cursor.
+     * Rows are fetched from the database in chunks of the fetch size instead of being loaded all at once.
+     * Must be consumed inside a transaction and closed afterward (e.g., try-with-resources).
+     *
+     * @param petId The ID of the pet.
+     * @return A Stream of the export rows of the Pet's Records.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.petconnect.backend.record.domain.model.RecordExportRow(" +
+            "r.id, r.pet.id, r.createdAt, r.type, r.description, cr.id, cr.username, c.id, c.name, " +
+            "v.name, v.laboratory, v.batchNumber, v.validity, v.isRabiesVaccine, r.vetSignature, r.isImmutable) " +
+            "FROM Record r " +
+            "JOIN r.creator cr " +
+            "LEFT JOIN r.createdInClinic c " +
+            "LEFT JOIN r.vaccine v " +
+            "WHERE r.pet.id = :petId " +
+            "ORDER BY r.createdAt, r.id")
+    Stream<RecordExportRow> streamExportRowsByPetId(@Param("petId") Long petId);
+
+    /**
+     * Streams the export rows of all records created within a clinic, oldest first, through a forward-only cursor.
+     * Served by the {@code idx_record_clinic_created} index. Must be consumed inside a transaction and closed afterward.
+     *
+     * @param clinicId The ID of the clinic where the records were created.
+     * @return A Stream of the export rows of the clinic's Records.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.petconnect.backend.record.domain.model.RecordExportRow(" +
+            "r.id, r.pet.id, r.createdAt, r.type, r.description, cr.id, cr.username, c.id, c.name, " +
+            "v.name, v.laboratory, v.batchNumber, v.validity, v.isRabiesVaccine, r.vetSignature, r.isImmutable) " +
+            "FROM Record r " +
+            "JOIN r.creator cr " +
+            "JOIN r.createdInClinic c " +
+            "LEFT JOIN r.vaccine v " +
+            "WHERE c.id = :clinicId " +
+            "ORDER BY r.createdAt, r.id")
+    Stream<RecordExportRow> streamExportRowsByCreatedInClinicId(@Param("clinicId") Long clinicId);
+
+    /**
+     * Counts the records created within a clinic.
+     *
+     * @param clinicId The ID of the clinic where the records were created.
+     * @return The number of Records created in the clinic.
+     */
+    long countByCreatedInClinicId(Long clinicId);
+
+    /**
+     * Streams the vaccinations with a vaccine batch administered within a clinic, with the pets, owners
+     * and certificates they affect, in a single query (e.g., for a manufacturer's batch recall).
+     * The batch is looked up through the {@code idx_vaccine_batch_laboratory} index and the certificates
+     * through {@code idx_certificate_record}. Rows are ordered by owner, so each owner's rows are consecutive.
+     * Must be consumed inside a transaction and closed after use (e.g., try-with-resources).
+     *
+     * @param clinicId    The ID of the clinic where the vaccines were administered.
+     * @param batchNumber The recalled batch number (exact match).
+     * @param laboratory  The laboratory of the recalled batch (exact match), or null for any laboratory.
+     * @return A Stream of the affected vaccinations.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.petconnect.backend.record.domain.model.VaccineRecallRow(" +
+            "o.id, o.username, o.email, o.phone, p.id, p.name, p.microchip, r.id, r.createdAt, " +
+            "v.name, v.laboratory, v.batchNumber, cert.id, cert.certificateNumber) " +
+            "FROM Vaccine v " +
+            "JOIN v.recordEntity r " +
+            "JOIN r.pet p " +
+            "JOIN p.owner o " +
+            "LEFT JOIN Certificate cert ON cert.medicalRecord = r " +
+            "WHERE v.batchNumber = :batchNumber " +
+            "AND (:laboratory IS NULL OR v.laboratory = :laboratory) " +
+            "AND r.createdInClinic.id = :clinicId " +
+            "ORDER BY o.id, p.id, r.id, cert.id")
+    Stream<VaccineRecallRow> streamRecallRowsByBatch(@Param("clinicId") Long clinicId,
+                                                      @Param("batchNumber") String batchNumber,
+                                                      @Param("laboratory") String laboratory);
 }
@@ -1,20 +1,33 @@
 package com.petconnect.backend.record.port.in.web;
 
+import com.petconnect.backend.common.dto.CursorPageDto;
 import com.petconnect.backend.common.helper.UserHelper;
+import com.petconnect.backend.record.application.dto.RecordBatchCreateDto;
+import com.petconnect.backend.record.application.dto.RecordBatchResultDto;
 import com.petconnect.backend.record.application.dto.RecordCreateDto;
+import com.petconnect.backend.record.application.dto.RecordSearchHitDto;
 import com.petconnect.backend.record.application.dto.RecordUpdateDto;
 import com.petconnect.backend.record.application.dto.RecordViewDto;
+import com.petconnect.backend.record.application.dto.SignatureVerificationReportDto;
+import com.petconnect.backend.record.application.dto.SigningSessionDto;
+import com.petconnect.backend.record.application.dto.SigningSessionRequestDto;
 import com.petconnect.backend.record.application.dto.TemporaryAccessRequestDto;
 import com.petconnect.backend.record.application.dto.TemporaryAccessTokenDto;
+import com.petconnect.backend.record.application.service.RecordExportService;
 import com.petconnect.backend.record.application.service.RecordService;
+import com.petconnect.backend.record.application.service.VaccineRecallService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -31,6 +44,8 @@ import java.util.List;
 @Slf4j
 public class RecordController implements RecordControllerApi {
     private final RecordService recordService;
+    private final RecordExportService recordExportService;
+    private final VaccineRecallService vaccineRecallService;
     private final UserHelper userHelper;
 
     @Override
@@ -43,6 +58,17 @@ public class RecordController implements RecordControllerApi {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdRecord);
     }
 
+    @Override
+    @PostMapping("/batch")
+    public ResponseEntity<RecordBatchResultDto> createRecordsBatch(
+            @Valid @RequestBody RecordBatchCreateDto batchDto) {
+
+        Long vetId = userHelper.getAuthenticatedUserId();
+        RecordBatchResultDto result = recordService.createRecordsBatch(batchDto, vetId);
+        HttpStatus status = result.succeeded() > 0 ? HttpStatus.CREATED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(result);
+    }
+
     @Override
     @GetMapping("")
     public ResponseEntity<Page<RecordViewDto>> findRecords( @RequestParam Long petId,
@@ -53,6 +79,31 @@ public class RecordController implements RecordControllerApi {
         return ResponseEntity.ok(recordPage);
     }
 
+    @Override
+    @GetMapping("/verify")
+    public ResponseEntity<SignatureVerificationReportDto> verifyPetSignatures(@RequestParam Long petId) {
+
+        Long requesterUserId = userHelper.getAuthenticatedUserId();
+        SignatureVerificationReportDto report = recordService.verifyPetSignatures(petId, requesterUserId);
+        return ResponseEntity.ok(report);
+    }
+
+    @Override
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPetRecords(
+            @RequestParam Long petId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        Long requesterUserId = userHelper.getAuthenticatedUserId();
+        RecordExportService.Format exportFormat = RecordExportService.Format.fromParameter(format);
+        // Authorized before streaming, so errors are still reported with a proper status
+        recordExportService.verifyExportAccess(petId, requesterUserId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(recordExportService.fileName(petId, exportFormat)).build().toString())
+                .body(out -> recordExportService.writeExport(petId, exportFormat, out));
+    }
+
     @Override
     @GetMapping("/{recordId}")
     public ResponseEntity<RecordViewDto> findRecordById(
@@ -122,4 +173,75 @@ public class RecordController implements RecordControllerApi {
         Page<RecordViewDto> recordPage = recordService.findRecordsCreatedByClinic(clinicId, requesterUserId, pageable);
         return ResponseEntity.ok(recordPage);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GetMapping("/clinic/{clinicId}/created-by/scroll")
+    public ResponseEntity<CursorPageDto<RecordViewDto>> scrollRecordsCreatedByClinic(
+            @PathVariable Long clinicId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        Long requesterUserId = userHelper.getAuthenticatedUserId();
+        return ResponseEntity.ok(recordService.scrollRecordsCreatedByClinic(clinicId, requesterUserId, cursor, size));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GetMapping("/clinic/{clinicId}/search")
+    public ResponseEntity<CursorPageDto<RecordSearchHitDto>> searchRecordsCreatedByClinic(
+            @PathVariable Long clinicId,
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        Long requesterUserId = userHelper.getAuthenticatedUserId();
+        return ResponseEntity.ok(recordService.searchRecordsCreatedByClinic(clinicId, requesterUserId, query, cursor, size));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GetMapping("/clinic/{clinicId}/vaccine-recall")
+    public ResponseEntity<StreamingResponseBody> findVaccineRecallAffected(
+            @PathVariable Long clinicId,
+            @RequestParam String batchNumber,
+            @RequestParam(required = false) String laboratory,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        Long requesterUserId = userHelper.getAuthenticatedUserId();
+        RecordExportService.Format exportFormat = RecordExportService.Format.fromParameter(format);
+        // Authorized and validated before streaming, so errors are still reported with a proper status
+        vaccineRecallService.verifyRecallLookup(clinicId, batchNumber, requesterUserId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(vaccineRecallService.fileName(batchNumber, exportFormat)).build().toString())
+                .body(out -> vaccineRecallService.writeAffected(clinicId, batchNumber, laboratory, exportFormat, out));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @PostMapping("/signing-session")
+    public ResponseEntity<SigningSessionDto> openSigningSession(
+            @Valid @RequestBody SigningSessionRequestDto requestDto) {
+        Long vetId = userHelper.getAuthenticatedUserId();
+        SigningSessionDto session = recordService.openSigningSession(requestDto, vetId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(session);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @DeleteMapping("/signing-session")
+    public ResponseEntity<Void> closeSigningSession() {
+        Long vetId = userHelper.getAuthenticatedUserId();
+        recordService.closeSigningSession(vetId);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -1,8 +1,15 @@
 package com.petconnect.backend.record.port.in.web;
 
+import com.petconnect.backend.common.dto.CursorPageDto;
+import com.petconnect.backend.record.application.dto.RecordBatchCreateDto;
+import com.petconnect.backend.record.application.dto.RecordBatchResultDto;
 import com.petconnect.backend.record.application.dto.RecordCreateDto;
+import com.petconnect.backend.record.application.dto.RecordSearchHitDto;
 import com.petconnect.backend.record.application.dto.RecordUpdateDto;
 import com.petconnect.backend.record.application.dto.RecordViewDto;
+import com.petconnect.backend.record.application.dto.SignatureVerificationReportDto;
+import com.petconnect.backend.record.application.dto.SigningSessionDto;
+import com.petconnect.backend.record.application.dto.SigningSessionRequestDto;
 import com.petconnect.backend.record.application.dto.TemporaryAccessRequestDto;
 import com.petconnect.backend.record.application.dto.TemporaryAccessTokenDto;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,6 +29,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -61,6 +69,28 @@ public interface RecordControllerApi {
             @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Details of the record to create. Include 'vaccine' object if type is VACCINE.", required = true, content = @Content(schema = @Schema(implementation = RecordCreateDto.class)))
             @Valid @RequestBody RecordCreateDto createDto);
 
+    /**
+     * Creates and signs several medical records in one request (e.g., a vaccination day).
+     * Accessible only by veterinarians. The vet's key is unlocked once for the whole batch.
+     * Items that fail (pet not found, not authorized, invalid data) are reported individually.
+     *
+     * @param batchDto The DTO containing the records and the signing credentials.
+     * @return ResponseEntity with the per-item results; status 201 if at least one record was created, 200 otherwise.
+     */
+    @Operation(summary = "Create Medical Records in Batch (Vet)",
+            description = "Creates and signs up to 200 records, possibly for different pets, in one transaction. Requires the key password or an open signing session. Returns one result per item.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "At least one record created; check per-item results", content = @Content(schema = @Schema(implementation = RecordBatchResultDto.class))),
+            @ApiResponse(responseCode = "200", description = "No record created; all items failed", content = @Content(schema = @Schema(implementation = RecordBatchResultDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid batch (empty, too large, missing credentials, incorrect password or invalid session)", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (User is not a Vet)", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @PostMapping("/batch")
+    ResponseEntity<RecordBatchResultDto> createRecordsBatch(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Records to create and signing credentials.", required = true, content = @Content(schema = @Schema(implementation = RecordBatchCreateDto.class)))
+            @Valid @RequestBody RecordBatchCreateDto batchDto);
+
     /**
      * Retrieves a paginated list of medical records for the specified pet.
      * Accessible by the pet's owner or authorized clinic staff. Ordered by creation date descending.
@@ -84,6 +114,53 @@ public interface RecordControllerApi {
             @PageableDefault(size = 20, sort = {"createdAt"}, direction = Sort.Direction.DESC)
             Pageable pageable);
 
+    /**
+     * Verifies every signature in the medical history of the specified pet.
+     * Accessible by the pet's owner or authorized clinic staff.
+     *
+     * @param petId The ID of the pet whose records and certificates are verified.
+     * @return ResponseEntity with the verification report and status 200 (OK).
+     */
+    @Operation(summary = "Verify Signatures of a Pet's Medical History",
+            description = "Verifies the vet signature of every signed record and the vet and clinic signatures of every certificate of the pet against the stored public keys. Returns a per-item validity report and timing. Requires Owner or associated Staff role.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Verification completed (check 'allValid' and per-item results)", content = @Content(schema = @Schema(implementation = SignatureVerificationReportDto.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (User not authorized for this pet)", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "404", description = "Pet not found", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @GetMapping("/verify")
+    ResponseEntity<SignatureVerificationReportDto> verifyPetSignatures(
+            @Parameter(description = "ID of the pet whose history is verified.", required = true)
+            @RequestParam Long petId);
+
+    /**
+     * Exports the full medical history of the specified pet (records, vaccine details and signatures), oldest first.
+     * The export is streamed to the response as the records are read from the database.
+     * Accessible by the pet's owner or authorized clinic staff.
+     *
+     * @param petId  The ID of the pet whose records are exported.
+     * @param format The export format: {@code ndjson} (default) or {@code csv}.
+     * @return ResponseEntity streaming the export as an attachment, with status 200 (OK).
+     */
+    @Operation(summary = "Export a Pet's Medical History",
+            description = "Streams every record of the pet with its vaccine details and signature, oldest first, as NDJSON (one JSON object per line) or CSV. Intended for migrating a pet's history to another practice. Requires Owner or associated Staff role.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed",
+                    content = {@Content(mediaType = "application/x-ndjson", schema = @Schema(type = "string", format = "binary")),
+                            @Content(mediaType = "text/csv", schema = @Schema(type = "string", format = "binary"))}),
+            @ApiResponse(responseCode = "400", description = "Unsupported format", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (User not authorized for this pet)", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "404", description = "Pet not found", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @GetMapping("/export")
+    ResponseEntity<StreamingResponseBody> exportPetRecords(
+            @Parameter(description = "ID of the pet whose history is exported.", required = true)
+            @RequestParam Long petId,
+            @Parameter(description = "Export format: ndjson or csv.")
+            @RequestParam(defaultValue = "ndjson") String format);
+
     /**
      * Retrieves a specific medical record by its ID.
      * Accessible by the owner of the associated pet or authorized clinic staff.
@@ -220,4 +297,134 @@ public interface RecordControllerApi {
             @Parameter(description = "ID of the clinic") @PathVariable Long clinicId,
             @Parameter(hidden = true) Pageable pageable
     );
+
+    /**
+     * Retrieves one page of the medical records created by staff of the specified clinic, newest first,
+     * paginated with a cursor instead of a page number. Deep pages load as fast as the first one.
+     *
+     * @param clinicId The unique identifier of the clinic whose records are to be retrieved.
+     * @param cursor   The cursor returned with the previous page; omitted for the first page.
+     * @param size     The page size (1 to 100).
+     * @return A ResponseEntity containing a {@link CursorPageDto} of RecordViewDto with the cursor of the next page.
+     */
+    @Operation(summary = "Scroll records created by a specific clinic",
+            description = "Retrieves the medical records created by staff within the specified clinic, newest first, with keyset pagination: " +
+                    "send the returned nextCursor to get the next page. Requires clinic staff authorization for that clinic.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Records retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size out of range",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden - User not authorized for this clinic")
+    })
+    @GetMapping("/clinic/{clinicId}/created-by/scroll")
+    @SecurityRequirement(name = "bearerAuth")
+    ResponseEntity<CursorPageDto<RecordViewDto>> scrollRecordsCreatedByClinic(
+            @Parameter(description = "ID of the clinic") @PathVariable Long clinicId,
+            @Parameter(description = "Cursor returned with the previous page (omit for the first page)")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "Page size (1-100)")
+            @RequestParam(name = "size", defaultValue = "20") int size
+    );
+
+    /**
+     * Full-text searches the medical records created by staff of the specified clinic, most relevant first.
+     * Searches the record type and description and the vaccine name, batch number and laboratory.
+     *
+     * @param clinicId The unique identifier of the clinic whose records are searched.
+     * @param query    The search text.
+     * @param cursor   The cursor returned with the previous page; omitted for the first page.
+     * @param size     The page size (1 to 100).
+     * @return A ResponseEntity containing a {@link CursorPageDto} of RecordSearchHitDto with the cursor of the next page.
+     */
+    @Operation(summary = "Search records created by a specific clinic",
+            description = "Full-text search over the type, description and vaccine details (name, batch number, laboratory) of the medical records " +
+                    "created within the specified clinic, most relevant first, with the matches highlighted in <mark> tags (HTML-escaped text). " +
+                    "Supports quoted phrases, 'or' and '-excluded' words. Uses keyset pagination: send the returned nextCursor to get the next page. " +
+                    "Requires clinic staff authorization for that clinic.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search completed successfully"),
+            @ApiResponse(responseCode = "400", description = "Blank or too long query, invalid cursor or page size out of range",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden - User not authorized for this clinic")
+    })
+    @GetMapping("/clinic/{clinicId}/search")
+    @SecurityRequirement(name = "bearerAuth")
+    ResponseEntity<CursorPageDto<RecordSearchHitDto>> searchRecordsCreatedByClinic(
+            @Parameter(description = "ID of the clinic") @PathVariable Long clinicId,
+            @Parameter(description = "Search text (max. 200 characters)", required = true)
+            @RequestParam(name = "q") String query,
+            @Parameter(description = "Cursor returned with the previous page (omit for the first page)")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "Page size (1-100)")
+            @RequestParam(name = "size", defaultValue = "20") int size
+    );
+
+    /**
+     * Looks up the vaccinations with a recalled vaccine batch administered within the specified clinic,
+     * with the affected pets, their owners (to be notified) and the certificates issued from them.
+     * The result is streamed to the response as the rows are read from the database, grouped by owner.
+     *
+     * @param clinicId    The ID of the clinic.
+     * @param batchNumber The recalled batch number.
+     * @param laboratory  The laboratory of the recalled batch; omitted to match any laboratory.
+     * @param format      The output format: {@code ndjson} (default) or {@code csv}.
+     * @return ResponseEntity streaming the affected vaccinations as an attachment, with status 200 (OK).
+     */
+    @Operation(summary = "Look up a vaccine batch recall in a clinic",
+            description = "Streams one row per vaccination with the given batch number (and laboratory, if given) administered within the clinic, " +
+                    "with the pet, the owner's contact details and the certificate issued from the record, if any, as NDJSON or CSV. " +
+                    "Rows are grouped by owner for notification. Requires clinic staff authorization for that clinic.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Affected vaccinations streamed",
+                    content = {@Content(mediaType = "application/x-ndjson", schema = @Schema(type = "string", format = "binary")),
+                            @Content(mediaType = "text/csv", schema = @Schema(type = "string", format = "binary"))}),
+            @ApiResponse(responseCode = "400", description = "Blank or too long batch number, or unsupported format", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden - User not authorized for this clinic", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @GetMapping("/clinic/{clinicId}/vaccine-recall")
+    @SecurityRequirement(name = "bearerAuth")
+    ResponseEntity<StreamingResponseBody> findVaccineRecallAffected(
+            @Parameter(description = "ID of the clinic") @PathVariable Long clinicId,
+            @Parameter(description = "Recalled batch number (exact match).", required = true)
+            @RequestParam String batchNumber,
+            @Parameter(description = "Laboratory of the recalled batch (exact match); omit to match any laboratory.")
+            @RequestParam(required = false) String laboratory,
+            @Parameter(description = "Output format: ndjson or csv.")
+            @RequestParam(defaultValue = "ndjson") String format);
+
+    /**
+     * Opens a signing session for the authenticated veterinarian.
+     * The vet's private key is unlocked once and kept in memory for a limited time,
+     * so records can be signed with the returned token instead of the key password.
+     *
+     * @param requestDto The DTO containing the password of the vet's private key.
+     * @return ResponseEntity with the SigningSessionDto and status 201.
+     */
+    @Operation(summary = "Open Signing Session (Vet)",
+            description = "Unlocks the authenticated vet's private key once and returns a session token to sign records without resending the password. Replaces any previous session of the vet.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Signing session opened", content = @Content(schema = @Schema(implementation = SigningSessionDto.class))),
+            @ApiResponse(responseCode = "400", description = "Missing password, or incorrect password / invalid key file", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (User is not a Vet)", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @PostMapping("/signing-session")
+    ResponseEntity<SigningSessionDto> openSigningSession(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Password of the vet's private key.", required = true, content = @Content(schema = @Schema(implementation = SigningSessionRequestDto.class)))
+            @Valid @RequestBody SigningSessionRequestDto requestDto);
+
+    /**
+     * Closes the signing session of the authenticated veterinarian, discarding the unlocked key.
+     *
+     * @return ResponseEntity with status 204 (No Content).
+     */
+    @Operation(summary = "Close Signing Session (Vet)", description = "Discards the authenticated vet's unlocked private key. Intended to be called on logout.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Signing session closed (or none was open)"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (User is not a Vet)", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @DeleteMapping("/signing-session")
+    ResponseEntity<Void> closeSigningSession();
 }
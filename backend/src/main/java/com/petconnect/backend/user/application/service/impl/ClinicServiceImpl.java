@@ -30,6 +30,7 @@ import org.springframework.transaction.annotation.Transactional;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.util.StringUtils;
 import com.petconnect.backend.common.service.KeyStorageService;
+import com.petconnect.backend.common.service.SigningService;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.web.multipart.MultipartFile;
@@ -65,6 +66,7 @@ public class ClinicServiceImpl implements ClinicService {
     private final UserMapper userMapper;
     private final EntityFinderHelper entityFinderHelper;
     private final KeyStorageService keyStorageService;
+    private final SigningService signingService;
     private final AuthorizationHelper authorizationHelper;
     private final EmailService emailService;
     
@@ -298,6 +300,11 @@ public class ClinicServiceImpl implements ClinicService {
                     keyStorageService.storePublicKey(keyFile, "clinics", desiredFilenameBase) :
                     keyStorageService.storeEncryptedPrivateKey(keyFile, "clinics", desiredFilenameBase);
 
+            if (isPublic) {
+                // A new file may overwrite the old one under the same path, so drop both cached keys
+                signingService.evictPublicKey(oldKeyPath);
+                signingService.evictPublicKey(newPath);
+            }
             if (!Objects.equals(oldKeyPath, newPath)) {
                 if (isPublic) {
                     clinic.setPublicKey(newPath);
@@ -306,7 +313,7 @@ public class ClinicServiceImpl implements ClinicService {
                 }
                 return true;
             }
-        } catch (IOException | IllegalArgumentException e) {
+        } catch (IOException e) {
             String keyType = isPublic ? "public" : "private";
             log.error("Failed to store new {} key file for clinic {}: {}", keyType, id, e.getMessage(), e);
             throw new RuntimeException("Failed to store new " + keyType + " key file: " + e.getMessage(), e);
@@ -5,6 +5,8 @@ import com.petconnect.backend.common.helper.EntityFinderHelper;
 import com.petconnect.backend.common.helper.ValidateHelper;
 import com.petconnect.backend.common.service.EmailService;
 import com.petconnect.backend.common.service.KeyStorageService;
+import com.petconnect.backend.common.service.SigningService;
+import com.petconnect.backend.common.service.SigningSessionService;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -45,6 +47,8 @@ public class ClinicStaffServiceImpl implements ClinicStaffService {
     private final ValidateHelper validateHelper;
     private final ClinicStaffHelper clinicStaffHelper;
     private final KeyStorageService keyStorageService;
+    private final SigningSessionService signingSessionService;
+    private final SigningService signingService;
     private final EmailService emailService;
 
     /**
@@ -82,7 +86,7 @@ public class ClinicStaffServiceImpl implements ClinicStaffService {
                 // Save in the "vets" subdirectory
                 savedPublicKeyPath  = keyStorageService.storePublicKey(publicKeyFile, "public_keys/vets", desiredFilenameBase);
                 log.info("Stored public key for new vet {} at path: {}", creationDTO.username(), savedPublicKeyPath );
-            } catch (IOException | IllegalArgumentException e) {
+            } catch (IOException e) {
                 log.error("Failed to store public key file for vet {}: {}", creationDTO.username(), e.getMessage(), e);
                 throw new RuntimeException("Failed to store public key file: " + e.getMessage(), e);
             }
@@ -96,10 +100,14 @@ public class ClinicStaffServiceImpl implements ClinicStaffService {
                 // Save in the "vets" subdirectory
                 savedPrivateKeyPath = keyStorageService.storeEncryptedPrivateKey(privateKeyFileEncrypted, "private_encrypted_keys/vets", desiredPrivKeyFilenameBase);
                 log.info("Stored encrypted private key for new vet {} at path: {}", creationDTO.username(), savedPrivateKeyPath);
-            } catch (IOException | IllegalArgumentException e) {
+            } catch (IOException e) {
                 log.error("Failed to store encrypted private key file for vet {}: {}", creationDTO.username(), e.getMessage(), e);
                 if (savedPublicKeyPath != null) keyStorageService.deleteKey(savedPublicKeyPath);
                 throw new RuntimeException("Failed to store encrypted private key file: " + e.getMessage(), e);
+            } catch (IllegalArgumentException e) {
+                // Invalid upload: surface it as a client error, but do not leave the public key behind
+                if (savedPublicKeyPath != null) keyStorageService.deleteKey(savedPublicKeyPath);
+                throw e;
             }
         }
 
@@ -170,6 +178,7 @@ public class ClinicStaffServiceImpl implements ClinicStaffService {
         }
         staffToDeactivate.setActive(false);
         staffToDeactivate.setEnabled(false);
+        signingSessionService.closeSession(staffId);
         ClinicStaff updatedStaff = clinicStaffRepository.save(staffToDeactivate);
         log.info("Admin {} deactivated staff member: {}", deactivatingAdminId, updatedStaff.getUsername());
         return userMapper.toClinicStaffProfileDto(updatedStaff);
@@ -264,7 +273,10 @@ public class ClinicStaffServiceImpl implements ClinicStaffService {
                 String desiredFilenameBase = "vet_" + staffToUpdate.getUsername() + "_pub";
                 finalNewPublicKeyPath = keyStorageService.storePublicKey(newPublicKeyFile, "public_keys/vets", desiredFilenameBase);
                 publicKeyChanged = !Objects.equals(oldPublicKeyPath, finalNewPublicKeyPath);
-            } catch (IOException | IllegalArgumentException e) {
+                // A new file may overwrite the old one under the same path, so drop both cached keys
+                signingService.evictPublicKey(oldPublicKeyPath);
+                signingService.evictPublicKey(finalNewPublicKeyPath);
+            } catch (IOException e) {
                 log.error("Failed to store new public key file for staff {}: {}", staffToUpdate.getUsername(), e.getMessage(), e);
                 throw new RuntimeException("Failed to store new public key file: " + e.getMessage(), e);
             }
@@ -275,7 +287,9 @@ public class ClinicStaffServiceImpl implements ClinicStaffService {
                 String desiredFilenameBase = "vet_" + staffToUpdate.getUsername() + "_priv";
                 finalNewPrivateKeyPath = keyStorageService.storeEncryptedPrivateKey(newPrivateKeyFile, "private_encrypted_keys/vets", desiredFilenameBase);
                 privateKeyChanged = !Objects.equals(oldPrivateKeyPath, finalNewPrivateKeyPath);
-            } catch (IOException | IllegalArgumentException e) {
+                // The stored key may be overwritten under the same path, so always drop any unlocked copy
+                signingSessionService.closeSession(staffToUpdate.getId());
+            } catch (IOException e) {
                 log.error("Failed to store new encrypted private key file for staff {}: {}", staffToUpdate.getUsername(), e.getMessage(), e);
                 throw new RuntimeException("Failed to store new encrypted private key file: " + e.getMessage(), e);
             }
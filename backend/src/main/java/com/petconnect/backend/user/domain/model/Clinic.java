@@ -5,6 +5,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,6 +14,7 @@ import java.util.List;
  * Represents a veterinary clinic registered in the system.
  * Contains clinic details and manages associated staff members.
  * Inherits auditing fields from BaseEntity.
+ * Lazy references to clinics (e.g. from the vets of a page of pets) are initialized up to 50 at a time.
  *
  * @author ibosquet
  */
@@ -23,6 +25,7 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
+@BatchSize(size = 50)
 @Table(name = "clinic")
 public class Clinic extends BaseEntity{
 
@@ -0,0 +1,84 @@
+package com.petconnect.backend.user.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigInteger;
+import java.security.Key;
+import java.security.interfaces.ECKey;
+import java.security.interfaces.EdECKey;
+import java.security.interfaces.RSAKey;
+
+/**
+ * Signature algorithms supported for vet and clinic keys.
+ * The algorithm is determined by the type of the key pair, so signing and verification
+ * dispatch on the key and never need to be configured separately.
+ * Each value carries its JCA signature name (BouncyCastle provider) and its COSE algorithm identifier.
+ *
+ * @author ibosquet
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SignatureAlgorithm {
+    /** RSASSA-PKCS1-v1_5 with SHA-256 (COSE "RS256"). Used by all keys issued before EC support. */
+    RS256("SHA256withRSA", -257),
+    /** ECDSA on P-256 with SHA-256 and a raw r||s signature, as required by COSE (COSE "ES256"). */
+    ES256("SHA256withPLAIN-ECDSA", -7),
+    /** EdDSA on Curve25519 (COSE "EdDSA"). */
+    ED25519("Ed25519", -8);
+
+    /** Order of the NIST P-256 (secp256r1) base point, used to recognize P-256 keys. */
+    private static final BigInteger P256_ORDER =
+            new BigInteger("FFFFFFFF00000000FFFFFFFFFFFFFFFFBCE6FAADA7179E84F3B9CAC2FC632551", 16);
+
+    /** The JCA signature algorithm name (as understood by the BouncyCastle provider). */
+    private final String jcaName;
+    /** The COSE algorithm identifier (IANA "COSE Algorithms" registry). */
+    private final int coseAlgorithmId;
+
+    /**
+     * Finds the algorithm with the given COSE algorithm identifier.
+     *
+     * @param coseAlgorithmId The COSE {@code alg} header value.
+     * @return The matching algorithm.
+     * @throws IllegalArgumentException if the identifier is not supported.
+     */
+    public static SignatureAlgorithm fromCoseAlgorithmId(int coseAlgorithmId) {
+        for (SignatureAlgorithm algorithm : values()) {
+            if (algorithm.coseAlgorithmId == coseAlgorithmId) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported COSE algorithm identifier: " + coseAlgorithmId);
+    }
+
+    /**
+     * Determines the signature algorithm for a public or private key.
+     *
+     * @param key The key. Must not be null.
+     * @return The matching algorithm.
+     * @throws IllegalArgumentException if the key type or curve is not supported.
+     */
+    public static SignatureAlgorithm forKey(Key key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+        if (key instanceof RSAKey) {
+            return RS256;
+        }
+        if (key instanceof ECKey ecKey) {
+            if (ecKey.getParams() != null && P256_ORDER.equals(ecKey.getParams().getOrder())) {
+                return ES256;
+            }
+            throw new IllegalArgumentException("Unsupported elliptic curve; only P-256 keys are supported.");
+        }
+        String algorithm = key.getAlgorithm();
+        boolean ed25519 = "Ed25519".equalsIgnoreCase(algorithm)
+                || ("EdDSA".equalsIgnoreCase(algorithm) && key instanceof EdECKey edKey
+                    && "Ed25519".equalsIgnoreCase(edKey.getParams().getName()));
+        if (ed25519) {
+            return ED25519;
+        }
+        throw new IllegalArgumentException("Unsupported key algorithm: " + algorithm + ". Supported: RSA, EC P-256, Ed25519.");
+    }
+}
@@ -3,6 +3,7 @@ package com.petconnect.backend.user.domain.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.HashSet;
 import java.util.Objects;
@@ -89,8 +90,10 @@ public class UserEntity extends BaseEntity{
     /**
      * The set of roles associated with the user.
      * Mapped using a many-to-many relationship with RoleEntity.
+     * Being eager, the roles of up to 50 users loaded by the same query are initialized with a single query.
      */
     @ManyToMany(fetch = FetchType.EAGER)
+    @BatchSize(size = 50)
     @JoinTable(
             name="user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
@@ -30,4 +30,12 @@ public interface ClinicRepository extends JpaRepository<Clinic, Long>, JpaSpecif
      */
     @Query("SELECT DISTINCT c.country FROM Clinic c ORDER BY c.country ASC") //
     List<Country> findDistinctCountries();
+
+    /**
+     * Finds all clinics that have a public key configured.
+     * Used to build the in-memory trust list for offline certificate verification.
+     *
+     * @return The clinics with a public key.
+     */
+    List<Clinic> findByPublicKeyIsNotNull();
 }
@@ -4,6 +4,7 @@ import com.petconnect.backend.user.domain.model.Vet;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 
 /**
  * Spring Data JPA repository for {@link Vet} entities.
@@ -51,4 +52,12 @@ public interface VetRepository extends JpaRepository<Vet, Long> {
      * @return true if a vet with the license number exists, false otherwise.
      */
     boolean existsByLicenseNumber(String licenseNumber);
+
+    /**
+     * Finds all vets that have a public key configured.
+     * Used to build the in-memory trust list for offline certificate verification.
+     *
+     * @return The vets with a public key.
+     */
+    List<Vet> findByVetPublicKeyIsNotNull();
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.petconnect.backend.user.port.in.web;
 
+import com.petconnect.backend.common.dto.ClinicExportJobDto;
+import com.petconnect.backend.common.service.ClinicExportService;
 import com.petconnect.backend.user.application.dto.ClinicDto;
 import com.petconnect.backend.user.application.dto.ClinicStaffProfileDto;
 import com.petconnect.backend.user.application.dto.ClinicUpdateDto;
@@ -15,6 +17,7 @@ import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -22,6 +25,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -41,6 +45,7 @@ public class ClinicController implements ClinicControllerApi {
 
     private final ClinicService clinicService;
     private final ClinicStaffService clinicStaffService;
+    private final ClinicExportService clinicExportService;
     private final UserHelper userServiceHelper;
 
     /**
@@ -154,4 +159,41 @@ public class ClinicController implements ClinicControllerApi {
         List<VetSummaryDto> vets = clinicService.findActiveVetsForSelectionByClinicId(clinicId);
         return ResponseEntity.ok(vets);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @PostMapping("/{clinicId}/exports")
+    public ResponseEntity<ClinicExportJobDto> startClinicExport(@PathVariable Long clinicId) {
+        Long requesterUserId = userServiceHelper.getAuthenticatedUserId();
+        log.info("Received request to export clinic ID: {} by User ID: {}", clinicId, requesterUserId);
+        ClinicExportJobDto job = clinicExportService.startExport(clinicId, requesterUserId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GetMapping("/{clinicId}/exports/{jobId}")
+    public ResponseEntity<ClinicExportJobDto> getClinicExport(@PathVariable Long clinicId, @PathVariable String jobId) {
+        Long requesterUserId = userServiceHelper.getAuthenticatedUserId();
+        return ResponseEntity.ok(clinicExportService.getExport(clinicId, jobId, requesterUserId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GetMapping("/{clinicId}/exports/{jobId}/archive")
+    public ResponseEntity<StreamingResponseBody> downloadClinicExport(@PathVariable Long clinicId, @PathVariable String jobId) {
+        Long requesterUserId = userServiceHelper.getAuthenticatedUserId();
+        // Authorized before streaming, so errors are still reported with a proper status
+        ClinicExportJobDto job = clinicExportService.verifyDownload(clinicId, jobId, requesterUserId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(clinicExportService.fileName(job)).build().toString())
+                .body(out -> clinicExportService.writeArchive(jobId, out));
+    }
 }
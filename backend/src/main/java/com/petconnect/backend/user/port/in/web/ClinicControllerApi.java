@@ -1,5 +1,6 @@
 package com.petconnect.backend.user.port.in.web;
 
+import com.petconnect.backend.common.dto.ClinicExportJobDto;
 import com.petconnect.backend.user.application.dto.ClinicDto;
 import com.petconnect.backend.user.application.dto.ClinicStaffProfileDto;
 import com.petconnect.backend.user.application.dto.ClinicUpdateDto;
@@ -25,6 +26,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -232,4 +234,72 @@ public interface ClinicControllerApi {
     ResponseEntity<List<VetSummaryDto>> getActiveVetsForSelectionByClinic(
             @Parameter(description = "ID of the clinic to retrieve veterinarians from") @PathVariable Long clinicId
     );
-}
\ No newline at end of file
+
+    /**
+     * Starts an asynchronous export of all the records created in the clinic and all the certificates it issued.
+     * The archive is written to the export storage in the background; its progress is polled with
+     * {@link #getClinicExport}. If an export of the clinic is already pending, that job is returned.
+     * Requires the requester to be an Admin of the clinic.
+     *
+     * @param clinicId The ID of the clinic to export.
+     * @return ResponseEntity with the state of the job and status 202 (Accepted).
+     */
+    @Operation(summary = "Start Clinic Bulk Export",
+            description = "Queues a background job that dumps every record created in the clinic and every certificate it issued into a ZIP archive (NDJSON entries and a manifest). Returns the job to poll. Requires Admin role for the clinic.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Export job queued (or already pending)", content = @Content(schema = @Schema(implementation = ClinicExportJobDto.class))),
+            @ApiResponse(responseCode = "400", description = "Too many exports queued", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (User not Admin of this clinic)", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @PostMapping("/{clinicId}/exports")
+    ResponseEntity<ClinicExportJobDto> startClinicExport(
+            @Parameter(description = "ID of the clinic", required = true) @PathVariable Long clinicId);
+
+    /**
+     * Retrieves the state and progress of an export job of the clinic.
+     * Requires the requester to be an Admin of the clinic.
+     *
+     * @param clinicId The ID of the clinic.
+     * @param jobId    The ID of the export job.
+     * @return ResponseEntity with the state of the job (including the download link once completed) and status 200 (OK).
+     */
+    @Operation(summary = "Get Clinic Bulk Export Status",
+            description = "Returns the status and progress of an export job. Once completed, 'downloadUrl' points to the archive. Requires Admin role for the clinic.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job state retrieved", content = @Content(schema = @Schema(implementation = ClinicExportJobDto.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (User not Admin of this clinic)", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "404", description = "Export job not found", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @GetMapping("/{clinicId}/exports/{jobId}")
+    ResponseEntity<ClinicExportJobDto> getClinicExport(
+            @Parameter(description = "ID of the clinic", required = true) @PathVariable Long clinicId,
+            @Parameter(description = "ID of the export job", required = true) @PathVariable String jobId);
+
+    /**
+     * Downloads the archive of a completed export job of the clinic, streamed from the export storage.
+     * Requires the requester to be an Admin of the clinic.
+     *
+     * @param clinicId The ID of the clinic.
+     * @param jobId    The ID of the export job.
+     * @return ResponseEntity streaming the ZIP archive as an attachment, with status 200 (OK).
+     */
+    @Operation(summary = "Download Clinic Bulk Export",
+            description = "Streams the ZIP archive of a completed export job. Requires Admin role for the clinic.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Archive streamed",
+                    content = @Content(mediaType = "application/zip", schema = @Schema(type = "string", format = "binary"))),
+            @ApiResponse(responseCode = "400", description = "Export job not completed", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (User not Admin of this clinic)", content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "404", description = "Export job not found", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @GetMapping("/{clinicId}/exports/{jobId}/archive")
+    ResponseEntity<StreamingResponseBody> downloadClinicExport(
+            @Parameter(description = "ID of the clinic", required = true) @PathVariable Long clinicId,
+            @Parameter(description = "ID of the export job", required = true) @PathVariable String jobId);
+}
@@ -262,4 +262,53 @@ SELECT setval('entity_id_sequence', COALESCE(GREATEST(
                                                      (SELECT MAX(id) FROM clinic)
                                              ), 1), true);
 
-SELECT setval('breed_id_sequence', COALESCE((SELECT MAX(id) FROM breed), 1), true);
\ No newline at end of file
+SELECT setval('breed_id_sequence', COALESCE((SELECT MAX(id) FROM breed), 1), true);
+-- =============================================
+-- FULL-TEXT SEARCH OF MEDICAL RECORDS
+-- =============================================
+-- record.search_vector is not mapped by the Record entity: the triggers below keep it up to date from
+-- the record's type and description and its vaccine's name, batch number and laboratory.
+-- 'simple' configuration: no stemming or stop words, records are written in several languages
+-- and batch numbers must match as typed.
+-- Function bodies are single-quoted (not dollar-quoted) so that the script can be split on ';'.
+ALTER TABLE record ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION record_search_document(p_record_id BIGINT, p_type TEXT, p_description TEXT) RETURNS tsvector
+    LANGUAGE sql STABLE AS '
+    SELECT setweight(to_tsvector(''simple'', coalesce((SELECT concat_ws('' '', v.name, v.batch_number, v.laboratory)
+                                                       FROM vaccine v WHERE v.record_id = p_record_id), '''')), ''A'')
+        || setweight(to_tsvector(''simple'', replace(coalesce(p_type, ''''), ''_'', '' '')), ''B'')
+        || setweight(to_tsvector(''simple'', coalesce(p_description, '''')), ''C'')
+';
+
+CREATE OR REPLACE FUNCTION record_search_vector_refresh() RETURNS trigger
+    LANGUAGE plpgsql AS '
+BEGIN
+    NEW.search_vector := record_search_document(NEW.id, NEW.type, NEW.description);
+    RETURN NEW;
+END;
+';
+
+DROP TRIGGER IF EXISTS trg_record_search_vector ON record;
+CREATE TRIGGER trg_record_search_vector BEFORE INSERT OR UPDATE OF type, description ON record
+    FOR EACH ROW EXECUTE FUNCTION record_search_vector_refresh();
+
+CREATE OR REPLACE FUNCTION vaccine_search_vector_refresh() RETURNS trigger
+    LANGUAGE plpgsql AS '
+BEGIN
+    IF TG_OP = ''DELETE'' THEN
+        UPDATE record r SET search_vector = record_search_document(r.id, r.type, r.description) WHERE r.id = OLD.record_id;
+        RETURN OLD;
+    END IF;
+    UPDATE record r SET search_vector = record_search_document(r.id, r.type, r.description) WHERE r.id = NEW.record_id;
+    RETURN NEW;
+END;
+';
+
+DROP TRIGGER IF EXISTS trg_vaccine_search_vector ON vaccine;
+CREATE TRIGGER trg_vaccine_search_vector AFTER INSERT OR UPDATE OR DELETE ON vaccine
+    FOR EACH ROW EXECUTE FUNCTION vaccine_search_vector_refresh();
+
+UPDATE record SET search_vector = record_search_document(id, type, description) WHERE search_vector IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_record_search_vector ON record USING GIN (search_vector);
@@ -1,16 +1,36 @@
 package com.petconnect.backend.certificate.application.service.impl;
 
+import com.petconnect.backend.certificate.application.dto.BulkCertificateGenerationRequestDto;
+import com.petconnect.backend.certificate.application.dto.BulkCertificateGenerationResultDto;
+import com.petconnect.backend.certificate.application.dto.BulkCertificateItemDto;
+import com.petconnect.backend.certificate.application.dto.CertificateDocumentDto;
 import com.petconnect.backend.certificate.application.dto.CertificateGenerationRequestDto;
+import com.petconnect.backend.certificate.application.dto.CertificateQrDataDto;
+import com.petconnect.backend.certificate.application.dto.CertificateQrImageDto;
+import com.petconnect.backend.certificate.application.dto.CertificateRevocationDto;
+import com.petconnect.backend.certificate.application.dto.CertificateRevocationRequestDto;
 import com.petconnect.backend.certificate.application.dto.CertificateViewDto;
+import com.petconnect.backend.certificate.application.dto.HcertVerificationResultDto;
+import com.petconnect.backend.certificate.application.dto.RevocationDeltaDto;
+import com.petconnect.backend.certificate.application.dto.RevokedCertificateDto;
 import com.petconnect.backend.certificate.application.event.CertificateGeneratedEvent;
 import com.petconnect.backend.certificate.application.mapper.CertificateMapper;
 import com.petconnect.backend.certificate.domain.model.Certificate;
+import com.petconnect.backend.certificate.domain.model.CertificatePayload;
+import com.petconnect.backend.certificate.domain.model.CertificatePayloadFormat;
+import com.petconnect.backend.certificate.domain.model.CertificateRevocation;
+import com.petconnect.backend.certificate.domain.model.RevocationReason;
 import com.petconnect.backend.certificate.domain.repository.CertificateRepository;
+import com.petconnect.backend.certificate.domain.repository.CertificateRevocationRepository;
 import com.petconnect.backend.certificate.port.spi.CertificateEventPublisherPort;
+import com.petconnect.backend.common.dto.CursorPageDto;
 import com.petconnect.backend.common.helper.*;
-import com.petconnect.backend.common.service.QrCodeService;
 import com.petconnect.backend.exception.*;
+import com.petconnect.backend.common.service.BulkSigningService;
 import com.petconnect.backend.common.service.HashingService;
+import com.petconnect.backend.common.service.HcertVerificationService;
+import com.petconnect.backend.common.service.QrImageService;
+import com.petconnect.backend.common.service.RevocationListService;
 import com.petconnect.backend.common.service.SigningService;
 import com.petconnect.backend.pet.application.dto.PetProfileDto;
 import com.petconnect.backend.pet.application.mapper.PetMapper;
@@ -18,6 +38,7 @@ import com.petconnect.backend.pet.domain.model.Breed;
 import com.petconnect.backend.pet.domain.model.Pet;
 import com.petconnect.backend.pet.domain.model.PetStatus;
 import com.petconnect.backend.pet.domain.model.Specie;
+import com.petconnect.backend.pet.domain.repository.PetRepository;
 import com.petconnect.backend.record.application.dto.RecordViewDto;
 import com.petconnect.backend.record.application.mapper.RecordMapper;
 import com.petconnect.backend.record.domain.model.Record;
@@ -29,6 +50,7 @@ import com.petconnect.backend.user.application.mapper.UserMapper;
 import com.petconnect.backend.user.domain.model.Clinic;
 import com.petconnect.backend.user.domain.model.Country;
 import com.petconnect.backend.user.domain.model.Owner;
+import com.petconnect.backend.user.domain.model.SignatureAlgorithm;
 import com.petconnect.backend.user.domain.model.Vet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -37,10 +59,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.spec.ECGenParameterSpec;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -68,13 +96,19 @@ class CertificateServiceImplTest {
     @Mock private HashingService hashingService;
     @Mock private RecordHelper recordHelper;
     @Mock private SigningService signingService;
+    @Mock private BulkSigningService bulkSigningService;
+    @Mock private PetRepository petRepository;
     @Mock private ValidateHelper validateHelper;
     @Mock private CertificateHelper certificateHelper;
-    @Mock private QrCodeService qrCodeService;
+    @Mock private CertificateQrHelper certificateQrHelper;
+    @Mock private QrImageService qrImageService;
+    @Mock private HcertVerificationService hcertVerificationService;
     @Mock private CertificateEventPublisherPort certificateEventPublisher;
     @Mock private UserMapper userMapper;
     @Mock private PetMapper petMapper;
     @Mock private RecordMapper recordMapper;
+    @Mock private CertificateRevocationRepository certificateRevocationRepository;
+    @Mock private RevocationListService revocationListService;
 
     // --- Class Under Test ---
     @InjectMocks
@@ -82,6 +116,8 @@ class CertificateServiceImplTest {
 
     // --- Captors ---
     @Captor ArgumentCaptor<Certificate> certificateCaptor;
+    @Captor ArgumentCaptor<List<Certificate>> certificateListCaptor;
+    @Captor ArgumentCaptor<CertificateRevocation> revocationCaptor;
 
     // --- Test Data ---
     private Vet generatingVet;
@@ -136,6 +172,7 @@ class CertificateServiceImplTest {
         pet.setImage("certipet.png");
         pet.setStatus(PetStatus.ACTIVE);
         pet.setAssociatedVets(Set.of(generatingVet));
+        pet.setAhcEligibleUntil(LocalDate.now().plusMonths(6));
 
         Vaccine rabiesVaccine = Vaccine.builder().name("Rabivax").isRabiesVaccine(true).validity(1).batchNumber("RB001").build();
 
@@ -200,6 +237,16 @@ class CertificateServiceImplTest {
         );
     }
 
+    private CertificatePayload samplePayload() {
+        return new CertificatePayload(
+                CertificatePayload.CERT_TYPE_V2,
+                1678886400000L,
+                certNumber,
+                new CertificatePayload.Issuer(5L, "Test Clinic", "SPAIN", vetId, "Test Vet", "LIC-1"),
+                new CertificatePayload.Subject(petId, "Buddy", "DOG", "Labrador", null, null, null, null, null),
+                new CertificatePayload.Event(200L, "VACCINE", "2025-01-10", null, null));
+    }
+
     /**
      * --- Tests for generateCertificate ---
      */
@@ -220,11 +267,12 @@ class CertificateServiceImplTest {
         @DisplayName("should generate certificate successfully when Rabies vac and Checkup are valid")
         void generateCertificate_Success_AllValid() throws HashingException {
             // --- Arrange --
-            String expectedPayloadJson = "{\"key\":\"value\"}";
+            CertificatePayload mockPayload = samplePayload();
+            byte[] expectedPayloadCbor = CertificatePayloadCodec.toCbor(mockPayload);
+            String expectedPayloadJson = CertificatePayloadCodec.toJson(mockPayload);
             String payloadHash = "a1b2c3d4e5f6";
             String vetSig = "base64VetSig==";
             String clinicSig = "base64ClinicSig==";
-            Map<String, Object> mockPayloadMap = Map.of("key", "value");
 
             Long currentPetId = CertificateServiceImplTest.this.generationRequestDto.petId();
             String currentCertNumber = CertificateServiceImplTest.this.generationRequestDto.certificateNumber();
@@ -235,10 +283,9 @@ class CertificateServiceImplTest {
             given(recordHelper.findValidCheckupRecord(currentPetId)).willReturn(validCheckupRecord);
             willDoNothing().given(validateHelper).validateCertificateUniqueness(validRabiesRecord.getId(), currentCertNumber);
             given(certificateHelper.buildPayload(pet, validRabiesRecord, generatingVet, clinic, currentCertNumber))
-                    .willReturn(mockPayloadMap);
+                    .willReturn(mockPayload);
 
-            given(recordHelper.serializePayload(mockPayloadMap, validRabiesRecord.getId())).willReturn(expectedPayloadJson);
-            given(recordHelper.hashPayload(expectedPayloadJson, currentPetId)).willReturn(payloadHash);
+            given(recordHelper.hashPayload(aryEq(expectedPayloadCbor), eq(currentPetId))).willReturn(payloadHash);
             given(recordHelper.signWithVetKey(generatingVet, payloadHash, vetPassChars)).willReturn(vetSig);
             given(recordHelper.signWithClinicKey(clinic, payloadHash, clinicPassChars)).willReturn(clinicSig);
             when(certificateRepository.save(certificateCaptor.capture())).thenAnswer(invocation -> {
@@ -282,6 +329,7 @@ class CertificateServiceImplTest {
             assertThat(capturedCertificate.getMedicalRecord()).isEqualTo(validRabiesRecord);
             assertThat(capturedCertificate.getCertificateNumber()).isEqualTo(currentCertNumber);
             assertThat(capturedCertificate.getPayload()).isEqualTo(expectedPayloadJson);
+            assertThat(capturedCertificate.getPayloadFormat()).isEqualTo(CertificatePayloadFormat.CBOR_V2);
             assertThat(capturedCertificate.getHash()).isEqualTo(payloadHash);
             assertThat(capturedCertificate.getVetSignature()).isEqualTo(vetSig);
             assertThat(capturedCertificate.getClinicSignature()).isEqualTo(clinicSig);
@@ -290,10 +338,29 @@ class CertificateServiceImplTest {
             assertThat(validCheckupRecord.isImmutable()).isTrue();
             assertThat(capturedCertificate.getMedicalRecord()).isEqualTo(validRabiesRecord);
 
+            then(certificateQrHelper).should().attachQrData(eq(capturedCertificate), aryEq(expectedPayloadCbor));
             then(certificateEventPublisher).should().publishCertificateGenerated(any(CertificateGeneratedEvent.class));
             then(certificateMapper).should().toViewDto(capturedCertificate);
         }
 
+        @Test
+        @DisplayName("should throw AhcPrerequisitesNotMetException without validating records if pet is not AHC eligible")
+        void generateCertificate_Failure_NotEligible() {
+            // --- Arrange --
+            pet.setAhcEligibleUntil(LocalDate.now().minusDays(1));
+            given(entityFinderHelper.findVetOrFail(vetId)).willReturn(generatingVet);
+            given(entityFinderHelper.findPetByIdOrFail(petId)).willReturn(pet);
+
+            // Act & Assert
+            assertThatThrownBy(() -> certificateService.generateCertificate(generationRequestDto, vetId))
+                    .isInstanceOf(AhcPrerequisitesNotMetException.class)
+                    .hasMessageContaining("does not meet the AHC certificate prerequisites");
+
+            then(validateHelper).should(never()).findValidRabiesRecord(anyLong());
+            then(recordHelper).should(never()).findValidCheckupRecord(anyLong());
+            then(certificateRepository).should(never()).save(any());
+        }
+
         @Test
         @DisplayName("should throw MissingRabiesVaccineException if no valid rabies record found")
         void generateCertificate_Failure_NoValidRabies() {
@@ -405,9 +472,8 @@ class CertificateServiceImplTest {
             given(validateHelper.findValidRabiesRecord(petId)).willReturn(validRabiesRecord);
             given(recordHelper.findValidCheckupRecord(petId)).willReturn(validCheckupRecord);
             doNothing().when(validateHelper).validateCertificateUniqueness(validRabiesRecord.getId(), certNumber);
-            given(certificateHelper.buildPayload(any(), any(), any(), any(), anyString())).willReturn(Map.of("key", "value"));
-            given(recordHelper.serializePayload(anyMap(), anyLong())).willReturn("{\"key\":\"value\"}");
-            given(recordHelper.hashPayload(anyString(), eq(petId)))
+            given(certificateHelper.buildPayload(any(), any(), any(), any(), anyString())).willReturn(samplePayload());
+            given(recordHelper.hashPayload(any(byte[].class), eq(petId)))
                     .willThrow(new HashingException("Hash fail", null));
 
             // Act & Assert
@@ -426,8 +492,7 @@ class CertificateServiceImplTest {
             then(recordHelper).should().findValidCheckupRecord(petId);
             then(validateHelper).should().validateCertificateUniqueness(validRabiesRecord.getId(), certNumber);
             then(certificateHelper).should().buildPayload(any(), any(), any(), any(), anyString());
-            then(recordHelper).should().serializePayload(anyMap(), eq(validRabiesRecord.getId()));
-            then(recordHelper).should().hashPayload(anyString(), eq(petId));
+            then(recordHelper).should().hashPayload(any(byte[].class), eq(petId));
             then(recordHelper).should(never()).signWithVetKey(any(), any(), any());
             then(certificateRepository).should(never()).save(any());
         }
@@ -444,9 +509,8 @@ class CertificateServiceImplTest {
             given(recordHelper.findValidCheckupRecord(petId)).willReturn(validCheckupRecord);
             doNothing().when(validateHelper).validateCertificateUniqueness(validRabiesRecord.getId(), certNumber);
             given(certificateHelper.buildPayload(pet, validRabiesRecord, generatingVet, clinic, certNumber))
-                    .willReturn(Map.of("key", "value"));
-            given(recordHelper.serializePayload(any(), eq(validRabiesRecord.getId()))).willReturn("{\"key\":\"value\"}");
-            given(recordHelper.hashPayload(anyString(), eq(petId))).willReturn(payloadHash);
+                    .willReturn(samplePayload());
+            given(recordHelper.hashPayload(any(byte[].class), eq(petId))).willReturn(payloadHash);
             given(recordHelper.signWithVetKey(
                     eq(generatingVet),
                     eq(payloadHash),
@@ -465,8 +529,7 @@ class CertificateServiceImplTest {
             then(certificateHelper).should().buildPayload(pet, validRabiesRecord, generatingVet, clinic, certNumber);
 
             then(recordHelper).should().findValidCheckupRecord(petId);
-            then(recordHelper).should().serializePayload(any(), eq(validRabiesRecord.getId()));
-            then(recordHelper).should().hashPayload(anyString(), eq(petId));
+            then(recordHelper).should().hashPayload(any(byte[].class), eq(petId));
             then(recordHelper).should().signWithVetKey(
                     eq(generatingVet),
                     eq(payloadHash),
@@ -483,9 +546,9 @@ class CertificateServiceImplTest {
         @DisplayName("should throw RuntimeException if Clinic signing fails")
         void generateCertificate_Failure_ClinicSigningError() {
             // Arrange
-            String payloadJson = "{\"key\":\"value\"}";
+            CertificatePayload mockPayload = samplePayload();
+            byte[] payloadCbor = CertificatePayloadCodec.toCbor(mockPayload);
             String payloadHash = "hash123";
-            Map<String, Object> mockPayloadMap = Map.of("key", "value");
 
             given(entityFinderHelper.findVetOrFail(vetId)).willReturn(generatingVet);
             given(entityFinderHelper.findPetByIdOrFail(petId)).willReturn(pet);
@@ -493,9 +556,8 @@ class CertificateServiceImplTest {
             given(recordHelper.findValidCheckupRecord(petId)).willReturn(validCheckupRecord);
             willDoNothing().given(validateHelper).validateCertificateUniqueness(validRabiesRecord.getId(), certNumber);
             given(certificateHelper.buildPayload(pet, validRabiesRecord, generatingVet, clinic, certNumber))
-                    .willReturn(mockPayloadMap);
-            given(recordHelper.serializePayload(mockPayloadMap, validRabiesRecord.getId())).willReturn(payloadJson);
-            given(recordHelper.hashPayload(payloadJson, pet.getId())).willReturn(payloadHash);
+                    .willReturn(mockPayload);
+            given(recordHelper.hashPayload(aryEq(payloadCbor), eq(pet.getId()))).willReturn(payloadHash);
             given(recordHelper.signWithVetKey(
                     eq(generatingVet),
                     eq(payloadHash),
@@ -519,8 +581,7 @@ class CertificateServiceImplTest {
             then(recordHelper).should().findValidCheckupRecord(petId);
             then(validateHelper).should().validateCertificateUniqueness(validRabiesRecord.getId(), certNumber);
             then(certificateHelper).should().buildPayload(pet, validRabiesRecord, generatingVet, clinic, certNumber);
-            then(recordHelper).should().serializePayload(mockPayloadMap, validRabiesRecord.getId());
-            then(recordHelper).should().hashPayload(payloadJson, pet.getId());
+            then(recordHelper).should().hashPayload(aryEq(payloadCbor), eq(pet.getId()));
             then(recordHelper).should().signWithVetKey(
                     eq(generatingVet),
                     eq(payloadHash),
@@ -656,44 +717,50 @@ class CertificateServiceImplTest {
         }
 
         @Test
-        @DisplayName("should return Base45 string when requested by authorized Owner")
+        @DisplayName("should return the stored QR data and hash when requested by authorized Owner")
         void getQrData_Success_ByOwner() {
             // Arrange
-            String expectedQrData = "HC1:BASE45DATA...";
+            savedCertificate.setQrData("HC1:BASE45DATA...");
+            savedCertificate.setQrDataHash("qrhash");
             given(entityFinderHelper.findCertificateOrFail(certificateId)).willReturn(savedCertificate);
             willDoNothing().given(authorizationHelper).verifyUserAuthorizationForCertificate(requesterOwnerId, savedCertificate);
-            given(qrCodeService.generateQrData(savedCertificate)).willReturn(expectedQrData);
+            given(certificateQrHelper.hasQrData(savedCertificate)).willReturn(true);
 
             // Act
-            String actualQrData = certificateService.getQrDataForCertificate(certificateId, requesterOwnerId);
+            CertificateQrDataDto actualQrData = certificateService.getQrDataForCertificate(certificateId, requesterOwnerId);
 
             // Assert
-            assertThat(actualQrData).isEqualTo(expectedQrData);
+            assertThat(actualQrData.qrData()).isEqualTo("HC1:BASE45DATA...");
+            assertThat(actualQrData.contentHash()).isEqualTo("qrhash");
             then(entityFinderHelper).should().findCertificateOrFail(certificateId);
             then(authorizationHelper).should().verifyUserAuthorizationForCertificate(requesterOwnerId, savedCertificate);
-            then(qrCodeService).should().generateQrData(savedCertificate);
+            then(certificateQrHelper).should(never()).attachQrData(any());
+            then(certificateRepository).should(never()).save(any());
         }
 
         @Test
-        @DisplayName("should return Base45 string when requested by authorized Staff")
-        void getQrData_Success_ByStaff() {
+        @DisplayName("should generate and store the QR data when it was not stored yet")
+        void getQrData_Success_GeneratesMissing() {
             Long requesterVetId = 1L;
             // Arrange
-            String expectedQrData = "HC1:STAFFBASE45...";
             given(entityFinderHelper.findCertificateOrFail(certificateId)).willReturn(savedCertificate);
-            Pet associatedPet = savedCertificate.getPet();
-            assertThat(associatedPet).isNotNull();
             willDoNothing().given(authorizationHelper).verifyUserAuthorizationForCertificate(requesterVetId, savedCertificate);
-            given(qrCodeService.generateQrData(savedCertificate)).willReturn(expectedQrData);
+            given(certificateQrHelper.hasQrData(savedCertificate)).willReturn(false);
+            willAnswer(invocation -> {
+                Certificate certificate = invocation.getArgument(0);
+                certificate.setQrData("HC1:STAFFBASE45...");
+                certificate.setQrDataHash("staffhash");
+                return null;
+            }).given(certificateQrHelper).attachQrData(savedCertificate);
 
             // Act
-            String actualQrData = certificateService.getQrDataForCertificate(certificateId, requesterVetId);
+            CertificateQrDataDto actualQrData = certificateService.getQrDataForCertificate(certificateId, requesterVetId);
 
             // Assert
-            assertThat(actualQrData).isEqualTo(expectedQrData);
-            then(entityFinderHelper).should().findCertificateOrFail(certificateId);
-            then(authorizationHelper).should().verifyUserAuthorizationForCertificate(requesterVetId, savedCertificate);
-            then(qrCodeService).should().generateQrData(savedCertificate);
+            assertThat(actualQrData.qrData()).isEqualTo("HC1:STAFFBASE45...");
+            assertThat(actualQrData.contentHash()).isEqualTo("staffhash");
+            then(certificateQrHelper).should().attachQrData(savedCertificate);
+            then(certificateRepository).should().save(savedCertificate);
         }
 
         @Test
@@ -707,7 +774,7 @@ class CertificateServiceImplTest {
                     .isInstanceOf(EntityNotFoundException.class);
 
             then(authorizationHelper).should(never()).verifyUserAuthorizationForPet(anyLong(), any(), anyString());
-            then(qrCodeService).should(never()).generateQrData(any());
+            then(certificateQrHelper).should(never()).attachQrData(any());
         }
 
         @Test
@@ -720,20 +787,524 @@ class CertificateServiceImplTest {
             assertThatThrownBy(() -> certificateService.getQrDataForCertificate(certificateId, unauthorizedUserId))
                     .isInstanceOf(AccessDeniedException.class);
 
-            then(qrCodeService).should(never()).generateQrData(any());
+            then(certificateQrHelper).should(never()).hasQrData(any());
+            then(certificateQrHelper).should(never()).attachQrData(any());
         }
 
         @Test
-        @DisplayName("should throw RuntimeException if QrCodeService fails")
+        @DisplayName("should throw RuntimeException if QR data generation fails")
         void getQrData_Failure_QrServiceError() {
             given(entityFinderHelper.findCertificateOrFail(certificateId)).willReturn(savedCertificate);
             willDoNothing().given(authorizationHelper).verifyUserAuthorizationForCertificate(requesterOwnerId, savedCertificate);
-
-            given(qrCodeService.generateQrData(savedCertificate)).willThrow(new RuntimeException("CBOR failed"));
+            given(certificateQrHelper.hasQrData(savedCertificate)).willReturn(false);
+            willThrow(new RuntimeException("CBOR failed")).given(certificateQrHelper).attachQrData(savedCertificate);
 
             assertThatThrownBy(() -> certificateService.getQrDataForCertificate(certificateId, requesterOwnerId))
                     .isInstanceOf(RuntimeException.class)
                     .hasMessageContaining("CBOR failed");
+            then(certificateRepository).should(never()).save(any());
+        }
+    }
+
+    /**
+     * --- Tests for getQrImageForCertificate ---
+     */
+    @Nested
+    @DisplayName("getQrImageForCertificate Tests")
+    class GetQrImageForCertificateTests {
+
+        private final Long certificateId = 500L;
+        private final Long requesterOwnerId = 50L;
+
+        @Test
+        @DisplayName("should render the stored QR data and derive the ETag from its hash and the options")
+        void getQrImage_Success() {
+            savedCertificate.setId(certificateId);
+            savedCertificate.setQrData("HC1:BASE45DATA...");
+            savedCertificate.setQrDataHash("qrhash");
+            byte[] png = {1, 2, 3};
+            given(entityFinderHelper.findCertificateOrFail(certificateId)).willReturn(savedCertificate);
+            given(certificateQrHelper.hasQrData(savedCertificate)).willReturn(true);
+            given(qrImageService.renderQrImage(certificateId, "HC1:BASE45DATA...", QrImageService.Format.PNG, 300, "q")).willReturn(png);
+
+            CertificateQrImageDto result = certificateService.getQrImageForCertificate(certificateId, requesterOwnerId, QrImageService.Format.PNG, 300, "q");
+
+            assertThat(result.image()).isSameAs(png);
+            assertThat(result.mediaType()).isEqualTo("image/png");
+            assertThat(result.etag()).isEqualTo("qrhash-png-300-Q");
+            then(authorizationHelper).should().verifyUserAuthorizationForCertificate(requesterOwnerId, savedCertificate);
+        }
+
+        @Test
+        @DisplayName("should not render anything if requester not authorized")
+        void getQrImage_Failure_Unauthorized() {
+            given(entityFinderHelper.findCertificateOrFail(certificateId)).willReturn(savedCertificate);
+            willThrow(new AccessDeniedException("User not authorized for certificate"))
+                    .given(authorizationHelper).verifyUserAuthorizationForCertificate(requesterOwnerId, savedCertificate);
+
+            assertThatThrownBy(() -> certificateService.getQrImageForCertificate(certificateId, requesterOwnerId, QrImageService.Format.SVG, 300, "M"))
+                    .isInstanceOf(AccessDeniedException.class);
+
+            then(qrImageService).should(never()).renderQrImage(any(), any(), any(), anyInt(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("verifyQrData Tests")
+    class VerifyQrDataTests {
+
+        @Test
+        @DisplayName("should delegate to the offline verifier without any database access")
+        void verifyQrData_Success() {
+            HcertVerificationResultDto expected = new HcertVerificationResultDto(true, "CERT-123", 5L, 10L, true, true, false, null);
+            given(hcertVerificationService.verify("HC1:DATA")).willReturn(expected);
+
+            HcertVerificationResultDto result = certificateService.verifyQrData("HC1:DATA");
+
+            assertThat(result).isSameAs(expected);
+            then(certificateRepository).shouldHaveNoInteractions();
+            then(entityFinderHelper).shouldHaveNoInteractions();
+        }
+    }
+
+    /**
+     * --- Tests for generateCertificates ---
+     */
+    @Nested
+    @DisplayName("generateCertificates Tests")
+    class GenerateCertificatesTests {
+        private final String otherCertNumber = "AHC-67890-XYZ";
+        private final Long otherPetId = 101L;
+
+        @BeforeEach
+        void generateCertificatesTestSetup() {
+            pet.setPendingCertificateClinic(clinic);
+            certificateService.setCertificateEventPublisher(certificateEventPublisher);
+        }
+
+        private BulkCertificateGenerationRequestDto bulkRequest(BulkCertificateItemDto... items) {
+            return new BulkCertificateGenerationRequestDto(List.of(items), "vetPass123", "clinicPass123");
+        }
+
+        @Test
+        @DisplayName("should issue the valid items with keys unlocked once and reject the others with a reason")
+        void generateCertificates_Success_PartialRejection() throws Exception {
+            // Arrange
+            CertificatePayload payload = samplePayload();
+            byte[] payloadCbor = CertificatePayloadCodec.toCbor(payload);
+            KeyPairGenerator ecGenerator = KeyPairGenerator.getInstance("EC");
+            ecGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+            PrivateKey vetKey = ecGenerator.generateKeyPair().getPrivate();
+            PrivateKey clinicKey = KeyPairGenerator.getInstance("Ed25519").generateKeyPair().getPrivate();
+            BulkCertificateGenerationRequestDto request = bulkRequest(
+                    new BulkCertificateItemDto(petId, certNumber),
+                    new BulkCertificateItemDto(otherPetId, otherCertNumber),
+                    new BulkCertificateItemDto(petId, "AHC-REPEATED"));
+
+            given(entityFinderHelper.findVetOrFail(vetId)).willReturn(generatingVet);
+            given(petRepository.findAllForCertificateIssuance(Set.of(petId, otherPetId))).willReturn(List.of(pet));
+            given(validateHelper.findValidRabiesRecords(Set.of(petId, otherPetId))).willReturn(Map.of(petId, validRabiesRecord));
+            given(recordHelper.findValidCheckupRecords(Set.of(petId, otherPetId))).willReturn(Map.of(petId, validCheckupRecord));
+            given(certificateRepository.findCertifiedRecordIds(List.of(validRabiesRecord.getId()))).willReturn(Set.of());
+            given(certificateRepository.findUsedCertificateNumbers(List.of(certNumber, otherCertNumber))).willReturn(Set.of());
+            given(certificateHelper.buildPayload(pet, validRabiesRecord, generatingVet, clinic, certNumber)).willReturn(payload);
+            given(recordHelper.hashPayload(aryEq(payloadCbor), eq(petId))).willReturn("hash-1");
+            given(signingService.loadVetPrivateKey(eq(generatingVet), aryEq("vetPass123".toCharArray()))).willReturn(vetKey);
+            given(signingService.loadClinicPrivateKey(eq(clinic), aryEq("clinicPass123".toCharArray()))).willReturn(clinicKey);
+            given(bulkSigningService.signAll(vetKey, List.of("hash-1"))).willReturn(List.of("vetSig"));
+            given(bulkSigningService.signAll(clinicKey, List.of("hash-1"))).willReturn(List.of("clinicSig"));
+            given(certificateRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+            given(certificateMapper.toViewDtoList(anyList())).willReturn(List.of(expectedViewDto));
+
+            // Act
+            BulkCertificateGenerationResultDto result = certificateService.generateCertificates(request, vetId);
+
+            // Assert
+            assertThat(result.generated()).containsExactly(expectedViewDto);
+            assertThat(result.rejected()).extracting("petId", "certificateNumber")
+                    .containsExactlyInAnyOrder(tuple(petId, "AHC-REPEATED"), tuple(otherPetId, otherCertNumber));
+
+            then(certificateRepository).should().saveAll(certificateListCaptor.capture());
+            assertThat(certificateListCaptor.getValue()).hasSize(1);
+            Certificate issued = certificateListCaptor.getValue().get(0);
+            assertThat(issued.getCertificateNumber()).isEqualTo(certNumber);
+            assertThat(issued.getPayloadFormat()).isEqualTo(CertificatePayloadFormat.CBOR_V2);
+            assertThat(issued.getHash()).isEqualTo("hash-1");
+            assertThat(issued.getVetSignature()).isEqualTo("vetSig");
+            assertThat(issued.getClinicSignature()).isEqualTo("clinicSig");
+            assertThat(issued.getVetSignatureAlgorithm()).isEqualTo(SignatureAlgorithm.ES256);
+            assertThat(issued.getClinicSignatureAlgorithm()).isEqualTo(SignatureAlgorithm.ED25519);
+            then(certificateQrHelper).should().attachQrData(eq(issued), aryEq(payloadCbor));
+
+            assertThat(validRabiesRecord.isImmutable()).isTrue();
+            assertThat(validCheckupRecord.isImmutable()).isTrue();
+            assertThat(pet.getPendingCertificateClinic()).isNull();
+            then(petRepository).should().saveAll(List.of(pet));
+            then(certificateEventPublisher).should().publishCertificatesGenerated(anyList());
+            then(certificateRepository).should(never()).save(any(Certificate.class));
+        }
+
+        @Test
+        @DisplayName("should not unlock any key when no item meets the prerequisites")
+        void generateCertificates_AllRejected_NoKeyUnlocked() {
+            // Arrange
+            pet.setAhcEligibleUntil(LocalDate.now().minusDays(1));
+            given(entityFinderHelper.findVetOrFail(vetId)).willReturn(generatingVet);
+            given(petRepository.findAllForCertificateIssuance(Set.of(petId))).willReturn(List.of(pet));
+            given(validateHelper.findValidRabiesRecords(Set.of(petId))).willReturn(Map.of());
+            given(recordHelper.findValidCheckupRecords(Set.of(petId))).willReturn(Map.of());
+            given(certificateRepository.findUsedCertificateNumbers(List.of(certNumber))).willReturn(Set.of());
+
+            // Act
+            BulkCertificateGenerationResultDto result = certificateService.generateCertificates(
+                    bulkRequest(new BulkCertificateItemDto(petId, certNumber)), vetId);
+
+            // Assert
+            assertThat(result.generated()).isEmpty();
+            assertThat(result.rejected()).singleElement()
+                    .satisfies(failure -> assertThat(failure.reason()).contains("AHC prerequisites"));
+            then(signingService).shouldHaveNoInteractions();
+            then(bulkSigningService).shouldHaveNoInteractions();
+            then(certificateRepository).should(never()).saveAll(anyList());
+            then(certificateEventPublisher).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("should reject a pet whose pending request is for another clinic")
+        void generateCertificates_Rejected_OtherClinicRequest() {
+            // Arrange
+            Clinic otherClinic = Clinic.builder().name("Other Clinic").build();
+            otherClinic.setId(99L);
+            pet.setPendingCertificateClinic(otherClinic);
+            given(entityFinderHelper.findVetOrFail(vetId)).willReturn(generatingVet);
+            given(petRepository.findAllForCertificateIssuance(Set.of(petId))).willReturn(List.of(pet));
+            given(validateHelper.findValidRabiesRecords(Set.of(petId))).willReturn(Map.of(petId, validRabiesRecord));
+            given(recordHelper.findValidCheckupRecords(Set.of(petId))).willReturn(Map.of(petId, validCheckupRecord));
+            given(certificateRepository.findCertifiedRecordIds(List.of(validRabiesRecord.getId()))).willReturn(Set.of());
+            given(certificateRepository.findUsedCertificateNumbers(List.of(certNumber))).willReturn(Set.of());
+
+            // Act
+            BulkCertificateGenerationResultDto result = certificateService.generateCertificates(
+                    bulkRequest(new BulkCertificateItemDto(petId, certNumber)), vetId);
+
+            // Assert
+            assertThat(result.generated()).isEmpty();
+            assertThat(result.rejected()).singleElement()
+                    .satisfies(failure -> assertThat(failure.reason()).contains("pending certificate request"));
+            assertThat(pet.getPendingCertificateClinic()).isEqualTo(otherClinic);
+            then(signingService).shouldHaveNoInteractions();
+        }
+    }
+
+    /**
+     * --- Tests for getCertificateDocument and getClinicCertificateDocuments ---
+     */
+    @Nested
+    @DisplayName("Certificate document Tests")
+    class CertificateDocumentTests {
+        private CertificateDocumentDto expectedDocument;
+
+        @BeforeEach
+        void documentSetup() {
+            expectedDocument = new CertificateDocumentDto(savedCertificate.getId(), certNumber, savedCertificate.getCreatedAt(), samplePayload(),
+                    "HC1:BASE45", "hashedPayload", SignatureAlgorithm.RS256, "AA:BB", SignatureAlgorithm.RS256, "CC:DD");
+        }
+
+        @Test
+        @DisplayName("getCertificateDocument should authorize the requester and build the document model")
+        void getCertificateDocument_Success() {
+            Long ownerId = owner.getId();
+            given(entityFinderHelper.findCertificateOrFail(savedCertificate.getId())).willReturn(savedCertificate);
+            given(certificateQrHelper.hasQrData(savedCertificate)).willReturn(true);
+            given(certificateHelper.buildDocument(savedCertificate)).willReturn(expectedDocument);
+
+            CertificateDocumentDto result = certificateService.getCertificateDocument(savedCertificate.getId(), ownerId);
+
+            assertThat(result).isEqualTo(expectedDocument);
+            then(authorizationHelper).should().verifyUserAuthorizationForCertificate(ownerId, savedCertificate);
+            then(certificateRepository).should(never()).save(any(Certificate.class));
+        }
+
+        @Test
+        @DisplayName("getClinicCertificateDocuments should load the batch in one query, ignoring repeated IDs")
+        void getClinicCertificateDocuments_Success() {
+            given(entityFinderHelper.findClinicStaffOrFail(eq(vetId), anyString())).willReturn(generatingVet);
+            given(certificateRepository.findByIssuingClinicIdAndIdInOrderByIdAsc(clinic.getId(), Set.of(savedCertificate.getId())))
+                    .willReturn(List.of(savedCertificate));
+            given(certificateQrHelper.hasQrData(savedCertificate)).willReturn(false);
+            given(certificateHelper.buildDocument(savedCertificate)).willReturn(expectedDocument);
+
+            List<CertificateDocumentDto> result = certificateService.getClinicCertificateDocuments(
+                    clinic.getId(), List.of(savedCertificate.getId(), savedCertificate.getId()), vetId);
+
+            assertThat(result).containsExactly(expectedDocument);
+            then(certificateQrHelper).should().attachQrData(savedCertificate);
+            then(certificateRepository).should().save(savedCertificate);
+        }
+
+        @Test
+        @DisplayName("getClinicCertificateDocuments should throw AccessDeniedException for staff of another clinic")
+        void getClinicCertificateDocuments_Failure_OtherClinic() {
+            given(entityFinderHelper.findClinicStaffOrFail(eq(vetId), anyString())).willReturn(generatingVet);
+
+            assertThatThrownBy(() -> certificateService.getClinicCertificateDocuments(99L, List.of(savedCertificate.getId()), vetId))
+                    .isInstanceOf(AccessDeniedException.class);
+            then(certificateRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("getClinicCertificateDocuments should throw EntityNotFoundException naming the certificates not issued by the clinic")
+        void getClinicCertificateDocuments_Failure_NotFound() {
+            given(entityFinderHelper.findClinicStaffOrFail(eq(vetId), anyString())).willReturn(generatingVet);
+            given(certificateRepository.findByIssuingClinicIdAndIdInOrderByIdAsc(clinic.getId(), Set.of(savedCertificate.getId(), 999L)))
+                    .willReturn(List.of(savedCertificate));
+
+            assertThatThrownBy(() -> certificateService.getClinicCertificateDocuments(clinic.getId(), List.of(savedCertificate.getId(), 999L), vetId))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessageContaining("[999]");
+            then(certificateHelper).should(never()).buildDocument(any());
+        }
+
+        @Test
+        @DisplayName("getClinicCertificateDocuments should throw IllegalArgumentException for a batch over the limit")
+        void getClinicCertificateDocuments_Failure_TooMany() {
+            given(entityFinderHelper.findClinicStaffOrFail(eq(vetId), anyString())).willReturn(generatingVet);
+            List<Long> ids = new ArrayList<>();
+            for (long id = 1; id <= CertificateServiceImpl.MAX_DOCUMENT_BATCH_SIZE + 1; id++) {
+                ids.add(id);
+            }
+
+            assertThatThrownBy(() -> certificateService.getClinicCertificateDocuments(clinic.getId(), ids, vetId))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> certificateService.getClinicCertificateDocuments(clinic.getId(), Collections.emptyList(), vetId))
+                    .isInstanceOf(IllegalArgumentException.class);
+            then(certificateRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("Certificate revocation Tests")
+    class CertificateRevocationTests {
+
+        private CertificateRevocation revocation(Long id, String certificateNumber) {
+            return revocation(id, certificateNumber, LocalDateTime.now().minusHours(1));
+        }
+
+        private CertificateRevocation revocation(Long id, String certificateNumber, LocalDateTime createdAt) {
+            CertificateRevocation revocation = CertificateRevocation.builder()
+                    .certificateNumber(certificateNumber)
+                    .payloadHash("hash-" + certificateNumber)
+                    .reason(RevocationReason.ISSUED_IN_ERROR)
+                    .build();
+            revocation.setId(id);
+            revocation.setCreatedAt(createdAt);
+            return revocation;
+        }
+
+        @Test
+        @DisplayName("revokeCertificate should save the revocation and add it to the revocation list")
+        void revokeCertificate_Success() {
+            // Arrange
+            CertificateRevocationRequestDto requestDto = new CertificateRevocationRequestDto(RevocationReason.SUPERSEDED, "  Replaced by AHC-2  ");
+            CertificateRevocationDto expectedDto = new CertificateRevocationDto(savedCertificate.getId(), certNumber,
+                    RevocationReason.SUPERSEDED, "Replaced by AHC-2", vetId, LocalDateTime.now());
+            given(entityFinderHelper.findClinicStaffOrFail(eq(vetId), anyString())).willReturn(generatingVet);
+            given(entityFinderHelper.findCertificateOrFail(savedCertificate.getId())).willReturn(savedCertificate);
+            given(certificateRevocationRepository.existsByCertificateId(savedCertificate.getId())).willReturn(false);
+            given(certificateRevocationRepository.save(any(CertificateRevocation.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(certificateMapper.toRevocationDto(any(CertificateRevocation.class))).willReturn(expectedDto);
+
+            // Act
+            CertificateRevocationDto result = certificateService.revokeCertificate(savedCertificate.getId(), requestDto, vetId);
+
+            // Assert
+            assertThat(result).isEqualTo(expectedDto);
+            then(certificateRevocationRepository).should().save(revocationCaptor.capture());
+            CertificateRevocation saved = revocationCaptor.getValue();
+            assertThat(saved.getCertificate()).isSameAs(savedCertificate);
+            assertThat(saved.getCertificateNumber()).isEqualTo(certNumber);
+            assertThat(saved.getPayloadHash()).isEqualTo("hashedPayload");
+            assertThat(saved.getReason()).isEqualTo(RevocationReason.SUPERSEDED);
+            assertThat(saved.getNote()).isEqualTo("Replaced by AHC-2");
+            assertThat(saved.getRevokedBy()).isSameAs(generatingVet);
+            then(revocationListService).should().register(certNumber);
+        }
+
+        @Test
+        @DisplayName("revokeCertificate should throw AccessDeniedException for staff of another clinic")
+        void revokeCertificate_Failure_OtherClinic() {
+            // Arrange
+            Clinic otherClinic = Clinic.builder().name("Other Clinic").build();
+            otherClinic.setId(99L);
+            Vet otherVet = new Vet();
+            otherVet.setId(2L);
+            otherVet.setClinic(otherClinic);
+            given(entityFinderHelper.findClinicStaffOrFail(eq(2L), anyString())).willReturn(otherVet);
+            given(entityFinderHelper.findCertificateOrFail(savedCertificate.getId())).willReturn(savedCertificate);
+
+            // Act & Assert
+            assertThatThrownBy(() -> certificateService.revokeCertificate(savedCertificate.getId(),
+                    new CertificateRevocationRequestDto(RevocationReason.FRAUD, null), 2L))
+                    .isInstanceOf(AccessDeniedException.class);
+            then(certificateRevocationRepository).shouldHaveNoInteractions();
+            then(revocationListService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("revokeCertificate should throw CertificateAlreadyRevokedException for a revoked certificate")
+        void revokeCertificate_Failure_AlreadyRevoked() {
+            // Arrange
+            given(entityFinderHelper.findClinicStaffOrFail(eq(vetId), anyString())).willReturn(generatingVet);
+            given(entityFinderHelper.findCertificateOrFail(savedCertificate.getId())).willReturn(savedCertificate);
+            given(certificateRevocationRepository.existsByCertificateId(savedCertificate.getId())).willReturn(true);
+
+            // Act & Assert
+            assertThatThrownBy(() -> certificateService.revokeCertificate(savedCertificate.getId(),
+                    new CertificateRevocationRequestDto(RevocationReason.OTHER, null), vetId))
+                    .isInstanceOf(CertificateAlreadyRevokedException.class);
+            then(certificateRevocationRepository).should(never()).save(any());
+            then(revocationListService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("getRevocationsSince should return a full delta with the last ID as watermark and more pending")
+        void getRevocationsSince_Success_HasMore() {
+            // Arrange
+            CertificateRevocation first = revocation(11L, "AHC-1");
+            CertificateRevocation second = revocation(15L, "AHC-2");
+            CertificateRevocation third = revocation(20L, "AHC-3");
+            RevokedCertificateDto firstDto = new RevokedCertificateDto("AHC-1", "hash-AHC-1", RevocationReason.ISSUED_IN_ERROR, null);
+            RevokedCertificateDto secondDto = new RevokedCertificateDto("AHC-2", "hash-AHC-2", RevocationReason.ISSUED_IN_ERROR, null);
+            given(certificateRevocationRepository.findRevokedAfter(10L, PageRequest.of(0, 3))).willReturn(new ArrayList<>(List.of(first, second, third)));
+            given(certificateMapper.toRevokedCertificateDto(first)).willReturn(firstDto);
+            given(certificateMapper.toRevokedCertificateDto(second)).willReturn(secondDto);
+
+            // Act
+            RevocationDeltaDto result = certificateService.getRevocationsSince(10L, 2);
+
+            // Assert
+            assertThat(result.revocations()).containsExactly(firstDto, secondDto);
+            assertThat(result.watermark()).isEqualTo(15L);
+            assertThat(result.hasMore()).isTrue();
+        }
+
+        @Test
+        @DisplayName("getRevocationsSince should hold back recent revocations so a lower ID committed later is not skipped")
+        void getRevocationsSince_Success_OutOfOrderCommit() {
+            // Arrange: ID 12 was persisted before ID 13 but commits after it, so the first delta only sees 11 and 13
+            CertificateRevocation first = revocation(11L, "AHC-1");
+            CertificateRevocation lateCommit = revocation(12L, "AHC-2");
+            CertificateRevocation recent = revocation(13L, "AHC-3", LocalDateTime.now());
+            RevokedCertificateDto firstDto = new RevokedCertificateDto("AHC-1", "hash-AHC-1", RevocationReason.ISSUED_IN_ERROR, null);
+            RevokedCertificateDto lateCommitDto = new RevokedCertificateDto("AHC-2", "hash-AHC-2", RevocationReason.ISSUED_IN_ERROR, null);
+            RevokedCertificateDto recentDto = new RevokedCertificateDto("AHC-3", "hash-AHC-3", RevocationReason.ISSUED_IN_ERROR, null);
+            given(certificateRevocationRepository.findRevokedAfter(10L, PageRequest.of(0, 101))).willReturn(new ArrayList<>(List.of(first, recent)));
+            given(certificateMapper.toRevokedCertificateDto(first)).willReturn(firstDto);
+
+            // Act
+            RevocationDeltaDto firstDelta = certificateService.getRevocationsSince(10L, 100);
+
+            // Assert: the watermark stops before the revocation still within the settle lag
+            assertThat(firstDelta.revocations()).containsExactly(firstDto);
+            assertThat(firstDelta.watermark()).isEqualTo(11L);
+            assertThat(firstDelta.hasMore()).isFalse();
+
+            // Arrange: once the lag has passed, the late commit is visible and both are settled
+            recent.setCreatedAt(LocalDateTime.now().minusHours(1));
+            given(certificateRevocationRepository.findRevokedAfter(11L, PageRequest.of(0, 101))).willReturn(new ArrayList<>(List.of(lateCommit, recent)));
+            given(certificateMapper.toRevokedCertificateDto(lateCommit)).willReturn(lateCommitDto);
+            given(certificateMapper.toRevokedCertificateDto(recent)).willReturn(recentDto);
+
+            // Act
+            RevocationDeltaDto secondDelta = certificateService.getRevocationsSince(firstDelta.watermark(), 100);
+
+            // Assert
+            assertThat(secondDelta.revocations()).containsExactly(lateCommitDto, recentDto);
+            assertThat(secondDelta.watermark()).isEqualTo(13L);
+        }
+
+        @Test
+        @DisplayName("getRevocationsSince should keep the requested watermark when there is nothing new")
+        void getRevocationsSince_Success_Empty() {
+            // Arrange
+            given(certificateRevocationRepository.findRevokedAfter(42L, PageRequest.of(0, 1001))).willReturn(Collections.emptyList());
+
+            // Act
+            RevocationDeltaDto result = certificateService.getRevocationsSince(42L, 1000);
+
+            // Assert
+            assertThat(result.revocations()).isEmpty();
+            assertThat(result.watermark()).isEqualTo(42L);
+            assertThat(result.hasMore()).isFalse();
+        }
+
+        @Test
+        @DisplayName("getRevocationsSince should throw IllegalArgumentException for a negative watermark or a limit out of range")
+        void getRevocationsSince_Failure_InvalidArguments() {
+            // Act & Assert
+            assertThatThrownBy(() -> certificateService.getRevocationsSince(-1L, 10)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> certificateService.getRevocationsSince(0L, 0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> certificateService.getRevocationsSince(0L, CertificateServiceImpl.MAX_REVOCATION_DELTA_SIZE + 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            then(certificateRevocationRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("scrollCertificatesByClinic Tests")
+    class ScrollCertificatesByClinicTests {
+
+        @Test
+        @DisplayName("should read the first page from the newest certificates and the next one from the returned cursor")
+        void scrollCertificates_Success_TwoPages() {
+            // Arrange
+            Certificate olderCertificate = Certificate.builder().issuingClinic(clinic).certificateNumber("AHC-OLDER").build();
+            olderCertificate.setId(400L);
+            olderCertificate.setCreatedAt(savedCertificate.getCreatedAt().minusDays(1));
+            CertificateViewDto olderViewDto = new CertificateViewDto(400L, "AHC-OLDER", null, null, null, olderCertificate.getCreatedAt(),
+                    null, null, null, null, null, null);
+            given(entityFinderHelper.findClinicStaffOrFail(eq(vetId), anyString())).willReturn(generatingVet);
+            given(certificateRepository.findFirstByIssuingClinic(clinic.getId(), PageRequest.of(0, 2)))
+                    .willReturn(List.of(savedCertificate, olderCertificate));
+            given(certificateRepository.findByIssuingClinicAfter(clinic.getId(), savedCertificate.getCreatedAt(), savedCertificate.getId(), PageRequest.of(0, 2)))
+                    .willReturn(List.of(olderCertificate));
+            given(certificateMapper.toViewDto(savedCertificate)).willReturn(expectedViewDto);
+            given(certificateMapper.toViewDto(olderCertificate)).willReturn(olderViewDto);
+
+            // Act
+            CursorPageDto<CertificateViewDto> firstPage = certificateService.scrollCertificatesByClinic(clinic.getId(), vetId, null, 1);
+            CursorPageDto<CertificateViewDto> secondPage = certificateService.scrollCertificatesByClinic(clinic.getId(), vetId, firstPage.nextCursor(), 1);
+
+            // Assert
+            assertThat(firstPage.content()).containsExactly(expectedViewDto);
+            assertThat(firstPage.hasNext()).isTrue();
+            assertThat(secondPage.content()).containsExactly(olderViewDto);
+            assertThat(secondPage.hasNext()).isFalse();
+            assertThat(secondPage.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("should throw AccessDeniedException for staff of another clinic")
+        void scrollCertificates_Failure_OtherClinic() {
+            // Arrange
+            given(entityFinderHelper.findClinicStaffOrFail(eq(vetId), anyString())).willReturn(generatingVet);
+
+            // Act & Assert
+            assertThatThrownBy(() -> certificateService.scrollCertificatesByClinic(99L, vetId, null, 20))
+                    .isInstanceOf(AccessDeniedException.class);
+            then(certificateRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("should throw IllegalArgumentException for a page size out of range")
+        void scrollCertificates_Failure_InvalidSize() {
+            // Arrange
+            given(entityFinderHelper.findClinicStaffOrFail(eq(vetId), anyString())).willReturn(generatingVet);
+
+            // Act & Assert
+            assertThatThrownBy(() -> certificateService.scrollCertificatesByClinic(clinic.getId(), vetId, null, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            then(certificateRepository).shouldHaveNoInteractions();
         }
     }
-}
\ No newline at end of file
+}
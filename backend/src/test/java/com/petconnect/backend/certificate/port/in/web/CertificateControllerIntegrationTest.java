@@ -2,7 +2,9 @@ package com.petconnect.backend.certificate.port.in.web;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.petconnect.backend.certificate.application.dto.CertificateGenerationRequestDto;
+import com.petconnect.backend.certificate.application.dto.CertificateRevocationRequestDto;
 import com.petconnect.backend.certificate.application.dto.CertificateViewDto;
+import com.petconnect.backend.certificate.domain.model.RevocationReason;
 import com.petconnect.backend.pet.application.dto.PetActivationDto;
 import com.petconnect.backend.pet.application.dto.PetRegistrationDto;
 import com.petconnect.backend.pet.domain.model.Gender;
@@ -34,6 +36,7 @@ import org.springframework.mock.web.MockMultipartFile;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -551,6 +554,73 @@ class CertificateControllerIntegrationTest {
                     .andExpect(content().string(startsWith("HC1:")));
         }
 
+        @Test
+        @DisplayName("should return the stored QR data with a strong ETag and 304 Not Modified when it matches")
+        void getQrData_ETag_NotModified() throws Exception {
+            MvcResult first = mockMvc.perform(get("/api/certificates/{certificateId}/qr-data", certificateIdForQr)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("private")))
+                    .andReturn();
+            String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+            assertThat(etag).isNotBlank().startsWith("\"");
+
+            mockMvc.perform(get("/api/certificates/{certificateId}/qr-data", certificateIdForQr)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken)
+                            .header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+        }
+
+        @Test
+        @DisplayName("should render the QR code as PNG and SVG images")
+        void getQrImage_Success() throws Exception {
+            mockMvc.perform(get("/api/certificates/{certificateId}/qr.png", certificateIdForQr)
+                            .param("size", "256")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.IMAGE_PNG))
+                    .andExpect(header().exists(HttpHeaders.ETAG));
+            mockMvc.perform(get("/api/certificates/{certificateId}/qr.svg", certificateIdForQr)
+                            .param("ecc", "H")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("image/svg+xml"))
+                    .andExpect(content().string(startsWith("<svg")));
+        }
+
+        @Test
+        @DisplayName("should return 400 Bad Request for an invalid QR image size")
+        void getQrImage_InvalidSize() throws Exception {
+            mockMvc.perform(get("/api/certificates/{certificateId}/qr.png", certificateIdForQr)
+                            .param("size", "5000")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("should stream the certificate PDF as an attachment")
+        void getCertificatePdf_Success() throws Exception {
+            MvcResult started = mockMvc.perform(get("/api/certificates/{certificateId}/certificate.pdf", certificateIdForQr)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            MvcResult result = mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_PDF))
+                    .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, allOf(startsWith("attachment"), containsString(".pdf"))))
+                    .andReturn();
+            assertThat(new String(result.getResponse().getContentAsByteArray(), 0, 5, StandardCharsets.US_ASCII)).isEqualTo("%PDF-");
+        }
+
+        @Test
+        @DisplayName("should return 403 Forbidden for the PDF before streaming when called by unauthorized user")
+        void getCertificatePdf_Forbidden() throws Exception {
+            mockMvc.perform(get("/api/certificates/{certificateId}/certificate.pdf", certificateIdForQr)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + otherOwnerToken))
+                    .andExpect(status().isForbidden());
+        }
+
         @Test
         @DisplayName("should return 403 Forbidden when called by unauthorized user")
         void getQrData_Forbidden() throws Exception {
@@ -574,4 +644,95 @@ class CertificateControllerIntegrationTest {
                     .andExpect(status().isUnauthorized());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * --- Tests for POST /api/certificates/{certificateId}/revocation and GET /api/certificates/revocations ---
+     */
+    @Nested
+    @DisplayName("Certificate revocation Tests")
+    class CertificateRevocationTests {
+
+        private Long certificateIdToRevoke;
+        private String certificateNumber;
+
+        @BeforeEach
+        void revocationSetup() throws Exception {
+            certificateNumber = "REV-CERT-" + System.currentTimeMillis();
+            CertificateGenerationRequestDto req = new CertificateGenerationRequestDto(petIdEligible, certificateNumber, "1234", "1234");
+            MvcResult res = mockMvc.perform(post("/api/certificates")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(req)))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            certificateIdToRevoke = objectMapper.readValue(res.getResponse().getContentAsString(), CertificateViewDto.class).id();
+            entityManager.flush(); entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("should revoke the certificate, publish it in the public delta and reject a second revocation")
+        void revokeCertificate_Success() throws Exception {
+            CertificateRevocationRequestDto req = new CertificateRevocationRequestDto(RevocationReason.ISSUED_IN_ERROR, "Wrong microchip");
+
+            mockMvc.perform(post("/api/certificates/{certificateId}/revocation", certificateIdToRevoke)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(req))).andDo(print())
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.certificateId", is(certificateIdToRevoke.intValue())))
+                    .andExpect(jsonPath("$.reason", is("ISSUED_IN_ERROR")))
+                    .andExpect(jsonPath("$.revokedById", is(vetId.intValue())));
+            entityManager.flush();
+
+            // A fresh revocation is held back until the settle lag has passed
+            mockMvc.perform(get("/api/certificates/revocations").param("since", "0"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.revocations[*].certificateNumber", not(hasItem(certificateNumber))));
+
+            entityManager.createNativeQuery("UPDATE certificate_revocation SET created_at = created_at - INTERVAL '1 hour' WHERE certificate_id = :certificateId")
+                    .setParameter("certificateId", certificateIdToRevoke)
+                    .executeUpdate();
+            entityManager.clear();
+
+            mockMvc.perform(get("/api/certificates/revocations").param("since", "0")).andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.revocations[*].certificateNumber", hasItem(certificateNumber)))
+                    .andExpect(jsonPath("$.revocations[*].note").doesNotExist())
+                    .andExpect(jsonPath("$.hasMore", is(false)));
+
+            mockMvc.perform(post("/api/certificates/{certificateId}/revocation", certificateIdToRevoke)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(req)))
+                    .andExpect(status().isConflict());
+        }
+
+        @Test
+        @DisplayName("should return 403 Forbidden when revoking as staff of another clinic or as Owner")
+        void revokeCertificate_Forbidden() throws Exception {
+            String body = objectMapper.writeValueAsString(new CertificateRevocationRequestDto(RevocationReason.FRAUD, null));
+            mockMvc.perform(post("/api/certificates/{certificateId}/revocation", certificateIdToRevoke)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + otherVetToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isForbidden());
+            mockMvc.perform(post("/api/certificates/{certificateId}/revocation", certificateIdToRevoke)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("should return 400 Bad Request for a revocation without reason or a delta limit out of range")
+        void revokeCertificate_BadRequest() throws Exception {
+            mockMvc.perform(post("/api/certificates/{certificateId}/revocation", certificateIdToRevoke)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"note\":\"no reason\"}"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/certificates/revocations").param("limit", "0"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.petconnect.backend.common.helper;
+
+import com.petconnect.backend.pet.domain.model.Pet;
+import com.petconnect.backend.pet.domain.repository.PetRepository;
+import com.petconnect.backend.record.domain.model.LatestCheckupSummary;
+import com.petconnect.backend.record.domain.model.RabiesVaccinationSummary;
+import com.petconnect.backend.record.domain.repository.RecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * Unit tests for {@link AhcEligibilityHelper}.
+ * Covers the computation of the eligibility date from Rabies vaccine and checkup summaries,
+ * the expiry sweep and the paged consistency check, with transactions run against a mocked manager.
+ *
+ * @author ibosquet
+ */
+@ExtendWith(MockitoExtension.class)
+class AhcEligibilityHelperTest {
+
+    @Mock private RecordRepository recordRepository;
+    @Mock private PetRepository petRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @Captor private ArgumentCaptor<List<Pet>> savedPetsCaptor;
+
+    private AhcEligibilityHelper ahcEligibilityHelper;
+
+    private final LocalDate today = LocalDate.of(2026, 1, 15);
+
+    @BeforeEach
+    void setUp() {
+        ahcEligibilityHelper = new AhcEligibilityHelper(recordRepository, petRepository, transactionManager);
+    }
+
+    private static RabiesVaccinationSummary rabies(Long petId, LocalDate vaccinatedOn, int validityYears) {
+        return new RabiesVaccinationSummary(petId, vaccinatedOn.atTime(10, 0), validityYears);
+    }
+
+    private static LatestCheckupSummary checkup(Long petId, LocalDate checkedOn) {
+        return new LatestCheckupSummary(petId, checkedOn.atTime(11, 0));
+    }
+
+    private static Pet pet(Long id, LocalDate ahcEligibleUntil) {
+        Pet pet = new Pet();
+        pet.setId(id);
+        pet.setAhcEligibleUntil(ahcEligibleUntil);
+        return pet;
+    }
+
+    @Nested
+    @DisplayName("computeEligibleUntil Tests")
+    class ComputeEligibleUntilTests {
+
+        @Test
+        @DisplayName("should return the checkup date plus one year when it comes before the Rabies expiry")
+        void computeEligibleUntil_CheckupLimits() {
+            // Arrange
+            given(recordRepository.findSignedRabiesVaccinationSummaries(List.of(1L)))
+                    .willReturn(List.of(rabies(1L, LocalDate.of(2025, 3, 1), 3)));
+            given(recordRepository.findLatestSignedCheckupSummaries(Set.of(1L), RecordHelper.CHECKUP_TYPES))
+                    .willReturn(List.of(checkup(1L, LocalDate.of(2025, 6, 10))));
+
+            // Act
+            Map<Long, LocalDate> result = ahcEligibilityHelper.computeEligibleUntil(List.of(1L), today);
+
+            // Assert
+            assertThat(result).containsExactly(Map.entry(1L, LocalDate.of(2026, 6, 10)));
+        }
+
+        @Test
+        @DisplayName("should return the Rabies expiry when it comes before the checkup date plus one year")
+        void computeEligibleUntil_RabiesLimits() {
+            // Arrange
+            given(recordRepository.findSignedRabiesVaccinationSummaries(List.of(1L)))
+                    .willReturn(List.of(rabies(1L, LocalDate.of(2025, 4, 1), 1)));
+            given(recordRepository.findLatestSignedCheckupSummaries(Set.of(1L), RecordHelper.CHECKUP_TYPES))
+                    .willReturn(List.of(checkup(1L, LocalDate.of(2025, 12, 1))));
+
+            // Act
+            Map<Long, LocalDate> result = ahcEligibilityHelper.computeEligibleUntil(List.of(1L), today);
+
+            // Assert
+            assertThat(result).containsExactly(Map.entry(1L, LocalDate.of(2026, 4, 1)));
+        }
+
+        @Test
+        @DisplayName("should use the latest expiry among the valid Rabies vaccines and ignore expired ones")
+        void computeEligibleUntil_LatestValidRabies() {
+            // Arrange
+            given(recordRepository.findSignedRabiesVaccinationSummaries(List.of(1L))).willReturn(List.of(
+                    rabies(1L, LocalDate.of(2025, 2, 1), 1),
+                    rabies(1L, LocalDate.of(2024, 6, 1), 2),
+                    rabies(1L, LocalDate.of(2020, 1, 1), 5)));
+            given(recordRepository.findLatestSignedCheckupSummaries(Set.of(1L), RecordHelper.CHECKUP_TYPES))
+                    .willReturn(List.of(checkup(1L, LocalDate.of(2025, 12, 20))));
+
+            // Act
+            Map<Long, LocalDate> result = ahcEligibilityHelper.computeEligibleUntil(List.of(1L), today);
+
+            // Assert
+            assertThat(result).containsExactly(Map.entry(1L, LocalDate.of(2026, 6, 1)));
+        }
+
+        @Test
+        @DisplayName("should keep a pet eligible on the expiry day itself")
+        void computeEligibleUntil_EligibleOnExpiryDay() {
+            // Arrange
+            given(recordRepository.findSignedRabiesVaccinationSummaries(List.of(1L, 2L))).willReturn(List.of(
+                    rabies(1L, today.minusYears(1), 1),
+                    rabies(2L, today.minusMonths(1), 3)));
+            given(recordRepository.findLatestSignedCheckupSummaries(Set.of(1L, 2L), RecordHelper.CHECKUP_TYPES)).willReturn(List.of(
+                    checkup(1L, today.minusMonths(2)),
+                    checkup(2L, today.minusYears(1))));
+
+            // Act
+            Map<Long, LocalDate> result = ahcEligibilityHelper.computeEligibleUntil(List.of(1L, 2L), today);
+
+            // Assert
+            assertThat(result).containsOnly(Map.entry(1L, today), Map.entry(2L, today));
+        }
+
+        @Test
+        @DisplayName("should drop a pet the day after its Rabies vaccine or its checkup expires")
+        void computeEligibleUntil_NotEligibleAfterExpiryDay() {
+            // Arrange
+            given(recordRepository.findSignedRabiesVaccinationSummaries(List.of(1L, 2L))).willReturn(List.of(
+                    rabies(1L, today.minusYears(1).minusDays(1), 1),
+                    rabies(2L, today.minusMonths(1), 3)));
+            given(recordRepository.findLatestSignedCheckupSummaries(Set.of(2L), RecordHelper.CHECKUP_TYPES))
+                    .willReturn(List.of(checkup(2L, today.minusYears(1).minusDays(1))));
+
+            // Act
+            Map<Long, LocalDate> result = ahcEligibilityHelper.computeEligibleUntil(List.of(1L, 2L), today);
+
+            // Assert
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should exclude pets that have only one of the two prerequisites")
+        void computeEligibleUntil_SinglePrerequisite() {
+            // Arrange: pet 1 has both, pet 2 only a Rabies vaccine, pet 3 only a checkup
+            given(recordRepository.findSignedRabiesVaccinationSummaries(List.of(1L, 2L, 3L))).willReturn(List.of(
+                    rabies(1L, LocalDate.of(2025, 5, 1), 3),
+                    rabies(2L, LocalDate.of(2025, 5, 1), 3)));
+            given(recordRepository.findLatestSignedCheckupSummaries(Set.of(1L, 2L), RecordHelper.CHECKUP_TYPES))
+                    .willReturn(List.of(checkup(1L, LocalDate.of(2025, 8, 20))));
+
+            // Act
+            Map<Long, LocalDate> result = ahcEligibilityHelper.computeEligibleUntil(List.of(1L, 2L, 3L), today);
+
+            // Assert
+            assertThat(result).containsOnlyKeys(1L);
+        }
+
+        @Test
+        @DisplayName("should not look for checkups when no pet has a valid Rabies vaccine")
+        void computeEligibleUntil_NoValidRabies() {
+            // Arrange
+            given(recordRepository.findSignedRabiesVaccinationSummaries(List.of(1L)))
+                    .willReturn(List.of(rabies(1L, LocalDate.of(2022, 1, 1), 1)));
+
+            // Act
+            Map<Long, LocalDate> result = ahcEligibilityHelper.computeEligibleUntil(List.of(1L), today);
+
+            // Assert
+            assertThat(result).isEmpty();
+            then(recordRepository).should(never()).findLatestSignedCheckupSummaries(anyCollection(), any());
+        }
+
+        @Test
+        @DisplayName("should return an empty map without querying when no pets are given")
+        void computeEligibleUntil_NoPets() {
+            assertThat(ahcEligibilityHelper.computeEligibleUntil(List.of(), today)).isEmpty();
+            then(recordRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("expireStaleEligibility Tests")
+    class ExpireStaleEligibilityTests {
+
+        @Test
+        @DisplayName("should clear the eligibility dates before the reference date")
+        void expireStaleEligibility_Success() {
+            // Arrange
+            given(petRepository.clearAhcEligibilityBefore(today)).willReturn(4);
+
+            // Act
+            int expired = ahcEligibilityHelper.expireStaleEligibility(today);
+
+            // Assert
+            assertThat(expired).isEqualTo(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("checkConsistency Tests")
+    class CheckConsistencyTests {
+
+        @Test
+        @DisplayName("should read the next page after a page of exactly the page size and stop at the empty one")
+        void checkConsistency_FullPageThenEmpty() {
+            // Arrange
+            int pageSize = AhcEligibilityHelper.CONSISTENCY_CHECK_PAGE_SIZE;
+            List<Pet> fullPage = new ArrayList<>();
+            LongStream.rangeClosed(1, pageSize).forEach(id -> fullPage.add(pet(id, null)));
+            given(petRepository.findPageAfterId(0L, PageRequest.of(0, pageSize))).willReturn(fullPage);
+            given(petRepository.findPageAfterId((long) pageSize, PageRequest.of(0, pageSize))).willReturn(List.of());
+            given(recordRepository.findSignedRabiesVaccinationSummaries(anyCollection())).willReturn(List.of());
+
+            // Act
+            AhcEligibilityHelper.DriftReport report = ahcEligibilityHelper.checkConsistency(true);
+
+            // Assert
+            assertThat(report.checked()).isEqualTo(pageSize);
+            assertThat(report.drifted()).isZero();
+            assertThat(report.corrected()).isZero();
+            then(petRepository).should().findPageAfterId((long) pageSize, PageRequest.of(0, pageSize));
+            then(petRepository).should(never()).saveAll(any());
+            then(transactionManager).should(times(2)).commit(any());
+        }
+
+        @Test
+        @DisplayName("should stop after a short page without reading another one")
+        void checkConsistency_ShortPage() {
+            // Arrange
+            int pageSize = AhcEligibilityHelper.CONSISTENCY_CHECK_PAGE_SIZE;
+            given(petRepository.findPageAfterId(0L, PageRequest.of(0, pageSize))).willReturn(List.of(pet(1L, null), pet(2L, null)));
+            given(recordRepository.findSignedRabiesVaccinationSummaries(List.of(1L, 2L))).willReturn(List.of());
+
+            // Act
+            AhcEligibilityHelper.DriftReport report = ahcEligibilityHelper.checkConsistency(true);
+
+            // Assert
+            assertThat(report.checked()).isEqualTo(2);
+            then(petRepository).should(never()).findPageAfterId(2L, PageRequest.of(0, pageSize));
+        }
+
+        @Test
+        @DisplayName("should report and correct drifted pets when correction is enabled")
+        void checkConsistency_CorrectsDrift() {
+            // Arrange
+            LocalDate now = LocalDate.now();
+            Pet consistent = pet(1L, null);
+            Pet stale = pet(2L, LocalDate.of(2020, 1, 1));
+            Pet missing = pet(3L, null);
+            stubDriftPage(now, consistent, stale, missing);
+
+            // Act
+            AhcEligibilityHelper.DriftReport report = ahcEligibilityHelper.checkConsistency(true);
+
+            // Assert
+            assertThat(report.checked()).isEqualTo(3);
+            assertThat(report.drifted()).isEqualTo(2);
+            assertThat(report.corrected()).isEqualTo(2);
+            assertThat(report.driftedPetIds()).containsExactly(2L, 3L);
+            then(petRepository).should().saveAll(savedPetsCaptor.capture());
+            assertThat(savedPetsCaptor.getValue()).containsExactly(stale, missing);
+            assertThat(stale.getAhcEligibleUntil()).isNull();
+            assertThat(missing.getAhcEligibleUntil()).isEqualTo(now.minusMonths(1).plusYears(1));
+        }
+
+        @Test
+        @DisplayName("should only report drifted pets when correction is disabled")
+        void checkConsistency_ReportsDriftOnly() {
+            // Arrange
+            LocalDate now = LocalDate.now();
+            Pet consistent = pet(1L, null);
+            Pet stale = pet(2L, LocalDate.of(2020, 1, 1));
+            Pet missing = pet(3L, null);
+            stubDriftPage(now, consistent, stale, missing);
+
+            // Act
+            AhcEligibilityHelper.DriftReport report = ahcEligibilityHelper.checkConsistency(false);
+
+            // Assert
+            assertThat(report.drifted()).isEqualTo(2);
+            assertThat(report.corrected()).isZero();
+            assertThat(report.driftedPetIds()).containsExactly(2L, 3L);
+            then(petRepository).should(never()).saveAll(any());
+            assertThat(stale.getAhcEligibleUntil()).isEqualTo(LocalDate.of(2020, 1, 1));
+            assertThat(missing.getAhcEligibleUntil()).isNull();
+        }
+
+        private void stubDriftPage(LocalDate now, Pet... pets) {
+            given(petRepository.findPageAfterId(0L, PageRequest.of(0, AhcEligibilityHelper.CONSISTENCY_CHECK_PAGE_SIZE)))
+                    .willReturn(List.of(pets));
+            // Only pet 3 meets both prerequisites
+            given(recordRepository.findSignedRabiesVaccinationSummaries(List.of(1L, 2L, 3L)))
+                    .willReturn(List.of(rabies(3L, now.minusMonths(1), 3)));
+            given(recordRepository.findLatestSignedCheckupSummaries(Set.of(3L), RecordHelper.CHECKUP_TYPES))
+                    .willReturn(List.of(checkup(3L, now.minusMonths(1))));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.petconnect.backend.common.helper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link Base45Codec}.
+ * Checks the examples of RFC 9285, the boundaries of the triplet and pair values and the rejection of malformed input.
+ *
+ * @author ibosquet
+ */
+class Base45CodecTest {
+
+    @Nested
+    @DisplayName("RFC 9285 vectors")
+    class RfcVectorTests {
+
+        @Test
+        @DisplayName("should encode and decode the examples of the RFC")
+        void rfcVectors() {
+            // Arrange
+            Map<String, String> vectors = new LinkedHashMap<>();
+            vectors.put("AB", "BB8");
+            vectors.put("Hello!!", "%69 VD92EX0");
+            vectors.put("base-45", "UJCLQE7W581");
+            vectors.put("ietf!", "QED8WEX0");
+
+            vectors.forEach((plain, encoded) -> {
+                byte[] data = plain.getBytes(StandardCharsets.US_ASCII);
+
+                // Act & Assert
+                assertThat(Base45Codec.encodeToString(data)).as("encoding of %s", plain).isEqualTo(encoded);
+                assertThat(Base45Codec.decode(encoded)).as("decoding of %s", encoded).isEqualTo(data);
+            });
+        }
+
+        @Test
+        @DisplayName("should encode and decode an empty input")
+        void emptyInput() {
+            assertThat(Base45Codec.encodeToString(new byte[0])).isEmpty();
+            assertThat(Base45Codec.decode("")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should round-trip every byte value")
+        void roundTrip_AllByteValues() {
+            // Arrange
+            byte[] data = new byte[257];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (byte) i;
+            }
+
+            // Act
+            String encoded = Base45Codec.encodeToString(data);
+
+            // Assert
+            assertThat(encoded).hasSize(Base45Codec.encodedLength(data.length));
+            assertThat(Base45Codec.decode(encoded)).isEqualTo(data);
+        }
+    }
+
+    @Nested
+    @DisplayName("Range decoding")
+    class RangeDecodingTests {
+
+        @Test
+        @DisplayName("should decode a range of the text into the start of a larger buffer")
+        void decodeRange_Success() {
+            // Arrange
+            byte[] dst = new byte[8];
+
+            // Act
+            int written = Base45Codec.decode("HC1:QED8WEX0", 4, 12, dst);
+
+            // Assert
+            assertThat(written).isEqualTo(5);
+            assertThat(new String(dst, 0, written, StandardCharsets.US_ASCII)).isEqualTo("ietf!");
+        }
+
+        @Test
+        @DisplayName("should accept the largest triplet and pair values")
+        void decode_MaximumValues() {
+            assertThat(Base45Codec.decode("FGW")).containsExactly(0xff, 0xff);
+            assertThat(Base45Codec.decode("U5")).containsExactly(0xff);
+        }
+
+        @Test
+        @DisplayName("should reject a destination buffer smaller than the decoded length")
+        void decodeRange_DestinationTooSmall() {
+            assertThatThrownBy(() -> Base45Codec.decode("BB8", 0, 3, new byte[1]))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Destination too small");
+        }
+    }
+
+    @Nested
+    @DisplayName("Malformed input")
+    class MalformedInputTests {
+
+        @Test
+        @DisplayName("should reject a triplet above 0xFFFF")
+        void decode_TripletOverflow() {
+            assertThatThrownBy(() -> Base45Codec.decode("GGW"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("triplet");
+        }
+
+        @Test
+        @DisplayName("should reject a trailing pair above 0xFF")
+        void decode_PairOverflow() {
+            assertThatThrownBy(() -> Base45Codec.decode("BB8V5"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("pair");
+        }
+
+        @Test
+        @DisplayName("should reject a length that leaves a single trailing character")
+        void decode_InvalidLength() {
+            for (String text : List.of("A", "BB8A", "QED8WEX0A")) {
+                assertThatThrownBy(() -> Base45Codec.decode(text))
+                        .as("decoding of %s", text)
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("Invalid Base45 length");
+            }
+        }
+
+        @Test
+        @DisplayName("should reject characters outside the alphabet, including non-ASCII ones")
+        void decode_InvalidCharacter() {
+            for (String text : List.of("bb8", "BB#", "BB\u00e9", "B\u20ac8")) {
+                assertThatThrownBy(() -> Base45Codec.decode(text))
+                        .as("decoding of %s", text)
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("Invalid Base45 character");
+            }
+        }
+
+        @Test
+        @DisplayName("should reject null data to encode")
+        void encode_NullData() {
+            assertThatThrownBy(() -> Base45Codec.encodeToString(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.common.service.SigningService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.PrivateKey;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link BulkSigningServiceImpl}.
+ * Verifies that signatures are returned in input order and that signing errors reach the caller, using Mockito.
+ *
+ * @author ibosquet
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkSigningServiceImplTest {
+
+    @Mock private SigningService signingService;
+
+    private ExecutorService executor;
+    private BulkSigningServiceImpl bulkSigningService;
+    private PrivateKey privateKey;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        bulkSigningService = new BulkSigningServiceImpl(signingService, executor);
+        privateKey = mock(PrivateKey.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("signAll Tests")
+    class SignAllTests {
+
+        @Test
+        @DisplayName("should return one signature per value, in input order")
+        void signAll_Success_InputOrder() {
+            given(signingService.signWithPrivateKey(eq(privateKey), anyString()))
+                    .willAnswer(invocation -> "sig-" + invocation.getArgument(1));
+
+            List<String> signatures = bulkSigningService.signAll(privateKey, List.of("a", "b", "c", "d"));
+
+            assertThat(signatures).containsExactly("sig-a", "sig-b", "sig-c", "sig-d");
+        }
+
+        @Test
+        @DisplayName("should return an empty list without signing when there is nothing to sign")
+        void signAll_Success_Empty() {
+            assertThat(bulkSigningService.signAll(privateKey, List.of())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should rethrow the signing exception of a failed value")
+        void signAll_Failure_SigningError() {
+            lenient().when(signingService.signWithPrivateKey(privateKey, "a")).thenReturn("sig-a");
+            given(signingService.signWithPrivateKey(privateKey, "b")).willThrow(new RuntimeException("Failed to sign data."));
+
+            assertThatThrownBy(() -> bulkSigningService.signAll(privateKey, List.of("a", "b")))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessage("Failed to sign data.");
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.certificate.application.dto.CertificateDocumentDto;
+import com.petconnect.backend.certificate.domain.model.CertificatePayload;
+import com.petconnect.backend.user.domain.model.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CertificatePdfServiceImpl}.
+ * Renders real PDF documents and ZIP archives with the real QR image renderer.
+ *
+ * @author ibosquet
+ */
+class CertificatePdfServiceImplTest {
+
+    private static final String QR_DATA = "HC1:6BFOXN*TS0BI$ZD4EX/.KFN4WCFJSEN*1$PKQ:9HO8L1I%D0";
+    private static final String FINGERPRINT = "AB:CD:EF:01:23:45:67:89:AB:CD:EF:01:23:45:67:89:AB:CD:EF:01:23:45:67:89:AB:CD:EF:01:23:45:67:89";
+
+    private CertificatePdfServiceImpl certificatePdfService;
+
+    @BeforeEach
+    void setUp() {
+        certificatePdfService = new CertificatePdfServiceImpl(new QrImageServiceImpl());
+    }
+
+    private CertificateDocumentDto document(Long id, String certificateNumber, CertificatePayload payload) {
+        return new CertificateDocumentDto(id, certificateNumber, LocalDateTime.of(2025, 1, 10, 9, 30), payload, QR_DATA, "a1b2c3d4",
+                SignatureAlgorithm.ES256, FINGERPRINT, SignatureAlgorithm.RS256, FINGERPRINT);
+    }
+
+    private CertificatePayload payload(String certificateNumber) {
+        return new CertificatePayload(CertificatePayload.CERT_TYPE_V2, 1736501400000L, certificateNumber,
+                new CertificatePayload.Issuer(5L, "Test Clinic", "SPAIN", 10L, "Test Vet", "LIC-10"),
+                new CertificatePayload.Subject(101L, "Buddy", "DOG", "Labrador", "2020-05-17", "MALE", "Black", "941000000000001", new CertificatePayload.OwnerInfo(7L)),
+                new CertificatePayload.Event(201L, "VACCINE", "2025-01-10",
+                        new CertificatePayload.VaccinationDetails("Rabisin", "RB-1", "Lab", 3, "2028-01-10"), null));
+    }
+
+    private static void assertPdf(byte[] bytes) {
+        String text = new String(bytes, StandardCharsets.ISO_8859_1);
+        assertThat(text).startsWith("%PDF-");
+        assertThat(text.stripTrailing()).endsWith("%%EOF");
+    }
+
+    @Nested
+    @DisplayName("writePdf Tests")
+    class WritePdfTests {
+
+        @Test
+        @DisplayName("should write a complete PDF document without closing the stream")
+        void writePdf_Success() throws IOException {
+            boolean[] closed = {false};
+            ByteArrayOutputStream out = new ByteArrayOutputStream() {
+                @Override
+                public void close() {
+                    closed[0] = true;
+                }
+            };
+
+            certificatePdfService.writePdf(document(1L, "ES-2025-000001", payload("ES-2025-000001")), out);
+
+            assertPdf(out.toByteArray());
+            assertThat(closed[0]).isFalse();
+        }
+
+        @Test
+        @DisplayName("should render a certificate whose payload could not be read")
+        void writePdf_Success_WithoutPayload() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            certificatePdfService.writePdf(document(2L, "ES-2025-000002", null), out);
+
+            assertPdf(out.toByteArray());
+        }
+    }
+
+    @Nested
+    @DisplayName("writeZip Tests")
+    class WriteZipTests {
+
+        @Test
+        @DisplayName("should write one PDF entry per certificate, in order")
+        void writeZip_Success() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            certificatePdfService.writeZip(List.of(
+                    document(1L, "ES-2025-000001", payload("ES-2025-000001")),
+                    document(2L, "ES/2025 000002", payload("ES/2025 000002"))), out);
+
+            List<String> names = new ArrayList<>();
+            try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+                ZipEntry entry;
+                while ((entry = zip.getNextEntry()) != null) {
+                    names.add(entry.getName());
+                    assertPdf(zip.readAllBytes());
+                }
+            }
+            assertThat(names).containsExactly("certificate-ES-2025-000001.pdf", "certificate-ES_2025_000002.pdf");
+        }
+
+        @Test
+        @DisplayName("should write a valid empty archive when there are no certificates")
+        void writeZip_Success_Empty() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            certificatePdfService.writeZip(List.of(), out);
+
+            try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+                assertThat(zip.getNextEntry()).isNull();
+            }
+        }
+    }
+}
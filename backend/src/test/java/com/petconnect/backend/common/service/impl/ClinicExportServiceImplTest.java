@@ -0,0 +1,409 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.petconnect.backend.certificate.domain.model.CertificateExportRow;
+import com.petconnect.backend.certificate.domain.model.RevocationReason;
+import com.petconnect.backend.certificate.domain.repository.CertificateRepository;
+import com.petconnect.backend.common.dto.ClinicExportJobDto;
+import com.petconnect.backend.common.helper.EntityFinderHelper;
+import com.petconnect.backend.common.service.ExportStorageService;
+import com.petconnect.backend.exception.EntityNotFoundException;
+import com.petconnect.backend.record.domain.model.RecordExportRow;
+import com.petconnect.backend.record.domain.model.RecordType;
+import com.petconnect.backend.record.domain.repository.RecordRepository;
+import com.petconnect.backend.user.domain.model.Clinic;
+import com.petconnect.backend.user.domain.model.ClinicStaff;
+import com.petconnect.backend.user.domain.model.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * Unit tests for {@link ClinicExportServiceImpl}.
+ * Jobs are queued on a manual executor and archives are kept by an in-memory export storage,
+ * so each test decides when a job runs and can read the archive it produced.
+ *
+ * @author ibosquet
+ */
+@ExtendWith(MockitoExtension.class)
+class ClinicExportServiceImplTest {
+
+    @Mock private RecordRepository recordRepository;
+    @Mock private CertificateRepository certificateRepository;
+    @Mock private EntityFinderHelper entityFinderHelper;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private ClinicExportServiceImpl clinicExportService;
+    private InMemoryExportStorage exportStorage;
+    private final List<Runnable> queuedJobs = new ArrayList<>();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final Long clinicId = 5L;
+    private final Long adminId = 50L;
+
+    /**
+     * Export storage keeping committed archives in memory.
+     */
+    private static class InMemoryExportStorage implements ExportStorageService {
+        private final Map<String, byte[]> stored = new ConcurrentHashMap<>();
+        private final Map<String, Instant> lastModified = new ConcurrentHashMap<>();
+
+        @Override
+        public void store(String key, String contentType, ContentWriter writer) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writer.writeTo(out);
+            put(key, out.toByteArray(), Instant.now());
+        }
+
+        private void put(String key, byte[] content, Instant modifiedAt) {
+            stored.put(key, content);
+            lastModified.put(key, modifiedAt);
+        }
+
+        @Override
+        public InputStream open(String key) throws IOException {
+            byte[] content = stored.get(key);
+            if (content == null) {
+                throw new FileNotFoundException(key);
+            }
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public void delete(String key) {
+            stored.remove(key);
+            lastModified.remove(key);
+        }
+
+        @Override
+        public List<StoredExport> list(String prefix) {
+            return lastModified.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(prefix))
+                    .map(entry -> new StoredExport(entry.getKey(), entry.getValue()))
+                    .toList();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        exportStorage = new InMemoryExportStorage();
+        clinicExportService = new ClinicExportServiceImpl(recordRepository, certificateRepository, entityFinderHelper,
+                exportStorage, objectMapper, transactionManager, queuedJobs::add);
+
+        Clinic clinic = new Clinic();
+        clinic.setId(clinicId);
+        ClinicStaff admin = new ClinicStaff();
+        admin.setId(adminId);
+        admin.setClinic(clinic);
+        // Not every test goes through the admin check (eviction and recovery run without a requester)
+        lenient().when(entityFinderHelper.findAdminStaffOrFail(adminId, "export clinic data")).thenReturn(admin);
+    }
+
+    private void stubClinicData() {
+        RecordExportRow record = new RecordExportRow(100L, 7L, LocalDateTime.of(2024, 1, 10, 9, 0), RecordType.VACCINE, "Rabies",
+                11L, "vet1", clinicId, "Clinic Five", "Rabisin", "Lab", "RB-1", 3, true, "U0lH", true);
+        CertificateExportRow certificate = new CertificateExportRow(200L, "ES-2024-000001", LocalDateTime.of(2024, 1, 10, 9, 30), 7L, 100L, 11L,
+                "{\"v\":1}", "abc123", "VSIG", SignatureAlgorithm.ES256, "CSIG", SignatureAlgorithm.RS256,
+                RevocationReason.SUPERSEDED, LocalDateTime.of(2024, 2, 1, 12, 0));
+        given(recordRepository.countByCreatedInClinicId(clinicId)).willReturn(1L);
+        given(certificateRepository.countByIssuingClinicId(clinicId)).willReturn(1L);
+        given(recordRepository.streamExportRowsByCreatedInClinicId(clinicId)).willReturn(Stream.of(record));
+        given(certificateRepository.streamExportRowsByIssuingClinicId(clinicId)).willReturn(Stream.of(certificate));
+    }
+
+    private String archiveKey(String jobId) {
+        return "clinics/" + clinicId + "/exports/" + jobId + ".zip";
+    }
+
+    private String stateKey(String jobId) {
+        return "clinics/" + clinicId + "/exports/" + jobId + ".json";
+    }
+
+    private ClinicExportJobDto readState(String jobId) throws IOException {
+        return objectMapper.readValue(exportStorage.stored.get(stateKey(jobId)), ClinicExportJobDto.class);
+    }
+
+    private void storeState(ClinicExportJobDto.Status status, String jobId, Instant finishedAt) throws IOException {
+        ClinicExportJobDto state = new ClinicExportJobDto(jobId, clinicId, status, 1L, 1L, 1L, 1L,
+                status == ClinicExportJobDto.Status.COMPLETED ? 100 : 50, Instant.now().minusSeconds(60), finishedAt, null, null);
+        exportStorage.put(stateKey(jobId), objectMapper.writeValueAsBytes(state), Instant.now());
+    }
+
+    private Map<String, String> readArchive(ClinicExportJobDto job) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        clinicExportService.writeArchive(job.jobId(), out);
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    @Nested
+    @DisplayName("startExport Tests")
+    class StartExportTests {
+
+        @Test
+        @DisplayName("should queue a job and complete it with records, certificates and a manifest in the archive")
+        void startExport_Success() throws IOException {
+            // Arrange
+            stubClinicData();
+
+            // Act
+            ClinicExportJobDto queued = clinicExportService.startExport(clinicId, adminId);
+            queuedJobs.forEach(Runnable::run);
+            ClinicExportJobDto completed = clinicExportService.getExport(clinicId, queued.jobId(), adminId);
+
+            // Assert
+            assertThat(queued.status()).isEqualTo(ClinicExportJobDto.Status.QUEUED);
+            assertThat(queued.downloadUrl()).isNull();
+            assertThat(completed.status()).isEqualTo(ClinicExportJobDto.Status.COMPLETED);
+            assertThat(completed.recordsExported()).isEqualTo(1L);
+            assertThat(completed.recordsTotal()).isEqualTo(1L);
+            assertThat(completed.certificatesExported()).isEqualTo(1L);
+            assertThat(completed.progressPercent()).isEqualTo(100);
+            assertThat(completed.finishedAt()).isNotNull();
+            assertThat(completed.downloadUrl()).isEqualTo("/api/clinics/5/exports/" + queued.jobId() + "/archive");
+
+            Map<String, String> entries = readArchive(completed);
+            assertThat(entries).containsOnlyKeys(ClinicExportServiceImpl.RECORDS_ENTRY, ClinicExportServiceImpl.CERTIFICATES_ENTRY, ClinicExportServiceImpl.MANIFEST_ENTRY);
+            JsonNode record = objectMapper.readTree(entries.get(ClinicExportServiceImpl.RECORDS_ENTRY).strip());
+            assertThat(record.get("recordId").asLong()).isEqualTo(100L);
+            assertThat(record.get("petId").asLong()).isEqualTo(7L);
+            JsonNode certificate = objectMapper.readTree(entries.get(ClinicExportServiceImpl.CERTIFICATES_ENTRY).strip());
+            assertThat(certificate.get("certificateNumber").asText()).isEqualTo("ES-2024-000001");
+            assertThat(certificate.get("revocationReason").asText()).isEqualTo("SUPERSEDED");
+            JsonNode manifest = objectMapper.readTree(entries.get(ClinicExportServiceImpl.MANIFEST_ENTRY));
+            assertThat(manifest.get("clinicId").asLong()).isEqualTo(clinicId);
+            assertThat(manifest.get("records").asLong()).isEqualTo(1L);
+            assertThat(manifest.get("certificates").asLong()).isEqualTo(1L);
+            assertThat(readState(queued.jobId()).status()).isEqualTo(ClinicExportJobDto.Status.COMPLETED);
+        }
+
+        @Test
+        @DisplayName("should persist the state of a queued job next to its future archive")
+        void startExport_PersistsQueuedState() throws IOException {
+            // Act
+            ClinicExportJobDto queued = clinicExportService.startExport(clinicId, adminId);
+
+            // Assert
+            ClinicExportJobDto state = readState(queued.jobId());
+            assertThat(state.status()).isEqualTo(ClinicExportJobDto.Status.QUEUED);
+            assertThat(state.clinicId()).isEqualTo(clinicId);
+            assertThat(exportStorage.stored).doesNotContainKey(archiveKey(queued.jobId()));
+        }
+
+        @Test
+        @DisplayName("should return the pending job instead of queuing a second export of the same clinic")
+        void startExport_ReturnsPendingJob() {
+            // Act
+            ClinicExportJobDto first = clinicExportService.startExport(clinicId, adminId);
+            ClinicExportJobDto second = clinicExportService.startExport(clinicId, adminId);
+
+            // Assert
+            assertThat(second.jobId()).isEqualTo(first.jobId());
+            assertThat(queuedJobs).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("should mark the job as failed and store nothing when reading the data fails")
+        void startExport_Failure() throws IOException {
+            // Arrange
+            given(recordRepository.countByCreatedInClinicId(clinicId)).willThrow(new IllegalStateException("DB down"));
+
+            // Act
+            ClinicExportJobDto queued = clinicExportService.startExport(clinicId, adminId);
+            queuedJobs.forEach(Runnable::run);
+            ClinicExportJobDto failed = clinicExportService.getExport(clinicId, queued.jobId(), adminId);
+
+            // Assert
+            assertThat(failed.status()).isEqualTo(ClinicExportJobDto.Status.FAILED);
+            assertThat(failed.errorMessage()).isNotBlank();
+            assertThat(failed.downloadUrl()).isNull();
+            assertThat(exportStorage.stored).containsOnlyKeys(stateKey(queued.jobId()));
+            assertThat(readState(queued.jobId()).status()).isEqualTo(ClinicExportJobDto.Status.FAILED);
+        }
+
+        @Test
+        @DisplayName("should throw AccessDeniedException when the admin belongs to another clinic")
+        void startExport_Forbidden_OtherClinic() {
+            // Act & Assert
+            assertThatThrownBy(() -> clinicExportService.startExport(99L, adminId))
+                    .isInstanceOf(AccessDeniedException.class);
+            assertThat(queuedJobs).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("getExport and verifyDownload Tests")
+    class GetExportTests {
+
+        @Test
+        @DisplayName("should throw EntityNotFoundException for an unknown job")
+        void getExport_NotFound() {
+            assertThatThrownBy(() -> clinicExportService.getExport(clinicId, "unknown", adminId))
+                    .isInstanceOf(EntityNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("should throw IllegalStateException when downloading a job that is not completed")
+        void verifyDownload_NotCompleted() {
+            ClinicExportJobDto queued = clinicExportService.startExport(clinicId, adminId);
+
+            assertThatThrownBy(() -> clinicExportService.verifyDownload(clinicId, queued.jobId(), adminId))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("evictExpiredJobs Tests")
+    class EvictExpiredJobsTests {
+
+        @Test
+        @DisplayName("should forget finished jobs past the retention period and delete their archives")
+        void evictExpiredJobs_Success() {
+            // Arrange
+            stubClinicData();
+            ClinicExportJobDto job = clinicExportService.startExport(clinicId, adminId);
+            queuedJobs.forEach(Runnable::run);
+            assertThat(exportStorage.stored).containsOnlyKeys(archiveKey(job.jobId()), stateKey(job.jobId()));
+            ReflectionTestUtils.setField(clinicExportService, "retention", Duration.ZERO);
+
+            // Act
+            int evicted = clinicExportService.evictExpiredJobs();
+
+            // Assert
+            assertThat(evicted).isEqualTo(1);
+            assertThat(exportStorage.stored).isEmpty();
+            assertThatThrownBy(() -> clinicExportService.getExport(clinicId, job.jobId(), adminId))
+                    .isInstanceOf(EntityNotFoundException.class);
+            then(recordRepository).should().streamExportRowsByCreatedInClinicId(clinicId);
+        }
+
+        @Test
+        @DisplayName("should keep pending jobs")
+        void evictExpiredJobs_KeepsPending() {
+            ClinicExportJobDto job = clinicExportService.startExport(clinicId, adminId);
+            ReflectionTestUtils.setField(clinicExportService, "retention", Duration.ZERO);
+
+            assertThat(clinicExportService.evictExpiredJobs()).isZero();
+            assertThat(exportStorage.stored).containsOnlyKeys(stateKey(job.jobId()));
+        }
+
+        @Test
+        @DisplayName("should delete orphaned export files older than the retention period and keep recent ones")
+        void evictExpiredJobs_SweepsOrphanedExports() {
+            // Arrange
+            Instant old = Instant.now().minus(Duration.ofDays(2));
+            exportStorage.put(archiveKey("lost"), new byte[]{1}, old);
+            exportStorage.put(archiveKey("lost-part") + ".part", new byte[]{1}, old);
+            exportStorage.put(stateKey("lost"), new byte[]{1}, old);
+            exportStorage.put(archiveKey("recent"), new byte[]{1}, Instant.now());
+            exportStorage.put("clinics/" + clinicId + "/other.txt", new byte[]{1}, old);
+
+            // Act
+            int evicted = clinicExportService.evictExpiredJobs();
+
+            // Assert
+            assertThat(evicted).isZero();
+            assertThat(exportStorage.stored).containsOnlyKeys(archiveKey("recent"), "clinics/" + clinicId + "/other.txt");
+        }
+    }
+
+    @Nested
+    @DisplayName("recoverJobs Tests")
+    class RecoverJobsTests {
+
+        @Test
+        @DisplayName("should mark jobs that were queued or running before the restart as failed")
+        void recoverJobs_MarksInterruptedJobsFailed() throws IOException {
+            // Arrange
+            storeState(ClinicExportJobDto.Status.QUEUED, "queued-job", null);
+            storeState(ClinicExportJobDto.Status.RUNNING, "running-job", null);
+
+            // Act
+            int interrupted = clinicExportService.recoverJobs();
+
+            // Assert
+            assertThat(interrupted).isEqualTo(2);
+            for (String jobId : List.of("queued-job", "running-job")) {
+                ClinicExportJobDto job = clinicExportService.getExport(clinicId, jobId, adminId);
+                assertThat(job.status()).isEqualTo(ClinicExportJobDto.Status.FAILED);
+                assertThat(job.errorMessage()).isEqualTo(ClinicExportServiceImpl.INTERRUPTED_MESSAGE);
+                assertThat(job.finishedAt()).isNotNull();
+                assertThat(readState(jobId).status()).isEqualTo(ClinicExportJobDto.Status.FAILED);
+            }
+        }
+
+        @Test
+        @DisplayName("should restore completed jobs so their archives can still be downloaded")
+        void recoverJobs_RestoresCompletedJobs() throws IOException {
+            // Arrange
+            storeState(ClinicExportJobDto.Status.COMPLETED, "done-job", Instant.now().minusSeconds(30));
+            exportStorage.put(archiveKey("done-job"), new byte[]{1, 2, 3}, Instant.now());
+
+            // Act
+            int interrupted = clinicExportService.recoverJobs();
+
+            // Assert
+            assertThat(interrupted).isZero();
+            ClinicExportJobDto job = clinicExportService.verifyDownload(clinicId, "done-job", adminId);
+            assertThat(job.progressPercent()).isEqualTo(100);
+            assertThat(job.downloadUrl()).isEqualTo("/api/clinics/5/exports/done-job/archive");
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            clinicExportService.writeArchive("done-job", out);
+            assertThat(out.toByteArray()).containsExactly(1, 2, 3);
+        }
+
+        @Test
+        @DisplayName("should leave jobs already known to this instance untouched")
+        void recoverJobs_SkipsKnownJobs() throws IOException {
+            // Arrange
+            ClinicExportJobDto queued = clinicExportService.startExport(clinicId, adminId);
+
+            // Act
+            int interrupted = clinicExportService.recoverJobs();
+
+            // Assert
+            assertThat(interrupted).isZero();
+            assertThat(clinicExportService.getExport(clinicId, queued.jobId(), adminId).status()).isEqualTo(ClinicExportJobDto.Status.QUEUED);
+            assertThat(readState(queued.jobId()).status()).isEqualTo(ClinicExportJobDto.Status.QUEUED);
+        }
+    }
+}
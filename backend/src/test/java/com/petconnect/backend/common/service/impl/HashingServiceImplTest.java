@@ -6,6 +6,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.assertj.core.api.Assertions.*;
 
 /**
@@ -79,4 +81,13 @@ class HashingServiceImplTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Input string for hashing cannot be null");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("hashBytes should return the same hash as hashString for the UTF-8 bytes of a string")
+    void hashBytes_Success_MatchesHashString() throws HashingException {
+        String input = "Hello PetConnect";
+
+        assertThat(hashingService.hashBytes(input.getBytes(StandardCharsets.UTF_8)))
+                .isEqualTo(hashingService.hashString(input));
+    }
+}
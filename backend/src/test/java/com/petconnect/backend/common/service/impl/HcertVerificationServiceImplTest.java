@@ -0,0 +1,250 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.petconnect.backend.certificate.application.dto.HcertVerificationResultDto;
+import com.petconnect.backend.certificate.domain.model.Certificate;
+import com.petconnect.backend.certificate.domain.model.CertificatePayload;
+import com.petconnect.backend.certificate.domain.model.CertificatePayloadFormat;
+import com.petconnect.backend.common.helper.CertificatePayloadCodec;
+import com.petconnect.backend.common.helper.FormatUtils;
+import com.petconnect.backend.common.service.RevocationListService;
+import com.petconnect.backend.common.service.TrustListService;
+import com.petconnect.backend.user.domain.model.SignatureAlgorithm;
+import nl.minvws.encoding.Base45;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Unit tests for {@link HcertVerificationServiceImpl}.
+ * Builds real QR data with {@link QrCodeServiceImpl} from legacy and canonical payloads signed with EC P-256 keys,
+ * and verifies it against a mocked trust list and revocation list.
+ *
+ * @author ibosquet
+ */
+@ExtendWith(MockitoExtension.class)
+class HcertVerificationServiceImplTest {
+
+    @Mock private TrustListService trustListService;
+    @Mock private RevocationListService revocationListService;
+
+    @InjectMocks
+    private HcertVerificationServiceImpl hcertVerificationService;
+
+    private final QrCodeServiceImpl qrCodeService = new QrCodeServiceImpl();
+
+    private KeyPair vetKeys;
+    private KeyPair clinicKeys;
+    private String payloadJson;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        vetKeys = generator.generateKeyPair();
+        clinicKeys = generator.generateKeyPair();
+
+        Map<String, Object> issuer = new LinkedHashMap<>();
+        issuer.put("id", 5L);
+        issuer.put("name", "Test Clinic");
+        issuer.put("issuingVetId", 10L);
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("certType", "PET_VACCINATION_CERT_V1");
+        payload.put("issuanceTimestamp", 1678886400000L);
+        payload.put("certificateNumber", "ES-2025-000001");
+        payload.put("issuer", issuer);
+        payload.put("subject", Map.of("petId", 101L));
+        payloadJson = new ObjectMapper().registerModule(new JavaTimeModule()).writerWithDefaultPrettyPrinter().writeValueAsString(payload);
+    }
+
+    private String sign(KeyPair keyPair, String data) throws Exception {
+        Signature signature = Signature.getInstance(SignatureAlgorithm.ES256.getJcaName(), "BC");
+        signature.initSign(keyPair.getPrivate());
+        signature.update(data.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(signature.sign());
+    }
+
+    private String buildQrData(KeyPair vetSigner, KeyPair clinicSigner) throws Exception {
+        String hash = FormatUtils.bytesToHex(MessageDigest.getInstance("SHA-256").digest(payloadJson.getBytes(StandardCharsets.UTF_8)));
+        Certificate certificate = Certificate.builder()
+                .payload(payloadJson)
+                .vetSignature(sign(vetSigner, hash))
+                .clinicSignature(sign(clinicSigner, hash))
+                .vetSignatureAlgorithm(SignatureAlgorithm.ES256)
+                .clinicSignatureAlgorithm(SignatureAlgorithm.ES256)
+                .build();
+        return qrCodeService.generateQrData(certificate);
+    }
+
+    @Nested
+    @DisplayName("verify Tests")
+    class VerifyTests {
+
+        @Test
+        @DisplayName("should accept QR data signed by the trusted vet and clinic")
+        void verify_Success() throws Exception {
+            String qrData = buildQrData(vetKeys, clinicKeys);
+            given(trustListService.findVetKey(10L)).willReturn(vetKeys.getPublic());
+            given(trustListService.findClinicKey(5L)).willReturn(clinicKeys.getPublic());
+
+            HcertVerificationResultDto result = hcertVerificationService.verify(qrData);
+
+            assertThat(result.valid()).isTrue();
+            assertThat(result.vetSignatureValid()).isTrue();
+            assertThat(result.clinicSignatureValid()).isTrue();
+            assertThat(result.certificateNumber()).isEqualTo("ES-2025-000001");
+            assertThat(result.vetId()).isEqualTo(10L);
+            assertThat(result.clinicId()).isEqualTo(5L);
+            assertThat(result.revoked()).isFalse();
+            assertThat(result.error()).isNull();
+        }
+
+        @Test
+        @DisplayName("should accept a canonical CBOR payload rebuilt from its stored JSON")
+        void verify_Success_CanonicalPayload() throws Exception {
+            CertificatePayload payload = new CertificatePayload(CertificatePayload.CERT_TYPE_V2, 1678886400000L, "ES-2025-000002",
+                    new CertificatePayload.Issuer(5L, "Test Clinic", "SPAIN", 10L, "Test Vet", "LIC-10"),
+                    new CertificatePayload.Subject(101L, "Buddy", "DOG", "Labrador", "2020-05-17", "MALE", null, null, new CertificatePayload.OwnerInfo(7L)),
+                    new CertificatePayload.Event(201L, "VACCINE", "2025-01-10",
+                            new CertificatePayload.VaccinationDetails("Rabisin", "RB-1", "Lab", 3, "2028-01-10"), null));
+            String hash = FormatUtils.bytesToHex(MessageDigest.getInstance("SHA-256").digest(CertificatePayloadCodec.toCbor(payload)));
+            Certificate certificate = Certificate.builder()
+                    .payload(CertificatePayloadCodec.toJson(payload))
+                    .payloadFormat(CertificatePayloadFormat.CBOR_V2)
+                    .vetSignature(sign(vetKeys, hash))
+                    .clinicSignature(sign(clinicKeys, hash))
+                    .vetSignatureAlgorithm(SignatureAlgorithm.ES256)
+                    .clinicSignatureAlgorithm(SignatureAlgorithm.ES256)
+                    .build();
+            given(trustListService.findVetKey(10L)).willReturn(vetKeys.getPublic());
+            given(trustListService.findClinicKey(5L)).willReturn(clinicKeys.getPublic());
+
+            HcertVerificationResultDto result = hcertVerificationService.verify(qrCodeService.generateQrData(certificate));
+
+            assertThat(result.valid()).isTrue();
+            assertThat(result.certificateNumber()).isEqualTo("ES-2025-000002");
+        }
+
+        @Test
+        @DisplayName("should accept QR data compressed without the preset dictionary")
+        void verify_Success_WithoutDictionary() throws Exception {
+            ReflectionTestUtils.setField(qrCodeService, "dictionaryCompression", false);
+            String qrData = buildQrData(vetKeys, clinicKeys);
+            given(trustListService.findVetKey(10L)).willReturn(vetKeys.getPublic());
+            given(trustListService.findClinicKey(5L)).willReturn(clinicKeys.getPublic());
+
+            assertThat(hcertVerificationService.verify(qrData).valid()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should give the same result when the same QR data is verified again")
+        void verify_Success_Repeated() throws Exception {
+            String qrData = buildQrData(vetKeys, clinicKeys);
+            given(trustListService.findVetKey(10L)).willReturn(vetKeys.getPublic());
+            given(trustListService.findClinicKey(5L)).willReturn(clinicKeys.getPublic());
+
+            assertThat(hcertVerificationService.verify(qrData).valid()).isTrue();
+            assertThat(hcertVerificationService.verify(qrData).valid()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should reject a clinic signature made with a key other than the trusted one")
+        void verify_Failure_WrongClinicKey() throws Exception {
+            String qrData = buildQrData(vetKeys, vetKeys);
+            given(trustListService.findVetKey(10L)).willReturn(vetKeys.getPublic());
+            given(trustListService.findClinicKey(5L)).willReturn(clinicKeys.getPublic());
+
+            HcertVerificationResultDto result = hcertVerificationService.verify(qrData);
+
+            assertThat(result.valid()).isFalse();
+            assertThat(result.vetSignatureValid()).isTrue();
+            assertThat(result.clinicSignatureValid()).isFalse();
+            assertThat(result.error()).contains("Clinic signature");
+        }
+
+        @Test
+        @DisplayName("should reject QR data whose vet is not in the trust list")
+        void verify_Failure_UnknownVet() throws Exception {
+            String qrData = buildQrData(vetKeys, clinicKeys);
+            given(trustListService.findVetKey(10L)).willReturn(null);
+            given(trustListService.findClinicKey(5L)).willReturn(clinicKeys.getPublic());
+
+            HcertVerificationResultDto result = hcertVerificationService.verify(qrData);
+
+            assertThat(result.valid()).isFalse();
+            assertThat(result.vetSignatureValid()).isFalse();
+            assertThat(result.clinicSignatureValid()).isTrue();
+            assertThat(result.error()).contains("not in the trust list");
+        }
+
+        @Test
+        @DisplayName("should reject validly signed QR data of a revoked certificate")
+        void verify_Failure_Revoked() throws Exception {
+            String qrData = buildQrData(vetKeys, clinicKeys);
+            given(trustListService.findVetKey(10L)).willReturn(vetKeys.getPublic());
+            given(trustListService.findClinicKey(5L)).willReturn(clinicKeys.getPublic());
+            given(revocationListService.isRevoked("ES-2025-000001")).willReturn(true);
+
+            HcertVerificationResultDto result = hcertVerificationService.verify(qrData);
+
+            assertThat(result.valid()).isFalse();
+            assertThat(result.vetSignatureValid()).isTrue();
+            assertThat(result.clinicSignatureValid()).isTrue();
+            assertThat(result.revoked()).isTrue();
+            assertThat(result.error()).contains("revoked");
+        }
+
+        @Test
+        @DisplayName("should report malformed input without throwing")
+        void verify_Failure_Malformed() {
+            String notCompressed = "HC1:" + Base45.getEncoder().encodeToString("not zlib data".getBytes(StandardCharsets.UTF_8));
+
+            assertThat(hcertVerificationService.verify(null).valid()).isFalse();
+            assertThat(hcertVerificationService.verify("XX1:ABC").error()).contains("HC1:");
+            assertThat(hcertVerificationService.verify("HC1:%%%").valid()).isFalse();
+            assertThat(hcertVerificationService.verify("HC1:" + "0".repeat(HcertVerificationServiceImpl.MAX_QR_DATA_LENGTH)).error()).contains("capacity");
+            HcertVerificationResultDto result = hcertVerificationService.verify(notCompressed);
+            assertThat(result.valid()).isFalse();
+            assertThat(result.error()).isNotBlank();
+        }
+
+        @Test
+        @DisplayName("should reject data compressed with an unknown preset dictionary")
+        void verify_Failure_UnknownDictionary() {
+            Deflater deflater = new Deflater();
+            deflater.setDictionary("not a shipped dictionary".getBytes(StandardCharsets.UTF_8));
+            deflater.setInput("payload".getBytes(StandardCharsets.UTF_8));
+            deflater.finish();
+            byte[] compressed = new byte[64];
+            int length = deflater.deflate(compressed);
+            deflater.end();
+
+            HcertVerificationResultDto result = hcertVerificationService.verify("HC1:" + Base45.getEncoder().encodeToString(Arrays.copyOf(compressed, length)));
+
+            assertThat(result.valid()).isFalse();
+            assertThat(result.error()).contains("unknown zlib preset dictionary");
+        }
+    }
+}
@@ -2,9 +2,12 @@ package com.petconnect.backend.common.service.impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.petconnect.backend.certificate.domain.model.Certificate;
+import com.petconnect.backend.common.helper.Base45Codec;
+import com.petconnect.backend.common.helper.QrCompressionDictionary;
 import com.petconnect.backend.pet.domain.model.Pet;
 import com.petconnect.backend.record.domain.model.Record;
 import com.petconnect.backend.user.domain.model.Clinic;
+import com.petconnect.backend.user.domain.model.SignatureAlgorithm;
 import com.petconnect.backend.user.domain.model.Vet;
 import com.upokecenter.cbor.CBORObject;
 import com.upokecenter.cbor.CBORType;
@@ -19,7 +22,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Random;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
 
 
 /**
@@ -204,6 +211,25 @@ class QrCodeServiceImplTest {
             CBORObject.DecodeFromBytes(protectedClinicBytes);
             assertThat(protectedVetMap.getType()).isEqualTo(CBORType.Map);
         }
+
+        @Test
+        @DisplayName("createCoseStructure should write each signer's algorithm in its protected header")
+        void createCoseStructure_Success_PerSignatureAlgorithm() {
+            testCertificate.setVetSignatureAlgorithm(SignatureAlgorithm.ES256);
+            testCertificate.setClinicSignatureAlgorithm(null); // legacy certificate, RSA
+            byte[] sampleCborPayload = ReflectionTestUtils.invokeMethod(qrCodeService, "convertJsonToCbor", samplePayloadJson);
+
+            byte[] coseBytes = ReflectionTestUtils.invokeMethod(qrCodeService, "createCoseStructure", testCertificate, sampleCborPayload);
+
+            Assertions.assertNotNull(coseBytes);
+            CBORObject coseStructure = CBORObject.DecodeFromBytes(coseBytes);
+            CBORObject bodyProtected = CBORObject.DecodeFromBytes(coseStructure.get(0).GetByteString());
+            CBORObject vetProtected = CBORObject.DecodeFromBytes(coseStructure.get(3).get(0).get(0).GetByteString());
+            CBORObject clinicProtected = CBORObject.DecodeFromBytes(coseStructure.get(3).get(1).get(0).GetByteString());
+            assertThat(bodyProtected.size()).isZero();
+            assertThat(vetProtected.get(CBORObject.FromObject(1)).AsInt32()).isEqualTo(-7);
+            assertThat(clinicProtected.get(CBORObject.FromObject(1)).AsInt32()).isEqualTo(-257);
+        }
     }
 
     /**
@@ -249,6 +275,42 @@ class QrCodeServiceImplTest {
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("Data to be compressed cannot be null");
         }
+
+        @Test
+        @DisplayName("should compress a COSE structure smaller with the preset dictionary, naming it in the zlib header")
+        void compress_Success_PresetDictionary() throws DataFormatException {
+            // Arrange
+            byte[] sampleCborPayload = ReflectionTestUtils.invokeMethod(qrCodeService, "convertJsonToCbor", samplePayloadJson);
+            byte[] coseBytes = ReflectionTestUtils.invokeMethod(qrCodeService, "createCoseStructure", testCertificate, sampleCborPayload);
+
+            // Act
+            byte[] plain = qrCodeService.compressWithZlib(coseBytes, null);
+            byte[] withDictionary = qrCodeService.compressWithZlib(coseBytes);
+
+            // Assert
+            assertThat(withDictionary).hasSizeLessThan(plain.length);
+            Inflater inflater = new Inflater();
+            inflater.setInput(withDictionary);
+            byte[] inflated = new byte[coseBytes.length];
+            assertThat(inflater.inflate(inflated)).isZero();
+            assertThat(inflater.needsDictionary()).isTrue();
+            assertThat(inflater.getAdler()).isEqualTo(QrCompressionDictionary.CURRENT.getId());
+            inflater.setDictionary(QrCompressionDictionary.CURRENT.getBytes());
+            assertThat(inflater.inflate(inflated)).isEqualTo(coseBytes.length);
+            assertThat(Arrays.equals(inflated, coseBytes)).isTrue();
+            inflater.end();
+        }
+
+        @Test
+        @DisplayName("should give the same output when the pooled deflater is reused")
+        void compress_Success_Repeated() {
+            byte[] originalBytes = "This is the string to be compressed. ".repeat(5).getBytes(StandardCharsets.UTF_8);
+
+            byte[] first = qrCodeService.compressWithZlib(originalBytes);
+            byte[] second = qrCodeService.compressWithZlib(originalBytes);
+
+            assertThat(Arrays.equals(first, second)).isTrue();
+        }
     }
 
     /**
@@ -293,5 +355,20 @@ class QrCodeServiceImplTest {
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("Data to be encoded cannot be null");
         }
+
+        @Test
+        @DisplayName("should match the reference Base45 encoding and decode back, for odd and even lengths")
+        void encode_Success_MatchesReference() {
+            Random random = new Random(45);
+            for (int length = 0; length <= 64; length++) {
+                byte[] originalBytes = new byte[length];
+                random.nextBytes(originalBytes);
+
+                String encodedString = ReflectionTestUtils.invokeMethod(qrCodeService, "encodeToBase45", (Object) originalBytes);
+
+                assertThat(encodedString).isEqualTo(Base45.getEncoder().encodeToString(originalBytes));
+                assertThat(Arrays.equals(Base45Codec.decode(encodedString), originalBytes)).isTrue();
+            }
+        }
     }
 }
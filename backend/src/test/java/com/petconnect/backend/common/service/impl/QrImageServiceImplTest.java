@@ -0,0 +1,115 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.common.service.QrImageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link QrImageServiceImpl}.
+ * Verifies PNG and SVG rendering, parameter validation and the size-bounded image cache.
+ *
+ * @author ibosquet
+ */
+class QrImageServiceImplTest {
+
+    private static final String QR_DATA = "HC1:6BFOXN*TS0BI$ZD4EX/.KFN4WCFJSEN*1$PKQ:9HO8L1I%D0";
+
+    private QrImageServiceImpl qrImageService;
+
+    @BeforeEach
+    void setUp() {
+        qrImageService = new QrImageServiceImpl();
+    }
+
+    @Nested
+    @DisplayName("renderQrImage Tests")
+    class RenderQrImageTests {
+
+        @Test
+        @DisplayName("should render a PNG of the requested size")
+        void renderQrImage_Png() throws IOException {
+            byte[] png = qrImageService.renderQrImage(1L, QR_DATA, QrImageService.Format.PNG, 300, "M");
+
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            assertThat(image).isNotNull();
+            assertThat(image.getWidth()).isEqualTo(300);
+            assertThat(image.getHeight()).isEqualTo(300);
+            assertThat(image.getRGB(0, 0)).isEqualTo(0xFFFFFFFF); // quiet zone
+        }
+
+        @Test
+        @DisplayName("should render an SVG document with the requested nominal size")
+        void renderQrImage_Svg() {
+            byte[] svg = qrImageService.renderQrImage(1L, QR_DATA, QrImageService.Format.SVG, 200, "q");
+
+            String document = new String(svg, StandardCharsets.UTF_8);
+            assertThat(document).startsWith("<svg").endsWith("</svg>")
+                    .contains("width=\"200\"").contains("<path");
+        }
+
+        @Test
+        @DisplayName("should produce a denser code for a higher error correction level")
+        void renderQrImage_ErrorCorrectionChangesMatrix() {
+            String low = new String(qrImageService.renderQrImage(1L, QR_DATA, QrImageService.Format.SVG, 200, "L"), StandardCharsets.UTF_8);
+            String high = new String(qrImageService.renderQrImage(1L, QR_DATA, QrImageService.Format.SVG, 200, "H"), StandardCharsets.UTF_8);
+
+            assertThat(high).isNotEqualTo(low);
+        }
+
+        @Test
+        @DisplayName("should reject sizes out of range and unknown error correction levels")
+        void renderQrImage_InvalidParameters() {
+            assertThatThrownBy(() -> qrImageService.renderQrImage(1L, QR_DATA, QrImageService.Format.PNG, 10, "M"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("size");
+            assertThatThrownBy(() -> qrImageService.renderQrImage(1L, QR_DATA, QrImageService.Format.PNG, 300, "X"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("error correction");
+        }
+    }
+
+    @Nested
+    @DisplayName("Image Cache Tests")
+    class ImageCacheTests {
+
+        @Test
+        @DisplayName("should serve the same rendered bytes from the cache")
+        void renderQrImage_CachedPerKey() {
+            byte[] first = qrImageService.renderQrImage(1L, QR_DATA, QrImageService.Format.PNG, 300, "M");
+            byte[] second = qrImageService.renderQrImage(1L, QR_DATA, QrImageService.Format.PNG, 300, "m");
+            byte[] otherSize = qrImageService.renderQrImage(1L, QR_DATA, QrImageService.Format.PNG, 400, "M");
+
+            assertThat(second).isSameAs(first);
+            assertThat(otherSize).isNotSameAs(first);
+            QrImageService.QrImageCacheStats stats = qrImageService.getCacheStats();
+            assertThat(stats.hits()).isEqualTo(1);
+            assertThat(stats.misses()).isEqualTo(2);
+            assertThat(stats.entries()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should evict least recently used images to stay within the byte bound")
+        void cache_EvictsWhenOverBound() {
+            byte[] first = qrImageService.renderQrImage(1L, QR_DATA, QrImageService.Format.SVG, 200, "M");
+            qrImageService.setCacheMaxBytes(first.length);
+
+            qrImageService.renderQrImage(2L, QR_DATA, QrImageService.Format.SVG, 200, "M");
+
+            QrImageService.QrImageCacheStats stats = qrImageService.getCacheStats();
+            assertThat(stats.entries()).isEqualTo(1);
+            assertThat(stats.evictions()).isEqualTo(1);
+            assertThat(stats.bytes()).isLessThanOrEqualTo(stats.maxBytes());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.certificate.domain.repository.CertificateRevocationRepository;
+import com.petconnect.backend.common.service.RevocationListService.RevocationListStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Unit tests for {@link RevocationListServiceImpl}.
+ * Verifies loading of revoked certificate numbers into the in-memory revocation list and local registration using Mockito.
+ *
+ * @author ibosquet
+ */
+@ExtendWith(MockitoExtension.class)
+class RevocationListServiceImplTest {
+
+    @Mock private CertificateRevocationRepository certificateRevocationRepository;
+
+    @InjectMocks
+    private RevocationListServiceImpl revocationListService;
+
+    @Nested
+    @DisplayName("refresh Tests")
+    class RefreshTests {
+
+        @Test
+        @DisplayName("should report nothing as revoked before the first refresh")
+        void isRevoked_BeforeRefresh() {
+            assertThat(revocationListService.isRevoked("ES-2025-000001")).isFalse();
+            assertThat(revocationListService.isRevoked(null)).isFalse();
+            assertThat(revocationListService.getStats().loadedAt()).isNull();
+        }
+
+        @Test
+        @DisplayName("should load the revoked certificate numbers and report only those as revoked")
+        void refresh_Success() {
+            List<String> revoked = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                revoked.add(String.format("ES-2025-%06d", i));
+            }
+            given(certificateRevocationRepository.findAllCertificateNumbers()).willReturn(revoked);
+
+            RevocationListStats stats = revocationListService.refresh();
+
+            assertThat(stats.revoked()).isEqualTo(5000);
+            assertThat(stats.loadedAt()).isNotNull();
+            assertThat(revoked).allMatch(revocationListService::isRevoked);
+            for (int i = 5000; i < 15000; i++) {
+                assertThat(revocationListService.isRevoked(String.format("ES-2025-%06d", i))).isFalse();
+            }
+        }
+
+        @Test
+        @DisplayName("should replace the list, including local registrations, with the revocations in storage")
+        void refresh_Success_ReplacesRegistered() {
+            revocationListService.register("ES-2025-000001");
+            given(certificateRevocationRepository.findAllCertificateNumbers()).willReturn(List.of("ES-2025-000002"));
+
+            revocationListService.refresh();
+
+            assertThat(revocationListService.isRevoked("ES-2025-000001")).isFalse();
+            assertThat(revocationListService.isRevoked("ES-2025-000002")).isTrue();
+        }
+
+        @Test
+        @DisplayName("should keep the current list when loading fails")
+        void refresh_Failure_KeepsCurrentList() {
+            revocationListService.register("ES-2025-000001");
+            given(certificateRevocationRepository.findAllCertificateNumbers()).willThrow(new RuntimeException("connection refused"));
+
+            assertThatThrownBy(() -> revocationListService.refresh()).isInstanceOf(RuntimeException.class);
+            assertThat(revocationListService.isRevoked("ES-2025-000001")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("register Tests")
+    class RegisterTests {
+
+        @Test
+        @DisplayName("should report a registered certificate as revoked right away")
+        void register_Success() {
+            revocationListService.register("ES-2025-000009");
+
+            assertThat(revocationListService.isRevoked("ES-2025-000009")).isTrue();
+            assertThat(revocationListService.isRevoked("ES-2025-000010")).isFalse();
+            assertThat(revocationListService.getStats().revoked()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should keep a certificate registered while the list is being loaded")
+        void register_Success_DuringRefresh() {
+            given(certificateRevocationRepository.findAllCertificateNumbers()).willAnswer(invocation -> {
+                revocationListService.register("ES-2025-000003");
+                return List.of("ES-2025-000002");
+            });
+
+            revocationListService.refresh();
+
+            assertThat(revocationListService.isRevoked("ES-2025-000002")).isTrue();
+            assertThat(revocationListService.isRevoked("ES-2025-000003")).isTrue();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.certificate.domain.model.Certificate;
+import com.petconnect.backend.certificate.domain.model.CertificatePayload;
+import com.petconnect.backend.certificate.domain.model.CertificatePayloadFormat;
+import com.petconnect.backend.common.helper.CertificatePayloadCodec;
+import com.petconnect.backend.common.helper.RecordHelper;
+import com.petconnect.backend.common.service.HashingService;
+import com.petconnect.backend.common.service.SigningService;
+import com.petconnect.backend.pet.domain.model.Pet;
+import com.petconnect.backend.record.application.dto.CertificateSignatureStatusDto;
+import com.petconnect.backend.record.application.dto.RecordSignatureStatusDto;
+import com.petconnect.backend.record.application.dto.SignatureVerificationReportDto;
+import com.petconnect.backend.record.domain.model.Record;
+import com.petconnect.backend.record.domain.model.RecordType;
+import com.petconnect.backend.user.domain.model.Clinic;
+import com.petconnect.backend.user.domain.model.Vet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.PublicKey;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * Unit tests for {@link SignatureVerificationServiceImpl}.
+ * Verifies bulk signature checks of records and certificates, key reuse and error reporting using Mockito.
+ *
+ * @author ibosquet
+ */
+@ExtendWith(MockitoExtension.class)
+class SignatureVerificationServiceImplTest {
+
+    @Mock private SigningService signingService;
+    @Mock private HashingService hashingService;
+    @Mock private RecordHelper recordHelper;
+
+    private ExecutorService executor;
+    private SignatureVerificationServiceImpl signatureVerificationService;
+
+    private final Long petId = 1L;
+    private Vet vet;
+    private Clinic clinic;
+    private PublicKey vetPublicKey;
+    private PublicKey clinicPublicKey;
+    private Record checkup;
+    private Record vaccine;
+    private Certificate certificate;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        signatureVerificationService = new SignatureVerificationServiceImpl(signingService, hashingService, recordHelper, executor);
+
+        clinic = new Clinic();
+        clinic.setId(1L);
+        clinic.setPublicKey("keys/clinic_1_pub.pem");
+        vet = new Vet();
+        vet.setId(11L);
+        vet.setClinic(clinic);
+        vet.setVetPublicKey("keys/vet_11_pub.pem");
+        vetPublicKey = mock(PublicKey.class);
+        clinicPublicKey = mock(PublicKey.class);
+
+        Pet pet = new Pet();
+        pet.setId(petId);
+        checkup = Record.builder().type(RecordType.ANNUAL_CHECK).pet(pet).creator(vet).vetSignature("SIG_CHECKUP").build();
+        checkup.setId(100L);
+        vaccine = Record.builder().type(RecordType.VACCINE).pet(pet).creator(vet).vetSignature("SIG_VACCINE").build();
+        vaccine.setId(101L);
+
+        certificate = Certificate.builder()
+                .payload("{\"pet\":1}").hash("HASH")
+                .vetSignature("SIG_CERT_VET").clinicSignature("SIG_CERT_CLINIC")
+                .certificateNumber("CERT-1").generatorVet(vet).issuingClinic(clinic)
+                .build();
+        certificate.setId(200L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("verifyPetHistory Tests")
+    class VerifyPetHistoryTests {
+
+        @Test
+        @DisplayName("should verify every signature and resolve each public key only once")
+        void verifyPetHistory_AllValid() {
+            given(recordHelper.buildSignableData(checkup)).willReturn("DATA_CHECKUP");
+            given(recordHelper.buildSignableData(vaccine)).willReturn("DATA_VACCINE");
+            given(signingService.getVetPublicKey(vet)).willReturn(vetPublicKey);
+            given(signingService.getClinicPublicKey(clinic)).willReturn(clinicPublicKey);
+            given(signingService.verifySignature(vetPublicKey, "DATA_CHECKUP", "SIG_CHECKUP")).willReturn(true);
+            given(signingService.verifySignature(vetPublicKey, "DATA_VACCINE", "SIG_VACCINE")).willReturn(true);
+            given(signingService.verifySignature(vetPublicKey, "HASH", "SIG_CERT_VET")).willReturn(true);
+            given(signingService.verifySignature(clinicPublicKey, "HASH", "SIG_CERT_CLINIC")).willReturn(true);
+            given(hashingService.hashString("{\"pet\":1}")).willReturn("HASH");
+
+            SignatureVerificationReportDto report = signatureVerificationService.verifyPetHistory(petId, List.of(checkup, vaccine), List.of(certificate));
+
+            assertThat(report.petId()).isEqualTo(petId);
+            assertThat(report.allValid()).isTrue();
+            assertThat(report.recordsChecked()).isEqualTo(2);
+            assertThat(report.recordsValid()).isEqualTo(2);
+            assertThat(report.certificatesChecked()).isEqualTo(1);
+            assertThat(report.certificatesValid()).isEqualTo(1);
+            assertThat(report.records()).extracting(RecordSignatureStatusDto::recordId).containsExactly(100L, 101L);
+            assertThat(report.durationMillis()).isNotNegative();
+            then(signingService).should(times(1)).getVetPublicKey(vet);
+            then(signingService).should(times(1)).getClinicPublicKey(clinic);
+        }
+
+        @Test
+        @DisplayName("should report records as invalid with a reason when the vet public key cannot be loaded")
+        void verifyPetHistory_KeyUnavailable() {
+            given(recordHelper.buildSignableData(any(Record.class))).willReturn("DATA");
+            given(signingService.getVetPublicKey(vet)).willThrow(new RuntimeException("Could not read Vet public key file"));
+
+            SignatureVerificationReportDto report = signatureVerificationService.verifyPetHistory(petId, List.of(checkup, vaccine), List.of());
+
+            assertThat(report.allValid()).isFalse();
+            assertThat(report.recordsValid()).isZero();
+            assertThat(report.records()).allSatisfy(status -> assertThat(status.error()).contains("Could not read Vet public key file"));
+            then(signingService).should(times(1)).getVetPublicKey(vet);
+            then(signingService).should(never()).verifySignature(any(PublicKey.class), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("should report a certificate as invalid when its payload no longer matches the signed hash")
+        void verifyPetHistory_TamperedCertificatePayload() {
+            given(signingService.getVetPublicKey(vet)).willReturn(vetPublicKey);
+            given(signingService.getClinicPublicKey(clinic)).willReturn(clinicPublicKey);
+            given(signingService.verifySignature(vetPublicKey, "HASH", "SIG_CERT_VET")).willReturn(true);
+            given(signingService.verifySignature(clinicPublicKey, "HASH", "SIG_CERT_CLINIC")).willReturn(true);
+            given(hashingService.hashString("{\"pet\":1}")).willReturn("OTHER_HASH");
+
+            SignatureVerificationReportDto report = signatureVerificationService.verifyPetHistory(petId, List.of(), List.of(certificate));
+
+            CertificateSignatureStatusDto status = report.certificates().getFirst();
+            assertThat(status.payloadIntact()).isFalse();
+            assertThat(status.vetSignatureValid()).isTrue();
+            assertThat(status.clinicSignatureValid()).isTrue();
+            assertThat(status.valid()).isFalse();
+            assertThat(report.allValid()).isFalse();
+        }
+    
+        @Test
+        @DisplayName("should hash the canonical CBOR encoding of the stored payload for CBOR_V2 certificates")
+        void verifyPetHistory_CanonicalCertificatePayload() {
+            CertificatePayload payload = new CertificatePayload(CertificatePayload.CERT_TYPE_V2, 1678886400000L, "CERT-1",
+                    new CertificatePayload.Issuer(1L, "Clinic", "SPAIN", 11L, "Vet Name", "LIC-1"),
+                    new CertificatePayload.Subject(petId, "Buddy", "DOG", "Labrador", null, null, null, null, null),
+                    new CertificatePayload.Event(101L, "VACCINE", "2025-01-10", null, null));
+            certificate.setPayload(CertificatePayloadCodec.toJson(payload));
+            certificate.setPayloadFormat(CertificatePayloadFormat.CBOR_V2);
+            given(signingService.getVetPublicKey(vet)).willReturn(vetPublicKey);
+            given(signingService.getClinicPublicKey(clinic)).willReturn(clinicPublicKey);
+            given(signingService.verifySignature(vetPublicKey, "HASH", "SIG_CERT_VET")).willReturn(true);
+            given(signingService.verifySignature(clinicPublicKey, "HASH", "SIG_CERT_CLINIC")).willReturn(true);
+            given(hashingService.hashBytes(aryEq(CertificatePayloadCodec.toCbor(payload)))).willReturn("HASH");
+
+            SignatureVerificationReportDto report = signatureVerificationService.verifyPetHistory(petId, List.of(), List.of(certificate));
+
+            assertThat(report.certificates().getFirst().payloadIntact()).isTrue();
+            assertThat(report.allValid()).isTrue();
+            then(hashingService).should(never()).hashString(anyString());
+        }
+    }
+}
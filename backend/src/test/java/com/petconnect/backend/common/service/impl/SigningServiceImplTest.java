@@ -1,7 +1,9 @@
 package com.petconnect.backend.common.service.impl;
 
 import com.petconnect.backend.common.service.KeyStorageService;
+import com.petconnect.backend.common.service.SigningService;
 import com.petconnect.backend.user.domain.model.Clinic;
+import com.petconnect.backend.user.domain.model.SignatureAlgorithm;
 import com.petconnect.backend.user.domain.model.Vet;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.junit.jupiter.api.*;
@@ -16,13 +18,19 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
 import java.security.PublicKey;
 import java.security.Security;
+import java.security.spec.ECGenParameterSpec;
 import java.util.Base64;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 /**
@@ -223,6 +231,16 @@ class SigningServiceImplTest {
                     .isInstanceOf(RuntimeException.class)
                     .hasMessageContaining("Failed to decrypt Clinic private key");
         }
+
+        @Test
+        @DisplayName("loadClinicPrivateKey should reject a missing password without reading the key")
+        void loadClinicPrivateKey_Failure_MissingPassword() {
+            Throwable thrown = catchThrowable(() -> signingService.loadClinicPrivateKey(testClinic, new char[0]));
+            assertThat(thrown)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Password for clinic's private key is required");
+            then(keyStorageService).shouldHaveNoInteractions();
+        }
     }
 
     /**
@@ -349,6 +367,130 @@ class SigningServiceImplTest {
                     .isInstanceOf(RuntimeException.class)
                     .hasMessageContaining("Unexpected error loading Clinic public key: " + TEST_CLINIC_RELATIVE_PUBLIC_KEY_PATH);
         }
+
+        @Test
+        @DisplayName("getVetSignatureAlgorithm should propagate a missing public key instead of assuming RS256")
+        void getVetSignatureAlgorithm_Failure_MissingKey() {
+            Vet vetWithoutKey = new Vet();
+            vetWithoutKey.setId(99L);
+
+            assertThatThrownBy(() -> signingService.getVetSignatureAlgorithm(vetWithoutKey))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("getClinicSignatureAlgorithm should propagate a storage failure instead of assuming RS256")
+        void getClinicSignatureAlgorithm_Failure_StorageError() throws IOException {
+            given(keyStorageService.getPublicKeyContent(TEST_CLINIC_RELATIVE_PUBLIC_KEY_PATH))
+                    .willThrow(new IOException("Simulated storage outage"));
+
+            assertThatThrownBy(() -> signingService.getClinicSignatureAlgorithm(testClinic))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasRootCauseMessage("Simulated storage outage");
+        }
+    }
+
+    /**
+     * --- Tests for the parsed public key cache ---
+     */
+    @Nested
+    @DisplayName("Public Key Cache")
+    class PublicKeyCacheTests {
+        @Test
+        @DisplayName("verifySignature should parse the same public key content only once")
+        void verifySignature_ReusesParsedKey() {
+            assumeTrue(testVetPublicKeyPemB64 != null, "VET test public key could not be loaded.");
+            String invalidSignature = Base64.getEncoder().encodeToString("not a signature".getBytes(StandardCharsets.UTF_8));
+
+            signingService.verifySignature(testVetPublicKeyPemB64, "data", invalidSignature);
+            signingService.verifySignature(testVetPublicKeyPemB64, "data", invalidSignature);
+
+            SigningService.PublicKeyCacheStats stats = signingService.getPublicKeyCacheStats();
+            assertThat(stats.misses()).isEqualTo(1);
+            assertThat(stats.hits()).isEqualTo(1);
+            assertThat(stats.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("getVetPublicKey should read storage once and again only after eviction")
+        void getVetPublicKey_CachedUntilEvicted() throws IOException {
+            given(keyStorageService.getPublicKeyContent(TEST_VET_RELATIVE_PUBLIC_KEY_PATH))
+                    .willAnswer(inv -> Files.newInputStream(vetTestPublicKeyFile));
+
+            PublicKey first = signingService.getVetPublicKey(testVet);
+            PublicKey second = signingService.getVetPublicKey(testVet);
+            signingService.evictPublicKey(TEST_VET_RELATIVE_PUBLIC_KEY_PATH);
+            PublicKey third = signingService.getVetPublicKey(testVet);
+
+            assertThat(second).isSameAs(first);
+            assertThat(third).isNotSameAs(first).isEqualTo(first);
+            then(keyStorageService).should(times(2)).getPublicKeyContent(TEST_VET_RELATIVE_PUBLIC_KEY_PATH);
+        }
+
+        @Test
+        @DisplayName("should evict least recently used keys when the cache is full")
+        void cache_EvictsWhenFull() throws IOException {
+            signingService.setPublicKeyCacheMaxSize(1);
+            given(keyStorageService.getPublicKeyContent(TEST_VET_RELATIVE_PUBLIC_KEY_PATH))
+                    .willAnswer(inv -> Files.newInputStream(vetTestPublicKeyFile));
+            given(keyStorageService.getPublicKeyContent(TEST_CLINIC_RELATIVE_PUBLIC_KEY_PATH))
+                    .willAnswer(inv -> Files.newInputStream(clinicTestPublicKeyFile));
+
+            signingService.getVetPublicKey(testVet);
+            signingService.getClinicPublicKey(testClinic);
+
+            SigningService.PublicKeyCacheStats stats = signingService.getPublicKeyCacheStats();
+            assertThat(stats.evictions()).isEqualTo(1);
+            assertThat(stats.size()).isEqualTo(1);
+            assertThat(stats.maxSize()).isEqualTo(1);
+        }
+    }
+
+    /**
+     * --- Tests for the key-type dependent signature algorithm ---
+     */
+    @Nested
+    @DisplayName("Elliptic Curve Keys")
+    class EllipticCurveKeys {
+        @Test
+        @DisplayName("should sign and verify with an EC P-256 key using raw 64-byte ES256 signatures")
+        void signAndVerify_P256() throws Exception {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            KeyPair keyPair = generator.generateKeyPair();
+
+            String signature = signingService.signWithPrivateKey(keyPair.getPrivate(), "data");
+
+            assertThat(SignatureAlgorithm.forKey(keyPair.getPublic())).isEqualTo(SignatureAlgorithm.ES256);
+            assertThat(Base64.getDecoder().decode(signature)).hasSize(64);
+            assertThat(signingService.verifySignature(keyPair.getPublic(), "data", signature)).isTrue();
+            assertThat(signingService.verifySignature(keyPair.getPublic(), "altered", signature)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should sign and verify with an Ed25519 key, also from PEM content")
+        void signAndVerify_Ed25519() throws Exception {
+            KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+            String publicKeyB64 = Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+
+            String signature = signingService.signWithPrivateKey(keyPair.getPrivate(), "data");
+
+            assertThat(SignatureAlgorithm.forKey(keyPair.getPublic())).isEqualTo(SignatureAlgorithm.ED25519);
+            assertThat(Base64.getDecoder().decode(signature)).hasSize(64);
+            assertThat(signingService.verifySignature(publicKeyB64, "data", signature)).isTrue();
+            assertThat(signingService.verifySignature(publicKeyB64, "altered", signature)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should reject keys on unsupported curves")
+        void signWithPrivateKey_UnsupportedCurve() throws Exception {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp384r1"));
+            KeyPair keyPair = generator.generateKeyPair();
+
+            assertThatThrownBy(() -> signingService.signWithPrivateKey(keyPair.getPrivate(), "data"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
     }
 
     /**
@@ -0,0 +1,184 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.common.service.SigningService;
+import com.petconnect.backend.exception.InvalidSigningSessionException;
+import com.petconnect.backend.record.application.dto.SigningSessionDto;
+import com.petconnect.backend.user.domain.model.Vet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.PrivateKey;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * Unit tests for {@link SigningSessionServiceImpl}.
+ * Verifies opening, using, expiring and closing vet signing sessions using Mockito.
+ *
+ * @author ibosquet
+ */
+@ExtendWith(MockitoExtension.class)
+class SigningSessionServiceImplTest {
+
+    @Mock private SigningService signingService;
+
+    @InjectMocks
+    private SigningSessionServiceImpl signingSessionService;
+
+    private Vet vet;
+    private PrivateKey privateKey;
+    private final String dataToSign = "petId=1|vetId=11|...";
+
+    @BeforeEach
+    void setUp() {
+        vet = new Vet();
+        vet.setId(11L);
+        vet.setVetPrivateKey("private_encrypted_keys/vets/vet_test_priv.pem");
+        privateKey = mock(PrivateKey.class);
+        ReflectionTestUtils.setField(signingSessionService, "sessionTtl", Duration.ofMinutes(30));
+        ReflectionTestUtils.setField(signingSessionService, "maxSessions", 2);
+    }
+
+    private SigningSessionDto openSessionFor(Vet sessionVet) {
+        given(signingService.loadVetPrivateKey(any(Vet.class), any(char[].class))).willReturn(privateKey);
+        return signingSessionService.openSession(sessionVet, "vetPass".toCharArray());
+    }
+
+    @Nested
+    @DisplayName("openSession and signWithSession Tests")
+    class SignWithSessionTests {
+
+        @Test
+        @DisplayName("should unlock the key once and sign with it on every call")
+        void signWithSession_Success() {
+            SigningSessionDto session = openSessionFor(vet);
+            given(signingService.signWithPrivateKey(privateKey, dataToSign)).willReturn("SIG");
+
+            String first = signingSessionService.signWithSession(vet, session.sessionToken(), dataToSign);
+            String second = signingSessionService.signWithSession(vet, session.sessionToken(), dataToSign);
+
+            assertThat(session.sessionToken()).isNotBlank();
+            assertThat(session.expiresAt()).isNotNull();
+            assertThat(first).isEqualTo("SIG");
+            assertThat(second).isEqualTo("SIG");
+            then(signingService).should().loadVetPrivateKey(any(Vet.class), any(char[].class));
+            then(signingService).should(times(2)).signWithPrivateKey(privateKey, dataToSign);
+            then(signingService).should(never()).generateVetSignature(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("should throw InvalidSigningSessionException for an unknown token")
+        void signWithSession_Failure_WrongToken() {
+            openSessionFor(vet);
+
+            assertThatThrownBy(() -> signingSessionService.signWithSession(vet, "not-the-token", dataToSign))
+                    .isInstanceOf(InvalidSigningSessionException.class)
+                    .hasMessageContaining("not found");
+            then(signingService).should(never()).signWithPrivateKey(any(), any());
+        }
+
+        @Test
+        @DisplayName("should throw InvalidSigningSessionException when the session has expired")
+        void signWithSession_Failure_Expired() {
+            ReflectionTestUtils.setField(signingSessionService, "sessionTtl", Duration.ZERO);
+            SigningSessionDto session = openSessionFor(vet);
+
+            assertThatThrownBy(() -> signingSessionService.signWithSession(vet, session.sessionToken(), dataToSign))
+                    .isInstanceOf(InvalidSigningSessionException.class)
+                    .hasMessageContaining("expired");
+            then(signingService).should(never()).signWithPrivateKey(any(), any());
+        }
+
+        @Test
+        @DisplayName("should close the session and throw when the vet's private key changed")
+        void signWithSession_Failure_KeyRotated() {
+            SigningSessionDto session = openSessionFor(vet);
+            vet.setVetPrivateKey("private_encrypted_keys/vets/vet_test_priv_v2.pem");
+
+            assertThatThrownBy(() -> signingSessionService.signWithSession(vet, session.sessionToken(), dataToSign))
+                    .isInstanceOf(InvalidSigningSessionException.class)
+                    .hasMessageContaining("changed");
+            assertThatThrownBy(() -> signingSessionService.signWithSession(vet, session.sessionToken(), dataToSign))
+                    .isInstanceOf(InvalidSigningSessionException.class)
+                    .hasMessageContaining("not found");
+        }
+    }
+
+    @Nested
+    @DisplayName("closeSession and eviction Tests")
+    class CloseAndEvictTests {
+
+        @Test
+        @DisplayName("should reject the token after the session is closed")
+        void closeSession_Success() {
+            SigningSessionDto session = openSessionFor(vet);
+
+            signingSessionService.closeSession(vet.getId());
+
+            assertThatThrownBy(() -> signingSessionService.signWithSession(vet, session.sessionToken(), dataToSign))
+                    .isInstanceOf(InvalidSigningSessionException.class);
+        }
+
+        @Test
+        @DisplayName("should evict expired sessions")
+        void evictExpiredSessions_Success() {
+            ReflectionTestUtils.setField(signingSessionService, "sessionTtl", Duration.ZERO);
+            openSessionFor(vet);
+
+            assertThat(signingSessionService.evictExpiredSessions()).isEqualTo(1);
+            assertThat(signingSessionService.evictExpiredSessions()).isZero();
+        }
+
+        @Test
+        @DisplayName("should evict the session closest to expiry when the store is full")
+        void openSession_EvictsOldest_WhenFull() {
+            Vet secondVet = new Vet();
+            secondVet.setId(12L);
+            secondVet.setVetPrivateKey("private_encrypted_keys/vets/vet_second_priv.pem");
+            Vet thirdVet = new Vet();
+            thirdVet.setId(13L);
+            thirdVet.setVetPrivateKey("private_encrypted_keys/vets/vet_third_priv.pem");
+
+            SigningSessionDto firstSession = openSessionFor(vet);
+            openSessionFor(secondVet);
+            SigningSessionDto thirdSession = openSessionFor(thirdVet);
+            given(signingService.signWithPrivateKey(privateKey, dataToSign)).willReturn("SIG");
+
+            assertThatThrownBy(() -> signingSessionService.signWithSession(vet, firstSession.sessionToken(), dataToSign))
+                    .isInstanceOf(InvalidSigningSessionException.class);
+            assertThat(signingSessionService.signWithSession(thirdVet, thirdSession.sessionToken(), dataToSign)).isEqualTo("SIG");
+        }
+
+        @Test
+        @DisplayName("should keep one session when the configured maximum is not positive")
+        void openSession_ClampsMaxSessions_WhenNotPositive() {
+            signingSessionService.setMaxSessions(0);
+            Vet secondVet = new Vet();
+            secondVet.setId(12L);
+            secondVet.setVetPrivateKey("private_encrypted_keys/vets/vet_second_priv.pem");
+
+            SigningSessionDto firstSession = openSessionFor(vet);
+            SigningSessionDto secondSession = openSessionFor(secondVet);
+            given(signingService.signWithPrivateKey(privateKey, dataToSign)).willReturn("SIG");
+
+            assertThatThrownBy(() -> signingSessionService.signWithSession(vet, firstSession.sessionToken(), dataToSign))
+                    .isInstanceOf(InvalidSigningSessionException.class);
+            assertThat(signingSessionService.signWithSession(secondVet, secondSession.sessionToken(), dataToSign)).isEqualTo("SIG");
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.petconnect.backend.common.service.impl;
+
+import com.petconnect.backend.common.service.SigningService;
+import com.petconnect.backend.common.service.TrustListService;
+import com.petconnect.backend.user.domain.model.Clinic;
+import com.petconnect.backend.user.domain.model.Vet;
+import com.petconnect.backend.user.domain.repository.ClinicRepository;
+import com.petconnect.backend.user.domain.repository.VetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.PublicKey;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link TrustListServiceImpl}.
+ * Verifies loading of vet and clinic public keys into the in-memory trust list using Mockito.
+ *
+ * @author ibosquet
+ */
+@ExtendWith(MockitoExtension.class)
+class TrustListServiceImplTest {
+
+    @Mock private VetRepository vetRepository;
+    @Mock private ClinicRepository clinicRepository;
+    @Mock private SigningService signingService;
+
+    @InjectMocks
+    private TrustListServiceImpl trustListService;
+
+    private Vet vet;
+    private Vet brokenVet;
+    private Clinic clinic;
+
+    @BeforeEach
+    void setUp() {
+        vet = new Vet();
+        vet.setId(10L);
+        vet.setVetPublicKey("keys/vet_10_pub.pem");
+        brokenVet = new Vet();
+        brokenVet.setId(11L);
+        brokenVet.setVetPublicKey("keys/missing.pem");
+        clinic = new Clinic();
+        clinic.setId(5L);
+        clinic.setPublicKey("keys/clinic_5_pub.pem");
+    }
+
+    @Nested
+    @DisplayName("refresh Tests")
+    class RefreshTests {
+
+        @Test
+        @DisplayName("should be empty before the first refresh")
+        void findKeys_BeforeRefresh() {
+            assertThat(trustListService.findVetKey(10L)).isNull();
+            assertThat(trustListService.findClinicKey(null)).isNull();
+            assertThat(trustListService.getStats().loadedAt()).isNull();
+        }
+
+        @Test
+        @DisplayName("should load the keys of vets and clinics, skipping keys that cannot be read")
+        void refresh_Success_SkipsBrokenKeys() {
+            PublicKey vetKey = mock(PublicKey.class);
+            PublicKey clinicKey = mock(PublicKey.class);
+            given(vetRepository.findByVetPublicKeyIsNotNull()).willReturn(List.of(vet, brokenVet));
+            given(clinicRepository.findByPublicKeyIsNotNull()).willReturn(List.of(clinic));
+            given(signingService.getVetPublicKey(vet)).willReturn(vetKey);
+            given(signingService.getVetPublicKey(brokenVet)).willThrow(new RuntimeException("file not found"));
+            given(signingService.getClinicPublicKey(clinic)).willReturn(clinicKey);
+
+            TrustListService.TrustListStats stats = trustListService.refresh();
+
+            assertThat(stats.vets()).isEqualTo(1);
+            assertThat(stats.clinics()).isEqualTo(1);
+            assertThat(stats.loadedAt()).isNotNull();
+            assertThat(trustListService.findVetKey(10L)).isSameAs(vetKey);
+            assertThat(trustListService.findVetKey(11L)).isNull();
+            assertThat(trustListService.findClinicKey(5L)).isSameAs(clinicKey);
+        }
+
+        @Test
+        @DisplayName("should drop keys that are no longer registered on the next refresh")
+        void refresh_Success_ReplacesSnapshot() {
+            given(vetRepository.findByVetPublicKeyIsNotNull()).willReturn(List.of(vet), List.of());
+            given(clinicRepository.findByPublicKeyIsNotNull()).willReturn(List.of());
+            given(signingService.getVetPublicKey(vet)).willReturn(mock(PublicKey.class));
+
+            trustListService.refresh();
+            assertThat(trustListService.findVetKey(10L)).isNotNull();
+
+            trustListService.refresh();
+            assertThat(trustListService.findVetKey(10L)).isNull();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.petconnect.backend.pet.application.job;
+
+import com.petconnect.backend.common.helper.AhcEligibilityHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+/**
+ * Unit tests for {@link AhcEligibilityJob}.
+ * Verifies that the scheduled jobs delegate to {@link AhcEligibilityHelper} with the configured options.
+ *
+ * @author ibosquet
+ */
+@ExtendWith(MockitoExtension.class)
+class AhcEligibilityJobTest {
+
+    @Mock private AhcEligibilityHelper ahcEligibilityHelper;
+
+    @InjectMocks private AhcEligibilityJob ahcEligibilityJob;
+
+    private final AhcEligibilityHelper.DriftReport emptyReport = new AhcEligibilityHelper.DriftReport(0, 0, 0, List.of());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(ahcEligibilityJob, "correctDrift", true);
+        ReflectionTestUtils.setField(ahcEligibilityJob, "checkOnStartup", true);
+    }
+
+    @Test
+    @DisplayName("expireStaleEligibility should sweep with today as the reference date")
+    void expireStaleEligibility_UsesToday() {
+        // Act
+        ahcEligibilityJob.expireStaleEligibility();
+
+        // Assert
+        then(ahcEligibilityHelper).should().expireStaleEligibility(LocalDate.now());
+    }
+
+    @Test
+    @DisplayName("checkConsistency should correct drift when correction is enabled")
+    void checkConsistency_CorrectionEnabled() {
+        // Arrange
+        given(ahcEligibilityHelper.checkConsistency(true)).willReturn(emptyReport);
+
+        // Act
+        ahcEligibilityJob.checkConsistency();
+
+        // Assert
+        then(ahcEligibilityHelper).should().checkConsistency(true);
+    }
+
+    @Test
+    @DisplayName("checkConsistency should only report drift when correction is disabled")
+    void checkConsistency_CorrectionDisabled() {
+        // Arrange
+        ReflectionTestUtils.setField(ahcEligibilityJob, "correctDrift", false);
+        given(ahcEligibilityHelper.checkConsistency(false)).willReturn(emptyReport);
+
+        // Act
+        ahcEligibilityJob.checkConsistency();
+
+        // Assert
+        then(ahcEligibilityHelper).should().checkConsistency(false);
+    }
+
+    @Test
+    @DisplayName("checkConsistencyOnStartup should skip the check when disabled")
+    void checkConsistencyOnStartup_Disabled() {
+        // Arrange
+        ReflectionTestUtils.setField(ahcEligibilityJob, "checkOnStartup", false);
+
+        // Act
+        ahcEligibilityJob.checkConsistencyOnStartup();
+
+        // Assert
+        then(ahcEligibilityHelper).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("checkConsistencyOnStartup should not let a failing check stop the application")
+    void checkConsistencyOnStartup_FailureIsLogged() {
+        // Arrange
+        given(ahcEligibilityHelper.checkConsistency(true)).willThrow(new IllegalStateException("DB down"));
+
+        // Act & Assert
+        assertThatCode(() -> ahcEligibilityJob.checkConsistencyOnStartup()).doesNotThrowAnyException();
+        then(ahcEligibilityHelper).should().checkConsistency(true);
+    }
+}
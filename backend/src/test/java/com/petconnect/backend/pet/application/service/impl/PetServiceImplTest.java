@@ -1,5 +1,6 @@
 package com.petconnect.backend.pet.application.service.impl;
 
+import com.petconnect.backend.common.helper.AhcEligibilityHelper;
 import com.petconnect.backend.common.helper.AuthorizationHelper;
 import com.petconnect.backend.common.service.ImageService;
 import com.petconnect.backend.exception.EntityNotFoundException;
@@ -66,6 +67,7 @@ class PetServiceImplTest {
     @Mock private UserMapper userMapper;
     @Mock private EntityFinderHelper entityFinderHelper;
     @Mock private AuthorizationHelper authorizationHelper;
+    @Mock private AhcEligibilityHelper ahcEligibilityHelper;
     @Mock private ImageService imageService;
 
     @InjectMocks
@@ -1765,8 +1767,9 @@ class PetServiceImplTest {
             List<Pet> repoResultList = List.of(petPendingAtClinic, petActiveWithVetFromClinic);
             Page<Pet> repoResultPage = new PageImpl<>(repoResultList, pageable, 2);
             given(petRepository.findPetsAssociatedWithClinic(clinicId, pageable)).willReturn(repoResultPage);
-            given(petMapper.toProfileDto(petPendingAtClinic)).willReturn(dtoPending);
-            given(petMapper.toProfileDto(petActiveWithVetFromClinic)).willReturn(dtoActive);
+            Map<Long, Boolean> eligibility = Map.of(200L, false, 201L, false);
+            given(ahcEligibilityHelper.resolveEligibility(repoResultList)).willReturn(eligibility);
+            given(petMapper.toProfileDtoList(repoResultList, eligibility)).willReturn(List.of(dtoPending, dtoActive));
 
             // Act
             Page<PetProfileDto> result = petService.findPetsByClinic(staffId, pageable);
@@ -1778,8 +1781,9 @@ class PetServiceImplTest {
 
             then(entityFinderHelper).should().findClinicStaffOrFail(staffId, actionContext);
             then(petRepository).should().findPetsAssociatedWithClinic(clinicId, pageable);
-            then(petMapper).should().toProfileDto(petPendingAtClinic);
-            then(petMapper).should().toProfileDto(petActiveWithVetFromClinic);
+            then(ahcEligibilityHelper).should().resolveEligibility(repoResultList);
+            then(petMapper).should().toProfileDtoList(repoResultList, eligibility);
+            then(petMapper).should(never()).toProfileDto(any());
         }
 
         /**
@@ -1866,7 +1870,9 @@ class PetServiceImplTest {
             // Arrange
             given(entityFinderHelper.findClinicStaffOrFail(staffId, actionContext)).willReturn(staffFromClinic);
             given(petRepository.findByPendingActivationClinicIdAndStatus(clinicId, PetStatus.PENDING)).willReturn(List.of(petPendingAtClinic));
-            given(petMapper.toProfileDtoList(List.of(petPendingAtClinic))).willReturn(List.of(dtoPending));
+            Map<Long, Boolean> eligibility = Map.of(petPendingAtClinic.getId(), false);
+            given(ahcEligibilityHelper.resolveEligibility(List.of(petPendingAtClinic))).willReturn(eligibility);
+            given(petMapper.toProfileDtoList(List.of(petPendingAtClinic), eligibility)).willReturn(List.of(dtoPending));
 
             // Act
             List<PetProfileDto> result = petService.findPendingActivationPetsByClinic(staffId);
@@ -1875,7 +1881,8 @@ class PetServiceImplTest {
             assertThat(result).isNotNull().hasSize(1).containsExactly(dtoPending);
             then(entityFinderHelper).should().findClinicStaffOrFail(staffId, actionContext);
             then(petRepository).should().findByPendingActivationClinicIdAndStatus(clinicId, PetStatus.PENDING);
-            then(petMapper).should().toProfileDtoList(List.of(petPendingAtClinic));
+            then(ahcEligibilityHelper).should().resolveEligibility(List.of(petPendingAtClinic));
+            then(petMapper).should().toProfileDtoList(List.of(petPendingAtClinic), eligibility);
         }
 
         /**
@@ -1887,7 +1894,8 @@ class PetServiceImplTest {
             // Arrange
             given(entityFinderHelper.findClinicStaffOrFail(staffId, actionContext)).willReturn(staffFromClinic);
             given(petRepository.findByPendingActivationClinicIdAndStatus(clinicId, PetStatus.PENDING)).willReturn(Collections.emptyList());
-            given(petMapper.toProfileDtoList(Collections.emptyList())).willReturn(Collections.emptyList());
+            given(ahcEligibilityHelper.resolveEligibility(Collections.emptyList())).willReturn(Collections.emptyMap());
+            given(petMapper.toProfileDtoList(Collections.emptyList(), Collections.emptyMap())).willReturn(Collections.emptyList());
 
             // Act
             List<PetProfileDto> result = petService.findPendingActivationPetsByClinic(staffId);
@@ -1896,7 +1904,7 @@ class PetServiceImplTest {
             assertThat(result).isNotNull().isEmpty();
             then(entityFinderHelper).should().findClinicStaffOrFail(staffId, actionContext);
             then(petRepository).should().findByPendingActivationClinicIdAndStatus(clinicId, PetStatus.PENDING);
-            then(petMapper).should().toProfileDtoList(Collections.emptyList());
+            then(petMapper).should().toProfileDtoList(Collections.emptyList(), Collections.emptyMap());
         }
 
         /**
@@ -2008,7 +2016,7 @@ class PetServiceImplTest {
         @DisplayName("should return pet profile when requester is owner")
         void findById_Success_RequesterIsOwner() {
             // Arrange
-            given(entityFinderHelper.findPetByIdOrFail(petId)).willReturn(pet);
+            given(petRepository.findProfileById(petId)).willReturn(Optional.of(pet));
             doNothing().when(authorizationHelper).verifyUserAuthorizationForPet(ownerId, pet, actionContext);
             given(petMapper.toProfileDto(pet)).willReturn(petDto);
 
@@ -2017,7 +2025,7 @@ class PetServiceImplTest {
 
             // Assert
             assertThat(result).isNotNull().isEqualTo(petDto);
-            then(entityFinderHelper).should().findPetByIdOrFail(petId);
+            then(petRepository).should().findProfileById(petId);
             then(authorizationHelper).should().verifyUserAuthorizationForPet(ownerId, pet, actionContext);
             then(petMapper).should().toProfileDto(pet);
             then(entityFinderHelper).should(never()).findUserOrFail(anyLong());
@@ -2030,7 +2038,7 @@ class PetServiceImplTest {
         @DisplayName("should return pet profile when requester is staff from associated clinic")
         void findById_Success_RequesterIsAssociatedStaff() {
             // Arrange
-            given(entityFinderHelper.findPetByIdOrFail(petId)).willReturn(pet);
+            given(petRepository.findProfileById(petId)).willReturn(Optional.of(pet));
             doNothing().when(authorizationHelper).verifyUserAuthorizationForPet(staffSameClinicId, pet, actionContext);
             given(petMapper.toProfileDto(pet)).willReturn(petDto);
 
@@ -2039,7 +2047,7 @@ class PetServiceImplTest {
 
             // Assert
             assertThat(result).isNotNull().isEqualTo(petDto);
-            then(entityFinderHelper).should().findPetByIdOrFail(petId);
+            then(petRepository).should().findProfileById(petId);
             then(authorizationHelper).should().verifyUserAuthorizationForPet(staffSameClinicId, pet, actionContext);
             then(petMapper).should().toProfileDto(pet);
             then(entityFinderHelper).should(never()).findUserOrFail(anyLong());
@@ -2055,7 +2063,7 @@ class PetServiceImplTest {
             pet.setStatus(PetStatus.PENDING);
             pet.setPendingActivationClinic(petClinic);
             pet.getAssociatedVets().clear();
-            given(entityFinderHelper.findPetByIdOrFail(petId)).willReturn(pet);
+            given(petRepository.findProfileById(petId)).willReturn(Optional.of(pet));
             doNothing().when(authorizationHelper).verifyUserAuthorizationForPet(staffSameClinicId, pet, actionContext);
             given(petMapper.toProfileDto(pet)).willReturn(petDto);
 
@@ -2064,7 +2072,7 @@ class PetServiceImplTest {
 
             // Assert
             assertThat(result).isNotNull().isEqualTo(petDto);
-            then(entityFinderHelper).should().findPetByIdOrFail(petId);
+            then(petRepository).should().findProfileById(petId);
             then(authorizationHelper).should().verifyUserAuthorizationForPet(staffSameClinicId, pet, actionContext);
             then(petMapper).should().toProfileDto(pet);
             then(entityFinderHelper).should(never()).findUserOrFail(anyLong());
@@ -2077,14 +2085,13 @@ class PetServiceImplTest {
         @DisplayName("should throw EntityNotFoundException if pet not found")
         void findById_Failure_PetNotFound() {
             // Arrange
-            given(entityFinderHelper.findPetByIdOrFail(999L))
-                    .willThrow(new EntityNotFoundException(Pet.class.getSimpleName(), 999L));
+            given(petRepository.findProfileById(999L)).willReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> petService.findPetById(999L, ownerId))
                     .isInstanceOf(EntityNotFoundException.class)
                     .hasMessageContaining("Pet not found with id: 999");
-            then(entityFinderHelper).should().findPetByIdOrFail(999L);
+            then(petRepository).should().findProfileById(999L);
             then(authorizationHelper).should(never()).verifyUserAuthorizationForPet(anyLong(), any(), anyString());
             then(petMapper).should(never()).toProfileDto(any());
         }
@@ -2097,7 +2104,7 @@ class PetServiceImplTest {
         void findById_Failure_RequesterNotFound() {
             // Arrange
             Long nonExistentUserId = 888L;
-            given(entityFinderHelper.findPetByIdOrFail(petId)).willReturn(pet);
+            given(petRepository.findProfileById(petId)).willReturn(Optional.of(pet));
             doThrow(new EntityNotFoundException(UserEntity.class.getSimpleName(), nonExistentUserId))
                     .when(authorizationHelper).verifyUserAuthorizationForPet(nonExistentUserId, pet, actionContext);
 
@@ -2106,7 +2113,7 @@ class PetServiceImplTest {
             assertThatThrownBy(() -> petService.findPetById(petId, nonExistentUserId))
                     .isInstanceOf(EntityNotFoundException.class)
                     .hasMessageContaining("UserEntity not found with id: " + nonExistentUserId);
-            then(entityFinderHelper).should().findPetByIdOrFail(petId);
+            then(petRepository).should().findProfileById(petId);
             then(authorizationHelper).should().verifyUserAuthorizationForPet(nonExistentUserId, pet, actionContext);
             then(petMapper).should(never()).toProfileDto(any());
         }
@@ -2118,7 +2125,7 @@ class PetServiceImplTest {
         @DisplayName("should throw AccessDeniedException if requester is not owner or authorized staff")
         void findById_Failure_Unauthorized() {
             // Arrange
-            given(entityFinderHelper.findPetByIdOrFail(petId)).willReturn(pet);
+            given(petRepository.findProfileById(petId)).willReturn(Optional.of(pet));
             doThrow(new AccessDeniedException("User (ID: " + staffDifferentClinicId + ")..."))
                     .when(authorizationHelper).verifyUserAuthorizationForPet(staffDifferentClinicId, pet, actionContext);
 
@@ -2132,7 +2139,7 @@ class PetServiceImplTest {
             assertThatThrownBy(() -> petService.findPetById(petId, differentOwnerId))
                     .isInstanceOf(AccessDeniedException.class);
 
-            then(entityFinderHelper).should(times(2)).findPetByIdOrFail(petId);
+            then(petRepository).should(times(2)).findProfileById(petId);
             then(authorizationHelper).should(times(1)).verifyUserAuthorizationForPet(staffDifferentClinicId, pet, actionContext);
             then(authorizationHelper).should(times(1)).verifyUserAuthorizationForPet(differentOwnerId, pet, actionContext);
             then(petMapper).should(never()).toProfileDto(any());
@@ -2269,6 +2276,28 @@ class PetServiceImplTest {
             assertThat(saved.getStatus()).isEqualTo(PetStatus.ACTIVE);
         }
 
+        /**
+         * Test that the clinic of a newly associated Vet is added to the pet's denormalized clinic associations.
+         */
+        @Test
+        @DisplayName("should add the clinic of the associated vet to the pet's associated clinics")
+        void associate_Success_AddsVetClinic() {
+            // Arrange
+            Clinic otherClinic = Clinic.builder().build(); otherClinic.setId(2L);
+            vetToAssociate.setClinic(otherClinic);
+            petToAssociate.refreshAssociatedClinics();
+            given(entityFinderHelper.findPetByIdOrFail(petId)).willReturn(petToAssociate);
+            given(entityFinderHelper.findVetOrFail(vetToAssociateId)).willReturn(vetToAssociate);
+            given(petRepository.save(any(Pet.class))).willAnswer(inv -> inv.getArgument(0));
+
+            // Act
+            petService.associateVetWithPet(petId, vetToAssociateId, ownerId);
+
+            // Assert
+            then(petRepository).should().save(petCaptor.capture());
+            assertThat(petCaptor.getValue().getAssociatedClinics()).extracting(Clinic::getId).containsExactlyInAnyOrder(1L, 2L);
+        }
+
         /**
          * Test successful association of a Vet to an INACTIVE pet, which should reactivate it.
          */
@@ -2463,6 +2492,28 @@ class PetServiceImplTest {
             assertThat(saved.getStatus()).isEqualTo(PetStatus.PENDING);
         }
 
+        /**
+         * Test that the clinic is removed from the pet's denormalized clinic associations only when no vet of it remains.
+         */
+        @Test
+        @DisplayName("should drop the clinic from the pet's associated clinics only when its last vet is removed")
+        void disassociate_Success_UpdatesAssociatedClinics() {
+            // Arrange
+            petWithTwoVets.refreshAssociatedClinics();
+            petWithOneVet.refreshAssociatedClinics();
+            given(entityFinderHelper.findPetByIdOrFail(petTwoVetsId)).willReturn(petWithTwoVets);
+            given(entityFinderHelper.findPetByIdOrFail(petOneVetId)).willReturn(petWithOneVet);
+            given(entityFinderHelper.findVetOrFail(vetToRemoveId)).willReturn(vetToRemove);
+
+            // Act
+            petService.disassociateVetFromPet(petTwoVetsId, vetToRemoveId, ownerId);
+            petService.disassociateVetFromPet(petOneVetId, vetToRemoveId, ownerId);
+
+            // Assert
+            assertThat(petWithTwoVets.getAssociatedClinics()).extracting(Clinic::getId).containsExactly(1L);
+            assertThat(petWithOneVet.getAssociatedClinics()).isEmpty();
+        }
+
         /**
          * Test the case where the vet to be disassociated is not associated.
          * Expects no changes and no save operation.
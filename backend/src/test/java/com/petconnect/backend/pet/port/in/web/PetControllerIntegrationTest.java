@@ -6,7 +6,9 @@ import com.petconnect.backend.pet.domain.model.*;
 import com.petconnect.backend.pet.domain.repository.PetRepository;
 import com.petconnect.backend.user.application.dto.*;
 import com.petconnect.backend.user.domain.model.RoleEnum;
+import com.petconnect.backend.user.domain.model.Vet;
 import com.petconnect.backend.user.domain.repository.UserRepository;
+import com.petconnect.backend.util.QueryCountInspector;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,13 +22,17 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.petconnect.backend.util.IntegrationTestUtils.extractPetIdFromResult;
 import static com.petconnect.backend.util.IntegrationTestUtils.obtainJwtToken;
+import static com.petconnect.backend.util.IntegrationTestUtils.testPublicKeyPem;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -97,7 +103,7 @@ class PetControllerIntegrationTest {
         String vetRegDtoJson = objectMapper.writeValueAsString(vetRegDto);
         MockMultipartFile vetDtoPart = new MockMultipartFile("dto", "", MediaType.APPLICATION_JSON_VALUE, vetRegDtoJson.getBytes());
 
-        MockMultipartFile vetPublicKeyFile = new MockMultipartFile("publicKeyFile", "vet_pub.pem", MediaType.TEXT_PLAIN_VALUE, "fake public key".getBytes());
+        MockMultipartFile vetPublicKeyFile = new MockMultipartFile("publicKeyFile", "vet_pub.pem", MediaType.TEXT_PLAIN_VALUE, testPublicKeyPem());
         MockMultipartFile vetPrivateKeyFile = new MockMultipartFile("privateKeyFile", "vet_pri_enc.pem", MediaType.TEXT_PLAIN_VALUE, "fake private key".getBytes());
 
         userRepository.findByUsername(vetUsername).ifPresent(userRepository::delete);
@@ -734,7 +740,7 @@ class PetControllerIntegrationTest {
             );
             String vet5RegDtoJson = objectMapper.writeValueAsString(vet5RegDto);
             MockMultipartFile vet5DtoPart = new MockMultipartFile("dto", "", MediaType.APPLICATION_JSON_VALUE, vet5RegDtoJson.getBytes());
-            MockMultipartFile vet5PublicKeyFile = new MockMultipartFile("publicKeyFile", "vet5_pub.pem", MediaType.TEXT_PLAIN_VALUE, "fake_vet5_public_key_content".getBytes());
+            MockMultipartFile vet5PublicKeyFile = new MockMultipartFile("publicKeyFile", "vet5_pub.pem", MediaType.TEXT_PLAIN_VALUE, testPublicKeyPem());
             MockMultipartFile vet5PrivateKeyFile = new MockMultipartFile("privateKeyFile", "vet5_pri_enc.pem", MediaType.TEXT_PLAIN_VALUE, "fake_vet5_private_key_content_encrypted".getBytes());
 
             userRepository.findByUsername(vet5Username).ifPresent(user -> userRepository.delete(user));
@@ -1047,4 +1053,139 @@ class PetControllerIntegrationTest {
                     .andExpect(status().isUnauthorized());
         }
     }
+
+    /**
+     * --- Query-count regression tests for the fetch plans of the pet listings and detail ---
+     */
+    @Nested
+    @DisplayName("Pet Fetch Plan Tests (query count independent of the number of pets)")
+    class PetFetchPlanTests {
+
+        private Long clinic5VetId;
+
+        @BeforeEach
+        void fetchPlanSetup() throws Exception {
+            String vet5Username = "pet_ctrl_plan_vet5_" + System.currentTimeMillis();
+            ClinicStaffCreationDto vet5RegDto = new ClinicStaffCreationDto(
+                    vet5Username, vet5Username + "@test.com", "password123", "PlanVet", "Five", RoleEnum.VET,
+                    "PLANLIC5" + (System.currentTimeMillis() % 100000));
+            MockMultipartFile vet5DtoPart = new MockMultipartFile("dto", "", MediaType.APPLICATION_JSON_VALUE, objectMapper.writeValueAsString(vet5RegDto).getBytes());
+            MockMultipartFile vet5PublicKeyFile = new MockMultipartFile("publicKeyFile", "vet5_pub.pem", MediaType.TEXT_PLAIN_VALUE, testPublicKeyPem());
+            MockMultipartFile vet5PrivateKeyFile = new MockMultipartFile("privateKeyFile", "vet5_pri_enc.pem", MediaType.TEXT_PLAIN_VALUE, "fake private key".getBytes());
+
+            MvcResult vet5Result = mockMvc.perform(multipart("/api/staff")
+                            .file(vet5DtoPart)
+                            .file(vet5PublicKeyFile)
+                            .file(vet5PrivateKeyFile)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + otherAdminToken))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            clinic5VetId = objectMapper.readValue(vet5Result.getResponse().getContentAsString(), ClinicStaffProfileDto.class).id();
+        }
+
+        /**
+         * Registers pets of alternating species (so with different breeds), leaves them PENDING at clinic 1
+         * and associates both test vets, from clinics 1 and 5, with each of them.
+         */
+        private List<Long> registerPetsWithVets(int count) throws Exception {
+            List<Long> petIds = new ArrayList<>();
+            Specie[] species = Specie.values();
+            for (int i = 0; i < count; i++) {
+                PetRegistrationDto regDto = new PetRegistrationDto(
+                        "FetchPlan" + i, species[i % species.length], LocalDate.now().minusMonths(3),
+                        null, null, null, null, null);
+                MockMultipartFile dtoPart = new MockMultipartFile("dto", "", MediaType.APPLICATION_JSON_VALUE, objectMapper.writeValueAsString(regDto).getBytes());
+                MvcResult result = mockMvc.perform(multipart("/api/pets")
+                                .file(dtoPart)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken))
+                        .andExpect(status().isCreated()).andReturn();
+                Long petId = extractPetIdFromResult(objectMapper, result);
+                mockMvc.perform(post("/api/pets/{petId}/associate-clinic/{clinicId}", petId, clinicId)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken))
+                        .andExpect(status().isNoContent());
+                petIds.add(petId);
+            }
+
+            Vet clinic1Vet = entityManager.find(Vet.class, vetId);
+            Vet clinic5Vet = entityManager.find(Vet.class, clinic5VetId);
+            for (Long petId : petIds) {
+                Pet pet = petRepository.findById(petId).orElseThrow();
+                pet.addVet(clinic1Vet);
+                pet.addVet(clinic5Vet);
+                pet.refreshAssociatedClinics();
+            }
+            entityManager.flush();
+            return petIds;
+        }
+
+        /**
+         * Performs the request with an empty persistence context and returns the number of SQL statements it ran.
+         */
+        private int countQueries(MockHttpServletRequestBuilder request) throws Exception {
+            entityManager.flush();
+            entityManager.clear();
+            QueryCountInspector.reset();
+            mockMvc.perform(request).andExpect(status().isOk());
+            return QueryCountInspector.count();
+        }
+
+        @Test
+        @DisplayName("GET /api/pets should run the same number of queries for 2 and 6 pets")
+        void listOwnerPets_ConstantQueryCount() throws Exception {
+            registerPetsWithVets(2);
+            int twoPetsQueries = countQueries(get("/api/pets").param("size", "20")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken));
+
+            registerPetsWithVets(4);
+            int sixPetsQueries = countQueries(get("/api/pets").param("size", "20")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken));
+
+            assertThat(sixPetsQueries).isEqualTo(twoPetsQueries);
+        }
+
+        @Test
+        @DisplayName("GET /api/pets/clinic should run the same number of queries for 2 and 6 pets")
+        void listClinicPets_ConstantQueryCount() throws Exception {
+            registerPetsWithVets(2);
+            int twoPetsQueries = countQueries(get("/api/pets/clinic").param("size", "20")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken));
+
+            registerPetsWithVets(4);
+            int sixPetsQueries = countQueries(get("/api/pets/clinic").param("size", "20")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken));
+
+            assertThat(sixPetsQueries).isEqualTo(twoPetsQueries);
+        }
+
+        @Test
+        @DisplayName("GET /api/pets/clinic/pending should run the same number of queries for 2 and 6 pets")
+        void listPendingPets_ConstantQueryCount() throws Exception {
+            registerPetsWithVets(2);
+            int twoPetsQueries = countQueries(get("/api/pets/clinic/pending")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken));
+
+            registerPetsWithVets(4);
+            int sixPetsQueries = countQueries(get("/api/pets/clinic/pending")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken));
+
+            assertThat(sixPetsQueries).isEqualTo(twoPetsQueries);
+        }
+
+        @Test
+        @DisplayName("GET /api/pets/{id} should not run extra queries for each associated vet")
+        void findPetById_ConstantQueryCount() throws Exception {
+            Long petWithTwoVets = registerPetsWithVets(1).get(0);
+            Long petWithOneVet = registerPetsWithVets(1).get(0);
+            Pet pet = petRepository.findById(petWithOneVet).orElseThrow();
+            pet.removeVet(entityManager.find(Vet.class, clinic5VetId));
+            pet.refreshAssociatedClinics();
+
+            int oneVetQueries = countQueries(get("/api/pets/{id}", petWithOneVet)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken));
+            int twoVetsQueries = countQueries(get("/api/pets/{id}", petWithTwoVets)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken));
+
+            assertThat(twoVetsQueries).isEqualTo(oneVetQueries);
+        }
+    }
 }
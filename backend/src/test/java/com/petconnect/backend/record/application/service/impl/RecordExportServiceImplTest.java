@@ -0,0 +1,199 @@
+package com.petconnect.backend.record.application.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.petconnect.backend.common.helper.AuthorizationHelper;
+import com.petconnect.backend.common.helper.EntityFinderHelper;
+import com.petconnect.backend.pet.domain.model.Pet;
+import com.petconnect.backend.record.application.service.RecordExportService;
+import com.petconnect.backend.record.domain.model.RecordExportRow;
+import com.petconnect.backend.record.domain.model.RecordType;
+import com.petconnect.backend.record.domain.repository.RecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+
+/**
+ * Unit tests for {@link RecordExportServiceImpl}.
+ * Uses Mockito for the repository and helpers and a real ObjectMapper for the NDJSON rows.
+ *
+ * @author ibosquet
+ */
+@ExtendWith(MockitoExtension.class)
+class RecordExportServiceImplTest {
+
+    @Mock private RecordRepository recordRepository;
+    @Mock private EntityFinderHelper entityFinderHelper;
+    @Mock private AuthorizationHelper authorizationHelper;
+
+    private RecordExportServiceImpl recordExportService;
+
+    private final Long petId = 1L;
+    private RecordExportRow ownerRow;
+    private RecordExportRow vaccineRow;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        recordExportService = new RecordExportServiceImpl(recordRepository, entityFinderHelper, authorizationHelper, objectMapper);
+
+        ownerRow = new RecordExportRow(10L, petId, LocalDateTime.of(2024, 3, 1, 10, 0), RecordType.OTHER, "Walk, \"long\" one\nsecond line",
+                5L, "owner1", null, null, null, null, null, null, null, null, false);
+        vaccineRow = new RecordExportRow(11L, petId, LocalDateTime.of(2024, 4, 2, 9, 30), RecordType.VACCINE, "Rabies",
+                7L, "vet1", 3L, "Clinic A", "Rabisin", "Lab", "RB-1", 3, true, "c2lnbmF0dXJl", true);
+    }
+
+    @Nested
+    @DisplayName("verifyExportAccess Tests")
+    class VerifyExportAccessTests {
+
+        @Test
+        @DisplayName("should pass when the requester is authorized for the pet")
+        void verifyExportAccess_Success() {
+            // Arrange
+            Pet pet = new Pet();
+            pet.setId(petId);
+            given(entityFinderHelper.findPetByIdOrFail(petId)).willReturn(pet);
+
+            // Act
+            recordExportService.verifyExportAccess(petId, 5L);
+
+            // Assert
+            then(authorizationHelper).should().verifyUserAuthorizationForPet(5L, pet, "export records of");
+        }
+
+        @Test
+        @DisplayName("should propagate AccessDeniedException when the requester is not authorized")
+        void verifyExportAccess_Forbidden() {
+            // Arrange
+            Pet pet = new Pet();
+            pet.setId(petId);
+            given(entityFinderHelper.findPetByIdOrFail(petId)).willReturn(pet);
+            willThrow(new AccessDeniedException("denied")).given(authorizationHelper).verifyUserAuthorizationForPet(99L, pet, "export records of");
+
+            // Act & Assert
+            assertThatThrownBy(() -> recordExportService.verifyExportAccess(petId, 99L))
+                    .isInstanceOf(AccessDeniedException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("writeExport Tests")
+    class WriteExportTests {
+
+        @Test
+        @DisplayName("should write one JSON object per line and close the row stream")
+        void writeExport_Success_Ndjson() throws IOException {
+            // Arrange
+            boolean[] closed = {false};
+            given(recordRepository.streamExportRowsByPetId(petId))
+                    .willReturn(Stream.of(ownerRow, vaccineRow).onClose(() -> closed[0] = true));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // Act
+            recordExportService.writeExport(petId, RecordExportService.Format.NDJSON, out);
+
+            // Assert
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+            assertThat(lines).hasSize(2);
+            JsonNode first = new ObjectMapper().readTree(lines[0]);
+            assertThat(first.get("recordId").asLong()).isEqualTo(10L);
+            assertThat(first.get("description").asText()).isEqualTo("Walk, \"long\" one\nsecond line");
+            assertThat(first.get("createdAt").asText()).startsWith("2024-03-01T10:00");
+            JsonNode second = new ObjectMapper().readTree(lines[1]);
+            assertThat(second.get("vaccineBatchNumber").asText()).isEqualTo("RB-1");
+            assertThat(second.get("vetSignature").asText()).isEqualTo("c2lnbmF0dXJl");
+            assertThat(closed[0]).isTrue();
+        }
+
+        @Test
+        @DisplayName("should write a header and one RFC 4180 row per record, quoting values when needed")
+        void writeExport_Success_Csv() throws IOException {
+            // Arrange
+            given(recordRepository.streamExportRowsByPetId(petId)).willReturn(Stream.of(ownerRow, vaccineRow));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // Act
+            recordExportService.writeExport(petId, RecordExportService.Format.CSV, out);
+
+            // Assert
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                    "recordId,petId,createdAt,type,description,creatorId,creatorUsername,clinicId,clinicName,vaccineName,vaccineLaboratory,vaccineBatchNumber,vaccineValidityYears,rabiesVaccine,vetSignature,immutable\r\n" +
+                    "10,1,2024-03-01T10:00,OTHER,\"Walk, \"\"long\"\" one\nsecond line\",5,owner1,,,,,,,,,false\r\n" +
+                    "11,1,2024-04-02T09:30,VACCINE,Rabies,7,vet1,3,Clinic A,Rabisin,Lab,RB-1,3,true,c2lnbmF0dXJl,true\r\n");
+        }
+
+        @Test
+        @DisplayName("should prefix text values starting with a formula character so spreadsheets do not evaluate them")
+        void writeExport_Success_CsvNeutralizesFormulas() throws IOException {
+            // Arrange
+            RecordExportRow injectedRow = new RecordExportRow(12L, petId, LocalDateTime.of(2024, 5, 3, 8, 0), RecordType.OTHER,
+                    "=HYPERLINK(\"http://evil.test\",\"click\")", 5L, "@owner1", null, "-Clinic", "+Rabisin", null, null, null, null, null, false);
+            given(recordRepository.streamExportRowsByPetId(petId)).willReturn(Stream.of(injectedRow));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // Act
+            recordExportService.writeExport(petId, RecordExportService.Format.CSV, out);
+
+            // Assert
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+            assertThat(lines).hasSize(2);
+            assertThat(lines[1]).isEqualTo(
+                    "12,1,2024-05-03T08:00,OTHER,\"'=HYPERLINK(\"\"http://evil.test\"\",\"\"click\"\")\",5,'@owner1,,'-Clinic,'+Rabisin,,,,,,false");
+        }
+
+        @Test
+        @DisplayName("should write only the CSV header when the pet has no records")
+        void writeExport_Success_CsvEmpty() throws IOException {
+            // Arrange
+            given(recordRepository.streamExportRowsByPetId(petId)).willReturn(Stream.empty());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // Act
+            recordExportService.writeExport(petId, RecordExportService.Format.CSV, out);
+
+            // Assert
+            assertThat(out.toString(StandardCharsets.UTF_8)).startsWith("recordId,").endsWith("immutable\r\n");
+        }
+    }
+
+    @Nested
+    @DisplayName("Format Tests")
+    class FormatTests {
+
+        @Test
+        @DisplayName("should resolve formats ignoring case and build the file name")
+        void fromParameter_Success() {
+            RecordExportService.Format format = RecordExportService.Format.fromParameter("CSV");
+
+            assertThat(format).isEqualTo(RecordExportService.Format.CSV);
+            assertThat(recordExportService.fileName(petId, format)).isEqualTo("records-pet-1.csv");
+        }
+
+        @Test
+        @DisplayName("should throw IllegalArgumentException for an unsupported format")
+        void fromParameter_Unsupported() {
+            assertThatThrownBy(() -> RecordExportService.Format.fromParameter("xml"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("xml");
+        }
+    }
+}
@@ -1,11 +1,22 @@
 package com.petconnect.backend.record.application.service.impl;
 
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.petconnect.backend.certificate.domain.model.Certificate;
+import com.petconnect.backend.certificate.domain.repository.CertificateRepository;
+import com.petconnect.backend.common.dto.CursorPageDto;
+import com.petconnect.backend.common.helper.AhcEligibilityHelper;
 import com.petconnect.backend.common.helper.AuthorizationHelper;
 import com.petconnect.backend.common.helper.EntityFinderHelper;
+import com.petconnect.backend.common.helper.KeysetCursor;
 import com.petconnect.backend.common.helper.RecordHelper;
 import com.petconnect.backend.common.helper.ValidateHelper;
+import com.petconnect.backend.common.service.SignatureVerificationService;
 import com.petconnect.backend.common.service.SigningService;
+import com.petconnect.backend.common.service.SigningSessionService;
 import com.petconnect.backend.exception.EntityNotFoundException;
+import com.petconnect.backend.exception.InvalidTemporaryTokenException;
 import com.petconnect.backend.exception.RecordImmutableException;
 import com.petconnect.backend.pet.domain.model.Pet;
 import com.petconnect.backend.pet.domain.model.Breed;
@@ -14,6 +25,7 @@ import com.petconnect.backend.record.application.dto.*;
 import com.petconnect.backend.record.application.mapper.RecordMapper;
 import com.petconnect.backend.record.application.mapper.VaccineMapper;
 import com.petconnect.backend.record.domain.model.Record;
+import com.petconnect.backend.record.domain.model.RecordSearchHit;
 import com.petconnect.backend.record.domain.model.RecordType;
 import com.petconnect.backend.record.domain.model.Vaccine;
 import com.petconnect.backend.record.domain.repository.RecordRepository;
@@ -35,8 +47,11 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
@@ -44,7 +59,9 @@ import java.util.Set;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.*;
@@ -68,7 +85,11 @@ class RecordServiceImplTest {
     @Mock private UserMapper userMapper;
     @Mock private RecordHelper recordHelper;
     @Mock private SigningService signingService;
+    @Mock private SigningSessionService signingSessionService;
     @Mock private JwtUtils jwtUtils;
+    @Mock private AhcEligibilityHelper ahcEligibilityHelper;
+    @Mock private CertificateRepository certificateRepository;
+    @Mock private SignatureVerificationService signatureVerificationService;
 
     @InjectMocks
     private RecordServiceImpl recordService;
@@ -217,6 +238,7 @@ class RecordServiceImplTest {
             assertThat(saved.getPet()).isEqualTo(pet);
             assertThat(saved.getVaccine()).isNull();
             assertThat(saved.getVetSignature()).isNull();
+            then(ahcEligibilityHelper).shouldHaveNoInteractions();
         }
 
         @Test
@@ -285,6 +307,7 @@ class RecordServiceImplTest {
             assertThat(saved.getCreator()).isEqualTo(vet);
             assertThat(saved.getVaccine()).isNotNull();
             assertThat(saved.getVetSignature()).isEqualTo(expectedSignature);
+            then(ahcEligibilityHelper).should().refreshEligibility(pet);
         }
 
         @Test
@@ -327,6 +350,119 @@ class RecordServiceImplTest {
         }
     }
 
+    /**
+     * --- Tests for createRecordsBatch ---
+     */
+    @Nested
+    @DisplayName("createRecordsBatch Tests")
+    class CreateRecordsBatchTests {
+
+        private final Long otherPetId = 2L;
+        private final String dummyVetPassword = "vetPassword123";
+        private Pet otherPet;
+        private RecordCreateDto checkupDto;
+        private RecordCreateDto otherCheckupDto;
+        private RecordCreateDto otherPetDto;
+
+        @BeforeEach
+        void batchSetup() {
+            otherPet = new Pet(); otherPet.setId(otherPetId); otherPet.setOwner(owner);
+            checkupDto = new RecordCreateDto(petId, RecordType.ANNUAL_CHECK, "Annual checkup", null, null);
+            otherCheckupDto = new RecordCreateDto(petId, RecordType.OTHER, "Weight control", null, null);
+            otherPetDto = new RecordCreateDto(otherPetId, RecordType.ANNUAL_CHECK, "Annual checkup", null, null);
+        }
+
+        @Test
+        @DisplayName("should unlock key once, authorize each pet once and report per-item results")
+        void createRecordsBatch_PartialSuccess() {
+            // Arrange
+            java.security.PrivateKey privateKey = mock(java.security.PrivateKey.class);
+            RecordBatchCreateDto batchDto = new RecordBatchCreateDto(List.of(checkupDto, otherPetDto, otherCheckupDto), dummyVetPassword, null);
+
+            given(entityFinderHelper.findVetOrFail(vetId)).willReturn(vet);
+            given(signingService.loadVetPrivateKey(eq(vet), any(char[].class))).willReturn(privateKey);
+            given(entityFinderHelper.findPetByIdOrFail(petId)).willReturn(pet);
+            given(entityFinderHelper.findPetByIdOrFail(otherPetId)).willReturn(otherPet);
+            given(authorizationHelper.isUserAuthorizedForPet(vet, pet)).willReturn(true);
+            given(authorizationHelper.isUserAuthorizedForPet(vet, otherPet)).willReturn(false);
+            given(recordHelper.buildSignableData(eq(pet), eq(vet), any(RecordCreateDto.class))).willReturn("DATA");
+            given(signingService.signWithPrivateKey(privateKey, "DATA")).willReturn("SIG");
+            given(recordRepository.saveAll(anyList())).willAnswer(inv -> inv.getArgument(0));
+            given(recordMapper.toViewDto(any(Record.class))).willReturn(recordDto2);
+
+            // Act
+            RecordBatchResultDto result = recordService.createRecordsBatch(batchDto, vetId);
+
+            // Assert
+            assertThat(result.total()).isEqualTo(3);
+            assertThat(result.succeeded()).isEqualTo(2);
+            assertThat(result.failed()).isEqualTo(1);
+            assertThat(result.items()).extracting(RecordBatchItemResultDto::success).containsExactly(true, false, true);
+            assertThat(result.items().get(1).error()).isEqualTo("User (ID: " + vetId + ") is not authorized to create record for pet (ID: " + otherPetId + ").");
+
+            then(signingService).should(times(1)).loadVetPrivateKey(eq(vet), any(char[].class));
+            then(signingService).should(never()).generateVetSignature(any(), any(), any());
+            then(entityFinderHelper).should(times(1)).findPetByIdOrFail(petId);
+            then(authorizationHelper).should(times(1)).isUserAuthorizedForPet(vet, pet);
+            then(authorizationHelper).should(never()).verifyUserAuthorizationForPet(anyLong(), any(), anyString());
+            then(recordRepository).should().saveAll(anyList());
+            then(recordRepository).should(never()).save(any());
+            then(ahcEligibilityHelper).should(times(1)).refreshEligibility(pet);
+        }
+
+        @Test
+        @DisplayName("should throw IllegalArgumentException if neither password nor signing session is provided")
+        void createRecordsBatch_Failure_NoCredentials() {
+            RecordBatchCreateDto batchDto = new RecordBatchCreateDto(List.of(checkupDto), null, null);
+            given(entityFinderHelper.findVetOrFail(vetId)).willReturn(vet);
+
+            assertThatThrownBy(() -> recordService.createRecordsBatch(batchDto, vetId))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("private key password is required");
+
+            then(recordRepository).should(never()).saveAll(anyList());
+        }
+    }
+
+    /**
+     * --- Tests for verifyPetSignatures ---
+     */
+    @Nested
+    @DisplayName("verifyPetSignatures Tests")
+    class VerifyPetSignaturesTests {
+
+        @Test
+        @DisplayName("should authorize the requester and verify the pet's signed records and certificates")
+        void verifyPetSignatures_Success() {
+            List<Record> signedRecords = List.of(record2);
+            List<Certificate> certificates = List.of(new Certificate());
+            SignatureVerificationReportDto report = new SignatureVerificationReportDto(petId, true, 1, 1, 1, 1, 3L, List.of(), List.of());
+            given(entityFinderHelper.findPetByIdOrFail(petId)).willReturn(pet);
+            given(recordRepository.findSignedByPetIdForVerification(petId)).willReturn(signedRecords);
+            given(certificateRepository.findByPetIdWithSigners(petId)).willReturn(certificates);
+            given(signatureVerificationService.verifyPetHistory(petId, signedRecords, certificates)).willReturn(report);
+
+            SignatureVerificationReportDto result = recordService.verifyPetSignatures(petId, ownerId);
+
+            assertThat(result).isSameAs(report);
+            then(authorizationHelper).should().verifyUserAuthorizationForPet(ownerId, pet, "verify records for");
+        }
+
+        @Test
+        @DisplayName("should not verify anything if the requester is not authorized for the pet")
+        void verifyPetSignatures_Failure_NotAuthorized() {
+            given(entityFinderHelper.findPetByIdOrFail(petId)).willReturn(pet);
+            doThrow(new AccessDeniedException("Denied")).when(authorizationHelper)
+                    .verifyUserAuthorizationForPet(vetId, pet, "verify records for");
+
+            assertThatThrownBy(() -> recordService.verifyPetSignatures(petId, vetId))
+                    .isInstanceOf(AccessDeniedException.class);
+
+            then(recordRepository).should(never()).findSignedByPetIdForVerification(anyLong());
+            then(signatureVerificationService).shouldHaveNoInteractions();
+        }
+    }
+
     /**
      * --- Tests for findRecordsByPetId ---
      */
@@ -958,6 +1094,45 @@ class RecordServiceImplTest {
             then(recordRepository).should().delete(recordToDeleteSigned);
         }
 
+        @Test
+        @DisplayName("should evict the cached temporary access records of the pet only after the deletion commits")
+        void deleteSigned_EvictsTemporaryAccessAfterCommit() {
+            // Arrange: cache the pet's signed records through a temporary access token
+            String token = "temp.jwt.token";
+            DecodedJWT decodedJWT = mock(DecodedJWT.class);
+            Claim petIdClaim = mock(Claim.class);
+            given(petIdClaim.asLong()).willReturn(petId);
+            given(decodedJWT.getClaim(JwtUtils.PET_ID_CLAIM)).willReturn(petIdClaim);
+            given(decodedJWT.getId()).willReturn("jti-evict");
+            given(decodedJWT.getExpiresAtAsInstant()).willReturn(Instant.now().plus(Duration.ofHours(1)));
+            given(jwtUtils.validateAndParseTemporaryRecordAccessToken(token)).willReturn(decodedJWT);
+            given(entityFinderHelper.findPetByIdOrFail(petId)).willReturn(pet);
+            given(recordRepository.findSignedByPetIdForView(petId)).willReturn(List.of(recordToDeleteSigned));
+            given(recordMapper.toViewDtoList(List.of(recordToDeleteSigned))).willReturn(List.of(recordDto1));
+            recordService.findRecordsByTemporaryAccessToken(token);
+
+            recordToDeleteSigned.setImmutable(false);
+            given(entityFinderHelper.findRecordByIdOrFail(recordSignedId)).willReturn(recordToDeleteSigned);
+            given(entityFinderHelper.findUserOrFail(creatorVetId)).willReturn(vet);
+
+            // Act
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                recordService.deleteRecord(recordSignedId, creatorVetId);
+                recordService.findRecordsByTemporaryAccessToken(token);
+
+                // Assert: still served from the cache while the transaction is open
+                then(recordRepository).should(times(1)).findSignedByPetIdForView(petId);
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+            recordService.findRecordsByTemporaryAccessToken(token);
+
+            // Assert: read again once the deletion is committed
+            then(recordRepository).should(times(2)).findSignedByPetIdForView(petId);
+        }
+
         @Test
         @DisplayName("should throw RecordImmutableException when trying to delete SIGNED and IMMUTABLE record (even by signing Vet)")
         void deleteSigned_Failure_Immutable() {
@@ -1166,4 +1341,236 @@ class RecordServiceImplTest {
         }
 
     }
+
+    /**
+     * --- Tests for findRecordsByTemporaryAccessToken ---
+     */
+    @Nested
+    @DisplayName("findRecordsByTemporaryAccessToken Tests")
+    class FindRecordsByTemporaryAccessTokenTests {
+
+        private final String token = "temp.jwt.token";
+        private DecodedJWT decodedJWT;
+
+        @BeforeEach
+        void temporaryAccessSetup() {
+            decodedJWT = mock(DecodedJWT.class);
+            Claim petIdClaim = mock(Claim.class);
+            lenient().when(petIdClaim.asLong()).thenReturn(petId);
+            lenient().when(decodedJWT.getClaim(JwtUtils.PET_ID_CLAIM)).thenReturn(petIdClaim);
+            lenient().when(jwtUtils.validateAndParseTemporaryRecordAccessToken(token)).thenReturn(decodedJWT);
+        }
+
+        @Test
+        @DisplayName("should return the signed records selected by the database")
+        void findByToken_Success() {
+            // Arrange
+            given(decodedJWT.getId()).willReturn("jti-1");
+            given(decodedJWT.getExpiresAtAsInstant()).willReturn(Instant.now().plus(Duration.ofHours(1)));
+            given(entityFinderHelper.findPetByIdOrFail(petId)).willReturn(pet);
+            given(recordRepository.findSignedByPetIdForView(petId)).willReturn(List.of(record1));
+            given(recordMapper.toViewDtoList(List.of(record1))).willReturn(List.of(recordDto1));
+
+            // Act
+            List<RecordViewDto> result = recordService.findRecordsByTemporaryAccessToken(token);
+
+            // Assert
+            assertThat(result).containsExactly(recordDto1);
+            then(recordRepository).should().findSignedByPetIdForView(petId);
+            then(recordRepository).should(never()).findAllByPetIdOrderByCreatedAtDesc(anyLong());
+        }
+
+        @Test
+        @DisplayName("should serve repeated requests with the same token from the cache")
+        void findByToken_Success_CachedByTokenId() {
+            // Arrange
+            given(decodedJWT.getId()).willReturn("jti-2");
+            given(decodedJWT.getExpiresAtAsInstant()).willReturn(Instant.now().plus(Duration.ofHours(1)));
+            given(entityFinderHelper.findPetByIdOrFail(petId)).willReturn(pet);
+            given(recordRepository.findSignedByPetIdForView(petId)).willReturn(List.of(record1, record2));
+            given(recordMapper.toViewDtoList(List.of(record1, record2))).willReturn(List.of(recordDto1, recordDto2));
+
+            // Act
+            List<RecordViewDto> first = recordService.findRecordsByTemporaryAccessToken(token);
+            List<RecordViewDto> second = recordService.findRecordsByTemporaryAccessToken(token);
+
+            // Assert
+            assertThat(second).isEqualTo(first).containsExactly(recordDto1, recordDto2);
+            then(jwtUtils).should(times(2)).validateAndParseTemporaryRecordAccessToken(token);
+            then(entityFinderHelper).should(times(1)).findPetByIdOrFail(petId);
+            then(recordRepository).should(times(1)).findSignedByPetIdForView(petId);
+        }
+
+        @Test
+        @DisplayName("should not cache the records of a token without ID")
+        void findByToken_Success_NotCachedWithoutTokenId() {
+            // Arrange
+            given(decodedJWT.getId()).willReturn(null);
+            given(entityFinderHelper.findPetByIdOrFail(petId)).willReturn(pet);
+            given(recordRepository.findSignedByPetIdForView(petId)).willReturn(List.of(record1));
+            given(recordMapper.toViewDtoList(List.of(record1))).willReturn(List.of(recordDto1));
+
+            // Act
+            recordService.findRecordsByTemporaryAccessToken(token);
+            recordService.findRecordsByTemporaryAccessToken(token);
+
+            // Assert
+            then(recordRepository).should(times(2)).findSignedByPetIdForView(petId);
+        }
+
+        @Test
+        @DisplayName("should throw InvalidTemporaryTokenException when the token does not validate")
+        void findByToken_Failure_InvalidToken() {
+            // Arrange
+            given(jwtUtils.validateAndParseTemporaryRecordAccessToken("bad.token")).willThrow(new JWTVerificationException("expired"));
+
+            // Act & Assert
+            assertThatThrownBy(() -> recordService.findRecordsByTemporaryAccessToken("bad.token"))
+                    .isInstanceOf(InvalidTemporaryTokenException.class)
+                    .hasMessageContaining("invalid or has expired");
+            then(recordRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    /**
+     * --- Tests for scrollRecordsCreatedByClinic ---
+     */
+    @Nested
+    @DisplayName("scrollRecordsCreatedByClinic Tests")
+    class ScrollRecordsCreatedByClinicTests {
+
+        @Test
+        @DisplayName("should return the first page with a cursor, and continue from that cursor")
+        void scrollRecords_Success_TwoPages() {
+            // Arrange
+            Long clinicId = adminSameClinic.getClinic().getId();
+            given(entityFinderHelper.findClinicStaffOrFail(eq(adminSameClinicId), anyString())).willReturn(adminSameClinic);
+            given(recordRepository.findFirstCreatedInClinic(clinicId, PageRequest.of(0, 2))).willReturn(List.of(record2, record1));
+            given(recordRepository.findCreatedInClinicAfter(clinicId, record2.getCreatedAt(), record2.getId(), PageRequest.of(0, 2)))
+                    .willReturn(List.of(record1));
+            given(recordMapper.toViewDto(record2)).willReturn(recordDto2);
+            given(recordMapper.toViewDto(record1)).willReturn(recordDto1);
+
+            // Act
+            CursorPageDto<RecordViewDto> firstPage = recordService.scrollRecordsCreatedByClinic(clinicId, adminSameClinicId, null, 1);
+            CursorPageDto<RecordViewDto> secondPage = recordService.scrollRecordsCreatedByClinic(clinicId, adminSameClinicId, firstPage.nextCursor(), 1);
+
+            // Assert
+            assertThat(firstPage.content()).containsExactly(recordDto2);
+            assertThat(firstPage.hasNext()).isTrue();
+            assertThat(firstPage.nextCursor()).isEqualTo(KeysetCursor.encode(record2.getCreatedAt(), record2.getId()));
+            assertThat(secondPage.content()).containsExactly(recordDto1);
+            assertThat(secondPage.hasNext()).isFalse();
+            assertThat(secondPage.nextCursor()).isNull();
+            then(recordRepository).should(never()).findByCreatedInClinicIdOrderByCreatedAtDesc(anyLong(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("should throw AccessDeniedException for staff of another clinic")
+        void scrollRecords_Failure_OtherClinic() {
+            // Arrange
+            given(entityFinderHelper.findClinicStaffOrFail(eq(adminSameClinicId), anyString())).willReturn(adminSameClinic);
+
+            // Act & Assert
+            assertThatThrownBy(() -> recordService.scrollRecordsCreatedByClinic(99L, adminSameClinicId, null, 20))
+                    .isInstanceOf(AccessDeniedException.class);
+            then(recordRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("should throw IllegalArgumentException for an invalid cursor or page size")
+        void scrollRecords_Failure_InvalidArguments() {
+            // Arrange
+            Long clinicId = adminSameClinic.getClinic().getId();
+            given(entityFinderHelper.findClinicStaffOrFail(eq(adminSameClinicId), anyString())).willReturn(adminSameClinic);
+
+            // Act & Assert
+            assertThatThrownBy(() -> recordService.scrollRecordsCreatedByClinic(clinicId, adminSameClinicId, "not-a-cursor", 20))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> recordService.scrollRecordsCreatedByClinic(clinicId, adminSameClinicId, null, KeysetCursor.MAX_PAGE_SIZE + 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            then(recordRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    /**
+     * --- Tests for searchRecordsCreatedByClinic ---
+     */
+    @Nested
+    @DisplayName("searchRecordsCreatedByClinic Tests")
+    class SearchRecordsCreatedByClinicTests {
+
+        @Test
+        @DisplayName("should return the most relevant page with escaped highlights, and continue from the ranked cursor")
+        void searchRecords_Success_TwoPages() {
+            // Arrange
+            Long clinicId = adminSameClinic.getClinic().getId();
+            RecordSearchHit bestHit = searchHit(102L, 0.8f, "\u0002BATCH-7\u0003 <b>recalled</b>");
+            RecordSearchHit otherHit = searchHit(101L, 0.3f, "dose of \u0002BATCH-7\u0003");
+            given(entityFinderHelper.findClinicStaffOrFail(eq(adminSameClinicId), anyString())).willReturn(adminSameClinic);
+            given(recordRepository.searchFirstInClinic(clinicId, "BATCH-7", 2)).willReturn(List.of(bestHit, otherHit));
+            given(recordRepository.searchInClinicAfter(clinicId, "BATCH-7", 0.8f, 102L, 2)).willReturn(List.of(otherHit));
+
+            // Act
+            CursorPageDto<RecordSearchHitDto> firstPage = recordService.searchRecordsCreatedByClinic(clinicId, adminSameClinicId, " BATCH-7 ", null, 1);
+            CursorPageDto<RecordSearchHitDto> secondPage = recordService.searchRecordsCreatedByClinic(clinicId, adminSameClinicId, "BATCH-7", firstPage.nextCursor(), 1);
+
+            // Assert
+            assertThat(firstPage.content()).extracting(RecordSearchHitDto::recordId).containsExactly(102L);
+            assertThat(firstPage.content().get(0).highlight()).isEqualTo("<mark>BATCH-7</mark> &lt;b&gt;recalled&lt;/b&gt;");
+            assertThat(firstPage.content().get(0).vaccineBatchNumber()).isEqualTo("BATCH-7");
+            assertThat(firstPage.content().get(0).signed()).isTrue();
+            assertThat(firstPage.hasNext()).isTrue();
+            assertThat(firstPage.nextCursor()).isEqualTo(KeysetCursor.encodeRanked(0.8f, 102L));
+            assertThat(secondPage.content()).extracting(RecordSearchHitDto::recordId).containsExactly(101L);
+            assertThat(secondPage.content().get(0).highlight()).isEqualTo("dose of <mark>BATCH-7</mark>");
+            assertThat(secondPage.hasNext()).isFalse();
+            assertThat(secondPage.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("should throw AccessDeniedException for staff of another clinic")
+        void searchRecords_Failure_OtherClinic() {
+            // Arrange
+            given(entityFinderHelper.findClinicStaffOrFail(eq(adminSameClinicId), anyString())).willReturn(adminSameClinic);
+
+            // Act & Assert
+            assertThatThrownBy(() -> recordService.searchRecordsCreatedByClinic(99L, adminSameClinicId, "rabies", null, 20))
+                    .isInstanceOf(AccessDeniedException.class);
+            then(recordRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("should throw IllegalArgumentException for a blank or too long query, or an invalid cursor")
+        void searchRecords_Failure_InvalidArguments() {
+            // Arrange
+            Long clinicId = adminSameClinic.getClinic().getId();
+            given(entityFinderHelper.findClinicStaffOrFail(eq(adminSameClinicId), anyString())).willReturn(adminSameClinic);
+
+            // Act & Assert
+            assertThatThrownBy(() -> recordService.searchRecordsCreatedByClinic(clinicId, adminSameClinicId, "  ", null, 20))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> recordService.searchRecordsCreatedByClinic(clinicId, adminSameClinicId, "x".repeat(201), null, 20))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> recordService.searchRecordsCreatedByClinic(clinicId, adminSameClinicId, "rabies", "not-a-cursor", 20))
+                    .isInstanceOf(IllegalArgumentException.class);
+            then(recordRepository).shouldHaveNoInteractions();
+        }
+
+        private RecordSearchHit searchHit(Long recordId, float rank, String highlight) {
+            return new RecordSearchHit() {
+                @Override public Long getRecordId() { return recordId; }
+                @Override public Long getPetId() { return petId; }
+                @Override public String getPetName() { return "Buddy"; }
+                @Override public RecordType getType() { return RecordType.VACCINE; }
+                @Override public LocalDateTime getCreatedAt() { return LocalDateTime.now(); }
+                @Override public String getVaccineName() { return "Rabies Vac"; }
+                @Override public String getVaccineBatchNumber() { return "BATCH-7"; }
+                @Override public String getVaccineLaboratory() { return "Lab"; }
+                @Override public Boolean getSigned() { return true; }
+                @Override public Float getRank() { return rank; }
+                @Override public String getHighlight() { return highlight; }
+            };
+        }
+    }
 }
@@ -0,0 +1,189 @@
+package com.petconnect.backend.record.application.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.petconnect.backend.common.helper.EntityFinderHelper;
+import com.petconnect.backend.record.application.service.RecordExportService;
+import com.petconnect.backend.record.domain.model.VaccineRecallRow;
+import com.petconnect.backend.record.domain.repository.RecordRepository;
+import com.petconnect.backend.user.domain.model.Clinic;
+import com.petconnect.backend.user.domain.model.ClinicStaff;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Unit tests for {@link VaccineRecallServiceImpl}.
+ * Uses Mockito for the repository and helpers and a real ObjectMapper for the NDJSON rows.
+ *
+ * @author ibosquet
+ */
+@ExtendWith(MockitoExtension.class)
+class VaccineRecallServiceImplTest {
+
+    @Mock private RecordRepository recordRepository;
+    @Mock private EntityFinderHelper entityFinderHelper;
+
+    private VaccineRecallServiceImpl vaccineRecallService;
+
+    private final Long clinicId = 1L;
+    private final Long staffId = 50L;
+    private ClinicStaff staff;
+    private VaccineRecallRow certifiedRow;
+    private VaccineRecallRow uncertifiedRow;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        vaccineRecallService = new VaccineRecallServiceImpl(recordRepository, entityFinderHelper, objectMapper);
+
+        Clinic clinic = new Clinic();
+        clinic.setId(clinicId);
+        staff = new ClinicStaff();
+        staff.setId(staffId);
+        staff.setClinic(clinic);
+
+        certifiedRow = new VaccineRecallRow(5L, "owner1", "owner1@test.com", "+34600000000", 20L, "Luna", "724000000000001",
+                100L, LocalDateTime.of(2024, 3, 1, 10, 0), "Rabisin", "Lab, Inc.", "RB-1", 300L, "CERT-1");
+        uncertifiedRow = new VaccineRecallRow(6L, "owner2", "owner2@test.com", "+34600000001", 21L, "Max", null,
+                101L, LocalDateTime.of(2024, 4, 2, 9, 30), "Rabisin", "Lab, Inc.", "RB-1", null, null);
+    }
+
+    @Nested
+    @DisplayName("verifyRecallLookup Tests")
+    class VerifyRecallLookupTests {
+
+        @Test
+        @DisplayName("should pass for staff of the clinic and a valid batch number")
+        void verifyRecallLookup_Success() {
+            // Arrange
+            given(entityFinderHelper.findClinicStaffOrFail(staffId, "look up vaccine batch recalls")).willReturn(staff);
+
+            // Act & Assert
+            assertThatCode(() -> vaccineRecallService.verifyRecallLookup(clinicId, " RB-1 ", staffId)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("should throw AccessDeniedException for staff of another clinic")
+        void verifyRecallLookup_Forbidden_OtherClinic() {
+            // Arrange
+            given(entityFinderHelper.findClinicStaffOrFail(staffId, "look up vaccine batch recalls")).willReturn(staff);
+
+            // Act & Assert
+            assertThatThrownBy(() -> vaccineRecallService.verifyRecallLookup(99L, "RB-1", staffId))
+                    .isInstanceOf(AccessDeniedException.class);
+        }
+
+        @Test
+        @DisplayName("should propagate AccessDeniedException when the requester is not clinic staff")
+        void verifyRecallLookup_Forbidden_NotStaff() {
+            // Arrange
+            given(entityFinderHelper.findClinicStaffOrFail(staffId, "look up vaccine batch recalls")).willThrow(new AccessDeniedException("denied"));
+
+            // Act & Assert
+            assertThatThrownBy(() -> vaccineRecallService.verifyRecallLookup(clinicId, "RB-1", staffId))
+                    .isInstanceOf(AccessDeniedException.class);
+        }
+
+        @Test
+        @DisplayName("should throw IllegalArgumentException for a blank or too long batch number")
+        void verifyRecallLookup_BadRequest_InvalidBatchNumber() {
+            // Arrange
+            given(entityFinderHelper.findClinicStaffOrFail(staffId, "look up vaccine batch recalls")).willReturn(staff);
+
+            // Act & Assert
+            assertThatThrownBy(() -> vaccineRecallService.verifyRecallLookup(clinicId, "  ", staffId))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> vaccineRecallService.verifyRecallLookup(clinicId, "B".repeat(51), staffId))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("writeAffected Tests")
+    class WriteAffectedTests {
+
+        @Test
+        @DisplayName("should write one JSON object per affected vaccination, trim the batch and ignore a blank laboratory")
+        void writeAffected_Success_Ndjson() throws IOException {
+            // Arrange
+            boolean[] closed = {false};
+            given(recordRepository.streamRecallRowsByBatch(clinicId, "RB-1", null))
+                    .willReturn(Stream.of(certifiedRow, uncertifiedRow).onClose(() -> closed[0] = true));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // Act
+            vaccineRecallService.writeAffected(clinicId, " RB-1 ", " ", RecordExportService.Format.NDJSON, out);
+
+            // Assert
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+            assertThat(lines).hasSize(2);
+            JsonNode first = new ObjectMapper().readTree(lines[0]);
+            assertThat(first.get("ownerEmail").asText()).isEqualTo("owner1@test.com");
+            assertThat(first.get("petId").asLong()).isEqualTo(20L);
+            assertThat(first.get("certificateNumber").asText()).isEqualTo("CERT-1");
+            assertThat(first.get("vaccinatedAt").asText()).startsWith("2024-03-01T10:00");
+            JsonNode second = new ObjectMapper().readTree(lines[1]);
+            assertThat(second.get("certificateId").isNull()).isTrue();
+            assertThat(closed[0]).isTrue();
+        }
+
+        @Test
+        @DisplayName("should write a header and one RFC 4180 row per affected vaccination, filtering by laboratory")
+        void writeAffected_Success_Csv() throws IOException {
+            // Arrange
+            given(recordRepository.streamRecallRowsByBatch(clinicId, "RB-1", "Lab, Inc.")).willReturn(Stream.of(certifiedRow, uncertifiedRow));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // Act
+            vaccineRecallService.writeAffected(clinicId, "RB-1", "Lab, Inc.", RecordExportService.Format.CSV, out);
+
+            // Assert
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                    "ownerId,ownerUsername,ownerEmail,ownerPhone,petId,petName,petMicrochip,recordId,vaccinatedAt,vaccineName,vaccineLaboratory,vaccineBatchNumber,certificateId,certificateNumber\r\n" +
+                    "5,owner1,owner1@test.com,'+34600000000,20,Luna,724000000000001,100,2024-03-01T10:00,Rabisin,\"Lab, Inc.\",RB-1,300,CERT-1\r\n" +
+                    "6,owner2,owner2@test.com,'+34600000001,21,Max,,101,2024-04-02T09:30,Rabisin,\"Lab, Inc.\",RB-1,,\r\n");
+        }
+
+        @Test
+        @DisplayName("should prefix owner-entered values starting with a formula character so spreadsheets do not evaluate them")
+        void writeAffected_Success_CsvNeutralizesFormulas() throws IOException {
+            // Arrange
+            VaccineRecallRow injectedRow = new VaccineRecallRow(7L, "@owner3", "owner3@test.com", "-1", 22L, "=cmd|' /C calc'!A0", null,
+                    102L, LocalDateTime.of(2024, 5, 3, 8, 0), "Rabisin", "Lab", "RB-1", null, null);
+            given(recordRepository.streamRecallRowsByBatch(clinicId, "RB-1", null)).willReturn(Stream.of(injectedRow));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // Act
+            vaccineRecallService.writeAffected(clinicId, "RB-1", null, RecordExportService.Format.CSV, out);
+
+            // Assert
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+            assertThat(lines).hasSize(2);
+            assertThat(lines[1]).isEqualTo("7,'@owner3,owner3@test.com,'-1,22,'=cmd|' /C calc'!A0,,102,2024-05-03T08:00,Rabisin,Lab,RB-1,,");
+        }
+
+        @Test
+        @DisplayName("should build a file name safe for a Content-Disposition header")
+        void fileName_Success() {
+            assertThat(vaccineRecallService.fileName(" RB/1 ", RecordExportService.Format.CSV)).isEqualTo("vaccine-recall-RB_1.csv");
+        }
+    }
+}
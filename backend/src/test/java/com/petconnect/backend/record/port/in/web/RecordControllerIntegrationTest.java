@@ -2,6 +2,7 @@ package com.petconnect.backend.record.port.in.web;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.petconnect.backend.pet.application.dto.PetActivationDto;
 import com.petconnect.backend.pet.application.dto.PetRegistrationDto;
@@ -12,11 +13,14 @@ import com.petconnect.backend.pet.domain.repository.PetRepository;
 import com.petconnect.backend.record.application.dto.*;
 import com.petconnect.backend.record.domain.model.RecordType;
 import com.petconnect.backend.record.domain.model.Record;
+import com.petconnect.backend.record.domain.model.RecordExportRow;
+import com.petconnect.backend.record.domain.model.VaccineRecallRow;
 import com.petconnect.backend.record.domain.repository.RecordRepository;
 import com.petconnect.backend.user.application.dto.*;
 import com.petconnect.backend.user.domain.model.RoleEnum;
 import com.petconnect.backend.user.domain.repository.UserRepository;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -32,11 +36,16 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static com.petconnect.backend.util.IntegrationTestUtils.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -66,6 +75,7 @@ class RecordControllerIntegrationTest {
     @Autowired private RecordRepository recordRepository;
     @Autowired private PetRepository petRepository;
     @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
 
     // --- Tokens & IDs
     private String ownerToken;
@@ -1075,4 +1085,416 @@ class RecordControllerIntegrationTest {
                     .andExpect(status().isUnauthorized());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * --- Tests for GET /api/records/export ---
+     */
+    @Nested
+    @DisplayName("GET /api/records/export (Export Records Tests)")
+    class ExportRecordsIntegrationTests {
+
+        private Long ownerRecordId;
+        private Long vaccineRecordId;
+
+        @BeforeEach
+        void exportSetup() throws Exception {
+            mockMvc.perform(post("/api/pets/{petId}/associate-clinic/{clinicId}", petIdOwned, 1L)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken))
+                    .andExpect(status().isNoContent());
+            entityManager.flush();
+            entityManager.clear();
+
+            RecordCreateDto ownerRecDto = new RecordCreateDto(petIdOwned, RecordType.OTHER, "Walk, \"long\" one", null, null);
+            MvcResult resOwnerRec = mockMvc.perform(post("/api/records")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(ownerRecDto)))
+                    .andExpect(status().isCreated()).andReturn();
+            ownerRecordId = objectMapper.readValue(resOwnerRec.getResponse().getContentAsString(), RecordViewDto.class).id();
+
+            VaccineCreateDto vacDto = new VaccineCreateDto("VacExport", 3, "LabExport", "BatchExport", true);
+            RecordCreateDto vetRecDto = new RecordCreateDto(petIdOwned, RecordType.VACCINE, "Signed record for export test", vacDto, "1234");
+            MvcResult resVetRec = mockMvc.perform(post("/api/records?sign=true")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(vetRecDto)))
+                    .andExpect(status().isCreated()).andReturn();
+            vaccineRecordId = objectMapper.readValue(resVetRec.getResponse().getContentAsString(), RecordViewDto.class).id();
+
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("should stream the export rows of all records of the pet, oldest first, with vaccine details and signatures")
+        void streamExportRows_Success() {
+            List<RecordExportRow> rows;
+            try (Stream<RecordExportRow> stream = recordRepository.streamExportRowsByPetId(petIdOwned)) {
+                rows = stream.toList();
+            }
+
+            assertThat(rows).extracting(RecordExportRow::recordId).containsExactly(ownerRecordId, vaccineRecordId);
+            assertThat(rows).extracting(RecordExportRow::petId).containsOnly(petIdOwned);
+            RecordExportRow ownerRow = rows.get(0);
+            assertThat(ownerRow.creatorId()).isEqualTo(ownerId);
+            assertThat(ownerRow.clinicId()).isNull();
+            assertThat(ownerRow.vaccineName()).isNull();
+            assertThat(ownerRow.vetSignature()).isNull();
+            RecordExportRow vaccineRow = rows.get(1);
+            assertThat(vaccineRow.creatorId()).isEqualTo(vetId);
+            assertThat(vaccineRow.clinicId()).isEqualTo(1L);
+            assertThat(vaccineRow.vaccineName()).isEqualTo("VacExport");
+            assertThat(vaccineRow.vaccineBatchNumber()).isEqualTo("BatchExport");
+            assertThat(vaccineRow.vaccineValidityYears()).isEqualTo(3);
+            assertThat(vaccineRow.rabiesVaccine()).isTrue();
+            assertThat(vaccineRow.vetSignature()).isNotBlank();
+        }
+
+        @Test
+        @DisplayName("should stream the export as NDJSON by default when called by Owner")
+        void exportRecords_Success_Ndjson() throws Exception {
+            MvcResult started = mockMvc.perform(get("/api/records/export")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken)
+                            .param("petId", petIdOwned.toString()))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("application/x-ndjson"))
+                    .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, allOf(startsWith("attachment"), containsString("records-pet-" + petIdOwned + ".ndjson"))));
+        }
+
+        @Test
+        @DisplayName("should stream the export as CSV with a header line when called by associated Vet")
+        void exportRecords_Success_Csv() throws Exception {
+            mockMvc.perform(post("/api/pets/{petId}/associate-vet/{vetId}", petIdOwned, vetId)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken))
+                    .andExpect(status().isNoContent());
+
+            MvcResult started = mockMvc.perform(get("/api/records/export")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken)
+                            .param("petId", petIdOwned.toString())
+                            .param("format", "CSV"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            MvcResult result = mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("text/csv"))
+                    .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("records-pet-" + petIdOwned + ".csv")))
+                    .andReturn();
+            assertThat(new String(result.getResponse().getContentAsByteArray(), StandardCharsets.UTF_8))
+                    .startsWith("recordId,petId,createdAt,type,description,");
+        }
+
+        @Test
+        @DisplayName("should return 403 Forbidden before streaming when called by another Owner")
+        void exportRecords_Forbidden_OtherOwner() throws Exception {
+            mockMvc.perform(get("/api/records/export")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + otherOwnerToken)
+                            .param("petId", petIdOwned.toString()))
+                    .andExpect(request().asyncNotStarted())
+                    .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("should return 404 Not Found when the pet does not exist")
+        void exportRecords_NotFound_Pet() throws Exception {
+            mockMvc.perform(get("/api/records/export")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken)
+                            .param("petId", "9999"))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("should return 400 Bad Request for an unsupported format")
+        void exportRecords_BadRequest_Format() throws Exception {
+            mockMvc.perform(get("/api/records/export")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken)
+                            .param("petId", petIdOwned.toString())
+                            .param("format", "xml"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    /**
+     * --- Tests for GET /api/records/clinic/{clinicId}/search (Full-Text Search) ---
+     */
+    @Nested
+    @DisplayName("GET /api/records/clinic/{clinicId}/search (Search Records)")
+    class SearchRecordsIntegrationTests {
+
+        private Long vaccineRecordId;
+        private Long illnessRecordId;
+
+        @BeforeEach
+        void searchSetup() throws Exception {
+            mockMvc.perform(post("/api/pets/{petId}/associate-clinic/{clinicId}", petIdOwned, 1L)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken))
+                    .andExpect(status().isNoContent());
+            entityManager.flush();
+            entityManager.clear();
+
+            VaccineCreateDto vacDto = new VaccineCreateDto("VacSearch", 1, "LabSearch", "RecallBatch42", true);
+            RecordCreateDto vaccineRecDto = new RecordCreateDto(petIdOwned, RecordType.VACCINE, "First dose", vacDto, "1234");
+            MvcResult resVaccine = mockMvc.perform(post("/api/records?sign=true")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(vaccineRecDto)))
+                    .andExpect(status().isCreated()).andReturn();
+            vaccineRecordId = objectMapper.readValue(resVaccine.getResponse().getContentAsString(), RecordViewDto.class).id();
+
+            RecordCreateDto illnessRecDto = new RecordCreateDto(petIdOwned, RecordType.ILLNESS, "Mild reaction & fever after RecallBatch42", null, "1234");
+            MvcResult resIllness = mockMvc.perform(post("/api/records?sign=false")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(illnessRecDto)))
+                    .andExpect(status().isCreated()).andReturn();
+            illnessRecordId = objectMapper.readValue(resIllness.getResponse().getContentAsString(), RecordViewDto.class).id();
+
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("should find records by vaccine batch number and description, with highlighted matches")
+        void searchRecords_Success_ByBatchNumber() throws Exception {
+            mockMvc.perform(get("/api/records/clinic/{clinicId}/search", 1L)
+                            .param("q", "RecallBatch42")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(2)))
+                    .andExpect(jsonPath("$.content[*].recordId", containsInAnyOrder(vaccineRecordId.intValue(), illnessRecordId.intValue())))
+                    .andExpect(jsonPath("$.content[*].highlight", everyItem(containsString("<mark>RecallBatch42</mark>"))))
+                    .andExpect(jsonPath("$.content[?(@.recordId == " + illnessRecordId + ")].highlight", contains(containsString("&amp; fever"))))
+                    .andExpect(jsonPath("$.content[?(@.recordId == " + vaccineRecordId + ")].vaccineBatchNumber", contains("RecallBatch42")))
+                    .andExpect(jsonPath("$.hasNext", is(false)));
+        }
+
+        @Test
+        @DisplayName("should find records by type and exclude words prefixed with '-'")
+        void searchRecords_Success_ByTypeWithExclusion() throws Exception {
+            mockMvc.perform(get("/api/records/clinic/{clinicId}/search", 1L)
+                            .param("q", "vaccine -illness")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[*].recordId", hasItem(vaccineRecordId.intValue())))
+                    .andExpect(jsonPath("$.content[*].recordId", not(hasItem(illnessRecordId.intValue()))));
+        }
+
+        @Test
+        @DisplayName("should page the results with the returned cursor")
+        void searchRecords_Success_Paging() throws Exception {
+            MvcResult firstPage = mockMvc.perform(get("/api/records/clinic/{clinicId}/search", 1L)
+                            .param("q", "RecallBatch42")
+                            .param("size", "1")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.hasNext", is(true)))
+                    .andReturn();
+            JsonNode firstPageJson = objectMapper.readTree(firstPage.getResponse().getContentAsString());
+            long firstRecordId = firstPageJson.get("content").get(0).get("recordId").asLong();
+
+            mockMvc.perform(get("/api/records/clinic/{clinicId}/search", 1L)
+                            .param("q", "RecallBatch42")
+                            .param("size", "1")
+                            .param("cursor", firstPageJson.get("nextCursor").asText())
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].recordId", not(is((int) firstRecordId))))
+                    .andExpect(jsonPath("$.hasNext", is(false)));
+        }
+
+        @Test
+        @DisplayName("should return 403 Forbidden for staff of another clinic")
+        void searchRecords_Forbidden_OtherClinicStaff() throws Exception {
+            mockMvc.perform(get("/api/records/clinic/{clinicId}/search", 1L)
+                            .param("q", "RecallBatch42")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminBarcelonaToken))
+                    .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("should return 403 Forbidden for an Owner")
+        void searchRecords_Forbidden_Owner() throws Exception {
+            mockMvc.perform(get("/api/records/clinic/{clinicId}/search", 1L)
+                            .param("q", "RecallBatch42")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken))
+                    .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("should return 400 Bad Request for a blank query")
+        void searchRecords_BadRequest_BlankQuery() throws Exception {
+            mockMvc.perform(get("/api/records/clinic/{clinicId}/search", 1L)
+                            .param("q", " ")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    /**
+     * --- Tests for GET /api/records/clinic/{clinicId}/vaccine-recall (Vaccine Batch Recall) ---
+     */
+    @Nested
+    @DisplayName("GET /api/records/clinic/{clinicId}/vaccine-recall (Vaccine Batch Recall)")
+    class VaccineRecallIntegrationTests {
+
+        private Long recalledRecordId;
+
+        @BeforeEach
+        void recallSetup() throws Exception {
+            mockMvc.perform(post("/api/pets/{petId}/associate-clinic/{clinicId}", petIdOwned, 1L)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken))
+                    .andExpect(status().isNoContent());
+            entityManager.flush();
+            entityManager.clear();
+
+            VaccineCreateDto recalledDto = new VaccineCreateDto("VacRecall", 1, "LabRecall", "RecallLot-9", true);
+            RecordCreateDto recalledRecDto = new RecordCreateDto(petIdOwned, RecordType.VACCINE, "Recalled batch dose", recalledDto, "1234");
+            MvcResult resRecalled = mockMvc.perform(post("/api/records?sign=true")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(recalledRecDto)))
+                    .andExpect(status().isCreated()).andReturn();
+            recalledRecordId = objectMapper.readValue(resRecalled.getResponse().getContentAsString(), RecordViewDto.class).id();
+
+            VaccineCreateDto otherDto = new VaccineCreateDto("VacRecall", 1, "LabRecall", "SafeLot-1", true);
+            RecordCreateDto otherRecDto = new RecordCreateDto(petIdOwned, RecordType.VACCINE, "Safe batch dose", otherDto, "1234");
+            mockMvc.perform(post("/api/records?sign=true")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(otherRecDto)))
+                    .andExpect(status().isCreated());
+
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("should stream the vaccinations of the recalled batch in the clinic, with pet and owner")
+        void streamRecallRows_Success() {
+            List<VaccineRecallRow> rows;
+            try (Stream<VaccineRecallRow> stream = recordRepository.streamRecallRowsByBatch(1L, "RecallLot-9", null)) {
+                rows = stream.toList();
+            }
+
+            assertThat(rows).hasSize(1);
+            VaccineRecallRow row = rows.get(0);
+            assertThat(row.recordId()).isEqualTo(recalledRecordId);
+            assertThat(row.petId()).isEqualTo(petIdOwned);
+            assertThat(row.ownerId()).isEqualTo(ownerId);
+            assertThat(row.ownerEmail()).isNotBlank();
+            assertThat(row.vaccineBatchNumber()).isEqualTo("RecallLot-9");
+            assertThat(row.certificateId()).isNull();
+        }
+
+        @Test
+        @DisplayName("should find nothing for another laboratory or another clinic")
+        void streamRecallRows_NoMatch() {
+            try (Stream<VaccineRecallRow> stream = recordRepository.streamRecallRowsByBatch(1L, "RecallLot-9", "OtherLab")) {
+                assertThat(stream).isEmpty();
+            }
+            try (Stream<VaccineRecallRow> stream = recordRepository.streamRecallRowsByBatch(2L, "RecallLot-9", "LabRecall")) {
+                assertThat(stream).isEmpty();
+            }
+        }
+
+        @Test
+        @DisplayName("should stream the affected vaccinations as CSV when called by Vet of the clinic")
+        void findVaccineRecallAffected_Success_Csv() throws Exception {
+            MvcResult started = mockMvc.perform(get("/api/records/clinic/{clinicId}/vaccine-recall", 1L)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken)
+                            .param("batchNumber", "RecallLot-9")
+                            .param("format", "csv"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("text/csv"))
+                    .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, allOf(startsWith("attachment"), containsString("vaccine-recall-RecallLot-9.csv"))));
+        }
+
+        @Test
+        @DisplayName("should return 403 Forbidden for staff of another clinic")
+        void findVaccineRecallAffected_Forbidden_OtherClinicStaff() throws Exception {
+            mockMvc.perform(get("/api/records/clinic/{clinicId}/vaccine-recall", 1L)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminBarcelonaToken)
+                            .param("batchNumber", "RecallLot-9"))
+                    .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("should return 403 Forbidden for an Owner")
+        void findVaccineRecallAffected_Forbidden_Owner() throws Exception {
+            mockMvc.perform(get("/api/records/clinic/{clinicId}/vaccine-recall", 1L)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken)
+                            .param("batchNumber", "RecallLot-9"))
+                    .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("should return 400 Bad Request for a blank batch number")
+        void findVaccineRecallAffected_BadRequest_BlankBatchNumber() throws Exception {
+            mockMvc.perform(get("/api/records/clinic/{clinicId}/vaccine-recall", 1L)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken)
+                            .param("batchNumber", " "))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    /**
+     * --- Tests for POST /api/records/batch (Batch Creation) ---
+     */
+    @Nested
+    @DisplayName("POST /api/records/batch (Create Records Batch)")
+    class CreateRecordsBatchIntegrationTests {
+
+        @BeforeEach
+        void batchSetup() throws Exception {
+            mockMvc.perform(post("/api/pets/{petId}/associate-clinic/{clinicId}", petIdOwned, 1L)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken))
+                    .andExpect(status().isNoContent());
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("should create the records of the authorized pet and report the unauthorized one, without rolling back the batch")
+        void createRecordsBatch_PartialSuccess_AuthorizedAndUnauthorizedPets() throws Exception {
+            RecordBatchCreateDto batchDto = new RecordBatchCreateDto(List.of(
+                    new RecordCreateDto(petIdOwned, RecordType.ANNUAL_CHECK, "Batch checkup", null, null),
+                    new RecordCreateDto(petIdOther, RecordType.ANNUAL_CHECK, "Batch checkup of a foreign pet", null, null),
+                    new RecordCreateDto(petIdOwned, RecordType.OTHER, "Batch weight control", null, null)
+            ), "1234", null);
+
+            mockMvc.perform(post("/api/records/batch")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(batchDto)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.total", is(3)))
+                    .andExpect(jsonPath("$.succeeded", is(2)))
+                    .andExpect(jsonPath("$.failed", is(1)))
+                    .andExpect(jsonPath("$.items[1].success", is(false)))
+                    .andExpect(jsonPath("$.items[1].error", containsString("not authorized")));
+
+            // A denial thrown through a transactional proxy would have marked the shared transaction
+            // rollback-only, making the commit of the whole batch fail
+            EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+            assertThat(holder).isNotNull();
+            assertThat(holder.isRollbackOnly()).isFalse();
+
+            entityManager.flush();
+            entityManager.clear();
+            assertThat(recordRepository.findAllByPetIdOrderByCreatedAtDesc(petIdOwned))
+                    .extracting(Record::getDescription)
+                    .contains("Batch checkup", "Batch weight control");
+            assertThat(recordRepository.findAllByPetIdOrderByCreatedAtDesc(petIdOther)).isEmpty();
+        }
+    }
+}
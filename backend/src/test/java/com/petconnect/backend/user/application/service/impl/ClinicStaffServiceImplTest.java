@@ -5,6 +5,8 @@ import com.petconnect.backend.common.helper.ClinicStaffHelper;
 import com.petconnect.backend.common.helper.EntityFinderHelper;
 import com.petconnect.backend.common.helper.ValidateHelper;
 import com.petconnect.backend.common.service.KeyStorageService;
+import com.petconnect.backend.common.service.SigningService;
+import com.petconnect.backend.common.service.SigningSessionService;
 import com.petconnect.backend.exception.*; // Import all your custom exceptions
 import com.petconnect.backend.user.application.dto.ClinicStaffCreationDto;
 import com.petconnect.backend.user.application.dto.ClinicStaffProfileDto;
@@ -55,6 +57,8 @@ class ClinicStaffServiceImplTest {
     @Mock private ClinicStaffHelper clinicStaffHelper;
     @Mock private AuthorizationHelper authorizationHelper;
     @Mock private KeyStorageService keyStorageService;
+    @Mock private SigningService signingService;
+    @Mock private SigningSessionService signingSessionService;
 
     // --- Class Under Test ---
     @InjectMocks
@@ -925,6 +929,7 @@ class ClinicStaffServiceImplTest {
             then(authorizationHelper).should().verifyAdminActionOnStaff(deactivatingAdminId, activeStaff, actionContext);
             then(clinicStaffRepository).should().save(clinicStaffCaptor.capture());
             then(userMapper).should().toClinicStaffProfileDto(any(ClinicStaff.class));
+            then(signingSessionService).should().closeSession(activeStaffId);
 
             assertThat(clinicStaffCaptor.getValue().isActive()).isFalse();
         }
@@ -15,10 +15,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.mock.web.MockMultipartFile;
 
+import java.util.List;
+
 import static com.petconnect.backend.util.IntegrationTestUtils.obtainJwtToken;
+import static com.petconnect.backend.util.IntegrationTestUtils.testPublicKeyPem;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -184,7 +188,7 @@ class ClinicControllerIntegrationTest {
                     "publicKeyFile",
                     "test_pub.pem",
                     MediaType.TEXT_PLAIN_VALUE,
-                    "fake public key content".getBytes()
+                    testPublicKeyPem()
             );
             MockMultipartFile privateKeyFile = new MockMultipartFile(
                     "privateKeyFile",
@@ -367,4 +371,63 @@ class ClinicControllerIntegrationTest {
                     .andExpect(jsonPath("$", hasItem(Country.GERMANY.name())));
         }
     }
+
+    /**
+     * Tests for POST /api/clinics/{clinicId}/exports and GET /api/clinics/{clinicId}/exports/{jobId}
+     */
+    @Nested
+    @DisplayName("/api/clinics/{clinicId}/exports (Clinic Bulk Export Tests)")
+    class ClinicExportTests {
+
+        @Test
+        @DisplayName("should return 202 Accepted with a pollable job when called by Admin of the clinic")
+        void startClinicExport_whenAdminOfClinic_shouldAccept() throws Exception {
+            MvcResult result = mockMvc.perform(post("/api/clinics/{clinicId}/exports", 1L)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.jobId", notNullValue()))
+                    .andExpect(jsonPath("$.clinicId", is(1)))
+                    .andExpect(jsonPath("$.status", in(List.of("QUEUED", "RUNNING", "COMPLETED"))))
+                    .andReturn();
+            String jobId = objectMapper.readTree(result.getResponse().getContentAsString()).get("jobId").asText();
+
+            mockMvc.perform(get("/api/clinics/{clinicId}/exports/{jobId}", 1L, jobId)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.jobId", is(jobId)))
+                    .andExpect(jsonPath("$.progressPercent", allOf(greaterThanOrEqualTo(0), lessThanOrEqualTo(100))));
+        }
+
+        @Test
+        @DisplayName("should return 403 Forbidden when called by Admin of another clinic")
+        void startClinicExport_whenAdminOfOtherClinic_shouldBeForbidden() throws Exception {
+            mockMvc.perform(post("/api/clinics/{clinicId}/exports", 1L)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + vetToken))
+                    .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("should return 403 Forbidden when called by Owner")
+        void startClinicExport_whenOwner_shouldBeForbidden() throws Exception {
+            mockMvc.perform(post("/api/clinics/{clinicId}/exports", 1L)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken))
+                    .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("should return 404 Not Found for an unknown export job")
+        void getClinicExport_whenJobUnknown_shouldReturnNotFound() throws Exception {
+            mockMvc.perform(get("/api/clinics/{clinicId}/exports/{jobId}", 1L, "unknown-job")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("should return 404 Not Found when downloading an unknown export job")
+        void downloadClinicExport_whenJobUnknown_shouldReturnNotFound() throws Exception {
+            mockMvc.perform(get("/api/clinics/{clinicId}/exports/{jobId}/archive", 1L, "unknown-job")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken))
+                    .andExpect(status().isNotFound());
+        }
+    }
 }
@@ -21,10 +21,16 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
 import java.util.Optional;
 
 import static com.petconnect.backend.util.IntegrationTestUtils.extractStaffIdFromResult;
 import static com.petconnect.backend.util.IntegrationTestUtils.obtainJwtToken;
+import static com.petconnect.backend.util.IntegrationTestUtils.testPublicKeyPem;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
@@ -105,7 +111,7 @@ class ClinicStaffControllerIntegrationTest {
                     "publicKeyFile",
                     "vet_pub.pem",
                     MediaType.TEXT_PLAIN_VALUE,
-                    "fake public key content".getBytes()
+                    testPublicKeyPem()
             );
             MockMultipartFile privateKeyFile = new MockMultipartFile(
                     "privateKeyFile",
@@ -227,7 +233,7 @@ class ClinicStaffControllerIntegrationTest {
             log.info("Test createVet_Conflict_PublicKeyExists: Este test puede necesitar revisión lógica debido a cambios en el manejo de claves.");
 
             MockMultipartFile firstPubKey = new MockMultipartFile(
-                    "publicKeyFile", "vet1_pub.pem", MediaType.TEXT_PLAIN_VALUE, ("pub_content_" + System.currentTimeMillis()).getBytes());
+                    "publicKeyFile", "vet1_pub.pem", MediaType.TEXT_PLAIN_VALUE, testPublicKeyPem());
             MockMultipartFile firstPriKey = new MockMultipartFile(
                     "privateKeyFile", "vet1_pri.pem", MediaType.TEXT_PLAIN_VALUE, ("pri_content_" + System.currentTimeMillis()).getBytes());
 
@@ -247,7 +253,7 @@ class ClinicStaffControllerIntegrationTest {
             String secondVetDtoJson = objectMapper.writeValueAsString(secondVetDto);
             MockMultipartFile secondDtoPart = new MockMultipartFile("dto", "", MediaType.APPLICATION_JSON_VALUE, secondVetDtoJson.getBytes());
             MockMultipartFile secondPubKey = new MockMultipartFile(
-                    "publicKeyFile", "vet2_pub.pem", MediaType.TEXT_PLAIN_VALUE, ("pub_content_2_" + System.currentTimeMillis()).getBytes());
+                    "publicKeyFile", "vet2_pub.pem", MediaType.TEXT_PLAIN_VALUE, testPublicKeyPem());
             MockMultipartFile secondPriKey = new MockMultipartFile(
                     "privateKeyFile", "vet2_pri.pem", MediaType.TEXT_PLAIN_VALUE, ("pri_content_2_" + System.currentTimeMillis()).getBytes());
 
@@ -259,6 +265,58 @@ class ClinicStaffControllerIntegrationTest {
                             .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminLondonToken))
                     .andExpect(status().isCreated());
         }
+
+        @Test
+        @DisplayName("should return 400 Bad Request when VET public key uses an unsupported algorithm")
+        void createVet_BadRequest_UnsupportedKeyAlgorithm() throws Exception {
+            // Arrange: a P-384 key parses as a public key but only P-256 curves are supported
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp384r1"));
+            String unsupportedPem = "-----BEGIN PUBLIC KEY-----\n"
+                    + Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII))
+                            .encodeToString(generator.generateKeyPair().getPublic().getEncoded())
+                    + "\n-----END PUBLIC KEY-----\n";
+            MockMultipartFile publicKeyFile = new MockMultipartFile(
+                    "publicKeyFile", "vet_p384_pub.pem", MediaType.TEXT_PLAIN_VALUE, unsupportedPem.getBytes(StandardCharsets.US_ASCII));
+            MockMultipartFile privateKeyFile = new MockMultipartFile(
+                    "privateKeyFile", "vet_p384_pri.pem", MediaType.TEXT_PLAIN_VALUE, "fake encrypted private key content".getBytes());
+            MockMultipartFile dtoPart = new MockMultipartFile(
+                    "dto", "", MediaType.APPLICATION_JSON_VALUE, objectMapper.writeValueAsString(vetCreationDto).getBytes());
+
+            // Act & Assert
+            mockMvc.perform(multipart("/api/staff")
+                            .file(dtoPart)
+                            .file(publicKeyFile)
+                            .file(privateKeyFile)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminLondonToken))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", containsString("only P-256 keys are supported")));
+
+            assertThat(userRepository.findByUsername(vetCreationDto.username())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should return 400 Bad Request when VET public key cannot be parsed")
+        void createVet_BadRequest_UnparseablePublicKey() throws Exception {
+            // Arrange
+            MockMultipartFile publicKeyFile = new MockMultipartFile(
+                    "publicKeyFile", "vet_garbage_pub.pem", MediaType.TEXT_PLAIN_VALUE, "not a public key".getBytes());
+            MockMultipartFile privateKeyFile = new MockMultipartFile(
+                    "privateKeyFile", "vet_garbage_pri.pem", MediaType.TEXT_PLAIN_VALUE, "fake encrypted private key content".getBytes());
+            MockMultipartFile dtoPart = new MockMultipartFile(
+                    "dto", "", MediaType.APPLICATION_JSON_VALUE, objectMapper.writeValueAsString(vetCreationDto).getBytes());
+
+            // Act & Assert
+            mockMvc.perform(multipart("/api/staff")
+                            .file(dtoPart)
+                            .file(publicKeyFile)
+                            .file(privateKeyFile)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminLondonToken))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", containsString("not a valid PEM public key")));
+
+            assertThat(userRepository.findByUsername(vetCreationDto.username())).isEmpty();
+        }
     }
 
     /**
@@ -287,7 +345,7 @@ class ClinicStaffControllerIntegrationTest {
             String vetCreationDtoJson = objectMapper.writeValueAsString(vetCreationDto);
             MockMultipartFile vetDtoPart = new MockMultipartFile("dto", "", MediaType.APPLICATION_JSON_VALUE, vetCreationDtoJson.getBytes());
             MockMultipartFile publicKeyFile = new MockMultipartFile(
-                    "publicKeyFile", "vet_pub.pem", MediaType.TEXT_PLAIN_VALUE, "fake public key".getBytes());
+                    "publicKeyFile", "vet_pub.pem", MediaType.TEXT_PLAIN_VALUE, testPublicKeyPem());
             MockMultipartFile privateKeyFile = new MockMultipartFile(
                     "privateKeyFile", "vet_pri.pem", MediaType.TEXT_PLAIN_VALUE, "fake encrypted private key".getBytes());
 
@@ -352,7 +410,7 @@ class ClinicStaffControllerIntegrationTest {
                     conflictingLicense);
             String otherVetDtoJson = objectMapper.writeValueAsString(otherVetDto);
             MockMultipartFile otherVetDtoPart = new MockMultipartFile("dto", "", MediaType.APPLICATION_JSON_VALUE, otherVetDtoJson.getBytes());
-            MockMultipartFile otherVetPubKeyFile = new MockMultipartFile("publicKeyFile", "other_pub.pem", MediaType.TEXT_PLAIN_VALUE, "pub".getBytes());
+            MockMultipartFile otherVetPubKeyFile = new MockMultipartFile("publicKeyFile", "other_pub.pem", MediaType.TEXT_PLAIN_VALUE, testPublicKeyPem());
             MockMultipartFile otherVetPriKeyFile = new MockMultipartFile("privateKeyFile", "other_pri.pem", MediaType.TEXT_PLAIN_VALUE, "pri".getBytes());
 
             mockMvc.perform(multipart("/api/staff")
@@ -461,7 +519,7 @@ class ClinicStaffControllerIntegrationTest {
                     "publicKeyFile",
                     "test_pub_key_setup.pem",
                     MediaType.TEXT_PLAIN_VALUE,
-                    "fake public key content for setup".getBytes()
+                    testPublicKeyPem()
             );
             MockMultipartFile privateKeyFile = new MockMultipartFile(
                     "privateKeyFile",
@@ -4,10 +4,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.petconnect.backend.pet.application.dto.PetProfileDto;
 import com.petconnect.backend.record.application.dto.RecordViewDto;
 import com.petconnect.backend.user.application.dto.*;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -94,4 +98,16 @@ public class IntegrationTestUtils {
         }
         return dto.id();
     }
+
+    /**
+     * Reads the PEM content of the RSA test public key, for uploads that must pass key validation.
+     *
+     * @return The PEM encoded public key.
+     * @throws IOException If the test key cannot be read.
+     */
+    public static byte[] testPublicKeyPem() throws IOException {
+        try (InputStream in = new ClassPathResource("keys_for_test/vet_public_key.pem").getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
 }
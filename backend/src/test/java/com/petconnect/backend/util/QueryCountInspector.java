@@ -0,0 +1,43 @@
+package com.petconnect.backend.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate {@link StatementInspector} counting the SQL statements prepared by the current thread,
+ * registered for the test context so integration tests can assert on the number of queries a request runs.
+ * Counting per thread keeps scheduled jobs and other background work out of the count.
+ *
+ * @author ibosquet
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<Integer> COUNT = ThreadLocal.withInitial(() -> 0);
+
+    /**
+     * Counts the statement and returns it unchanged.
+     *
+     * @param sql The SQL about to be prepared.
+     * @return The same SQL.
+     */
+    @Override
+    public String inspect(String sql) {
+        COUNT.set(COUNT.get() + 1);
+        return sql;
+    }
+
+    /**
+     * Resets the count of the current thread to zero.
+     */
+    public static void reset() {
+        COUNT.set(0);
+    }
+
+    /**
+     * Returns the number of statements prepared by the current thread since the last {@link #reset()}.
+     *
+     * @return The statement count.
+     */
+    public static int count() {
+        return COUNT.get();
+    }
+}